@@ -0,0 +1,85 @@
+package com.sbpb.ddobak.server.common.exception;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+
+/**
+ * 비즈니스 예외 throw → GlobalExceptionHandler 처리 비용 비교
+ *
+ * stackless=false가 기존 동작(스택 트레이스 수집)이다.
+ * depth는 컨트롤러/서비스/프록시 호출 깊이를 흉내 낸 스택 깊이이고,
+ * warnLog=false는 WARN 로그가 꺼진 환경에서 로그 메시지 생성이 생략되는지 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BusinessExceptionBenchmark {
+
+    @Param({"false", "true"})
+    private boolean stackless;
+
+    @Param({"20", "120"})
+    private int depth;
+
+    @Param({"false"})
+    private boolean warnLog;
+
+    private GlobalExceptionHandler handler;
+    private Logger handlerLogger;
+    private Level previousLevel;
+
+    @Setup
+    public void setUp() {
+        StackTracePolicy.configure(stackless);
+        handler = new GlobalExceptionHandler();
+        handlerLogger = (Logger) LoggerFactory.getLogger(GlobalExceptionHandler.class);
+        previousLevel = handlerLogger.getLevel();
+        handlerLogger.setLevel(warnLog ? Level.WARN : Level.ERROR);
+    }
+
+    @TearDown
+    public void tearDown() {
+        handlerLogger.setLevel(previousLevel);
+        StackTracePolicy.configure(true);
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> duplicateEmail() {
+        try {
+            throwAt(depth);
+            return null;
+        } catch (BusinessException e) {
+            return handler.handleBusinessException(e);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> resourceNotFound() {
+        try {
+            throw ResourceNotFoundException.user("U4F7K2QZ");
+        } catch (BusinessException e) {
+            return handler.handleBusinessException(e);
+        }
+    }
+
+    private static void throwAt(int remaining) {
+        if (remaining == 0) {
+            throw DuplicateResourceException.email("user@example.com");
+        }
+        throwAt(remaining - 1);
+    }
+}
@@ -0,0 +1,80 @@
+package com.sbpb.ddobak.server.common.response;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sbpb.ddobak.server.domain.user.dto.UserResponse;
+
+/**
+ * ApiResponse/PageResponse 직렬화 비교 (기본 BeanSerializer vs ResponseJacksonModule)
+ *
+ * 응답을 버리는 OutputStream에 바로 기록하여 직렬화 비용만 측정한다.
+ * 할당량 비교는 -prof gc 결과의 gc.alloc.rate.norm을 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseSerializationBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    @Param({"bean", "module"})
+    private String serializer;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<List<UserResponse>> listResponse;
+    private ApiResponse<PageResponse<UserResponse>> pageResponse;
+    private final OutputStream sink = OutputStream.nullOutputStream();
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if ("module".equals(serializer)) {
+            objectMapper.registerModule(new ResponseJacksonModule());
+        }
+
+        List<UserResponse> users = new ArrayList<>(size);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < size; i++) {
+            users.add(UserResponse.builder()
+                    .id(String.format("U%07d", i))
+                    .email("user" + i + "@example.com")
+                    .name("User " + i)
+                    .nickname("nick" + i)
+                    .createdAt(now)
+                    .isDeleted(false)
+                    .build());
+        }
+        listResponse = ApiResponse.success(users);
+        pageResponse = ApiResponse.success(PageResponse.of(users, 0, size, size * 10L, 10, true, false));
+    }
+
+    @Benchmark
+    public void list() throws IOException {
+        objectMapper.writeValue(sink, listResponse);
+    }
+
+    @Benchmark
+    public void page() throws IOException {
+        objectMapper.writeValue(sink, pageResponse);
+    }
+}
@@ -0,0 +1,126 @@
+package com.sbpb.ddobak.server.common.utils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sbpb.ddobak.server.common.utils.id.EntityIdType;
+import com.sbpb.ddobak.server.common.utils.id.IdAlphabet;
+import com.sbpb.ddobak.server.common.utils.id.IdStrategy;
+import com.sbpb.ddobak.server.common.utils.id.ThreadLocalIdEngine;
+import com.sbpb.ddobak.server.common.utils.id.TimeOrderedIdGenerator;
+
+/**
+ * ID 방식별 대용량 테이블 삽입 처리량 / 인덱스 크기 비교 (로컬 H2 파일 DB)
+ *
+ * preloadRows 만큼 미리 채운 contracts 테이블에 1,000건 배치 삽입을 반복한다.
+ * 테이블 + 인덱스 디스크 사용량은 준비 직후와 종료 시점에 표준 출력으로 남긴다.
+ * 실행: ./gradlew jmh -PjmhIncludes=EntityIdInsertBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class EntityIdInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"RANDOM", "TIME_ORDERED"})
+    private IdStrategy strategy;
+
+    @Param({"1000000"})
+    private int preloadRows;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private Supplier<String> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Path directory = Path.of("build", "jmh-h2");
+        Files.createDirectories(directory);
+        Path database = directory.resolve("contracts-" + strategy.name());
+        Files.deleteIfExists(Path.of(database + ".mv.db"));
+
+        connection = DriverManager.getConnection("jdbc:h2:file:" + database.toAbsolutePath(), "sa", "");
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE contracts ("
+                    + "id VARCHAR(14) PRIMARY KEY, "
+                    + "user_id VARCHAR(14) NOT NULL, "
+                    + "title VARCHAR(255) NOT NULL, "
+                    + "img_url VARCHAR(255) NOT NULL, "
+                    + "created_at TIMESTAMP NOT NULL)");
+        }
+
+        if (strategy == IdStrategy.TIME_ORDERED) {
+            TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(EntityIdType.CONTRACT.getPrefix(), 1);
+            ids = generator::next;
+        } else {
+            ThreadLocalIdEngine engine = new ThreadLocalIdEngine();
+            ids = () -> engine.prefixedString("C", IdAlphabet.UPPER_ALPHANUMERIC, 7);
+        }
+
+        insert = connection.prepareStatement("INSERT INTO contracts VALUES (?, ?, ?, ?, ?)");
+        for (int loaded = 0; loaded < preloadRows; loaded += BATCH_SIZE) {
+            insertBatch();
+        }
+        report("after preload");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertBatch() throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setString(1, ids.get());
+            insert.setString(2, "U0000001");
+            insert.setString(3, "Lease contract");
+            insert.setString(4, "https://storage.local/contracts/sample.png");
+            insert.setTimestamp(5, now);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        report("after benchmark");
+        insert.close();
+        connection.close();
+    }
+
+    private void report(String phase) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                     "SELECT COUNT(*), DISK_SPACE_USED('CONTRACTS') FROM contracts")) {
+            rs.next();
+            System.out.printf("%n[%s] %s: rows=%d, table+index size=%.1f MB%n",
+                    strategy, phase, rs.getLong(1), rs.getLong(2) / (1024.0 * 1024.0));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.sbpb.ddobak.server.common.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.sbpb.ddobak.server.common.utils.id.EntityIdType;
+import com.sbpb.ddobak.server.common.utils.id.EntityIdValidator;
+
+/**
+ * ID 검증 방식별 비교 (정규식 vs 문자 분류 테이블)
+ *
+ * 할당량 확인: ./gradlew jmh -PjmhIncludes=EntityIdValidationBenchmark 후 -prof gc 결과의 gc.alloc.rate.norm
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EntityIdValidationBenchmark {
+
+    @Param({"C4F7K2QZ", "C14HDWA3Z00A2B", "C4f7k2qz", "U4F7K2QZ"})
+    private String id;
+
+    /**
+     * 기존 IdGenerator.isValidEntityId(id) 그대로
+     */
+    @Benchmark
+    public boolean legacyRegex() {
+        return id != null && id.length() == 8 && id.matches("[A-Z0-9]{8}");
+    }
+
+    /**
+     * 기존 IdGenerator.isValidEntityId(id, "c") 그대로
+     */
+    @Benchmark
+    public boolean legacyRegexWithPrefix() {
+        return id != null &&
+               id.length() == 8 &&
+               id.startsWith("c".toUpperCase()) &&
+               id.matches("[A-Z0-9]{8}");
+    }
+
+    @Benchmark
+    public boolean lookupTable() {
+        return EntityIdValidator.ANY.isValid(id);
+    }
+
+    @Benchmark
+    public boolean lookupTableTyped() {
+        return EntityIdValidator.of(EntityIdType.CONTRACT).isValid(id);
+    }
+
+    @Benchmark
+    public boolean lookupTableWithPrefix() {
+        return EntityIdValidator.isValid(id, "c");
+    }
+}
@@ -0,0 +1,87 @@
+package com.sbpb.ddobak.server.common.utils;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.sbpb.ddobak.server.common.utils.id.IdAlphabet;
+import com.sbpb.ddobak.server.common.utils.id.IdEngine;
+import com.sbpb.ddobak.server.common.utils.id.StripedIdEngine;
+import com.sbpb.ddobak.server.common.utils.id.ThreadLocalIdEngine;
+
+/**
+ * ID 생성 엔진별 처리량 비교
+ *
+ * legacy는 기존 구현(공유 SecureRandom 1개 + StringBuilder/charAt)을 그대로 재현한 것이다.
+ * 스레드 수별 비교:
+ * for t in 1 4 16 64; do ./gradlew jmh -PjmhIncludes=IdGeneratorBenchmark -PjmhThreads=$t; done
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IdGeneratorBenchmark {
+
+    @Param({"legacy", "thread-local", "striped"})
+    private String engineType;
+
+    private IdEngine engine;
+
+    @Setup
+    public void setUp() {
+        engine = switch (engineType) {
+            case "legacy" -> new LegacyIdEngine();
+            case "thread-local" -> new ThreadLocalIdEngine();
+            case "striped" -> new StripedIdEngine();
+            default -> throw new IllegalArgumentException(engineType);
+        };
+    }
+
+    @Benchmark
+    public String traceId() {
+        return engine.randomString(IdAlphabet.LOWER_ALPHANUMERIC, 12);
+    }
+
+    @Benchmark
+    public String contractId() {
+        return engine.prefixedString("C", IdAlphabet.UPPER_ALPHANUMERIC, 7);
+    }
+
+    /**
+     * 기존 IdGenerator 구현
+     */
+    static class LegacyIdEngine implements IdEngine {
+
+        private static final SecureRandom RANDOM = new SecureRandom();
+
+        @Override
+        public void fill(byte[] dest, int offset, int length, IdAlphabet alphabet) {
+            String charset = alphabet.getCharacters();
+            for (int i = offset; i < offset + length; i++) {
+                dest[i] = (byte) charset.charAt(RANDOM.nextInt(charset.length()));
+            }
+        }
+
+        @Override
+        public String randomString(IdAlphabet alphabet, int length) {
+            String charset = alphabet.getCharacters();
+            StringBuilder sb = new StringBuilder(length);
+            for (int i = 0; i < length; i++) {
+                sb.append(charset.charAt(RANDOM.nextInt(charset.length())));
+            }
+            return sb.toString();
+        }
+
+        @Override
+        public String prefixedString(String prefix, IdAlphabet alphabet, int randomLength) {
+            return prefix.toUpperCase() + randomString(alphabet, randomLength);
+        }
+    }
+}
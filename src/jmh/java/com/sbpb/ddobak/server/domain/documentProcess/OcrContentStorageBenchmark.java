@@ -0,0 +1,197 @@
+package com.sbpb.ddobak.server.domain.documentProcess;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sbpb.ddobak.server.common.utils.TextCompression;
+
+/**
+ * OCR 본문 저장 방식별 조회 비용 / 저장 크기 비교 (로컬 H2 파일 DB)
+ *
+ * - TEXT: 본문 전체를 TEXT 컬럼 하나에 저장 (이전 방식)
+ * - COMPRESSED_PAGES: 페이지마다 압축하여 별도 행에 저장 (OcrContentStore)
+ * 전체 본문 조회와 한 페이지 조회를 각각 측정하며, 할당량은 -PjmhProfilers=gc로 확인한다.
+ * 테이블 디스크 사용량과 문서 한 건의 힙 크기(문자열 기준)는 준비 직후 표준 출력으로 남긴다.
+ * 실행: ./gradlew jmh -PjmhIncludes=OcrContentStorageBenchmark -PjmhProfilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class OcrContentStorageBenchmark {
+
+    public enum Layout {
+        TEXT, COMPRESSED_PAGES
+    }
+
+    private static final char PAGE_BREAK = '\f';
+
+    @Param({"TEXT", "COMPRESSED_PAGES"})
+    private Layout layout;
+
+    @Param({"50"})
+    private int pages;
+
+    @Param({"200"})
+    private int documents;
+
+    private Connection connection;
+    private PreparedStatement selectText;
+    private PreparedStatement selectPages;
+    private PreparedStatement selectPage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Path directory = Path.of("build", "jmh-h2");
+        Files.createDirectories(directory);
+        Path database = directory.resolve("ocr-" + layout.name());
+        Files.deleteIfExists(Path.of(database + ".mv.db"));
+
+        connection = DriverManager.getConnection("jdbc:h2:file:" + database.toAbsolutePath(), "sa", "");
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE ocr_text (id INT PRIMARY KEY, content CLOB NOT NULL)");
+            statement.execute("CREATE TABLE ocr_pages (id INT NOT NULL, page_no INT NOT NULL, "
+                    + "content BLOB NOT NULL, PRIMARY KEY (id, page_no))");
+        }
+
+        String document = sampleDocument(pages);
+        if (layout == Layout.TEXT) {
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO ocr_text VALUES (?, ?)")) {
+                for (int id = 0; id < documents; id++) {
+                    insert.setInt(1, id);
+                    insert.setString(2, document);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        } else {
+            String[] split = document.split(String.valueOf(PAGE_BREAK));
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO ocr_pages VALUES (?, ?, ?)")) {
+                for (int id = 0; id < documents; id++) {
+                    for (int pageNo = 1; pageNo <= split.length; pageNo++) {
+                        insert.setInt(1, id);
+                        insert.setInt(2, pageNo);
+                        insert.setBytes(3, TextCompression.compress(split[pageNo - 1]));
+                        insert.addBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+        }
+        connection.commit();
+
+        selectText = connection.prepareStatement("SELECT content FROM ocr_text WHERE id = ?");
+        selectPages = connection.prepareStatement("SELECT content FROM ocr_pages WHERE id = ? ORDER BY page_no");
+        selectPage = connection.prepareStatement("SELECT content FROM ocr_pages WHERE id = ? AND page_no = ?");
+        report(document);
+    }
+
+    @Benchmark
+    public String readFullContent() throws SQLException {
+        int id = ThreadLocalRandom.current().nextInt(documents);
+        if (layout == Layout.TEXT) {
+            selectText.setInt(1, id);
+            try (ResultSet rs = selectText.executeQuery()) {
+                rs.next();
+                return rs.getString(1);
+            }
+        }
+        selectPages.setInt(1, id);
+        StringBuilder content = new StringBuilder();
+        try (ResultSet rs = selectPages.executeQuery()) {
+            while (rs.next()) {
+                if (content.length() > 0) {
+                    content.append(PAGE_BREAK);
+                }
+                content.append(TextCompression.decompress(rs.getBytes(1)));
+            }
+        }
+        return content.toString();
+    }
+
+    @Benchmark
+    public String readSinglePage() throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int id = random.nextInt(documents);
+        int pageNo = random.nextInt(pages) + 1;
+        if (layout == Layout.TEXT) {
+            selectText.setInt(1, id);
+            try (ResultSet rs = selectText.executeQuery()) {
+                rs.next();
+                return rs.getString(1).split(String.valueOf(PAGE_BREAK))[pageNo - 1];
+            }
+        }
+        selectPage.setInt(1, id);
+        selectPage.setInt(2, pageNo);
+        try (ResultSet rs = selectPage.executeQuery()) {
+            rs.next();
+            return TextCompression.decompress(rs.getBytes(1));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        selectText.close();
+        selectPages.close();
+        selectPage.close();
+        connection.close();
+    }
+
+    private void report(String document) throws SQLException {
+        String table = layout == Layout.TEXT ? "OCR_TEXT" : "OCR_PAGES";
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT DISK_SPACE_USED('" + table + "')")) {
+            rs.next();
+            // 문자열 힙 크기는 압축 문자열(Compact Strings) 비활성 기준 UTF-16 2바이트로 추정
+            System.out.printf("%n[%s] documents=%d, pages=%d, table size=%.1f MB, heap per full document=%.1f KB%n",
+                    layout, documents, pages, rs.getLong(1) / (1024.0 * 1024.0), document.length() * 2 / 1024.0);
+        }
+    }
+
+    /**
+     * 조항 문장을 반복해 만든 여러 페이지 계약서 본문
+     */
+    private static String sampleDocument(int pages) {
+        String[] clauses = {
+            "제%d조 (목적) 본 계약은 임대인과 임차인 사이의 주택 임대차에 관한 사항을 정함을 목적으로 한다.",
+            "제%d조 (보증금) 임차인은 보증금 %d원을 계약 체결 시 임대인에게 지급한다.",
+            "제%d조 (계약 해지) 임차인이 차임을 2기 이상 연체한 경우 임대인은 계약을 해지할 수 있다.",
+            "제%d조 (원상복구) 임차인은 계약 종료 시 목적물을 원상으로 회복하여 반환하여야 한다."
+        };
+        StringBuilder document = new StringBuilder();
+        int article = 1;
+        for (int page = 0; page < pages; page++) {
+            if (page > 0) {
+                document.append(PAGE_BREAK);
+            }
+            for (int line = 0; line < 40; line++, article++) {
+                document.append(String.format(clauses[article % clauses.length], article, article * 10_000))
+                        .append('\n');
+            }
+        }
+        return document.toString();
+    }
+}
@@ -4,6 +4,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import com.sbpb.ddobak.server.common.utils.IdGenerator;
+import com.sbpb.ddobak.server.common.utils.trace.TraceContext;
 
 /**
  * 모든 비즈니스 예외의 기반 클래스
@@ -13,41 +14,39 @@ import com.sbpb.ddobak.server.common.utils.IdGenerator;
  * - 추적 ID를 통한 로그 연관성 제공
  * - 디버깅을 위한 추가 속성 저장 기능
  * - 구조화된 로그 메시지 생성
+ * - 4xx 예외는 스택 트레이스 생략, 속성 맵은 필요할 때만 생성 (StackTracePolicy)
  */
 public abstract class BusinessException extends RuntimeException {
 
     private final ErrorCode errorCode;
-    private final String traceId;
-    private final Map<String, Object> properties;
+    private String traceId;
+    private Map<String, Object> properties;
 
     /**
      * 기본 생성자 - 에러 코드의 기본 메시지 사용
      */
     protected BusinessException(ErrorCode errorCode) {
-        super(errorCode.getMessage());
+        super(errorCode.getMessage(), null, true, StackTracePolicy.shouldCapture(errorCode.getHttpStatus()));
         this.errorCode = errorCode;
-        this.traceId = IdGenerator.generateTraceId();
-        this.properties = new HashMap<>();
+        this.traceId = TraceContext.current();
     }
 
     /**
      * 커스텀 메시지를 사용하는 생성자
      */
     protected BusinessException(ErrorCode errorCode, String message) {
-        super(message);
+        super(message, null, true, StackTracePolicy.shouldCapture(errorCode.getHttpStatus()));
         this.errorCode = errorCode;
-        this.traceId = IdGenerator.generateTraceId();
-        this.properties = new HashMap<>();
+        this.traceId = TraceContext.current();
     }
 
     /**
      * 원인 예외를 포함하는 생성자
      */
     protected BusinessException(ErrorCode errorCode, String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, true, StackTracePolicy.shouldCapture(errorCode.getHttpStatus()));
         this.errorCode = errorCode;
-        this.traceId = IdGenerator.generateTraceId();
-        this.properties = new HashMap<>();
+        this.traceId = TraceContext.current();
     }
 
     /**
@@ -59,8 +58,12 @@ public abstract class BusinessException extends RuntimeException {
 
     /**
      * 추적 ID 반환
+     * 요청 밖에서 생성된 예외는 처음 조회할 때 새로 발급
      */
     public String getTraceId() {
+        if (traceId == null) {
+            traceId = IdGenerator.generateTraceId();
+        }
         return traceId;
     }
 
@@ -68,7 +71,7 @@ public abstract class BusinessException extends RuntimeException {
      * 추가 속성 맵 반환 (읽기 전용)
      */
     public Map<String, Object> getProperties() {
-        return new HashMap<>(properties);
+        return properties == null ? Map.of() : new HashMap<>(properties);
     }
 
     /**
@@ -79,7 +82,10 @@ public abstract class BusinessException extends RuntimeException {
      * @return 체이닝을 위한 자기 자신 반환
      */
     public BusinessException addProperty(String key, Object value) {
-        this.properties.put(key, value);
+        if (properties == null) {
+            properties = new HashMap<>();
+        }
+        properties.put(key, value);
         return this;
     }
 
@@ -88,11 +94,11 @@ public abstract class BusinessException extends RuntimeException {
      * 형식: [에러코드] 메시지 - TraceId: xxx - Properties: {key=value}
      */
     public String getLoggingMessage() {
-        StringBuilder sb = new StringBuilder();
-        sb.append(String.format("[%d] %s", errorCode.getCode(), getMessage()));
-        sb.append(String.format(" - TraceId: %s", traceId));
+        StringBuilder sb = new StringBuilder(128)
+                .append('[').append(errorCode.getCode()).append("] ").append(getMessage())
+                .append(" - TraceId: ").append(getTraceId());
 
-        if (!properties.isEmpty()) {
+        if (properties != null && !properties.isEmpty()) {
             sb.append(" - Properties: ").append(properties);
         }
 
@@ -103,6 +109,6 @@ public abstract class BusinessException extends RuntimeException {
      * 간단한 정보 반환 (민감하지 않은 정보만)
      */
     public String getSimpleMessage() {
-        return String.format("Error %d: %s", errorCode.getCode(), getMessage());
+        return "Error " + errorCode.getCode() + ": " + getMessage();
     }
 }
\ No newline at end of file
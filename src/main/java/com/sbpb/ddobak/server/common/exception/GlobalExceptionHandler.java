@@ -1,7 +1,8 @@
 package com.sbpb.ddobak.server.common.exception;
 
-import com.sbpb.ddobak.server.common.response.ApiResponse;
+import com.sbpb.ddobak.server.common.response.ResponseTemplate;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -18,29 +19,37 @@ import org.springframework.web.multipart.MaxUploadSizeExceededException;
  * - 비즈니스 예외 (BusinessException)
  * - 검증 예외 (Validation)
  * - 시스템 예외 (RuntimeException, Exception)
+ * 
+ * 에러 응답은 ErrorCode별로 미리 직렬화한 템플릿(ResponseTemplate)으로 작성하여
+ * 잘못된 요청이 몰릴 때도 Jackson 직렬화 비용이 들지 않도록 한다.
  */
 @RestControllerAdvice
 @Slf4j
 public class GlobalExceptionHandler {
 
+    private static final ResponseTemplate UPLOAD_SIZE_EXCEEDED =
+        ResponseTemplate.error(ErrorCode.INVALID_INPUT).withMessage("File size exceeds the allowed limit");
+    private static final ResponseTemplate UNEXPECTED_ERROR =
+        ResponseTemplate.error(ErrorCode.INTERNAL_SERVER_ERROR).withMessage("An unexpected error occurred");
+
     /**
      * 비즈니스 예외 처리
      * 애플리케이션에서 의도적으로 발생시킨 예외들을 처리
      */
     @ExceptionHandler(BusinessException.class)
-    public ResponseEntity<ApiResponse<Void>> handleBusinessException(BusinessException e) {
-        log.warn("Business exception occurred: {}", e.getLoggingMessage());
+    public ResponseEntity<byte[]> handleBusinessException(BusinessException e) {
+        if (log.isWarnEnabled()) {
+            log.warn("Business exception occurred: {}", e.getLoggingMessage());
+        }
 
-        return ResponseEntity
-            .status(e.getErrorCode().getHttpStatus())
-            .body(ApiResponse.error(e.getErrorCode(), e.getMessage()));
+        return errorResponse(e.getErrorCode(), e.getMessage());
     }
 
     /**
      * 검증 예외 처리 (@Valid 어노테이션)
      */
     @ExceptionHandler({MethodArgumentNotValidException.class, BindException.class})
-    public ResponseEntity<ApiResponse<Void>> handleValidationException(BindException e) {
+    public ResponseEntity<byte[]> handleValidationException(BindException e) {
         log.warn("Validation error occurred: {}", e.getMessage());
 
         String message = e.getBindingResult().getFieldErrors().stream()
@@ -48,33 +57,27 @@ public class GlobalExceptionHandler {
             .map(error -> error.getDefaultMessage())
             .orElse("Validation failed");
 
-        return ResponseEntity
-            .status(ErrorCode.INVALID_INPUT.getHttpStatus())
-            .body(ApiResponse.error(ErrorCode.INVALID_INPUT, message));
+        return errorResponse(ErrorCode.INVALID_INPUT, message);
     }
 
     /**
      * 파일 업로드 크기 초과 예외 처리
      */
     @ExceptionHandler(MaxUploadSizeExceededException.class)
-    public ResponseEntity<ApiResponse<Void>> handleMaxUploadSizeExceededException(MaxUploadSizeExceededException e) {
+    public ResponseEntity<byte[]> handleMaxUploadSizeExceededException(MaxUploadSizeExceededException e) {
         log.warn("File upload size exceeded: {}", e.getMessage());
 
-        return ResponseEntity
-            .status(ErrorCode.INVALID_INPUT.getHttpStatus())
-            .body(ApiResponse.error(ErrorCode.INVALID_INPUT, "File size exceeds the allowed limit"));
+        return errorResponse(ErrorCode.INVALID_INPUT, UPLOAD_SIZE_EXCEEDED.render());
     }
 
     /**
      * IllegalArgumentException 처리
      */
     @ExceptionHandler(IllegalArgumentException.class)
-    public ResponseEntity<ApiResponse<Void>> handleIllegalArgumentException(IllegalArgumentException e) {
+    public ResponseEntity<byte[]> handleIllegalArgumentException(IllegalArgumentException e) {
         log.warn("Invalid argument: {}", e.getMessage());
 
-        return ResponseEntity
-            .status(ErrorCode.INVALID_INPUT.getHttpStatus())
-            .body(ApiResponse.error(ErrorCode.INVALID_INPUT, e.getMessage()));
+        return errorResponse(ErrorCode.INVALID_INPUT, e.getMessage());
     }
 
     /**
@@ -82,11 +85,20 @@ public class GlobalExceptionHandler {
      * 위에서 처리되지 않은 모든 예외의 최종 처리
      */
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ApiResponse<Void>> handleUnexpectedException(Exception e) {
+    public ResponseEntity<byte[]> handleUnexpectedException(Exception e) {
         log.error("Unexpected error occurred", e);
 
+        return errorResponse(ErrorCode.INTERNAL_SERVER_ERROR, UNEXPECTED_ERROR.render());
+    }
+
+    private ResponseEntity<byte[]> errorResponse(ErrorCode errorCode, String message) {
+        return errorResponse(errorCode, ResponseTemplate.error(errorCode).render(message));
+    }
+
+    private ResponseEntity<byte[]> errorResponse(ErrorCode errorCode, byte[] body) {
         return ResponseEntity
-            .status(ErrorCode.INTERNAL_SERVER_ERROR.getHttpStatus())
-            .body(ApiResponse.error(ErrorCode.INTERNAL_SERVER_ERROR, "An unexpected error occurred"));
+            .status(errorCode.getHttpStatus())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
     }
-}
\ No newline at end of file
+}
@@ -56,6 +56,15 @@ public class ResourceNotFoundException extends BusinessException {
         return new ResourceNotFoundException("User", "id", userId);
     }
 
+    /**
+     * 사용자 리소스 없음 예외 (편의 메서드)
+     * 
+     * @param userId 사용자 ID (엔티티 ID 문자열)
+     */
+    public static ResourceNotFoundException user(String userId) {
+        return new ResourceNotFoundException("User", "id", userId);
+    }
+
     /**
      * 이메일로 사용자를 찾을 수 없는 경우 (편의 메서드)
      * 
@@ -0,0 +1,32 @@
+package com.sbpb.ddobak.server.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 비즈니스 예외의 스택 트레이스 수집 정책
+ *
+ * 중복 이메일, 리소스 없음처럼 정상 흐름에서 던지는 4xx 예외는 스택 트레이스가
+ * 디버깅에 도움이 되지 않으므로 기본적으로 수집하지 않는다.
+ * 5xx 예외는 항상 수집한다. (ddobak.exception.stackless-client-errors)
+ */
+public final class StackTracePolicy {
+
+    private static volatile boolean stacklessClientErrors = true;
+
+    private StackTracePolicy() {
+    }
+
+    /**
+     * 4xx 예외의 스택 트레이스 생략 여부 설정
+     */
+    public static void configure(boolean stacklessClientErrors) {
+        StackTracePolicy.stacklessClientErrors = stacklessClientErrors;
+    }
+
+    /**
+     * 해당 HTTP 상태의 예외가 스택 트레이스를 수집해야 하는지 여부
+     */
+    public static boolean shouldCapture(HttpStatus status) {
+        return !(stacklessClientErrors && status.is4xxClientError());
+    }
+}
@@ -6,7 +6,7 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.sbpb.ddobak.server.common.exception.ErrorCode;
-import com.sbpb.ddobak.server.common.utils.IdGenerator;
+import com.sbpb.ddobak.server.common.utils.trace.TraceContext;
 
 /**
  * 모든 API 응답에 사용되는 통일된 응답 형식
@@ -152,10 +152,10 @@ public class ApiResponse<T> {
     // ===== 유틸리티 메서드들 =====
 
     /**
-     * 추적 ID 생성 (12자리 짧은 ID)
+     * 현재 요청의 추적 ID (요청 밖이면 12자리 짧은 ID 생성)
      */
     private static String generateTraceId() {
-        return IdGenerator.generateTraceId();
+        return TraceContext.currentOrGenerate();
     }
 
     // ===== Getter 메서드들 =====
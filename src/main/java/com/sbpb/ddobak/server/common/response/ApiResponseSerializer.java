@@ -0,0 +1,57 @@
+package com.sbpb.ddobak.server.common.response;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * ApiResponse 전용 직렬화기
+ *
+ * 리플렉션 기반 BeanSerializer 대신 필드를 직접 출력한다.
+ * 출력 형식은 어노테이션(@JsonProperty, @JsonInclude(NON_NULL), @JsonFormat)으로 정의한 것과 같다.
+ */
+public class ApiResponseSerializer extends StdSerializer<ApiResponse<?>> {
+
+    private static final SerializedString SUCCESS = new SerializedString("success");
+    private static final SerializedString CODE = new SerializedString("code");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString DATA = new SerializedString("data");
+    private static final SerializedString TIMESTAMP = new SerializedString("timestamp");
+    private static final SerializedString TRACE_ID = new SerializedString("trace_id");
+
+    public ApiResponseSerializer() {
+        super(ApiResponse.class, false);
+    }
+
+    @Override
+    public void serialize(ApiResponse<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+
+        gen.writeFieldName(SUCCESS);
+        gen.writeBoolean(value.isSuccess());
+        gen.writeFieldName(CODE);
+        gen.writeNumber(value.getCode());
+
+        if (value.getMessage() != null) {
+            gen.writeFieldName(MESSAGE);
+            gen.writeString(value.getMessage());
+        }
+        if (value.getData() != null) {
+            gen.writeFieldName(DATA);
+            provider.defaultSerializeValue(value.getData(), gen);
+        }
+        if (value.getTimestamp() != null) {
+            gen.writeFieldName(TIMESTAMP);
+            gen.writeString(ResponseTimestamp.format(value.getTimestamp()));
+        }
+        if (value.getTraceId() != null) {
+            gen.writeFieldName(TRACE_ID);
+            gen.writeString(value.getTraceId());
+        }
+
+        gen.writeEndObject();
+    }
+}
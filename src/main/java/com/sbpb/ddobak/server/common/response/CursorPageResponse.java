@@ -0,0 +1,98 @@
+package com.sbpb.ddobak.server.common.response;
+
+import java.util.List;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 커서(keyset) 기반 페이징 응답
+ *
+ * OFFSET과 COUNT(*) 없이 마지막 행의 위치(nextCursor)부터 다음 페이지를 조회하므로
+ * 페이지 깊이와 관계없이 조회 비용이 일정하다.
+ *
+ * JSON 응답 형식:
+ * {
+ * "content": [...],
+ * "nextCursor": "MjAyNC0wMS0xNVQxMDozMDowMHxDNEY3SzJRWg",
+ * "hasNext": true,
+ * "size": 20,
+ * "totalElements": 135,       (요청한 경우에만)
+ * "totalEstimated": true      (캐시된 개수를 사용한 경우에만)
+ * }
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorPageResponse<T> {
+
+    private final List<T> content;
+    private final String nextCursor;
+    private final boolean hasNext;
+    private final int size;
+    private final Long totalElements;
+    private final Boolean totalEstimated;
+
+    private CursorPageResponse(List<T> content, String nextCursor, boolean hasNext, int size,
+                               Long totalElements, Boolean totalEstimated) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+        this.size = size;
+        this.totalElements = totalElements;
+        this.totalEstimated = totalEstimated;
+    }
+
+    /**
+     * size + 1개를 조회한 결과로 응답 생성
+     *
+     * @param fetched  size + 1개까지 조회한 행 (정렬 순서대로)
+     * @param size     페이지 크기
+     * @param cursorOf 행의 커서 추출 함수
+     * @param mapper   응답 DTO 변환 함수
+     */
+    public static <E, T> CursorPageResponse<T> of(List<E> fetched, int size,
+                                                  Function<E, PageCursor> cursorOf, Function<E, T> mapper) {
+        boolean hasNext = fetched.size() > size;
+        List<E> page = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+
+        return new CursorPageResponse<>(page.stream().map(mapper).toList(), nextCursor, hasNext, size, null, null);
+    }
+
+    /**
+     * 전체 개수를 포함한 응답 반환
+     *
+     * @param estimated 캐시된 추정값이면 true
+     */
+    public CursorPageResponse<T> withTotalElements(long totalElements, boolean estimated) {
+        return new CursorPageResponse<>(content, nextCursor, hasNext, size, totalElements, estimated ? Boolean.TRUE : null);
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public Long getTotalElements() {
+        return totalElements;
+    }
+
+    public Boolean getTotalEstimated() {
+        return totalEstimated;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CursorPageResponse{contentSize=%d, hasNext=%s}", content.size(), hasNext);
+    }
+}
@@ -0,0 +1,63 @@
+package com.sbpb.ddobak.server.common.response;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.sbpb.ddobak.server.common.exception.ValidationException;
+
+/**
+ * 커서 페이징의 위치 (마지막으로 반환한 행의 created_at, id)
+ *
+ * 클라이언트에는 base64url 문자열로만 노출하며 내부 형식에 의존하지 않도록 한다.
+ * created_at이 없는 목록(id 순 정렬)은 createdAt을 null로 둔다.
+ */
+public record PageCursor(LocalDateTime createdAt, String id) {
+
+    private static final int MAX_ENCODED_LENGTH = 128;
+    private static final char SEPARATOR = '|';
+
+    /**
+     * id만으로 정렬하는 목록의 커서
+     */
+    public static PageCursor ofId(String id) {
+        return new PageCursor(null, id);
+    }
+
+    /**
+     * 불투명 문자열로 인코딩
+     */
+    public String encode() {
+        String raw = (createdAt != null ? createdAt.toString() : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 해석 (null 또는 빈 문자열이면 첫 페이지)
+     */
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        if (cursor.length() > MAX_ENCODED_LENGTH) {
+            throw invalid(cursor);
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0 || separator == raw.length() - 1) {
+                throw invalid(cursor);
+            }
+            LocalDateTime createdAt = separator == 0 ? null : LocalDateTime.parse(raw.substring(0, separator));
+            return new PageCursor(createdAt, raw.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw invalid(cursor);
+        }
+    }
+
+    private static ValidationException invalid(String cursor) {
+        return new ValidationException("cursor", cursor, "Invalid page cursor");
+    }
+}
@@ -2,6 +2,8 @@ package com.sbpb.ddobak.server.common.response;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 /**
  * 페이징된 데이터 응답을 위한 클래스
  * Spring Data의 Page 객체를 클라이언트 친화적인 형태로 변환
@@ -15,7 +17,8 @@ import java.util.List;
  * "total_elements": 100,
  * "total_pages": 5,
  * "has_next": true,
- * "has_previous": false
+ * "has_previous": false,
+ * "estimated": true          (캐시된 개수를 사용한 경우에만)
  * }
  * }
  */
@@ -52,6 +55,29 @@ public class PageResponse<T> {
         return new PageResponse<>(page.getContent(), pageInfo);
     }
 
+    /**
+     * Spring Data Slice와 별도로 구한 전체 개수로 PageResponse 생성 (COUNT 쿼리 생략)
+     * 
+     * @param slice         Spring Data Slice 객체
+     * @param totalElements 전체 개수 (CountCache 등)
+     * @param estimated     캐시된 추정값이면 true
+     * @return PageResponse 객체
+     */
+    public static <T> PageResponse<T> from(org.springframework.data.domain.Slice<T> slice,
+            long totalElements, boolean estimated) {
+        int totalPages = slice.getSize() == 0 ? 1 : (int) Math.ceil((double) totalElements / slice.getSize());
+        PageInfo pageInfo = new PageInfo(
+                slice.getNumber(),
+                slice.getSize(),
+                totalElements,
+                totalPages,
+                slice.hasNext(),
+                slice.hasPrevious());
+        pageInfo.setEstimated(estimated);
+
+        return new PageResponse<>(slice.getContent(), pageInfo);
+    }
+
     /**
      * 직접 생성하는 팩토리 메서드
      */
@@ -91,6 +117,7 @@ public class PageResponse<T> {
         private int totalPages;
         private boolean hasNext;
         private boolean hasPrevious;
+        private boolean estimated;
 
         // 기본 생성자
         public PageInfo() {
@@ -156,6 +183,18 @@ public class PageResponse<T> {
             this.hasPrevious = hasPrevious;
         }
 
+        /**
+         * totalElements/totalPages가 캐시된 추정값인지 여부 (true일 때만 출력)
+         */
+        @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+        public boolean isEstimated() {
+            return estimated;
+        }
+
+        public void setEstimated(boolean estimated) {
+            this.estimated = estimated;
+        }
+
         @Override
         public String toString() {
             return String.format("PageInfo{currentPage=%d, pageSize=%d, totalElements=%d, totalPages=%d}",
@@ -0,0 +1,96 @@
+package com.sbpb.ddobak.server.common.response;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * PageResponse 전용 직렬화기
+ *
+ * PageInfo는 getter를 거치지 않고 바로 출력하고, content 요소는
+ * 같은 타입이 이어지는 동안 조회한 직렬화기를 재사용한다.
+ * 필드 이름은 기존 getter 기반 출력(camelCase)과 같다.
+ */
+public class PageResponseSerializer extends StdSerializer<PageResponse<?>> {
+
+    private static final SerializedString CONTENT = new SerializedString("content");
+    private static final SerializedString PAGE_INFO = new SerializedString("pageInfo");
+    private static final SerializedString CURRENT_PAGE = new SerializedString("currentPage");
+    private static final SerializedString PAGE_SIZE = new SerializedString("pageSize");
+    private static final SerializedString TOTAL_ELEMENTS = new SerializedString("totalElements");
+    private static final SerializedString TOTAL_PAGES = new SerializedString("totalPages");
+    private static final SerializedString HAS_NEXT = new SerializedString("hasNext");
+    private static final SerializedString HAS_PREVIOUS = new SerializedString("hasPrevious");
+    private static final SerializedString ESTIMATED = new SerializedString("estimated");
+
+    public PageResponseSerializer() {
+        super(PageResponse.class, false);
+    }
+
+    @Override
+    public void serialize(PageResponse<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+
+        gen.writeFieldName(CONTENT);
+        writeContent(value.getContent(), gen, provider);
+
+        gen.writeFieldName(PAGE_INFO);
+        writePageInfo(value.getPageInfo(), gen);
+
+        gen.writeEndObject();
+    }
+
+    private void writeContent(List<?> content, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (content == null) {
+            gen.writeNull();
+            return;
+        }
+
+        gen.writeStartArray(content, content.size());
+        Class<?> lastType = null;
+        JsonSerializer<Object> serializer = null;
+        for (Object element : content) {
+            if (element == null) {
+                provider.defaultSerializeNull(gen);
+                continue;
+            }
+            if (element.getClass() != lastType) {
+                lastType = element.getClass();
+                serializer = provider.findValueSerializer(lastType);
+            }
+            serializer.serialize(element, gen, provider);
+        }
+        gen.writeEndArray();
+    }
+
+    private void writePageInfo(PageResponse.PageInfo pageInfo, JsonGenerator gen) throws IOException {
+        if (pageInfo == null) {
+            gen.writeNull();
+            return;
+        }
+
+        gen.writeStartObject(pageInfo);
+        gen.writeFieldName(CURRENT_PAGE);
+        gen.writeNumber(pageInfo.getCurrentPage());
+        gen.writeFieldName(PAGE_SIZE);
+        gen.writeNumber(pageInfo.getPageSize());
+        gen.writeFieldName(TOTAL_ELEMENTS);
+        gen.writeNumber(pageInfo.getTotalElements());
+        gen.writeFieldName(TOTAL_PAGES);
+        gen.writeNumber(pageInfo.getTotalPages());
+        gen.writeFieldName(HAS_NEXT);
+        gen.writeBoolean(pageInfo.isHasNext());
+        gen.writeFieldName(HAS_PREVIOUS);
+        gen.writeBoolean(pageInfo.isHasPrevious());
+        if (pageInfo.isEstimated()) {
+            gen.writeFieldName(ESTIMATED);
+            gen.writeBoolean(true);
+        }
+        gen.writeEndObject();
+    }
+}
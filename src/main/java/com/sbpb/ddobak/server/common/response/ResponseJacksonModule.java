@@ -0,0 +1,17 @@
+package com.sbpb.ddobak.server.common.response;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * 공통 응답 직렬화 모듈 (ApiResponse, PageResponse)
+ *
+ * 스프링 빈으로 등록하면 자동 구성된 ObjectMapper에 적용된다.
+ */
+public class ResponseJacksonModule extends SimpleModule {
+
+    public ResponseJacksonModule() {
+        super("ResponseJacksonModule");
+        addSerializer(new ApiResponseSerializer());
+        addSerializer(new PageResponseSerializer());
+    }
+}
@@ -0,0 +1,178 @@
+package com.sbpb.ddobak.server.common.response;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.sbpb.ddobak.server.common.exception.ErrorCode;
+import com.sbpb.ddobak.server.common.utils.trace.TraceContext;
+
+/**
+ * 미리 직렬화한 응답 본문 템플릿 (데이터 없는 ApiResponse 전용)
+ *
+ * 코드와 메시지가 고정된 응답은 JSON을 미리 바이트로 만들어 두고,
+ * 쓰는 시점에 timestamp와 trace_id만 끼워 넣는다.
+ * 출력 형식과 필드 순서는 Jackson으로 직렬화한 ApiResponse와 같다.
+ * {"success":false,"code":5110,"message":"...","timestamp":"...","trace_id":"..."}
+ */
+public final class ResponseTemplate {
+
+    private static final byte[] TIMESTAMP_START = bytes(",\"timestamp\":\"");
+    private static final byte[] TRACE_ID_START = bytes("\",\"trace_id\":\"");
+    private static final byte[] END = bytes("\"}");
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    // 템플릿 생성에 위의 상수가 필요하므로 뒤에 선언
+    private static final Map<ErrorCode, ResponseTemplate> ERROR_TEMPLATES = createErrorTemplates();
+    private static final Map<BaseSuccessCode, ResponseTemplate> SUCCESS_TEMPLATES = new ConcurrentHashMap<>();
+
+    private final String defaultMessage;
+    private final byte[] codeHead;
+    private final byte[] defaultHead;
+
+    private ResponseTemplate(boolean success, int code, String message) {
+        this(bytes("{\"success\":" + success + ",\"code\":" + code + ",\"message\":"), message);
+    }
+
+    private ResponseTemplate(byte[] codeHead, String message) {
+        this.defaultMessage = message;
+        this.codeHead = codeHead;
+        this.defaultHead = concat(codeHead, quote(message), TIMESTAMP_START);
+    }
+
+    /**
+     * 에러 코드 템플릿
+     */
+    public static ResponseTemplate error(ErrorCode errorCode) {
+        return ERROR_TEMPLATES.get(errorCode);
+    }
+
+    /**
+     * 도메인별 에러 코드 템플릿 생성 (호출한 쪽에서 코드별로 보관하여 재사용)
+     */
+    public static ResponseTemplate error(int code, String message) {
+        return new ResponseTemplate(false, code, message);
+    }
+
+    /**
+     * 성공 코드 템플릿 (도메인별 성공 코드는 처음 사용할 때 생성)
+     * 예: 삭제처럼 데이터 없이 코드만 돌려주는 응답
+     */
+    public static ResponseTemplate success(BaseSuccessCode successCode) {
+        return SUCCESS_TEMPLATES.computeIfAbsent(successCode,
+                code -> new ResponseTemplate(true, code.getCode(), code.getMessage()));
+    }
+
+    /**
+     * 같은 코드에 고정 메시지를 쓰는 템플릿 생성 (상수로 보관하여 재사용)
+     */
+    public ResponseTemplate withMessage(String message) {
+        return new ResponseTemplate(codeHead, message);
+    }
+
+    /**
+     * 기본 메시지로 본문 생성
+     */
+    public byte[] render() {
+        return render(defaultHead, ResponseTimestamp.currentBytes(), TraceContext.currentOrGenerate());
+    }
+
+    /**
+     * 커스텀 메시지로 본문 생성 (기본 메시지와 같으면 템플릿 그대로 사용)
+     */
+    public byte[] render(String message) {
+        if (message == null || message.equals(defaultMessage)) {
+            return render();
+        }
+        return render(head(message), ResponseTimestamp.currentBytes(), TraceContext.currentOrGenerate());
+    }
+
+    /**
+     * 시각과 추적 ID를 지정해 본문 생성 (Jackson 출력과 비교하는 테스트용)
+     */
+    byte[] render(String message, LocalDateTime timestamp, String traceId) {
+        byte[] head = message == null || message.equals(defaultMessage) ? defaultHead : head(message);
+        return render(head, bytes(ResponseTimestamp.format(timestamp)), traceId);
+    }
+
+    private byte[] head(String message) {
+        return concat(codeHead, quote(message), TIMESTAMP_START);
+    }
+
+    private static byte[] render(byte[] head, byte[] timestamp, String traceId) {
+        int length = head.length + timestamp.length + TRACE_ID_START.length + traceId.length() + END.length;
+        byte[] body = Arrays.copyOf(head, length);
+        int position = head.length;
+        System.arraycopy(timestamp, 0, body, position, timestamp.length);
+        position += timestamp.length;
+        System.arraycopy(TRACE_ID_START, 0, body, position, TRACE_ID_START.length);
+        position += TRACE_ID_START.length;
+        // 추적 ID는 영숫자, '-', '_' 만 사용하므로 그대로 기록
+        for (int i = 0; i < traceId.length(); i++) {
+            body[position++] = (byte) traceId.charAt(i);
+        }
+        System.arraycopy(END, 0, body, position, END.length);
+        return body;
+    }
+
+    /**
+     * JSON 문자열 리터럴로 변환 (Jackson 기본 설정과 같은 규칙)
+     * - 큰따옴표, 역슬래시, \b \t \n \f \r 은 짧은 이스케이프
+     * - 나머지 제어 문자와 서로게이트(이모지 등)는 대문자 16진수 4자리 이스케이프
+     * - 그 외 문자는 UTF-8 그대로
+     */
+    static byte[] quote(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\b' -> sb.append("\\b");
+                case '\t' -> sb.append("\\t");
+                case '\n' -> sb.append("\\n");
+                case '\f' -> sb.append("\\f");
+                case '\r' -> sb.append("\\r");
+                default -> {
+                    if (c < 0x20 || Character.isSurrogate(c)) {
+                        sb.append("\\u")
+                            .append(HEX[c >> 12]).append(HEX[(c >> 8) & 0xF])
+                            .append(HEX[(c >> 4) & 0xF]).append(HEX[c & 0xF]);
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return bytes(sb.append('"').toString());
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        int length = 0;
+        for (byte[] part : parts) {
+            length += part.length;
+        }
+        byte[] result = new byte[length];
+        int position = 0;
+        for (byte[] part : parts) {
+            System.arraycopy(part, 0, result, position, part.length);
+            position += part.length;
+        }
+        return result;
+    }
+
+    private static Map<ErrorCode, ResponseTemplate> createErrorTemplates() {
+        Map<ErrorCode, ResponseTemplate> templates = new EnumMap<>(ErrorCode.class);
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            templates.put(errorCode, new ResponseTemplate(false, errorCode.getCode(), errorCode.getMessage()));
+        }
+        return templates;
+    }
+}
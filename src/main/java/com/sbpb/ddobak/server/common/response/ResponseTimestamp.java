@@ -0,0 +1,77 @@
+package com.sbpb.ddobak.server.common.response;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 응답 timestamp 문자열 캐시
+ *
+ * 응답의 timestamp는 초 단위("yyyy-MM-dd'T'HH:mm:ss")이므로 같은 초 안에서는
+ * 포맷 결과를 재사용한다.
+ */
+public final class ResponseTimestamp {
+
+    /**
+     * ApiResponse.timestamp 형식
+     */
+    public static final String PATTERN = "yyyy-MM-dd'T'HH:mm:ss";
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(PATTERN);
+
+    private static volatile Entry current = new Entry(Long.MIN_VALUE, "", new byte[0]);
+    private static volatile Entry lastFormatted = new Entry(Long.MIN_VALUE, "", new byte[0]);
+
+    private ResponseTimestamp() {
+    }
+
+    /**
+     * 현재 시각 문자열
+     */
+    public static String currentText() {
+        return currentEntry().text;
+    }
+
+    /**
+     * 지정 시각 문자열 (직전에 포맷한 값과 같은 초이면 재사용)
+     */
+    public static String format(LocalDateTime timestamp) {
+        long second = timestamp.toEpochSecond(ZoneOffset.UTC);
+        Entry entry = lastFormatted;
+        if (entry.epochSecond != second) {
+            String text = FORMATTER.format(timestamp);
+            entry = new Entry(second, text, null);
+            lastFormatted = entry;
+        }
+        return entry.text;
+    }
+
+    /**
+     * 현재 시각 문자열의 UTF-8 바이트 (호출자가 수정하면 안 됨)
+     */
+    static byte[] currentBytes() {
+        return currentEntry().bytes;
+    }
+
+    private static Entry currentEntry() {
+        long epochSecond = System.currentTimeMillis() / 1000;
+        Entry entry = current;
+        if (entry.epochSecond != epochSecond) {
+            entry = format(epochSecond);
+            current = entry;
+        }
+        return entry;
+    }
+
+    private static Entry format(long epochSecond) {
+        ZoneOffset offset = ZoneId.systemDefault().getRules().getOffset(Instant.ofEpochSecond(epochSecond));
+        String text = FORMATTER.format(LocalDateTime.ofEpochSecond(epochSecond, 0, offset));
+        return new Entry(epochSecond, text, text.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private record Entry(long epochSecond, String text, byte[] bytes) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.sbpb.ddobak.server.common.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 내용 기반 해시 유틸리티 (SHA-256, 소문자 16진수 64자)
+ */
+public final class ContentHash {
+
+    public static final int HEX_LENGTH = 64;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private ContentHash() {
+    }
+
+    /**
+     * 스트림 전체를 읽어 해시 계산 (스트림은 닫지 않음)
+     */
+    public static String sha256(InputStream in) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return toHex(digest);
+    }
+
+    /**
+     * 새 SHA-256 다이제스트 (내용을 나눠 읽으며 해시할 때 사용)
+     */
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * 다이제스트 결과를 16진수 문자열로 변환
+     */
+    public static String toHex(MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -1,16 +1,89 @@
 package com.sbpb.ddobak.server.common.utils;
 
-import java.security.SecureRandom;
 import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+import com.sbpb.ddobak.server.common.utils.id.BlockIdAllocator;
+import com.sbpb.ddobak.server.common.utils.id.EntityIdType;
+import com.sbpb.ddobak.server.common.utils.id.EntityIdValidator;
+import com.sbpb.ddobak.server.common.utils.id.IdAlphabet;
+import com.sbpb.ddobak.server.common.utils.id.IdEngine;
+import com.sbpb.ddobak.server.common.utils.id.IdStrategy;
+import com.sbpb.ddobak.server.common.utils.id.ThreadLocalIdEngine;
+import com.sbpb.ddobak.server.common.utils.id.TimeOrderedIdGenerator;
 
 /**
  * 짧고 읽기 쉬운 ID 생성 유틸리티
+ *
+ * 실제 랜덤 문자 생성은 교체 가능한 IdEngine에 위임한다 (기본: 스레드별 엔진).
+ * 엔진은 애플리케이션 시작 시 IdGeneratorConfig에서 설정값에 따라 지정된다.
  */
 public class IdGenerator {
 
-    private static final String ALPHANUMERIC = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
-    private static final String ALPHANUMERIC_LOWERCASE = "abcdefghijklmnopqrstuvwxyz0123456789";
-    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final IdAlphabet ALPHANUMERIC = IdAlphabet.UPPER_ALPHANUMERIC;
+    private static final IdAlphabet ALPHANUMERIC_LOWERCASE = IdAlphabet.LOWER_ALPHANUMERIC;
+
+    private static volatile IdEngine engine = new ThreadLocalIdEngine();
+    private static volatile Map<EntityIdType, IdStrategy> strategies = new EnumMap<>(EntityIdType.class);
+    private static volatile Map<EntityIdType, TimeOrderedIdGenerator> timeOrderedGenerators = createTimeOrderedGenerators(0);
+    private static volatile Map<EntityIdType, BlockIdAllocator> blockAllocators = new EnumMap<>(EntityIdType.class);
+
+    /**
+     * ID 생성 엔진 교체
+     */
+    public static void useEngine(IdEngine idEngine) {
+        engine = Objects.requireNonNull(idEngine, "idEngine");
+    }
+
+    /**
+     * 현재 사용 중인 ID 생성 엔진 반환
+     */
+    public static IdEngine currentEngine() {
+        return engine;
+    }
+
+    /**
+     * 엔티티 종류별 ID 생성 방식 지정 (지정하지 않은 종류는 RANDOM)
+     *
+     * @param entityStrategies 엔티티 종류별 생성 방식
+     * @param nodeId           TIME_ORDERED ID에 들어갈 노드 번호 (0~1295)
+     */
+    public static void configureEntityIds(Map<EntityIdType, IdStrategy> entityStrategies, int nodeId) {
+        Map<EntityIdType, IdStrategy> copied = new EnumMap<>(EntityIdType.class);
+        copied.putAll(entityStrategies);
+        timeOrderedGenerators = createTimeOrderedGenerators(nodeId);
+        strategies = copied;
+    }
+
+    /**
+     * TIME_ORDERED ID의 노드 번호만 교체 (노드 번호 임대를 잃고 새로 받은 경우)
+     */
+    public static void useNodeId(int nodeId) {
+        timeOrderedGenerators = createTimeOrderedGenerators(nodeId);
+    }
+
+    /**
+     * BLOCK 방식에 사용할 엔티티 종류별 구간 할당기 등록
+     */
+    public static void useBlockAllocators(Map<EntityIdType, BlockIdAllocator> allocators) {
+        Map<EntityIdType, BlockIdAllocator> copied = new EnumMap<>(EntityIdType.class);
+        copied.putAll(allocators);
+        blockAllocators = copied;
+    }
+
+    /**
+     * 엔티티 종류에 설정된 방식으로 ID 생성
+     */
+    public static String generate(EntityIdType type) {
+        IdStrategy strategy = strategies.getOrDefault(type, IdStrategy.RANDOM);
+        return switch (strategy) {
+            case TIME_ORDERED -> timeOrderedGenerators.get(type).next();
+            case BLOCK -> blockAllocator(type).next();
+            case RANDOM -> engine.prefixedString(type.getPrefixString(), ALPHANUMERIC, 7);
+        };
+    }
 
     /**
      * 비즈니스 엔티티용 8자리 ID 생성 (대문자 + 숫자)
@@ -25,7 +98,7 @@ public class IdGenerator {
      * 예: 'C' + 7자리 = C7X9K2M1
      */
     public static String generateEntityId(String prefix) {
-        return prefix.toUpperCase() + generateRandomString(ALPHANUMERIC, 7);
+        return engine.prefixedString(prefix, ALPHANUMERIC, 7);
     }
 
     /**
@@ -37,43 +110,43 @@ public class IdGenerator {
     }
 
     /**
-     * 사용자 ID용 짧은 ID 생성 (8자리)
+     * 사용자 ID 생성 (RANDOM/BLOCK: 8자리, TIME_ORDERED: 14자리)
      * 예: U7X9K2M1
      */
     public static String generateUserId() {
-        return generateEntityId("U");
+        return generate(EntityIdType.USER);
     }
 
     /**
-     * 계약서 ID용 짧은 ID 생성 (8자리)
+     * 계약서 ID 생성 (RANDOM/BLOCK: 8자리, TIME_ORDERED: 14자리)
      * 예: C7X9K2M1
      */
     public static String generateContractId() {
-        return generateEntityId("C");
+        return generate(EntityIdType.CONTRACT);
     }
 
     /**
-     * 분석 ID용 짧은 ID 생성 (8자리)
+     * 분석 ID 생성 (RANDOM/BLOCK: 8자리, TIME_ORDERED: 14자리)
      * 예: A7X9K2M1
      */
     public static String generateAnalysisId() {
-        return generateEntityId("A");
+        return generate(EntityIdType.ANALYSIS);
     }
 
     /**
-     * OCR 결과 ID용 짧은 ID 생성 (8자리)
+     * OCR 결과 ID 생성 (RANDOM/BLOCK: 8자리, TIME_ORDERED: 14자리)
      * 예: O7X9K2M1
      */
     public static String generateOcrResultId() {
-        return generateEntityId("O");
+        return generate(EntityIdType.OCR_RESULT);
     }
 
     /**
-     * 독소 조항 ID용 짧은 ID 생성 (8자리)
+     * 독소 조항 ID 생성 (RANDOM/BLOCK: 8자리, TIME_ORDERED: 14자리)
      * 예: T7X9K2M1
      */
     public static String generateToxicClauseId() {
-        return generateEntityId("T");
+        return generate(EntityIdType.TOXIC_CLAUSE);
     }
 
     /**
@@ -97,28 +170,44 @@ public class IdGenerator {
     /**
      * 지정된 문자셋과 길이로 랜덤 문자열 생성
      */
-    private static String generateRandomString(String charset, int length) {
-        StringBuilder sb = new StringBuilder(length);
-        for (int i = 0; i < length; i++) {
-            sb.append(charset.charAt(RANDOM.nextInt(charset.length())));
+    private static String generateRandomString(IdAlphabet alphabet, int length) {
+        return engine.randomString(alphabet, length);
+    }
+
+    private static BlockIdAllocator blockAllocator(EntityIdType type) {
+        BlockIdAllocator allocator = blockAllocators.get(type);
+        if (allocator == null) {
+            throw new IllegalStateException("Block ID allocator is not configured for " + type);
+        }
+        return allocator;
+    }
+
+    private static Map<EntityIdType, TimeOrderedIdGenerator> createTimeOrderedGenerators(int nodeId) {
+        Map<EntityIdType, TimeOrderedIdGenerator> generators = new EnumMap<>(EntityIdType.class);
+        for (EntityIdType type : EntityIdType.values()) {
+            generators.put(type, new TimeOrderedIdGenerator(type.getPrefix(), nodeId));
         }
-        return sb.toString();
+        return generators;
     }
 
     /**
-     * ID 유효성 검증 (8자리 영숫자)
+     * ID 유효성 검증 (8자리 또는 14자리 영숫자)
      */
     public static boolean isValidEntityId(String id) {
-        return id != null && id.length() == 8 && id.matches("[A-Z0-9]{8}");
+        return EntityIdValidator.ANY.isValid(id);
     }
 
     /**
      * 접두사가 있는 ID 유효성 검증
      */
     public static boolean isValidEntityId(String id, String expectedPrefix) {
-        return id != null && 
-               id.length() == 8 && 
-               id.startsWith(expectedPrefix.toUpperCase()) && 
-               id.matches("[A-Z0-9]{8}");
+        return EntityIdValidator.isValid(id, expectedPrefix);
+    }
+
+    /**
+     * 엔티티 종류별 ID 유효성 검증
+     */
+    public static boolean isValidEntityId(String id, EntityIdType type) {
+        return EntityIdValidator.of(type).isValid(id);
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
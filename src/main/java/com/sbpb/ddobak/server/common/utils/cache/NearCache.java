@@ -0,0 +1,207 @@
+package com.sbpb.ddobak.server.common.utils.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 프로세스 내 근거리 캐시 (크기 제한 LRU + TTL)
+ *
+ * 인스턴스마다 따로 유지되므로 다른 인스턴스에서 변경된 값은 최대 TTL 동안 남을 수 있다.
+ * 변경이 잦거나 정확해야 하는 값에는 짧은 TTL을 사용한다.
+ *
+ * 키 해시로 나눈 세그먼트마다 따로 잠그고 세그먼트 안에서 LRU로 밀어내므로
+ * 조회가 한 잠금에 몰리지 않는다. 전체 기준으로는 근사 LRU이며,
+ * 작은 캐시(MIN_SEGMENT_SIZE * 2 미만)는 세그먼트 하나로 정확한 LRU를 유지한다.
+ *
+ * 메트릭 (태그: cache, tier=near)
+ * - ddobak.cache.requests (result=hit|miss)
+ * - ddobak.cache.evictions (cause=size|expired|explicit)
+ * - ddobak.cache.size
+ */
+public class NearCache<K, V> {
+
+    static final int MIN_SEGMENT_SIZE = 16;
+
+    private final long ttlNanos;
+    private final Segment<K, V>[] segments;
+    private final int mask;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter expiredEvictions;
+    private final Counter explicitEvictions;
+
+    public NearCache(String name, int maxSize, Duration ttl, MeterRegistry meterRegistry) {
+        this(name, maxSize, ttl, meterRegistry, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * @param concurrency 세그먼트 수 상한 (2의 거듭제곱으로 올림, 세그먼트당 MIN_SEGMENT_SIZE 이상 유지)
+     */
+    @SuppressWarnings("unchecked")
+    NearCache(String name, int maxSize, Duration ttl, MeterRegistry meterRegistry, int concurrency) {
+        this.ttlNanos = ttl.toNanos();
+        this.hits = requestCounter(meterRegistry, name, "hit");
+        this.misses = requestCounter(meterRegistry, name, "miss");
+        this.sizeEvictions = evictionCounter(meterRegistry, name, "size");
+        this.expiredEvictions = evictionCounter(meterRegistry, name, "expired");
+        this.explicitEvictions = evictionCounter(meterRegistry, name, "explicit");
+
+        int count = segmentCount(maxSize, concurrency);
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            // 나머지는 앞쪽 세그먼트에 하나씩 더해 전체 합이 maxSize가 되도록 한다
+            segments[i] = new Segment<>(maxSize / count + (i < maxSize % count ? 1 : 0), sizeEvictions);
+        }
+        this.mask = count - 1;
+
+        Gauge.builder("ddobak.cache.size", this, NearCache::size)
+                .tag("cache", name)
+                .tag("tier", "near")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회 (없거나 만료되었으면 null)
+     */
+    public V get(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            Entry<V> entry = segment.entries.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (System.nanoTime() - entry.storedAt > ttlNanos) {
+                segment.remove(key);
+                expiredEvictions.increment();
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * 저장 (세그먼트 크기를 넘으면 세그먼트에서 가장 오래 사용하지 않은 항목 제거)
+     */
+    public void put(K key, V value) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            segment.put(key, new Entry<>(value, System.nanoTime()));
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * 명시적 무효화
+     */
+    public void evict(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            if (segment.remove(key)) {
+                explicitEvictions.increment();
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * 전체 항목 수 (세그먼트를 잠그지 않고 합산하므로 동시 변경 중에는 근삿값)
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    /**
+     * 세그먼트 수 반환
+     */
+    int segmentCount() {
+        return segments.length;
+    }
+
+    static int segmentCount(int maxSize, int concurrency) {
+        int count = 1;
+        while (count < concurrency && (long) maxSize / (count * 2L) >= MIN_SEGMENT_SIZE) {
+            count <<= 1;
+        }
+        return count;
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & mask];
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder("ddobak.cache.requests")
+                .tag("cache", name)
+                .tag("tier", "near")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter evictionCounter(MeterRegistry meterRegistry, String name, String cause) {
+        return Counter.builder("ddobak.cache.evictions")
+                .tag("cache", name)
+                .tag("tier", "near")
+                .tag("cause", cause)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 잠금 하나로 보호되는 접근 순서 LRU 구간
+     */
+    private static final class Segment<K, V> {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<K, Entry<V>> entries;
+        private volatile int size;
+
+        private Segment(int maxSize, Counter sizeEvictions) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                    if (size() > maxSize) {
+                        sizeEvictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        private void put(K key, Entry<V> entry) {
+            entries.put(key, entry);
+            size = entries.size();
+        }
+
+        private boolean remove(K key) {
+            boolean removed = entries.remove(key) != null;
+            size = entries.size();
+            return removed;
+        }
+    }
+
+    private record Entry<V>(V value, long storedAt) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.sbpb.ddobak.server.common.utils.cache;
+
+import java.time.Duration;
+
+/**
+ * 인스턴스 간 공유 캐시 (Redis 등)
+ *
+ * 값은 직렬화된 문자열(JSON)로 저장한다.
+ */
+public interface SharedCache {
+
+    /**
+     * 조회 (없으면 null)
+     */
+    String get(String key);
+
+    /**
+     * 저장
+     */
+    void put(String key, String value, Duration ttl);
+
+    /**
+     * 삭제
+     */
+    void evict(String key);
+}
@@ -0,0 +1,121 @@
+package com.sbpb.ddobak.server.common.utils.cache;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 2단계 읽기 캐시 (NearCache → SharedCache → loader)
+ *
+ * 공유 캐시 장애 시에는 경고만 남기고 loader(DB)로 조회한다.
+ * 캐시하는 값은 변경되지 않는 스냅샷(DTO)이어야 한다.
+ *
+ * 메트릭: ddobak.cache.requests (태그: cache, tier=shared, result=hit|miss|error)
+ */
+@Slf4j
+public class TwoTierCache<V> {
+
+    private final String name;
+    private final NearCache<String, V> nearCache;
+    private final SharedCache sharedCache;
+    private final Duration sharedTtl;
+    private final Class<V> type;
+    private final ObjectMapper objectMapper;
+
+    private final Counter sharedHits;
+    private final Counter sharedMisses;
+    private final Counter sharedErrors;
+
+    public TwoTierCache(String name, NearCache<String, V> nearCache, SharedCache sharedCache, Duration sharedTtl,
+                        Class<V> type, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.nearCache = nearCache;
+        this.sharedCache = sharedCache;
+        this.sharedTtl = sharedTtl;
+        this.type = type;
+        this.objectMapper = objectMapper;
+        this.sharedHits = sharedCounter(meterRegistry, name, "hit");
+        this.sharedMisses = sharedCounter(meterRegistry, name, "miss");
+        this.sharedErrors = sharedCounter(meterRegistry, name, "error");
+    }
+
+    /**
+     * 조회 (loader가 null을 반환하면 캐시하지 않음)
+     */
+    public V get(String key, Supplier<V> loader) {
+        V value = nearCache.get(key);
+        if (value != null) {
+            return value;
+        }
+
+        value = readShared(key);
+        if (value == null) {
+            value = loader.get();
+            if (value == null) {
+                return null;
+            }
+            writeShared(key, value);
+        }
+        nearCache.put(key, value);
+        return value;
+    }
+
+    /**
+     * 두 단계 모두 무효화
+     */
+    public void evict(String key) {
+        nearCache.evict(key);
+        try {
+            sharedCache.evict(key);
+        } catch (RuntimeException e) {
+            sharedErrors.increment();
+            log.warn("Shared cache eviction failed - cache: {}, key: {}", name, key, e);
+        }
+    }
+
+    private V readShared(String key) {
+        try {
+            String json = sharedCache.get(key);
+            if (json == null) {
+                sharedMisses.increment();
+                return null;
+            }
+            sharedHits.increment();
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            // 값 형식이 바뀐 경우 (배포 직후 등) 캐시 미스로 처리
+            sharedMisses.increment();
+            log.debug("Discarding unreadable shared cache entry - cache: {}, key: {}", name, key);
+            return null;
+        } catch (RuntimeException e) {
+            sharedErrors.increment();
+            log.warn("Shared cache read failed - cache: {}, key: {}", name, key, e);
+            return null;
+        }
+    }
+
+    private void writeShared(String key, V value) {
+        try {
+            sharedCache.put(key, objectMapper.writeValueAsString(value), sharedTtl);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize value for shared cache - cache: {}, key: {}", name, key, e);
+        } catch (RuntimeException e) {
+            sharedErrors.increment();
+            log.warn("Shared cache write failed - cache: {}, key: {}", name, key, e);
+        }
+    }
+
+    private static Counter sharedCounter(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder("ddobak.cache.requests")
+                .tag("cache", name)
+                .tag("tier", "shared")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
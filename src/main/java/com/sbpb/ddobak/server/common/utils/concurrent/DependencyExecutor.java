@@ -0,0 +1,196 @@
+package com.sbpb.ddobak.server.common.utils.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.sbpb.ddobak.server.common.exception.ErrorCode;
+import com.sbpb.ddobak.server.common.exception.ExternalServiceException;
+import com.sbpb.ddobak.server.common.utils.trace.TraceContext;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 외부 서비스(의존성)별 블로킹 호출 실행기
+ *
+ * - 동시 호출 수 제한: maxConcurrent개를 넘으면 maxWait까지 기다린 뒤 거절 (EXTERNAL_SERVICE_UNAVAILABLE)
+ * - 시간 제한: 호출을 별도 스레드에서 실행하고 timeout이 지나면 interrupt로 취소 (EXTERNAL_SERVICE_TIMEOUT)
+ *
+ * 허용량은 실제 호출이 끝날 때 반납하므로, 취소에 응답하지 않는 호출도 한도에 포함된다.
+ * 가상 스레드 모드에서는 호출마다 가상 스레드를 쓰므로 느린 호출이 늘어도 플랫폼 스레드를 점유하지 않는다.
+ */
+public class DependencyExecutor implements AutoCloseable {
+
+    private static final String REJECTED_PROPERTY = "rejected";
+
+    private final String name;
+    private final int maxConcurrent;
+    private final Duration maxWait;
+    private final Duration timeout;
+    private final Semaphore permits;
+    private final ExecutorService executor;
+
+    private final Timer latency;
+    private final Counter succeeded;
+    private final Counter failed;
+    private final Counter timedOut;
+    private final Counter rejected;
+
+    public DependencyExecutor(String name, int maxConcurrent, Duration maxWait, Duration timeout,
+                              ThreadMode threadMode, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxWait = maxWait;
+        this.timeout = timeout;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.executor = threadMode.newTaskExecutor(name + "-call-");
+
+        this.latency = Timer.builder("ddobak.dependency.latency").tag("dependency", name).register(meterRegistry);
+        this.succeeded = resultCounter(meterRegistry, "success");
+        this.failed = resultCounter(meterRegistry, "error");
+        this.timedOut = resultCounter(meterRegistry, "timeout");
+        this.rejected = resultCounter(meterRegistry, "rejected");
+        Gauge.builder("ddobak.dependency.in_flight", this, DependencyExecutor::getInFlight)
+                .tag("dependency", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기본 시간 제한으로 호출
+     */
+    public <T> T call(Callable<T> task) {
+        return call(task, timeout);
+    }
+
+    /**
+     * 지정한 시간 제한으로 호출 (호출한 스레드는 결과나 시간 초과까지 대기)
+     */
+    public <T> T call(Callable<T> task, Duration callTimeout) {
+        acquire();
+
+        // 실행 전에 취소되면 작업 안에서 반납하지 못하므로 시작 여부로 반납 주체를 정함
+        AtomicBoolean started = new AtomicBoolean();
+        Future<T> future;
+        try {
+            Callable<T> traced = TraceContext.wrap(task);
+            future = executor.submit(() -> {
+                if (!started.compareAndSet(false, true)) {
+                    return null;
+                }
+                try {
+                    return traced.call();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            rejected.increment();
+            throw rejection("Executor is shut down");
+        }
+
+        long start = System.nanoTime();
+        try {
+            T result = future.get(callTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            succeeded.increment();
+            return result;
+        } catch (TimeoutException e) {
+            cancel(future, started);
+            timedOut.increment();
+            throw new ExternalServiceException(ErrorCode.EXTERNAL_SERVICE_TIMEOUT, name,
+                    "Timed out after " + callTimeout.toMillis() + "ms");
+        } catch (ExecutionException e) {
+            failed.increment();
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ExternalServiceException(name, String.valueOf(cause));
+        } catch (InterruptedException e) {
+            cancel(future, started);
+            Thread.currentThread().interrupt();
+            throw new ExternalServiceException(name, "Interrupted");
+        } finally {
+            latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 외부 서비스 오류가 아니라 이 실행기의 한도 때문에 거절된 호출인지 확인
+     */
+    public static boolean isRejected(Throwable throwable) {
+        return throwable instanceof ExternalServiceException exception
+                && Boolean.TRUE.equals(exception.getProperties().get(REJECTED_PROPERTY));
+    }
+
+    /**
+     * 현재 실행 중인 호출 수
+     */
+    public int getInFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    /**
+     * 의존성 이름
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 최대 동시 호출 수
+     */
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private void cancel(Future<?> future, AtomicBoolean started) {
+        future.cancel(true);
+        if (started.compareAndSet(false, true)) {
+            permits.release();
+        }
+    }
+
+    private void acquire() {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExternalServiceException(name, "Interrupted");
+        }
+        if (!acquired) {
+            rejected.increment();
+            throw rejection("Too many concurrent calls (limit " + maxConcurrent + ")");
+        }
+    }
+
+    private ExternalServiceException rejection(String reason) {
+        ExternalServiceException exception =
+                new ExternalServiceException(ErrorCode.EXTERNAL_SERVICE_UNAVAILABLE, name, reason);
+        exception.addProperty(REJECTED_PROPERTY, true);
+        return exception;
+    }
+
+    private Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ddobak.dependency.calls")
+                .tag("dependency", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,150 @@
+package com.sbpb.ddobak.server.common.utils.concurrent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+
+import com.sbpb.ddobak.server.common.utils.trace.TraceContext;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 목록의 항목을 병렬로 처리하고 결과를 입력 순서대로 모으는 실행기
+ *
+ * 한 번의 호출에서 최대 parallelism개의 작업자가 남은 항목을 하나씩 가져가 처리한다.
+ * 전체 소요 시간은 대략 (항목 수 / parallelism) × 항목당 처리 시간이 된다.
+ * 하나라도 실패하면 남은 항목은 시작하지 않고, 실행 중인 작업은 interrupt한 뒤 처음 발생한 예외를 그대로 던진다.
+ * 외부 서비스 동시 호출 수는 DependencyExecutor가 따로 제한하므로 이 실행기는 한 요청 안의 병렬도만 정한다.
+ * 플랫폼 스레드는 모든 호출을 합쳐 maxThreads개까지만 만들고, 넘는 작업은 스레드가 빌 때까지 기다린다.
+ */
+@Slf4j
+public class FanOutExecutor implements AutoCloseable {
+
+    private final String name;
+    private final int parallelism;
+    private final ExecutorService executor;
+
+    public FanOutExecutor(String name, int parallelism, ThreadMode threadMode) {
+        this(name, parallelism, parallelism, threadMode);
+    }
+
+    /**
+     * @param maxThreads 동시에 호출하는 쪽 전체가 쓰는 최대 플랫폼 스레드 수 (가상 스레드는 제한 없음)
+     */
+    public FanOutExecutor(String name, int parallelism, int maxThreads, ThreadMode threadMode) {
+        this.name = name;
+        this.parallelism = Math.max(1, parallelism);
+        this.executor = threadMode.newBoundedExecutor(name + "-fanout-", maxThreads);
+    }
+
+    /**
+     * 항목별 변환 결과를 입력 순서대로 반환 (항목이 하나면 호출한 스레드에서 실행)
+     */
+    public <T, R> List<R> map(List<T> items, Function<? super T, ? extends R> mapper) {
+        return map(items, mapper, (result, index) -> { });
+    }
+
+    /**
+     * 항목별 변환 결과를 입력 순서대로 반환하며, 항목이 끝날 때마다 onResult(결과, 입력 순번) 호출
+     *
+     * onResult는 항목을 처리한 스레드에서 완료 순서대로 호출되므로 스레드 안전해야 한다.
+     * onResult가 던진 예외는 로그만 남기며 변환 결과에는 영향을 주지 않는다.
+     */
+    public <T, R> List<R> map(List<T> items, Function<? super T, ? extends R> mapper,
+                              ObjIntConsumer<? super R> onResult) {
+        int size = items.size();
+        if (size <= 1 || parallelism == 1) {
+            List<R> results = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                R result = mapper.apply(items.get(i));
+                report(onResult, result, i);
+                results.add(result);
+            }
+            return results;
+        }
+
+        Object[] results = new Object[size];
+        AtomicInteger next = new AtomicInteger();
+        AtomicBoolean failed = new AtomicBoolean();
+        Runnable worker = TraceContext.wrap(() -> {
+            int index;
+            while (!failed.get() && (index = next.getAndIncrement()) < size) {
+                R result;
+                try {
+                    result = mapper.apply(items.get(index));
+                } catch (RuntimeException | Error e) {
+                    failed.set(true);
+                    throw e;
+                }
+                results[index] = result;
+                report(onResult, result, index);
+            }
+        });
+
+        int workers = Math.min(parallelism, size);
+        CompletionService<Void> completion = new ExecutorCompletionService<>(executor);
+        List<Future<Void>> futures = new ArrayList<>(workers);
+        try {
+            for (int i = 0; i < workers; i++) {
+                futures.add(completion.submit(worker, null));
+            }
+            for (int i = 0; i < workers; i++) {
+                completion.take().get();
+            }
+        } catch (ExecutionException e) {
+            cancel(futures);
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Fan-out task failed: " + name, cause);
+        } catch (InterruptedException e) {
+            cancel(futures);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for fan-out: " + name, e);
+        }
+
+        @SuppressWarnings("unchecked")
+        List<R> ordered = (List<R>) Arrays.asList(results);
+        return Collections.unmodifiableList(ordered);
+    }
+
+    /**
+     * 한 번의 호출에서 동시에 처리하는 최대 항목 수
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <R> void report(ObjIntConsumer<? super R> onResult, R result, int index) {
+        try {
+            onResult.accept(result, index);
+        } catch (RuntimeException e) {
+            log.warn("Fan-out result callback failed - name: {}, index: {}", name, index, e);
+        }
+    }
+
+    private void cancel(List<Future<Void>> futures) {
+        for (Future<Void> future : futures) {
+            future.cancel(true);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.sbpb.ddobak.server.common.utils.concurrent;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 작업 스레드 종류 (플랫폼 스레드 / 가상 스레드)
+ *
+ * 빌드는 Java 17 기준이므로 가상 스레드 API는 리플렉션으로 호출한다.
+ * Java 21 미만에서 가상 스레드를 요청하면 경고 후 플랫폼 스레드를 사용한다.
+ */
+@Slf4j
+public enum ThreadMode {
+
+    PLATFORM,
+    VIRTUAL;
+
+    private static final int VIRTUAL_THREAD_MIN_VERSION = 21;
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 60;
+
+    /**
+     * 현재 런타임에서 가상 스레드 사용 가능 여부
+     */
+    public static boolean isVirtualAvailable() {
+        return Runtime.version().feature() >= VIRTUAL_THREAD_MIN_VERSION;
+    }
+
+    /**
+     * 요청한 방식을 현재 런타임에 맞게 결정
+     */
+    public static ThreadMode resolve(boolean virtualRequested) {
+        if (!virtualRequested) {
+            return PLATFORM;
+        }
+        if (!isVirtualAvailable()) {
+            log.warn("Virtual threads requested but not supported on Java {}, using platform threads",
+                    Runtime.version().feature());
+            return PLATFORM;
+        }
+        return VIRTUAL;
+    }
+
+    /**
+     * 이름 접두사를 붙이는 스레드 팩토리
+     */
+    public ThreadFactory threadFactory(String namePrefix) {
+        if (this == PLATFORM) {
+            return new CustomizableThreadFactory(namePrefix);
+        }
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create virtual thread factory", e);
+        }
+    }
+
+    /**
+     * 작업마다 스레드를 쓰는 실행기 (가상 스레드는 작업당 새 스레드, 플랫폼 스레드는 캐시 풀)
+     *
+     * 동시 실행 수 제한은 호출하는 쪽(DependencyExecutor)이 담당한다.
+     */
+    public ExecutorService newTaskExecutor(String namePrefix) {
+        ThreadFactory threadFactory = threadFactory(namePrefix);
+        if (this == PLATFORM) {
+            return Executors.newCachedThreadPool(threadFactory);
+        }
+        try {
+            Method factory = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) factory.invoke(null, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create virtual thread executor", e);
+        }
+    }
+
+    /**
+     * 플랫폼 스레드 수를 제한하는 실행기 (플랫폼 스레드는 최대 maxPlatformThreads개, 넘는 작업은 대기)
+     *
+     * 가상 스레드는 작업마다 새 스레드를 쓰므로 newTaskExecutor와 같다.
+     * 플랫폼 스레드는 쓰지 않는 채로 일정 시간이 지나면 정리된다.
+     */
+    public ExecutorService newBoundedExecutor(String namePrefix, int maxPlatformThreads) {
+        if (this == VIRTUAL) {
+            return newTaskExecutor(namePrefix);
+        }
+        int threads = Math.max(1, maxPlatformThreads);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads,
+                IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory(namePrefix));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,99 @@
+package com.sbpb.ddobak.server.common.utils.count;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 전체 개수 캐시
+ *
+ * 조회 조건별 키(예: "contract:user:U4F7K2QZ")로 COUNT 결과를 보관하고,
+ * 행이 추가/삭제될 때 adjust()로 값을 바로 갱신하여 대부분의 조회를 O(1)로 처리한다.
+ * 갱신이 누락되거나(벌크 삭제, 롤백 직전 반영 등) COUNT와 경합한 오차는
+ * 최대 maxStaleness 이후 다시 세어 바로잡는다.
+ */
+public class CountCache {
+
+    private final long maxStalenessNanos;
+    private final int maxEntries;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public CountCache(Duration maxStaleness, int maxEntries) {
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 개수 조회 (캐시가 없거나 오래되었으면 counter로 다시 센다)
+     */
+    public Count get(String key, LongSupplier counter) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(key);
+        if (entry != null && now - entry.loadedAt <= maxStalenessNanos) {
+            return new Count(Math.max(0, entry.value.get()), true);
+        }
+
+        long value = counter.getAsLong();
+        if (entry != null || hasCapacity(now)) {
+            entries.put(key, new Entry(value, now));
+        }
+        return new Count(value, false);
+    }
+
+    /**
+     * 행 추가(+)/삭제(-) 반영 (캐시된 키만 갱신)
+     */
+    public void adjust(String key, long delta) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            entry.value.addAndGet(delta);
+        }
+    }
+
+    /**
+     * 키 무효화 (다음 조회 시 다시 센다)
+     */
+    public void invalidate(String key) {
+        entries.remove(key);
+    }
+
+    /**
+     * 캐시된 키 수
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 가득 찬 경우 만료된 항목을 정리하고, 그래도 가득 차 있으면 캐시하지 않는다.
+     */
+    private boolean hasCapacity(long now) {
+        if (entries.size() < maxEntries) {
+            return true;
+        }
+        entries.values().removeIf(entry -> now - entry.loadedAt > maxStalenessNanos);
+        return entries.size() < maxEntries;
+    }
+
+    /**
+     * 개수 조회 결과
+     *
+     * @param value     개수
+     * @param estimated 캐시에서 읽은 값이면 true (최대 maxStaleness만큼 오차 가능)
+     */
+    public record Count(long value, boolean estimated) {
+    }
+
+    private static final class Entry {
+
+        private final AtomicLong value;
+        private final long loadedAt;
+
+        private Entry(long value, long loadedAt) {
+            this.value = new AtomicLong(value);
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.sbpb.ddobak.server.common.utils.event;
+
+import java.util.function.Consumer;
+
+/**
+ * 주제별 이벤트 발행/구독 (프로세스 내 구현과 브로커 구현을 같은 방식으로 사용)
+ *
+ * 이벤트는 최선 노력으로 전달하며, 구독하기 전에 발행된 이벤트는 받지 못한다.
+ * 브로커 구현은 이벤트를 JSON으로 주고받으므로 이벤트 타입은 Jackson으로 직렬화할 수 있어야 한다.
+ */
+public interface EventBus {
+
+    /**
+     * 이벤트 발행 (구독자가 없으면 버림)
+     */
+    void publish(String topic, Object event);
+
+    /**
+     * 주제 구독 (listener는 발행한 스레드에서 호출될 수 있으므로 오래 막지 않아야 함)
+     *
+     * @param type 받을 이벤트 타입 (브로커 구현의 역직렬화 대상, 다른 타입의 이벤트는 무시)
+     */
+    <T> Subscription subscribe(String topic, Class<T> type, Consumer<? super T> listener);
+
+    /**
+     * 구독 (close()로 해제, 여러 번 호출해도 됨)
+     */
+    interface Subscription extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,95 @@
+package com.sbpb.ddobak.server.common.utils.event;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로세스 내 이벤트 버스 (단일 인스턴스/로컬 개발용)
+ *
+ * 발행한 스레드에서 구독자를 바로 호출한다. 구독자의 예외는 기록만 하고 다른 구독자와 발행자에 전파하지 않는다.
+ * 다른 인스턴스에서 발행한 이벤트는 받지 못하므로 여러 인스턴스로 운영할 때는 브로커 구현으로 바꾼다.
+ */
+@Slf4j
+public class InMemoryEventBus implements EventBus {
+
+    private final Map<String, Set<Listener<?>>> listeners = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriptions = new AtomicInteger();
+
+    public InMemoryEventBus(MeterRegistry meterRegistry) {
+        Gauge.builder("ddobak.events.subscriptions", subscriptions, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(String topic, Object event) {
+        Set<Listener<?>> subscribers = listeners.get(topic);
+        if (subscribers == null) {
+            return;
+        }
+        for (Listener<?> subscriber : subscribers) {
+            try {
+                subscriber.accept(event);
+            } catch (RuntimeException e) {
+                log.warn("Event listener failed - topic: {}, event: {}", topic, event.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    @Override
+    public <T> Subscription subscribe(String topic, Class<T> type, Consumer<? super T> listener) {
+        Listener<T> subscriber = new Listener<>(type, listener);
+        // 마지막 구독 해제로 비워진 집합이 제거되는 것과 겹치지 않도록 추가도 compute 안에서 함
+        listeners.compute(topic, (key, subscribers) -> {
+            Set<Listener<?>> updated = subscribers != null ? subscribers : new CopyOnWriteArraySet<>();
+            updated.add(subscriber);
+            return updated;
+        });
+        subscriptions.incrementAndGet();
+        return () -> unsubscribe(topic, subscriber);
+    }
+
+    /**
+     * 주제의 구독자 수
+     */
+    public int subscriberCount(String topic) {
+        Set<Listener<?>> subscribers = listeners.get(topic);
+        return subscribers == null ? 0 : subscribers.size();
+    }
+
+    private void unsubscribe(String topic, Listener<?> subscriber) {
+        listeners.computeIfPresent(topic, (key, subscribers) -> {
+            if (subscribers.remove(subscriber)) {
+                subscriptions.decrementAndGet();
+            }
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    /**
+     * 구독 단위 (같은 listener를 여러 번 구독해도 각각 구분되도록 식별자로 비교)
+     */
+    private static final class Listener<T> {
+
+        private final Class<T> type;
+        private final Consumer<? super T> delegate;
+
+        private Listener(Class<T> type, Consumer<? super T> delegate) {
+            this.type = type;
+            this.delegate = delegate;
+        }
+
+        void accept(Object event) {
+            if (type.isInstance(event)) {
+                delegate.accept(type.cast(event));
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.sbpb.ddobak.server.common.utils.id;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 고정 길이 base-36 인코딩 (0-9, A-Z)
+ *
+ * 숫자가 대문자보다 ASCII 순서가 앞이므로 같은 길이끼리는 문자열 정렬 = 숫자 정렬이다.
+ */
+final class Base36 {
+
+    private static final byte[] DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".getBytes(StandardCharsets.US_ASCII);
+
+    private Base36() {
+    }
+
+    /**
+     * dest[offset, offset + length)에 value를 앞자리 0 채움으로 기록
+     */
+    static void encode(long value, byte[] dest, int offset, int length) {
+        for (int i = offset + length - 1; i >= offset; i--) {
+            dest[i] = DIGITS[(int) (value % 36)];
+            value /= 36;
+        }
+    }
+
+    /**
+     * length 자리로 표현 가능한 값의 개수 (36^length)
+     */
+    static long capacity(int length) {
+        long capacity = 1;
+        for (int i = 0; i < length; i++) {
+            capacity *= 36;
+        }
+        return capacity;
+    }
+}
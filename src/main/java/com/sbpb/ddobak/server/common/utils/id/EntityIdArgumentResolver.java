@@ -0,0 +1,44 @@
+package com.sbpb.ddobak.server.common.utils.id;
+
+import java.util.Map;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.sbpb.ddobak.server.common.exception.ValidationException;
+
+/**
+ * {@link EntityIdPath} 파라미터 해석기
+ *
+ * 경로 변수 값을 엔티티 종류별 검증기로 확인한 뒤 그대로 전달한다.
+ */
+public class EntityIdArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(EntityIdPath.class)
+                && String.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        EntityIdPath annotation = parameter.getParameterAnnotation(EntityIdPath.class);
+        String name = annotation.name().isEmpty() ? parameter.getParameterName() : annotation.name();
+
+        @SuppressWarnings("unchecked")
+        Map<String, String> uriVariables = (Map<String, String>) webRequest.getAttribute(
+                HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        String id = uriVariables != null ? uriVariables.get(name) : null;
+
+        if (!EntityIdValidator.of(annotation.value()).isValid(id)) {
+            throw new ValidationException(name, id, "Invalid " + annotation.value() + " id format");
+        }
+        return id;
+    }
+}
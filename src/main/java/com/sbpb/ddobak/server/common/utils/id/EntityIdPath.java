@@ -0,0 +1,31 @@
+package com.sbpb.ddobak.server.common.utils.id;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔티티 ID 경로 변수
+ *
+ * 컨트롤러 파라미터에 지정하면 레포지토리 호출 전에 ID 형식을 검증하고,
+ * 형식이 맞지 않으면 ValidationException(400)을 던진다.
+ *
+ * 예: {@code @GetMapping("/{userId}") getUser(@EntityIdPath(EntityIdType.USER) String userId)}
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface EntityIdPath {
+
+    /**
+     * 엔티티 종류 (접두사 검증에 사용)
+     */
+    EntityIdType value();
+
+    /**
+     * 경로 변수 이름 (미지정 시 파라미터 이름)
+     */
+    String name() default "";
+}
@@ -0,0 +1,35 @@
+package com.sbpb.ddobak.server.common.utils.id;
+
+/**
+ * 엔티티 종류별 ID 접두사
+ */
+public enum EntityIdType {
+
+    USER('U'),
+    CONTRACT('C'),
+    ANALYSIS('A'),
+    OCR_RESULT('O'),
+    TOXIC_CLAUSE('T');
+
+    private final char prefix;
+    private final String prefixString;
+
+    EntityIdType(char prefix) {
+        this.prefix = prefix;
+        this.prefixString = String.valueOf(prefix);
+    }
+
+    /**
+     * ID 접두사 문자 반환
+     */
+    public char getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * ID 접두사 문자열 반환
+     */
+    public String getPrefixString() {
+        return prefixString;
+    }
+}
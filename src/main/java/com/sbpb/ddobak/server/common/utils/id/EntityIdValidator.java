@@ -0,0 +1,106 @@
+package com.sbpb.ddobak.server.common.utils.id;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 엔티티 ID 형식 검증기
+ *
+ * 정규식 대신 문자 분류 테이블로 한 번만 순회하며 검사하고 객체를 생성하지 않는다.
+ * - 길이: 8자리(RANDOM/BLOCK) 또는 14자리(TIME_ORDERED)
+ * - 문자: 대문자 + 숫자
+ * - 접두사: 엔티티 종류별 검증기는 첫 글자까지 확인
+ */
+public final class EntityIdValidator {
+
+    private static final int RANDOM_ID_LENGTH = 8;
+    private static final boolean[] ALLOWED = buildAllowedTable();
+
+    /**
+     * 접두사를 확인하지 않는 검증기
+     */
+    public static final EntityIdValidator ANY = new EntityIdValidator(null);
+
+    private static final Map<EntityIdType, EntityIdValidator> BY_TYPE = createTypedValidators();
+
+    private final EntityIdType type;
+
+    private EntityIdValidator(EntityIdType type) {
+        this.type = type;
+    }
+
+    /**
+     * 엔티티 종류별 검증기 반환
+     */
+    public static EntityIdValidator of(EntityIdType type) {
+        return BY_TYPE.get(type);
+    }
+
+    /**
+     * 검증 대상 엔티티 종류 반환 (ANY이면 null)
+     */
+    public EntityIdType getType() {
+        return type;
+    }
+
+    /**
+     * ID 형식 검증
+     */
+    public boolean isValid(CharSequence id) {
+        if (id == null || !hasValidLength(id.length())) {
+            return false;
+        }
+        if (type != null && id.charAt(0) != type.getPrefix()) {
+            return false;
+        }
+        return hasOnlyAllowedCharacters(id);
+    }
+
+    /**
+     * 접두사 문자열을 지정한 검증 (대소문자 무시, 대문자 변환 없이 비교)
+     */
+    public static boolean isValid(CharSequence id, String expectedPrefix) {
+        if (id == null || !hasValidLength(id.length()) || expectedPrefix.length() > id.length()) {
+            return false;
+        }
+        for (int i = 0; i < expectedPrefix.length(); i++) {
+            if (id.charAt(i) != Character.toUpperCase(expectedPrefix.charAt(i))) {
+                return false;
+            }
+        }
+        return hasOnlyAllowedCharacters(id);
+    }
+
+    private static boolean hasValidLength(int length) {
+        return length == RANDOM_ID_LENGTH || length == TimeOrderedIdGenerator.ID_LENGTH;
+    }
+
+    private static boolean hasOnlyAllowedCharacters(CharSequence id) {
+        for (int i = 0; i < id.length(); i++) {
+            char c = id.charAt(i);
+            if (c >= ALLOWED.length || !ALLOWED[c]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean[] buildAllowedTable() {
+        boolean[] table = new boolean[128];
+        for (char c = 'A'; c <= 'Z'; c++) {
+            table[c] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            table[c] = true;
+        }
+        return table;
+    }
+
+    private static Map<EntityIdType, EntityIdValidator> createTypedValidators() {
+        Map<EntityIdType, EntityIdValidator> validators = new EnumMap<>(EntityIdType.class);
+        for (EntityIdType type : EntityIdType.values()) {
+            validators.put(type, new EntityIdValidator(type));
+        }
+        return validators;
+    }
+}
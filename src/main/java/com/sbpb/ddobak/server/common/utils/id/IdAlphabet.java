@@ -0,0 +1,46 @@
+package com.sbpb.ddobak.server.common.utils.id;
+
+/**
+ * ID 생성에 사용하는 문자 집합
+ *
+ * 랜덤 바이트(0~255)를 문자로 바로 변환할 수 있도록 256칸 룩업 테이블을 미리 만들어 둔다.
+ * 문자 수의 배수 범위를 넘는 바이트는 거절(0)하여 모듈로 편향 없이 균등 분포를 유지한다.
+ * 예: 36자 → 0~251 바이트만 사용 (252 = 36 * 7)
+ */
+public enum IdAlphabet {
+
+    UPPER_ALPHANUMERIC("ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789"),
+    LOWER_ALPHANUMERIC("abcdefghijklmnopqrstuvwxyz0123456789");
+
+    private final String characters;
+    private final byte[] lookup;
+
+    IdAlphabet(String characters) {
+        this.characters = characters;
+        this.lookup = buildLookup(characters);
+    }
+
+    /**
+     * 문자 집합 원본 반환
+     */
+    public String getCharacters() {
+        return characters;
+    }
+
+    /**
+     * 랜덤 바이트를 문자(ASCII)로 변환, 거절 대상이면 0 반환
+     */
+    byte encode(int randomByte) {
+        return lookup[randomByte & 0xFF];
+    }
+
+    private static byte[] buildLookup(String characters) {
+        int size = characters.length();
+        int acceptBound = (256 / size) * size;
+        byte[] table = new byte[256];
+        for (int b = 0; b < acceptBound; b++) {
+            table[b] = (byte) characters.charAt(b % size);
+        }
+        return table;
+    }
+}
@@ -0,0 +1,39 @@
+package com.sbpb.ddobak.server.common.utils.id;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * ID 구간 임대 카운터 엔티티
+ *
+ * 카운터 이름(엔티티 종류, 노드 번호 등)별로 다음에 임대할 시작 값을 저장한다.
+ */
+@Entity
+@Table(name = "id_block_leases")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdBlockLease {
+
+    @Id
+    @Column(name = "name", length = 32)
+    private String name;
+
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+
+    public IdBlockLease(String name) {
+        this.name = name;
+        this.nextValue = 0L;
+    }
+
+    /**
+     * size 개의 구간을 예약하고 시작 값 반환
+     */
+    public long reserve(long size) {
+        long start = nextValue;
+        this.nextValue = start + size;
+        return start;
+    }
+}
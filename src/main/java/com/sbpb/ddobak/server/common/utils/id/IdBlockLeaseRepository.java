@@ -0,0 +1,25 @@
+package com.sbpb.ddobak.server.common.utils.id;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * ID 구간 임대 카운터 레포지토리
+ */
+@Repository
+public interface IdBlockLeaseRepository extends JpaRepository<IdBlockLease, String> {
+
+    /**
+     * 카운터 조회 (행 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select l from IdBlockLease l where l.name = :name")
+    Optional<IdBlockLease> findForUpdate(@Param("name") String name);
+}
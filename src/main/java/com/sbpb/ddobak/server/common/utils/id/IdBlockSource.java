@@ -0,0 +1,13 @@
+package com.sbpb.ddobak.server.common.utils.id;
+
+/**
+ * 노드 간에 겹치지 않는 값 구간을 예약해 주는 저장소
+ */
+public interface IdBlockSource {
+
+    /**
+     * name 카운터에서 size 개의 연속 구간을 예약하고 시작 값을 반환
+     * 반환값 start에 대해 [start, start + size) 구간은 다른 노드에 다시 주어지지 않는다
+     */
+    long reserve(String name, long size);
+}
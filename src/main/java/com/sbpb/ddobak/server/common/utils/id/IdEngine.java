@@ -0,0 +1,44 @@
+package com.sbpb.ddobak.server.common.utils.id;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 랜덤 ID 문자열 생성 엔진
+ *
+ * 구현체는 엔트로피 소스를 어떻게 나눠 쓰는지만 다르고 (스레드별, 스트라이프별),
+ * 문자열 조립은 기본 메서드에서 바이트 배열 하나로 처리한다.
+ */
+public interface IdEngine {
+
+    /**
+     * dest[offset, offset + length) 구간을 alphabet 문자(ASCII)로 채운다
+     */
+    void fill(byte[] dest, int offset, int length, IdAlphabet alphabet);
+
+    /**
+     * 지정된 문자셋과 길이로 랜덤 문자열 생성
+     */
+    default String randomString(IdAlphabet alphabet, int length) {
+        byte[] out = new byte[length];
+        fill(out, 0, length, alphabet);
+        return new String(out, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 접두사 뒤에 랜덤 문자열을 붙여 생성 (접두사는 대문자로 변환)
+     * 예: "c" + 7자리 = C7X9K2M1
+     */
+    default String prefixedString(String prefix, IdAlphabet alphabet, int randomLength) {
+        int prefixLength = prefix.length();
+        byte[] out = new byte[prefixLength + randomLength];
+        for (int i = 0; i < prefixLength; i++) {
+            char c = prefix.charAt(i);
+            if (c > 0x7F) {
+                return prefix.toUpperCase() + randomString(alphabet, randomLength);
+            }
+            out[i] = (byte) Character.toUpperCase(c);
+        }
+        fill(out, prefixLength, randomLength, alphabet);
+        return new String(out, StandardCharsets.ISO_8859_1);
+    }
+}
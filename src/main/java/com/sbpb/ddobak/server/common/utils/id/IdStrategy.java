@@ -0,0 +1,24 @@
+package com.sbpb.ddobak.server.common.utils.id;
+
+/**
+ * 엔티티 ID 생성 방식
+ */
+public enum IdStrategy {
+
+    /**
+     * 접두사 + 7자리 랜덤 (8자리), 예: C7X9K2M1
+     */
+    RANDOM,
+
+    /**
+     * 접두사 + 시간(8) + 노드(2) + 시퀀스(3) (14자리), 예: C14HDWA3Z00A2B
+     * 생성 순서대로 정렬되어 B-tree 인덱스 끝에만 삽입된다
+     */
+    TIME_ORDERED,
+
+    /**
+     * 접두사 + 7자리 (8자리), 노드별로 임대한 구간에서 발급하여 중복이 발생하지 않음
+     * 이미 RANDOM ID가 저장된 테이블을 전환하면 기존 값과 겹칠 수 있으므로 데이터가 쌓이기 전에 선택한다
+     */
+    BLOCK
+}
@@ -0,0 +1,56 @@
+package com.sbpb.ddobak.server.common.utils.id;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB 카운터 행을 잠가 구간을 예약하는 IdBlockSource
+ *
+ * 호출한 쪽의 트랜잭션과 분리(REQUIRES_NEW)하여 예약 즉시 커밋한다.
+ * 엔티티 저장 트랜잭션이 롤백되어도 이미 임대한 구간은 재사용되지 않는다.
+ */
+@Component
+@Slf4j
+public class JpaIdBlockSource implements IdBlockSource {
+
+    private final IdBlockLeaseRepository leaseRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public JpaIdBlockSource(IdBlockLeaseRepository leaseRepository, PlatformTransactionManager transactionManager) {
+        this.leaseRepository = leaseRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public long reserve(String name, long size) {
+        Long start = transactionTemplate.execute(status -> leaseRepository.findForUpdate(name)
+                .map(lease -> lease.reserve(size))
+                .orElse(null));
+        if (start != null) {
+            return start;
+        }
+
+        createIfAbsent(name);
+        return transactionTemplate.execute(status -> leaseRepository.findForUpdate(name)
+                .orElseThrow(() -> new IllegalStateException("ID lease counter not found: " + name))
+                .reserve(size));
+    }
+
+    /**
+     * 카운터 행 최초 생성 (다른 노드가 먼저 만든 경우 무시)
+     */
+    private void createIfAbsent(String name) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> leaseRepository.saveAndFlush(new IdBlockLease(name)));
+            log.info("ID lease counter created: {}", name);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("ID lease counter already created by another node: {}", name);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.sbpb.ddobak.server.common.utils.id;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * TIME_ORDERED 노드 번호 임대 엔티티
+ *
+ * 인스턴스가 주기적으로 만료 시각을 연장하며, 만료된 번호는 다른 인스턴스가 다시 가져갈 수 있다.
+ */
+@Entity
+@Table(name = "node_id_leases")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NodeIdLease {
+
+    @Id
+    @Column(name = "node_id")
+    private Integer nodeId;
+
+    @Column(name = "owner", nullable = false, length = 36)
+    private String owner;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public NodeIdLease(int nodeId, String owner, LocalDateTime expiresAt) {
+        this.nodeId = nodeId;
+        this.owner = owner;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 만료 여부
+     */
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    /**
+     * 해당 인스턴스가 임대 중인지 여부
+     */
+    public boolean isOwnedBy(String owner) {
+        return this.owner.equals(owner);
+    }
+
+    /**
+     * 임대자와 만료 시각 갱신 (만료된 번호를 가져가거나 임대를 연장할 때)
+     */
+    public void lease(String owner, LocalDateTime expiresAt) {
+        this.owner = owner;
+        this.expiresAt = expiresAt;
+    }
+}
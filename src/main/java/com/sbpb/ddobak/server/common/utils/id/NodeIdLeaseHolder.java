@@ -0,0 +1,152 @@
+package com.sbpb.ddobak.server.common.utils.id;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * TIME_ORDERED 노드 번호를 만료 시각이 있는 임대로 보유
+ *
+ * - 시작 시 비어 있거나 만료된 번호(0~1295)를 하나 가져간다
+ * - 주기적으로 만료 시각을 연장하고, 정상 종료 시 반납한다
+ * - 비정상 종료한 인스턴스의 번호는 ttl이 지나면 다른 인스턴스가 다시 쓸 수 있다
+ *
+ * 멈춰 있던 사이 다른 인스턴스가 번호를 가져갔으면 연장 시점에 새 번호를 받아 onChange로 알린다.
+ * 만료 판단은 각 인스턴스의 시계를 쓰므로 ttl은 인스턴스 간 시계 오차보다 충분히 길게 잡는다.
+ */
+@Component
+@Slf4j
+public class NodeIdLeaseHolder {
+
+    private final NodeIdLeaseRepository leaseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String owner = UUID.randomUUID().toString();
+
+    private volatile Integer nodeId;
+    private volatile Duration ttl;
+    private volatile IntConsumer onChange;
+
+    public NodeIdLeaseHolder(NodeIdLeaseRepository leaseRepository, PlatformTransactionManager transactionManager) {
+        this.leaseRepository = leaseRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 노드 번호 임대 (모든 번호가 살아 있는 인스턴스에 임대 중이면 예외)
+     *
+     * @param ttl      연장하지 않으면 만료되기까지의 시간
+     * @param onChange 번호를 잃고 새로 받았을 때 호출
+     */
+    public synchronized int acquire(Duration ttl, IntConsumer onChange) {
+        this.ttl = ttl;
+        this.onChange = onChange;
+        this.nodeId = claimAny();
+        log.info("Node id leased: {} (owner: {}, ttl: {})", nodeId, owner, ttl);
+        return nodeId;
+    }
+
+    /**
+     * 만료 시각 연장
+     */
+    @Scheduled(fixedDelayString = "${ddobak.id.node-lease-heartbeat:30s}")
+    public synchronized void heartbeat() {
+        Integer current = nodeId;
+        if (current == null) {
+            return;
+        }
+        if (renew(current)) {
+            return;
+        }
+
+        int reacquired = claimAny();
+        log.warn("Node id lease {} lost, switched to {}", current, reacquired);
+        nodeId = reacquired;
+        onChange.accept(reacquired);
+    }
+
+    @PreDestroy
+    public synchronized void release() {
+        Integer current = nodeId;
+        if (current == null) {
+            return;
+        }
+        nodeId = null;
+        try {
+            transactionTemplate.executeWithoutResult(status -> leaseRepository.findForUpdate(current)
+                    .filter(lease -> lease.isOwnedBy(owner))
+                    .ifPresent(leaseRepository::delete));
+            log.info("Node id lease released: {}", current);
+        } catch (RuntimeException e) {
+            log.warn("Node id lease release failed, it expires after ttl: {}", current, e);
+        }
+    }
+
+    /**
+     * 현재 임대 중인 노드 번호 (없으면 null)
+     */
+    public Integer currentNodeId() {
+        return nodeId;
+    }
+
+    private int claimAny() {
+        Set<Integer> live = new HashSet<>(leaseRepository.findLiveNodeIds(LocalDateTime.now()));
+        for (int candidate = 0; candidate <= TimeOrderedIdGenerator.MAX_NODE_ID; candidate++) {
+            if (!live.contains(candidate) && tryClaim(candidate)) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("All node ids (0~" + TimeOrderedIdGenerator.MAX_NODE_ID
+                + ") are leased by live instances: set ddobak.id.node-id explicitly");
+    }
+
+    private boolean tryClaim(int candidate) {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                NodeIdLease lease = leaseRepository.findForUpdate(candidate).orElse(null);
+                if (lease == null) {
+                    leaseRepository.saveAndFlush(new NodeIdLease(candidate, owner, now.plus(ttl)));
+                    return true;
+                }
+                if (lease.isExpired(now)) {
+                    lease.lease(owner, now.plus(ttl));
+                    return true;
+                }
+                return false;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Node id {} taken by another instance", candidate);
+            return false;
+        }
+    }
+
+    private boolean renew(int current) {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> leaseRepository.findForUpdate(current)
+                    .filter(lease -> lease.isOwnedBy(owner))
+                    .map(lease -> {
+                        lease.lease(owner, LocalDateTime.now().plus(ttl));
+                        return true;
+                    })
+                    .orElse(false)));
+        } catch (RuntimeException e) {
+            // DB 장애는 번호를 잃은 것이 아니므로 다음 주기에 다시 연장
+            log.warn("Node id lease renewal failed: {}", current, e);
+            return true;
+        }
+    }
+}
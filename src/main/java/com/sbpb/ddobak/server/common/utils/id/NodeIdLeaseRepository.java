@@ -0,0 +1,33 @@
+package com.sbpb.ddobak.server.common.utils.id;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * 노드 번호 임대 레포지토리
+ */
+@Repository
+public interface NodeIdLeaseRepository extends JpaRepository<NodeIdLease, Integer> {
+
+    /**
+     * 임대 조회 (행 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select l from NodeIdLease l where l.nodeId = :nodeId")
+    Optional<NodeIdLease> findForUpdate(@Param("nodeId") Integer nodeId);
+
+    /**
+     * 아직 만료되지 않은 노드 번호 목록
+     */
+    @Query("select l.nodeId from NodeIdLease l where l.expiresAt > :now")
+    List<Integer> findLiveNodeIds(@Param("now") LocalDateTime now);
+}
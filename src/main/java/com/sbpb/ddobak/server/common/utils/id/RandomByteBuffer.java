@@ -0,0 +1,62 @@
+package com.sbpb.ddobak.server.common.utils.id;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+
+/**
+ * SecureRandom 바이트를 한 번에 채워 두고 조금씩 꺼내 쓰는 버퍼
+ *
+ * 문자 하나마다 nextInt()를 호출하는 대신 버퍼가 빌 때만 nextBytes()를 호출한다.
+ * 스레드 안전하지 않으므로 스레드별로 두거나 락으로 보호해서 사용해야 한다.
+ */
+final class RandomByteBuffer {
+
+    static final int DEFAULT_SIZE = 512;
+
+    private final SecureRandom random;
+    private final byte[] buffer;
+    private int position;
+
+    RandomByteBuffer(SecureRandom random, int size) {
+        this.random = random;
+        this.buffer = new byte[size];
+        this.position = size;
+    }
+
+    /**
+     * 독립된 엔트로피 소스를 가진 버퍼 생성
+     */
+    static RandomByteBuffer create() {
+        return new RandomByteBuffer(newSecureRandom(), DEFAULT_SIZE);
+    }
+
+    /**
+     * dest[offset, offset + length) 구간을 alphabet 문자로 채운다
+     */
+    void fill(byte[] dest, int offset, int length, IdAlphabet alphabet) {
+        int end = offset + length;
+        int i = offset;
+        while (i < end) {
+            if (position == buffer.length) {
+                random.nextBytes(buffer);
+                position = 0;
+            }
+            byte encoded = alphabet.encode(buffer[position++]);
+            if (encoded != 0) {
+                dest[i++] = encoded;
+            }
+        }
+    }
+
+    /**
+     * 인스턴스별로 상태를 가지는 DRBG 사용
+     * 기본 NativePRNG는 인스턴스가 달라도 내부 전역 락을 공유하므로 분산 효과가 없다
+     */
+    private static SecureRandom newSecureRandom() {
+        try {
+            return SecureRandom.getInstance("DRBG");
+        } catch (NoSuchAlgorithmException e) {
+            return new SecureRandom();
+        }
+    }
+}
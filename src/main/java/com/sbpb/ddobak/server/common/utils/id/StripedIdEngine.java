@@ -0,0 +1,69 @@
+package com.sbpb.ddobak.server.common.utils.id;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 고정 개수의 엔트로피 소스(스트라이프)를 나눠 쓰는 엔진
+ *
+ * 스레드 수와 무관하게 SecureRandom 개수가 고정된다.
+ * 임의의 스트라이프부터 tryLock으로 비어 있는 스트라이프를 찾으므로 경합이 한 곳에 몰리지 않는다.
+ */
+public class StripedIdEngine implements IdEngine {
+
+    private final Stripe[] stripes;
+    private final int mask;
+
+    /**
+     * CPU 코어 수의 2배 이상인 2의 거듭제곱 개수로 생성
+     */
+    public StripedIdEngine() {
+        this(Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    public StripedIdEngine(int minimumStripes) {
+        int size = Integer.highestOneBit(Math.max(1, minimumStripes - 1)) << 1;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * 스트라이프 개수 반환
+     */
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    @Override
+    public void fill(byte[] dest, int offset, int length, IdAlphabet alphabet) {
+        int start = ThreadLocalRandom.current().nextInt() & mask;
+        for (int i = 0; i < stripes.length; i++) {
+            Stripe stripe = stripes[(start + i) & mask];
+            if (stripe.lock.tryLock()) {
+                try {
+                    stripe.buffer.fill(dest, offset, length, alphabet);
+                    return;
+                } finally {
+                    stripe.lock.unlock();
+                }
+            }
+        }
+
+        // 모든 스트라이프가 사용 중이면 처음 고른 스트라이프에서 대기
+        Stripe stripe = stripes[start];
+        stripe.lock.lock();
+        try {
+            stripe.buffer.fill(dest, offset, length, alphabet);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final RandomByteBuffer buffer = RandomByteBuffer.create();
+    }
+}
@@ -0,0 +1,17 @@
+package com.sbpb.ddobak.server.common.utils.id;
+
+/**
+ * 스레드마다 독립된 엔트로피 소스와 바이트 버퍼를 두는 엔진
+ *
+ * 락이 전혀 없어 플랫폼 스레드 풀 환경에서 가장 빠르다.
+ * 스레드 수만큼 SecureRandom이 생기므로, 요청마다 새 스레드가 생기는 환경에는 StripedIdEngine을 사용한다.
+ */
+public class ThreadLocalIdEngine implements IdEngine {
+
+    private final ThreadLocal<RandomByteBuffer> buffers = ThreadLocal.withInitial(RandomByteBuffer::create);
+
+    @Override
+    public void fill(byte[] dest, int offset, int length, IdAlphabet alphabet) {
+        buffers.get().fill(dest, offset, length, alphabet);
+    }
+}
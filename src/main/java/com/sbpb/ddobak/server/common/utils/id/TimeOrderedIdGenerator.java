@@ -0,0 +1,99 @@
+package com.sbpb.ddobak.server.common.utils.id;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순으로 정렬되는 base-36 엔티티 ID 생성기
+ *
+ * 형식: 접두사(1) + 기준 시각 이후 밀리초(8) + 노드 번호(2) + 시퀀스(3) = 14자리
+ * - 밀리초 8자리: 36^8 ms ≒ 89년
+ * - 노드 2자리: 0 ~ 1295
+ * - 시퀀스 3자리: 밀리초당 46,656개
+ *
+ * 같은 밀리초에 시퀀스가 소진되거나 시계가 뒤로 가면 직전 시각을 이어서 사용하므로
+ * 한 노드 안에서는 항상 단조 증가한다.
+ */
+public class TimeOrderedIdGenerator {
+
+    public static final int ID_LENGTH = 14;
+    public static final int MAX_NODE_ID = 36 * 36 - 1;
+
+    /**
+     * 기준 시각 (2024-01-01T00:00:00Z)
+     */
+    static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int TIME_LENGTH = 8;
+    private static final int NODE_LENGTH = 2;
+    private static final int SEQUENCE_LENGTH = 3;
+    private static final int MAX_SEQUENCE = 36 * 36 * 36;
+    private static final int SEQUENCE_BITS = 16;
+
+    private final byte prefix;
+    private final byte[] encodedNode;
+    private final LongSupplier clock;
+
+    /**
+     * (밀리초 << 16) | 시퀀스
+     */
+    private final AtomicLong state = new AtomicLong();
+
+    public TimeOrderedIdGenerator(char prefix, int nodeId) {
+        this(prefix, nodeId, System::currentTimeMillis);
+    }
+
+    TimeOrderedIdGenerator(char prefix, int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.prefix = (byte) Character.toUpperCase(prefix);
+        this.encodedNode = new byte[NODE_LENGTH];
+        Base36.encode(nodeId, encodedNode, 0, NODE_LENGTH);
+        this.clock = clock;
+    }
+
+    /**
+     * 다음 ID 생성
+     */
+    public String next() {
+        long now = clock.getAsLong() - EPOCH_MILLIS;
+        long next;
+        while (true) {
+            long previous = state.get();
+            long previousMillis = previous >>> SEQUENCE_BITS;
+            int previousSequence = (int) (previous & ((1 << SEQUENCE_BITS) - 1));
+
+            long millis;
+            int sequence;
+            if (now > previousMillis) {
+                millis = now;
+                sequence = 0;
+            } else if (previousSequence + 1 < MAX_SEQUENCE) {
+                millis = previousMillis;
+                sequence = previousSequence + 1;
+            } else {
+                millis = previousMillis + 1;
+                sequence = 0;
+            }
+
+            next = (millis << SEQUENCE_BITS) | sequence;
+            if (state.compareAndSet(previous, next)) {
+                break;
+            }
+        }
+        return format(next >>> SEQUENCE_BITS, (int) (next & ((1 << SEQUENCE_BITS) - 1)));
+    }
+
+    private String format(long millis, int sequence) {
+        byte[] out = new byte[ID_LENGTH];
+        out[0] = prefix;
+        Base36.encode(millis, out, 1, TIME_LENGTH);
+        out[1 + TIME_LENGTH] = encodedNode[0];
+        out[2 + TIME_LENGTH] = encodedNode[1];
+        Base36.encode(sequence, out, 1 + TIME_LENGTH + NODE_LENGTH, SEQUENCE_LENGTH);
+        return new String(out, StandardCharsets.ISO_8859_1);
+    }
+}
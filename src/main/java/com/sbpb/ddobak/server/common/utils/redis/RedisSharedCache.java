@@ -0,0 +1,36 @@
+package com.sbpb.ddobak.server.common.utils.redis;
+
+import java.time.Duration;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.sbpb.ddobak.server.common.utils.cache.SharedCache;
+
+/**
+ * Redis 기반 SharedCache
+ */
+public class RedisSharedCache implements SharedCache {
+
+    private static final String KEY_PREFIX = "ddobak:cache:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisSharedCache(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public String get(String key) {
+        return redisTemplate.opsForValue().get(KEY_PREFIX + key);
+    }
+
+    @Override
+    public void put(String key, String value, Duration ttl) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + key, value, ttl);
+    }
+
+    @Override
+    public void evict(String key) {
+        redisTemplate.delete(KEY_PREFIX + key);
+    }
+}
@@ -0,0 +1,179 @@
+package com.sbpb.ddobak.server.common.utils.resilience;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import com.sbpb.ddobak.server.common.exception.ErrorCode;
+import com.sbpb.ddobak.server.common.exception.ExternalServiceException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 외부 서비스별 서킷 브레이커
+ *
+ * - CLOSED: 최근 windowSize개 호출 중 실패 비율이 기준 이상이면 (minimumCalls 이상일 때) OPEN
+ * - OPEN: openDuration 동안 호출을 바로 거절 (CIRCUIT_BREAKER_OPEN)
+ * - HALF_OPEN: halfOpenProbes개 호출만 시험으로 보내고, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ *
+ * acquire()가 돌려준 번호로 결과를 기록하며, 상태가 바뀐 뒤 늦게 끝난 호출의 결과는 무시한다.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final String name;
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final long openDurationNanos;
+    private final int halfOpenProbes;
+    private final LongSupplier nanoTime;
+
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long generation;
+    private long openedAt;
+    private int probesIssued;
+    private int probesSucceeded;
+
+    private final Counter shortCircuited;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param failureRateThreshold OPEN으로 바꾸는 실패 비율 (%)
+     */
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, int failureRateThreshold,
+                          Duration openDuration, int halfOpenProbes, MeterRegistry meterRegistry) {
+        this(name, windowSize, minimumCalls, failureRateThreshold, openDuration, halfOpenProbes, meterRegistry,
+                System::nanoTime);
+    }
+
+    CircuitBreaker(String name, int windowSize, int minimumCalls, int failureRateThreshold,
+                   Duration openDuration, int halfOpenProbes, MeterRegistry meterRegistry, LongSupplier nanoTime) {
+        if (windowSize <= 0 || halfOpenProbes <= 0) {
+            throw new IllegalArgumentException("windowSize and halfOpenProbes must be positive");
+        }
+        this.name = name;
+        this.window = new boolean[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenProbes = halfOpenProbes;
+        this.nanoTime = nanoTime;
+        this.meterRegistry = meterRegistry;
+
+        this.shortCircuited = Counter.builder("ddobak.dependency.calls")
+                .tag("dependency", name)
+                .tag("result", "short_circuited")
+                .register(meterRegistry);
+        Gauge.builder("ddobak.dependency.circuit.state", this, breaker -> breaker.getState().ordinal())
+                .tag("dependency", name)
+                .description("0 = closed, 1 = half-open, 2 = open")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출 허가 (거절되면 CIRCUIT_BREAKER_OPEN 예외)
+     *
+     * @return 결과 기록에 쓰는 호출 번호
+     */
+    public synchronized long acquire() {
+        if (state == State.OPEN && nanoTime.getAsLong() - openedAt >= openDurationNanos) {
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.OPEN || (state == State.HALF_OPEN && probesIssued >= halfOpenProbes)) {
+            shortCircuited.increment();
+            throw new ExternalServiceException(ErrorCode.CIRCUIT_BREAKER_OPEN, name, "Circuit breaker is " + state);
+        }
+        if (state == State.HALF_OPEN) {
+            probesIssued++;
+        }
+        return generation;
+    }
+
+    /**
+     * 성공 기록
+     */
+    public synchronized void onSuccess(long ticket) {
+        if (ticket != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            if (++probesSucceeded >= halfOpenProbes) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        record(false);
+    }
+
+    /**
+     * 실패 기록
+     */
+    public synchronized void onFailure(long ticket) {
+        if (ticket != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        record(true);
+        if (windowCount >= minimumCalls && windowFailures * 100 >= failureRateThreshold * windowCount) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    /**
+     * 외부 서비스 상태와 무관하게 끝난 호출 (자체 동시 호출 한도 초과, 헤지 취소 등)
+     */
+    public synchronized void onIgnored(long ticket) {
+        if (ticket == generation && state == State.HALF_OPEN) {
+            probesIssued--;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void transitionTo(State next) {
+        log.warn("Circuit breaker '{}' {} -> {} (failures {}/{})", name, state, next, windowFailures, windowCount);
+        state = next;
+        generation++;
+        probesIssued = 0;
+        probesSucceeded = 0;
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+        if (next == State.OPEN) {
+            openedAt = nanoTime.getAsLong();
+        }
+        meterRegistry.counter("ddobak.dependency.circuit.transitions", "dependency", name,
+                "state", next.name().toLowerCase()).increment();
+    }
+}
@@ -0,0 +1,84 @@
+package com.sbpb.ddobak.server.common.utils.resilience;
+
+import java.time.Duration;
+
+/**
+ * 외부 서비스 응답 시간 추정기 (적응형 시간 제한)
+ *
+ * TCP 재전송 시간 계산과 같은 방식으로 지수 가중 평균(srtt)과 편차(rttvar)를 갱신한다.
+ * - 시간 제한: srtt + max(4 * rttvar, srtt), [minTimeout, maxTimeout] 범위로 제한
+ * - 헤지 지연: srtt + max(2 * rttvar, srtt / 2), 시간 제한보다 길지 않음
+ *
+ * 표본이 WARMUP_SAMPLES개 모이기 전에는 설정된 최대 시간 제한을 그대로 쓴다.
+ * 시간 초과된 호출은 시간 제한 값을 표본으로 기록하여 다음 제한이 늘어나도록 한다.
+ */
+public class LatencyEstimator {
+
+    static final int WARMUP_SAMPLES = 10;
+
+    private static final double ALPHA = 1.0 / 8;
+    private static final double BETA = 1.0 / 4;
+
+    private final long minTimeoutNanos;
+    private final long maxTimeoutNanos;
+    private final boolean adaptive;
+
+    private double srtt;
+    private double rttvar;
+    private long samples;
+
+    /**
+     * @param adaptive false이면 항상 maxTimeout을 시간 제한으로 사용
+     */
+    public LatencyEstimator(Duration minTimeout, Duration maxTimeout, boolean adaptive) {
+        if (minTimeout.compareTo(maxTimeout) > 0) {
+            throw new IllegalArgumentException("minTimeout must not exceed maxTimeout");
+        }
+        this.minTimeoutNanos = minTimeout.toNanos();
+        this.maxTimeoutNanos = maxTimeout.toNanos();
+        this.adaptive = adaptive;
+    }
+
+    /**
+     * 호출 소요 시간 기록
+     */
+    public synchronized void record(long elapsedNanos) {
+        if (samples == 0) {
+            srtt = elapsedNanos;
+            rttvar = elapsedNanos / 2.0;
+        } else {
+            rttvar = (1 - BETA) * rttvar + BETA * Math.abs(srtt - elapsedNanos);
+            srtt = (1 - ALPHA) * srtt + ALPHA * elapsedNanos;
+        }
+        samples++;
+    }
+
+    /**
+     * 다음 호출에 적용할 시간 제한
+     */
+    public synchronized Duration timeout() {
+        if (!adaptive || samples < WARMUP_SAMPLES) {
+            return Duration.ofNanos(maxTimeoutNanos);
+        }
+        long estimate = (long) (srtt + Math.max(4 * rttvar, srtt));
+        return Duration.ofNanos(Math.max(minTimeoutNanos, Math.min(maxTimeoutNanos, estimate)));
+    }
+
+    /**
+     * 두 번째 요청(헤지)을 보내기 전에 기다릴 시간
+     */
+    public synchronized Duration hedgeDelay(Duration minDelay) {
+        long timeout = timeout().toNanos();
+        long estimate = samples < WARMUP_SAMPLES
+                ? timeout / 2
+                : (long) (srtt + Math.max(2 * rttvar, srtt / 2));
+        return Duration.ofNanos(Math.min(timeout, Math.max(minDelay.toNanos(), estimate)));
+    }
+
+    /**
+     * 현재 평균 응답 시간 (표본이 없으면 0)
+     */
+    public synchronized Duration average() {
+        return Duration.ofNanos((long) srtt);
+    }
+}
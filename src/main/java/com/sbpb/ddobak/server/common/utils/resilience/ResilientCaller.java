@@ -0,0 +1,190 @@
+package com.sbpb.ddobak.server.common.utils.resilience;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.sbpb.ddobak.server.common.exception.ErrorCode;
+import com.sbpb.ddobak.server.common.exception.ExternalServiceException;
+import com.sbpb.ddobak.server.common.utils.concurrent.DependencyExecutor;
+import com.sbpb.ddobak.server.common.utils.concurrent.ThreadMode;
+import com.sbpb.ddobak.server.common.utils.trace.TraceContext;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 외부 서비스 호출 보호 계층
+ *
+ * 호출 한 번은 서킷 브레이커 → 적응형 시간 제한 → DependencyExecutor(격벽: 동시 호출 수 제한) 순서로 거친다.
+ * 자체 한도 초과로 거절된 호출은 외부 서비스 실패로 세지 않는다.
+ *
+ * 멱등 호출(OCR 조회 등)은 callHedged로 헤지 요청을 보낼 수 있다.
+ * 첫 요청이 헤지 지연 안에 끝나지 않거나 실패하면 두 번째 요청을 보내고 먼저 성공한 결과를 쓴다.
+ * 서킷이 열렸거나 격벽이 가득 찬 경우에는 부하를 늘리지 않도록 헤지하지 않는다.
+ */
+public class ResilientCaller implements AutoCloseable {
+
+    private final String name;
+    private final DependencyExecutor executor;
+    private final CircuitBreaker circuitBreaker;
+    private final LatencyEstimator latencyEstimator;
+    private final Duration hedgeMinDelay;
+    private final ExecutorService hedgeExecutor;
+
+    private final Counter hedgesLaunched;
+    private final Counter hedgesWon;
+
+    /**
+     * @param hedgeMinDelay 헤지 요청 전 최소 대기 시간 (null이면 헤지하지 않음)
+     */
+    public ResilientCaller(DependencyExecutor executor, CircuitBreaker circuitBreaker,
+                           LatencyEstimator latencyEstimator, Duration hedgeMinDelay,
+                           ThreadMode threadMode, MeterRegistry meterRegistry) {
+        this.name = executor.getName();
+        this.executor = executor;
+        this.circuitBreaker = circuitBreaker;
+        this.latencyEstimator = latencyEstimator;
+        this.hedgeMinDelay = hedgeMinDelay;
+        this.hedgeExecutor = hedgeMinDelay != null ? threadMode.newTaskExecutor(name + "-hedge-") : null;
+
+        this.hedgesLaunched = hedgeCounter(meterRegistry, "launched");
+        this.hedgesWon = hedgeCounter(meterRegistry, "won");
+        Gauge.builder("ddobak.dependency.timeout", latencyEstimator, estimator -> estimator.timeout().toMillis())
+                .tag("dependency", name)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 한 번만 호출
+     */
+    public <T> T call(Callable<T> task) {
+        long ticket = circuitBreaker.acquire();
+        Duration timeout = latencyEstimator.timeout();
+        long start = System.nanoTime();
+        try {
+            T result = executor.call(task, timeout);
+            latencyEstimator.record(System.nanoTime() - start);
+            circuitBreaker.onSuccess(ticket);
+            return result;
+        } catch (RuntimeException e) {
+            if (DependencyExecutor.isRejected(e) || Thread.currentThread().isInterrupted()) {
+                circuitBreaker.onIgnored(ticket);
+            } else {
+                if (isTimeout(e)) {
+                    latencyEstimator.record(timeout.toNanos());
+                }
+                circuitBreaker.onFailure(ticket);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 멱등 호출을 헤지 요청과 함께 실행 (최대 2회 호출)
+     */
+    public <T> T callHedged(Callable<T> task) {
+        if (hedgeExecutor == null) {
+            return call(task);
+        }
+
+        CompletionService<T> completion = new ExecutorCompletionService<>(hedgeExecutor);
+        List<Future<T>> attempts = new ArrayList<>(2);
+        Callable<T> attempt = TraceContext.wrap(() -> call(task));
+        attempts.add(completion.submit(attempt));
+
+        RuntimeException failure = null;
+        int pending = 1;
+        try {
+            Future<T> done = completion.poll(latencyEstimator.hedgeDelay(hedgeMinDelay).toNanos(), TimeUnit.NANOSECONDS);
+            while (true) {
+                if (done != null) {
+                    pending--;
+                    try {
+                        T result = resultOf(done);
+                        if (done != attempts.get(0)) {
+                            hedgesWon.increment();
+                        }
+                        return result;
+                    } catch (RuntimeException e) {
+                        failure = e;
+                    }
+                }
+                if (attempts.size() == 1 && canHedge(failure)) {
+                    attempts.add(completion.submit(attempt));
+                    hedgesLaunched.increment();
+                    pending++;
+                }
+                if (pending == 0) {
+                    throw failure;
+                }
+                done = completion.take();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExternalServiceException(name, "Interrupted");
+        } finally {
+            attempts.forEach(future -> future.cancel(true));
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    @Override
+    public void close() {
+        if (hedgeExecutor != null) {
+            hedgeExecutor.shutdownNow();
+        }
+    }
+
+    private boolean canHedge(RuntimeException failure) {
+        if (failure != null && (isCircuitOpen(failure) || DependencyExecutor.isRejected(failure))) {
+            return false;
+        }
+        return executor.getInFlight() < executor.getMaxConcurrent()
+                && circuitBreaker.getState() == CircuitBreaker.State.CLOSED;
+    }
+
+    private static <T> T resultOf(Future<T> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static boolean isTimeout(RuntimeException e) {
+        return e instanceof ExternalServiceException exception
+                && exception.getErrorCode() == ErrorCode.EXTERNAL_SERVICE_TIMEOUT;
+    }
+
+    private static boolean isCircuitOpen(RuntimeException e) {
+        return e instanceof ExternalServiceException exception
+                && exception.getErrorCode() == ErrorCode.CIRCUIT_BREAKER_OPEN;
+    }
+
+    private Counter hedgeCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ddobak.dependency.hedges")
+                .tag("dependency", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,122 @@
+package com.sbpb.ddobak.server.common.utils.sqs;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sbpb.ddobak.server.common.utils.trace.TraceContext;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 프로세스 내 메시지 큐 (로컬 개발/테스트용, AWS 없이 실행)
+ *
+ * 수신하면 바로 큐에서 빠지므로 acknowledge()는 할 일이 없다.
+ * release()는 SQS 가시성 제한 시간처럼 일정 시간 뒤에 다시 수신되게 넣으며, 지연은 수신 횟수마다 두 배로 늘어난다.
+ * 프로세스가 종료되면 대기 중인 메시지는 유실된다.
+ */
+public class InMemoryMessageQueue implements MessageQueue {
+
+    private static final Duration DEFAULT_RETRY_DELAY = Duration.ofSeconds(1);
+    private static final Duration DEFAULT_MAX_RETRY_DELAY = Duration.ofMinutes(1);
+
+    private final Map<String, DelayQueue<Entry>> queues = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final MeterRegistry meterRegistry;
+    private final long retryDelayNanos;
+    private final long maxRetryDelayNanos;
+
+    public InMemoryMessageQueue(MeterRegistry meterRegistry) {
+        this(meterRegistry, DEFAULT_RETRY_DELAY, DEFAULT_MAX_RETRY_DELAY);
+    }
+
+    /**
+     * @param retryDelay    첫 번째 release() 후 다시 수신되기까지의 지연
+     * @param maxRetryDelay 지연 상한
+     */
+    public InMemoryMessageQueue(MeterRegistry meterRegistry, Duration retryDelay, Duration maxRetryDelay) {
+        this.meterRegistry = meterRegistry;
+        this.retryDelayNanos = retryDelay.toNanos();
+        this.maxRetryDelayNanos = maxRetryDelay.toNanos();
+    }
+
+    @Override
+    public void send(String queueName, String body) {
+        QueueMessage message = new QueueMessage(queueName, UUID.randomUUID().toString(), body,
+                TraceContext.current(), 0);
+        queue(queueName).add(new Entry(message, System.nanoTime(), sequence.incrementAndGet()));
+    }
+
+    @Override
+    public QueueMessage receive(String queueName, Duration waitTime) throws InterruptedException {
+        Entry entry = queue(queueName).poll(waitTime.toMillis(), TimeUnit.MILLISECONDS);
+        return entry == null ? null : entry.message().received();
+    }
+
+    @Override
+    public void acknowledge(QueueMessage message) {
+        // 수신 시 이미 큐에서 제거됨
+    }
+
+    @Override
+    public void release(QueueMessage message) {
+        long visibleAt = System.nanoTime() + redeliveryDelayNanos(message.receiveCount());
+        queue(message.queueName()).add(new Entry(message, visibleAt, sequence.incrementAndGet()));
+    }
+
+    /**
+     * 대기 중인 메시지 수 (재시도 지연 중인 메시지 포함)
+     */
+    public int size(String queueName) {
+        return queue(queueName).size();
+    }
+
+    /**
+     * 재시도 지연 (retryDelay × 2^(수신 횟수 - 1), 최대 maxRetryDelay)
+     */
+    long redeliveryDelayNanos(int receiveCount) {
+        long delay = retryDelayNanos;
+        for (int i = 1; i < receiveCount && delay < maxRetryDelayNanos; i++) {
+            delay *= 2;
+        }
+        return Math.min(delay, maxRetryDelayNanos);
+    }
+
+    private DelayQueue<Entry> queue(String queueName) {
+        DelayQueue<Entry> queue = queues.get(queueName);
+        if (queue != null) {
+            return queue;
+        }
+        return queues.computeIfAbsent(queueName, name -> {
+            DelayQueue<Entry> created = new DelayQueue<>();
+            Gauge.builder("ddobak.queue.depth", created, DelayQueue::size)
+                    .tag("queue", name)
+                    .register(meterRegistry);
+            return created;
+        });
+    }
+
+    /**
+     * visibleAt(System.nanoTime 기준) 이후에 수신 가능한 메시지 (같은 시각이면 넣은 순서)
+     */
+    private record Entry(QueueMessage message, long visibleAt, long sequence) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(visibleAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            Entry entry = (Entry) other;
+            int byTime = Long.compare(visibleAt, entry.visibleAt);
+            return byTime != 0 ? byTime : Long.compare(sequence, entry.sequence);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.sbpb.ddobak.server.common.utils.sqs;
+
+/**
+ * 큐 메시지 처리기
+ */
+@FunctionalInterface
+public interface MessageHandler {
+
+    /**
+     * 메시지 처리 (예외가 발생하면 최대 수신 횟수까지 재시도)
+     */
+    void handle(String body) throws Exception;
+
+    /**
+     * 최대 수신 횟수를 넘겨 메시지를 포기할 때 호출
+     */
+    default void onGiveUp(String body, Exception cause) {
+    }
+}
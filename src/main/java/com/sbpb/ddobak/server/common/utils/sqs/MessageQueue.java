@@ -0,0 +1,31 @@
+package com.sbpb.ddobak.server.common.utils.sqs;
+
+import java.time.Duration;
+
+/**
+ * 작업 메시지 큐 (SQS 등 외부 큐와 내장 큐를 같은 방식으로 사용)
+ *
+ * 수신한 메시지는 처리 후 acknowledge()로 삭제하고, 실패하면 release()로 다시 수신 가능하게 돌려준다.
+ */
+public interface MessageQueue {
+
+    /**
+     * 메시지 전송 (현재 추적 ID를 함께 전달)
+     */
+    void send(String queueName, String body);
+
+    /**
+     * 메시지 수신 (최대 waitTime 동안 대기, 없으면 null)
+     */
+    QueueMessage receive(String queueName, Duration waitTime) throws InterruptedException;
+
+    /**
+     * 처리 완료 (큐에서 삭제)
+     */
+    void acknowledge(QueueMessage message);
+
+    /**
+     * 처리 실패 (다시 수신할 수 있도록 반환)
+     */
+    void release(QueueMessage message);
+}
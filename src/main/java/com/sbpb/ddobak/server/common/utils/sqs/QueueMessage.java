@@ -0,0 +1,20 @@
+package com.sbpb.ddobak.server.common.utils.sqs;
+
+/**
+ * 큐 메시지
+ *
+ * @param queueName    큐 이름
+ * @param id           메시지 ID
+ * @param body         본문
+ * @param traceId      전송한 요청의 추적 ID (없으면 null)
+ * @param receiveCount 수신 횟수 (처음 수신하면 1)
+ */
+public record QueueMessage(String queueName, String id, String body, String traceId, int receiveCount) {
+
+    /**
+     * 수신 횟수를 하나 늘린 메시지
+     */
+    QueueMessage received() {
+        return new QueueMessage(queueName, id, body, traceId, receiveCount + 1);
+    }
+}
@@ -0,0 +1,185 @@
+package com.sbpb.ddobak.server.common.utils.sqs;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import com.sbpb.ddobak.server.common.utils.trace.TraceContext;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 큐 소비자
+ *
+ * concurrency개의 스레드가 각자 메시지를 하나씩 받아 처리하므로 동시 처리 수가 스레드 수로 제한된다.
+ * 처리에 실패하면 메시지를 돌려주어 재시도하고, maxReceiveCount번 실패하면 onGiveUp() 후 삭제한다.
+ * 메시지를 보낸 요청의 추적 ID로 처리하여 로그를 이어서 볼 수 있다.
+ * 수신 자체가 실패하면(큐 장애, 자격 증명 오류 등) 대기 시간을 두 배씩 늘려 maxReceiveBackoff까지 쉬고,
+ * 수신에 성공하면 다시 minReceiveBackoff부터 시작한다.
+ */
+@Slf4j
+public class QueueWorker {
+
+    private static final Duration MIN_RECEIVE_BACKOFF = Duration.ofMillis(100);
+    private static final Duration MAX_RECEIVE_BACKOFF = Duration.ofSeconds(30);
+
+    private final String queueName;
+    private final MessageQueue messageQueue;
+    private final MessageHandler handler;
+    private final int concurrency;
+    private final int maxReceiveCount;
+    private final Duration pollWait;
+    private final ThreadFactory threadFactory;
+    private final long minReceiveBackoffMillis;
+    private final long maxReceiveBackoffMillis;
+    private final List<Thread> threads = new ArrayList<>();
+
+    private final Timer processingTimer;
+    private final Counter succeeded;
+    private final Counter retried;
+    private final Counter failed;
+    private final Counter receiveErrors;
+
+    private volatile boolean running;
+
+    public QueueWorker(String queueName, MessageQueue messageQueue, MessageHandler handler, int concurrency,
+                       int maxReceiveCount, Duration pollWait, ThreadFactory threadFactory,
+                       MeterRegistry meterRegistry) {
+        this(queueName, messageQueue, handler, concurrency, maxReceiveCount, pollWait, threadFactory,
+                MIN_RECEIVE_BACKOFF, MAX_RECEIVE_BACKOFF, meterRegistry);
+    }
+
+    QueueWorker(String queueName, MessageQueue messageQueue, MessageHandler handler, int concurrency,
+                int maxReceiveCount, Duration pollWait, ThreadFactory threadFactory,
+                Duration minReceiveBackoff, Duration maxReceiveBackoff, MeterRegistry meterRegistry) {
+        this.queueName = queueName;
+        this.messageQueue = messageQueue;
+        this.handler = handler;
+        this.concurrency = concurrency;
+        this.maxReceiveCount = maxReceiveCount;
+        this.pollWait = pollWait;
+        this.threadFactory = threadFactory;
+        this.minReceiveBackoffMillis = minReceiveBackoff.toMillis();
+        this.maxReceiveBackoffMillis = maxReceiveBackoff.toMillis();
+        this.processingTimer = Timer.builder("ddobak.queue.processing").tag("queue", queueName).register(meterRegistry);
+        this.succeeded = resultCounter(meterRegistry, "success");
+        this.retried = resultCounter(meterRegistry, "retry");
+        this.failed = resultCounter(meterRegistry, "failed");
+        this.receiveErrors = Counter.builder("ddobak.queue.receive.errors").tag("queue", queueName).register(meterRegistry);
+    }
+
+    /**
+     * 소비 시작
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < concurrency; i++) {
+            Thread thread = threadFactory.newThread(this::consume);
+            threads.add(thread);
+            thread.start();
+        }
+        log.info("Queue worker started - queue: {}, concurrency: {}", queueName, concurrency);
+    }
+
+    /**
+     * 소비 중지 (처리 중인 메시지는 timeout까지 기다림)
+     */
+    public synchronized void stop(Duration timeout) {
+        if (!running) {
+            return;
+        }
+        running = false;
+        long deadline = System.nanoTime() + timeout.toNanos();
+        for (Thread thread : threads) {
+            try {
+                thread.join(Math.max(1, (deadline - System.nanoTime()) / 1_000_000));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (thread.isAlive()) {
+                thread.interrupt();
+            }
+        }
+        threads.clear();
+        log.info("Queue worker stopped - queue: {}", queueName);
+    }
+
+    private void consume() {
+        long backoffMillis = minReceiveBackoffMillis;
+        while (running) {
+            QueueMessage message;
+            try {
+                message = messageQueue.receive(queueName, pollWait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                receiveErrors.increment();
+                log.error("Failed to receive message, backing off {}ms - queue: {}", backoffMillis, queueName, e);
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoffMillis = Math.min(backoffMillis * 2, maxReceiveBackoffMillis);
+                continue;
+            }
+            backoffMillis = minReceiveBackoffMillis;
+            if (message != null) {
+                process(message);
+            }
+        }
+    }
+
+    private void process(QueueMessage message) {
+        try (TraceContext.Scope scope = TraceContext.open(message.traceId())) {
+            long start = System.nanoTime();
+            try {
+                handler.handle(message.body());
+                messageQueue.acknowledge(message);
+                succeeded.increment();
+            } catch (Exception e) {
+                handleFailure(message, e);
+            } finally {
+                processingTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private void handleFailure(QueueMessage message, Exception e) {
+        if (message.receiveCount() < maxReceiveCount) {
+            log.warn("Message processing failed, will retry - queue: {}, attempt: {}, reason: {}",
+                    queueName, message.receiveCount(), e.getMessage());
+            retried.increment();
+            messageQueue.release(message);
+            return;
+        }
+
+        log.error("Message processing failed, giving up - queue: {}, attempts: {}, body: {}",
+                queueName, message.receiveCount(), message.body(), e);
+        failed.increment();
+        messageQueue.acknowledge(message);
+        try {
+            handler.onGiveUp(message.body(), e);
+        } catch (RuntimeException callbackError) {
+            log.error("Give-up callback failed - queue: {}", queueName, callbackError);
+        }
+    }
+
+    private Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ddobak.queue.messages")
+                .tag("queue", queueName)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
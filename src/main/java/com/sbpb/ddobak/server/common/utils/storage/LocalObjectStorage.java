@@ -0,0 +1,116 @@
+package com.sbpb.ddobak.server.common.utils.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+
+import com.sbpb.ddobak.server.common.exception.ExternalServiceException;
+import com.sbpb.ddobak.server.common.utils.ContentHash;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 파일 시스템 객체 저장소
+ *
+ * 업로드마다 고정 크기 힙 버퍼 하나로 채널 → 파일을 복사하며, 같은 버퍼에서 해시를 갱신한다.
+ * (다이렉트 버퍼는 GC로만 해제되어 업로드가 몰리면 네이티브 메모리가 쌓이므로 쓰지 않는다)
+ * 파일 크기와 관계없이 메모리 사용량은 버퍼 크기로 일정하다.
+ * 임시 파일에 쓴 뒤 이름을 바꾸므로 중간에 실패해도 키 위치에 불완전한 파일이 남지 않는다.
+ */
+@Slf4j
+public class LocalObjectStorage implements ObjectStorage {
+
+    private static final String SERVICE_NAME = "object-storage";
+    private static final String TEMP_DIRECTORY = ".tmp";
+
+    private final Path root;
+    private final int bufferSize;
+
+    public LocalObjectStorage(Path root, int bufferSize) {
+        this.root = root.toAbsolutePath().normalize();
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public StoredObject put(String key, ReadableByteChannel source, long maxBytes) {
+        Path target = resolve(key);
+        Path temp = null;
+        try {
+            Path tempDirectory = Files.createDirectories(root.resolve(TEMP_DIRECTORY));
+            temp = Files.createTempFile(tempDirectory, "upload-", ".part");
+
+            MessageDigest digest = ContentHash.newDigest();
+            ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+            long size = 0;
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (source.read(buffer) != -1) {
+                    buffer.flip();
+                    size += buffer.remaining();
+                    if (size > maxBytes) {
+                        throw new ObjectSizeLimitExceededException(key, maxBytes);
+                    }
+                    digest.update(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+                    while (buffer.hasRemaining()) {
+                        out.write(buffer);
+                    }
+                    buffer.clear();
+                }
+            }
+
+            Files.createDirectories(target.getParent());
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            temp = null;
+            return new StoredObject(key, url(key), size, ContentHash.toHex(digest));
+        } catch (IOException e) {
+            log.warn("Failed to store object - key: {}, reason: {}", key, e.getMessage());
+            throw new ExternalServiceException(SERVICE_NAME, "Failed to store object: " + key);
+        } finally {
+            if (temp != null) {
+                deleteQuietly(temp);
+            }
+        }
+    }
+
+    @Override
+    public InputStream open(String key) {
+        try {
+            return Files.newInputStream(resolve(key));
+        } catch (NoSuchFileException e) {
+            throw new ExternalServiceException(SERVICE_NAME, "Object not found: " + key);
+        } catch (IOException e) {
+            throw new ExternalServiceException(SERVICE_NAME, "Failed to read object: " + key);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        deleteQuietly(resolve(key));
+    }
+
+    /**
+     * 키를 저장소 경로로 변환 (저장소 밖을 가리키는 키는 거부)
+     */
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root) || key.startsWith(TEMP_DIRECTORY)) {
+            throw new IllegalArgumentException("Invalid object key: " + key);
+        }
+        return path;
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete object file - path: {}, reason: {}", path, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.sbpb.ddobak.server.common.utils.storage;
+
+/**
+ * 저장 중 허용 최대 크기를 넘었을 때 발생하는 예외 (저장소는 쓰던 내용을 지운 뒤 던짐)
+ */
+public class ObjectSizeLimitExceededException extends RuntimeException {
+
+    private final long maxBytes;
+
+    public ObjectSizeLimitExceededException(String key, long maxBytes) {
+        super("Object exceeds " + maxBytes + " bytes: " + key);
+        this.maxBytes = maxBytes;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+}
@@ -0,0 +1,56 @@
+package com.sbpb.ddobak.server.common.utils.storage;
+
+import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Optional;
+
+/**
+ * 객체 저장소 (키 → 바이트, S3 호환 방식)
+ *
+ * 업로드 본문을 메모리에 모으지 않고 채널에서 바로 저장하며, 저장하는 동안 크기와 SHA-256을 함께 계산한다.
+ * S3 구현은 put을 멀티파트 업로드로 처리하면 같은 계약을 만족한다 (크기를 미리 몰라도 됨).
+ */
+public interface ObjectStorage {
+
+    /**
+     * 저장소 객체 위치의 URL 접두사
+     */
+    String URL_PREFIX = "storage://";
+
+    /**
+     * 채널 내용을 끝까지 읽어 저장 (채널은 닫지 않음)
+     *
+     * @param maxBytes 허용 최대 크기 (넘으면 저장을 중단하고 쓰던 내용을 지움)
+     * @throws ObjectSizeLimitExceededException 최대 크기 초과
+     * @throws com.sbpb.ddobak.server.common.exception.ExternalServiceException 저장 실패
+     */
+    StoredObject put(String key, ReadableByteChannel source, long maxBytes);
+
+    /**
+     * 객체 읽기 (호출한 쪽에서 닫음)
+     *
+     * @throws com.sbpb.ddobak.server.common.exception.ExternalServiceException 객체가 없거나 읽기 실패
+     */
+    InputStream open(String key);
+
+    /**
+     * 객체 삭제 (없으면 무시)
+     */
+    void delete(String key);
+
+    /**
+     * 키에 해당하는 위치 URL
+     */
+    default String url(String key) {
+        return URL_PREFIX + key;
+    }
+
+    /**
+     * 이 저장소의 위치 URL이면 키 반환
+     */
+    default Optional<String> keyOf(String url) {
+        return url != null && url.startsWith(URL_PREFIX)
+            ? Optional.of(url.substring(URL_PREFIX.length()))
+            : Optional.empty();
+    }
+}
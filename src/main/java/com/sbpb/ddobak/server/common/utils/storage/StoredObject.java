@@ -0,0 +1,12 @@
+package com.sbpb.ddobak.server.common.utils.storage;
+
+/**
+ * 저장한 객체 정보
+ *
+ * @param key 저장소 키
+ * @param url 위치 URL (storage://키)
+ * @param size 바이트 수
+ * @param contentHash 내용 SHA-256 (소문자 16진수)
+ */
+public record StoredObject(String key, String url, long size, String contentHash) {
+}
@@ -0,0 +1,14 @@
+package com.sbpb.ddobak.server.common.utils.trace;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * @Async 등 스프링 TaskExecutor 작업에 호출 스레드의 MDC(추적 ID)를 전달
+ */
+public class MdcTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return TraceContext.wrap(runnable);
+    }
+}
@@ -0,0 +1,139 @@
+package com.sbpb.ddobak.server.common.utils.trace;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import org.slf4j.MDC;
+
+import com.sbpb.ddobak.server.common.utils.IdGenerator;
+
+/**
+ * 요청 단위 추적 ID 컨텍스트
+ *
+ * 추적 ID는 요청당 한 번 TraceIdFilter에서 만들어 MDC에 저장하고,
+ * ApiResponse, 예외, 로그가 모두 같은 값을 재사용한다.
+ * 비동기 작업이나 큐 메시지로 넘어갈 때는 wrap()/open()으로 전달한다.
+ */
+public final class TraceContext {
+
+    /**
+     * MDC 키 (로그 패턴의 %X{traceId})
+     */
+    public static final String MDC_KEY = "traceId";
+
+    /**
+     * 요청/응답 헤더 이름
+     */
+    public static final String HEADER = "X-Trace-Id";
+
+    private static final int MAX_EXTERNAL_LENGTH = 64;
+
+    private TraceContext() {
+    }
+
+    /**
+     * 현재 추적 ID 반환 (없으면 null)
+     */
+    public static String current() {
+        return MDC.get(MDC_KEY);
+    }
+
+    /**
+     * 현재 추적 ID 반환, 요청 밖(스케줄러 등)이면 새로 생성
+     */
+    public static String currentOrGenerate() {
+        String traceId = MDC.get(MDC_KEY);
+        return traceId != null ? traceId : IdGenerator.generateTraceId();
+    }
+
+    /**
+     * 외부에서 전달된 추적 ID 사용 가능 여부 (영숫자, '-', '_' 만 허용)
+     */
+    public static boolean isAcceptable(String traceId) {
+        if (traceId == null || traceId.isEmpty() || traceId.length() > MAX_EXTERNAL_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < traceId.length(); i++) {
+            char c = traceId.charAt(i);
+            boolean allowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_';
+            if (!allowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 지정한 추적 ID로 범위 시작 (close 시 이전 값 복원)
+     *
+     * 큐 메시지 소비처럼 메시지에 담겨 온 추적 ID를 이어받을 때 사용한다.
+     * traceId가 null이면 새로 생성한다.
+     */
+    public static Scope open(String traceId) {
+        String previous = MDC.get(MDC_KEY);
+        MDC.put(MDC_KEY, traceId != null ? traceId : IdGenerator.generateTraceId());
+        return new Scope(previous);
+    }
+
+    /**
+     * 현재 추적 ID를 다른 스레드에서 이어받도록 감싼 Runnable 반환
+     */
+    public static Runnable wrap(Runnable task) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            setContext(context);
+            try {
+                task.run();
+            } finally {
+                setContext(previous);
+            }
+        };
+    }
+
+    /**
+     * 현재 추적 ID를 다른 스레드에서 이어받도록 감싼 Callable 반환
+     */
+    public static <V> Callable<V> wrap(Callable<V> task) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            setContext(context);
+            try {
+                return task.call();
+            } finally {
+                setContext(previous);
+            }
+        };
+    }
+
+    private static void setContext(Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
+
+    /**
+     * 추적 ID 범위 (try-with-resources)
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final String previous;
+
+        private Scope(String previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                MDC.remove(MDC_KEY);
+            } else {
+                MDC.put(MDC_KEY, previous);
+            }
+        }
+    }
+}
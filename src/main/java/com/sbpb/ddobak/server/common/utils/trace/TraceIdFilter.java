@@ -0,0 +1,31 @@
+package com.sbpb.ddobak.server.common.utils.trace;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 요청당 추적 ID를 한 번 생성하는 필터
+ *
+ * 게이트웨이 등에서 전달한 X-Trace-Id 헤더가 유효하면 그대로 사용하고,
+ * 응답 헤더에도 같은 값을 돌려준다.
+ */
+public class TraceIdFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String incoming = request.getHeader(TraceContext.HEADER);
+        String traceId = TraceContext.isAcceptable(incoming) ? incoming : null;
+
+        try (TraceContext.Scope scope = TraceContext.open(traceId)) {
+            response.setHeader(TraceContext.HEADER, TraceContext.current());
+            filterChain.doFilter(request, response);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.sbpb.ddobak.server.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.sbpb.ddobak.server.common.utils.cache.InMemorySharedCache;
+import com.sbpb.ddobak.server.common.utils.cache.SharedCache;
+
+/**
+ * 캐시 설정
+ *
+ * 공유 캐시는 ddobak.cache.shared.type으로 선택한다. (memory | redis, Redis는 RedisConfig)
+ */
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "ddobak.cache.shared", name = "type", havingValue = "memory", matchIfMissing = true)
+    public SharedCache inMemorySharedCache() {
+        return new InMemorySharedCache();
+    }
+}
@@ -0,0 +1,58 @@
+package com.sbpb.ddobak.server.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 캐시 설정 (ddobak.cache.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ddobak.cache")
+public class CacheProperties {
+
+    private Near near = new Near();
+    private Shared shared = new Shared();
+
+    /**
+     * 프로세스 내 근거리 캐시
+     */
+    @Getter
+    @Setter
+    public static class Near {
+
+        /**
+         * 캐시별 최대 항목 수
+         */
+        private int maxSize = 10_000;
+
+        /**
+         * 항목 유지 시간 (다른 인스턴스의 변경이 반영되기까지의 최대 지연)
+         */
+        private Duration ttl = Duration.ofSeconds(30);
+    }
+
+    /**
+     * 인스턴스 간 공유 캐시
+     */
+    @Getter
+    @Setter
+    public static class Shared {
+
+        private SharedCacheType type = SharedCacheType.MEMORY;
+
+        /**
+         * 항목 유지 시간
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+
+    public enum SharedCacheType {
+        MEMORY,
+        REDIS
+    }
+}
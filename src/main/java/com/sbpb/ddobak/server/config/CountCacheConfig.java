@@ -0,0 +1,20 @@
+package com.sbpb.ddobak.server.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.sbpb.ddobak.server.common.utils.count.CountCache;
+
+/**
+ * 목록 개수 캐시 설정
+ */
+@Configuration
+@EnableConfigurationProperties(CountCacheProperties.class)
+public class CountCacheConfig {
+
+    @Bean
+    public CountCache countCache(CountCacheProperties properties) {
+        return new CountCache(properties.getMaxStaleness(), properties.getMaxEntries());
+    }
+}
@@ -0,0 +1,27 @@
+package com.sbpb.ddobak.server.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 목록 개수 캐시 설정 (ddobak.count-cache.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ddobak.count-cache")
+public class CountCacheProperties {
+
+    /**
+     * 캐시된 개수를 다시 세기 전까지 허용하는 최대 시간
+     */
+    private Duration maxStaleness = Duration.ofMinutes(5);
+
+    /**
+     * 최대 캐시 키 수
+     */
+    private int maxEntries = 10_000;
+}
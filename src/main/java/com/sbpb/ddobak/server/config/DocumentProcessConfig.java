@@ -0,0 +1,130 @@
+package com.sbpb.ddobak.server.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.sbpb.ddobak.server.common.utils.concurrent.DependencyExecutor;
+import com.sbpb.ddobak.server.common.utils.concurrent.FanOutExecutor;
+import com.sbpb.ddobak.server.common.utils.concurrent.ThreadMode;
+import com.sbpb.ddobak.server.common.utils.resilience.CircuitBreaker;
+import com.sbpb.ddobak.server.common.utils.resilience.LatencyEstimator;
+import com.sbpb.ddobak.server.common.utils.resilience.ResilientCaller;
+import com.sbpb.ddobak.server.common.utils.storage.ObjectStorage;
+import com.sbpb.ddobak.server.domain.documentProcess.client.AnalysisResult;
+import com.sbpb.ddobak.server.domain.documentProcess.client.ContractAnalysisClient;
+import com.sbpb.ddobak.server.domain.documentProcess.client.ContractImageReader;
+import com.sbpb.ddobak.server.domain.documentProcess.client.ObjectStorageImageReader;
+import com.sbpb.ddobak.server.domain.documentProcess.client.OcrClient;
+import com.sbpb.ddobak.server.domain.documentProcess.client.StubContractAnalysisClient;
+import com.sbpb.ddobak.server.domain.documentProcess.client.StubContractImageReader;
+import com.sbpb.ddobak.server.domain.documentProcess.client.StubOcrClient;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 계약서 처리 설정
+ *
+ * 외부 OCR/분석 클라이언트는 ddobak.document.client.type으로 선택하며 (현재 stub만 제공),
+ * 모든 호출은 서비스별 ResilientCaller(서킷 브레이커, 적응형 시간 제한, 격벽)를 거친다.
+ * OCR 조회는 멱등이므로 헤지 요청을 허용한다.
+ * 여러 페이지 계약서의 페이지별 호출은 pageFanOutExecutor로 병렬 실행한다.
+ */
+@Configuration
+@EnableConfigurationProperties(DocumentProcessProperties.class)
+public class DocumentProcessConfig {
+
+    @Bean
+    public DependencyExecutor ocrDependencyExecutor(DocumentProcessProperties properties, ThreadMode threadMode,
+                                                    MeterRegistry meterRegistry) {
+        return dependencyExecutor("ocr", properties.getClient().getOcr(), threadMode, meterRegistry);
+    }
+
+    @Bean
+    public DependencyExecutor analysisDependencyExecutor(DocumentProcessProperties properties, ThreadMode threadMode,
+                                                         MeterRegistry meterRegistry) {
+        return dependencyExecutor("analysis", properties.getClient().getAnalysis(), threadMode, meterRegistry);
+    }
+
+    /**
+     * 페이지 병렬 실행기 (OCR/분석 작업자가 모두 동시에 펼쳐도 될 만큼만 플랫폼 스레드 사용)
+     */
+    @Bean
+    public FanOutExecutor pageFanOutExecutor(DocumentProcessProperties properties, ThreadMode threadMode) {
+        DocumentProcessProperties.Pipeline pipeline = properties.getPipeline();
+        int maxThreads = (pipeline.getOcrWorkers() + pipeline.getAnalysisWorkers()) * pipeline.getPageParallelism();
+        return new FanOutExecutor("contract-page", pipeline.getPageParallelism(), maxThreads, threadMode);
+    }
+
+    @Bean
+    public ResilientCaller ocrResilientCaller(DocumentProcessProperties properties,
+                                              @Qualifier("ocrDependencyExecutor") DependencyExecutor executor,
+                                              ThreadMode threadMode, MeterRegistry meterRegistry) {
+        return resilientCaller(executor, properties.getClient().getOcr(), threadMode, meterRegistry);
+    }
+
+    @Bean
+    public ResilientCaller analysisResilientCaller(DocumentProcessProperties properties,
+                                                   @Qualifier("analysisDependencyExecutor") DependencyExecutor executor,
+                                                   ThreadMode threadMode, MeterRegistry meterRegistry) {
+        return resilientCaller(executor, properties.getClient().getAnalysis(), threadMode, meterRegistry);
+    }
+
+    @Bean
+    public OcrClient ocrClient(DocumentProcessProperties properties,
+                               @Qualifier("ocrResilientCaller") ResilientCaller caller) {
+        DocumentProcessProperties.Client client = properties.getClient();
+        OcrClient delegate = switch (client.getType()) {
+            case STUB -> new StubOcrClient(client.getStubLatency());
+        };
+        return imgUrl -> caller.callHedged(() -> delegate.extractText(imgUrl));
+    }
+
+    @Bean
+    public ContractAnalysisClient contractAnalysisClient(DocumentProcessProperties properties,
+                                                         @Qualifier("analysisResilientCaller") ResilientCaller caller) {
+        DocumentProcessProperties.Client client = properties.getClient();
+        ContractAnalysisClient delegate = switch (client.getType()) {
+            case STUB -> new StubContractAnalysisClient(client.getStubLatency());
+        };
+        return new ContractAnalysisClient() {
+            @Override
+            public AnalysisResult analyze(String content) {
+                return caller.call(() -> delegate.analyze(content));
+            }
+
+            @Override
+            public String modelVersion() {
+                return delegate.modelVersion();
+            }
+        };
+    }
+
+    @Bean
+    public ContractImageReader contractImageReader(DocumentProcessProperties properties, ObjectStorage objectStorage) {
+        ContractImageReader external = switch (properties.getClient().getType()) {
+            case STUB -> new StubContractImageReader();
+        };
+        return new ObjectStorageImageReader(objectStorage, external);
+    }
+
+    private DependencyExecutor dependencyExecutor(String name, DocumentProcessProperties.Dependency dependency,
+                                                  ThreadMode threadMode, MeterRegistry meterRegistry) {
+        return new DependencyExecutor(name, dependency.getMaxConcurrent(), dependency.getMaxWait(),
+                dependency.getTimeout(), threadMode, meterRegistry);
+    }
+
+    private ResilientCaller resilientCaller(DependencyExecutor executor, DocumentProcessProperties.Dependency dependency,
+                                            ThreadMode threadMode, MeterRegistry meterRegistry) {
+        DocumentProcessProperties.CircuitBreaker breaker = dependency.getCircuitBreaker();
+        CircuitBreaker circuitBreaker = new CircuitBreaker(executor.getName(), breaker.getWindowSize(),
+                breaker.getMinimumCalls(), breaker.getFailureRateThreshold(), breaker.getOpenDuration(),
+                breaker.getHalfOpenProbes(), meterRegistry);
+        LatencyEstimator latencyEstimator = new LatencyEstimator(dependency.getMinTimeout(), dependency.getTimeout(),
+                dependency.isAdaptiveTimeout());
+        DocumentProcessProperties.Hedge hedge = dependency.getHedge();
+        return new ResilientCaller(executor, circuitBreaker, latencyEstimator,
+                hedge.isEnabled() ? hedge.getMinDelay() : null, threadMode, meterRegistry);
+    }
+}
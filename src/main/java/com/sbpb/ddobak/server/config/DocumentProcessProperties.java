@@ -0,0 +1,260 @@
+package com.sbpb.ddobak.server.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 계약서 처리 설정 (ddobak.document.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ddobak.document")
+public class DocumentProcessProperties {
+
+    private Pipeline pipeline = new Pipeline();
+    private Upload upload = new Upload();
+    private Progress progress = new Progress();
+    private Client client = new Client();
+    private OcrCache ocrCache = new OcrCache();
+    private AnalysisMemo analysisMemo = new AnalysisMemo();
+
+    /**
+     * OCR → 분석 비동기 처리
+     */
+    @Getter
+    @Setter
+    public static class Pipeline {
+
+        /**
+         * OCR 작업 동시 처리 수
+         */
+        private int ocrWorkers = 4;
+
+        /**
+         * 분석 작업 동시 처리 수
+         */
+        private int analysisWorkers = 2;
+
+        /**
+         * 여러 페이지 계약서 한 건에서 동시에 처리하는 페이지 수 (OCR, 분석 각각)
+         */
+        private int pageParallelism = 4;
+
+        /**
+         * 작업 실패 시 최대 시도 횟수 (넘으면 계약서를 FAILED로 표시)
+         */
+        private int maxAttempts = 3;
+
+        /**
+         * 큐 수신 대기 시간
+         */
+        private Duration pollWait = Duration.ofSeconds(1);
+
+        /**
+         * 종료 시 처리 중인 작업을 기다리는 시간
+         */
+        private Duration shutdownTimeout = Duration.ofSeconds(10);
+    }
+
+    /**
+     * 처리 진행 이벤트 스트림 (SSE)
+     */
+    @Getter
+    @Setter
+    public static class Progress {
+
+        /**
+         * 연결 유지 시간 (지나면 연결을 닫고, 클라이언트가 다시 연결하면 현재 상태부터 다시 받음)
+         */
+        private Duration streamTimeout = Duration.ofMinutes(5);
+
+        /**
+         * 연결별 전송 대기 이벤트 수 (넘으면 느린 연결로 보고 닫음)
+         */
+        private int bufferSize = 256;
+    }
+
+    /**
+     * 계약서 파일 업로드 (요청 본문을 저장소로 바로 전달)
+     */
+    @Getter
+    @Setter
+    public static class Upload {
+
+        /**
+         * 최대 파일 크기 (전송 중 넘으면 바로 중단)
+         */
+        private DataSize maxSize = DataSize.ofMegabytes(20);
+
+        /**
+         * 허용 Content-Type
+         */
+        private List<String> allowedContentTypes = List.of("image/png", "image/jpeg", "application/pdf");
+    }
+
+    /**
+     * 이미지 내용 해시 기반 OCR 결과 재사용
+     */
+    @Getter
+    @Setter
+    public static class OcrCache {
+
+        private boolean enabled = true;
+
+        /**
+         * 근거리 캐시 최대 항목 수 (해시 → OCR 결과 ID)
+         */
+        private int maxSize = 10_000;
+
+        private Duration ttl = Duration.ofDays(1);
+
+        /**
+         * 근거리 캐시에 없으면 DB(content_hash 인덱스)에서 조회
+         */
+        private boolean persistent = true;
+    }
+
+    /**
+     * 비슷한 계약서의 분석 결과 재사용 (정규화한 본문 지문 기준)
+     */
+    @Getter
+    @Setter
+    public static class AnalysisMemo {
+
+        private boolean enabled = true;
+
+        /**
+         * 기억하는 최대 분석 결과 수
+         */
+        private int maxEntries = 1_000;
+
+        /**
+         * 이전 결과를 재사용하기 위한 최소 일치 줄 비율 (정규화 기준, 미만이면 전체 분석)
+         */
+        private double minLineOverlap = 0.8;
+    }
+
+    /**
+     * 외부 OCR/분석 서비스 클라이언트
+     */
+    @Getter
+    @Setter
+    public static class Client {
+
+        private ClientType type = ClientType.STUB;
+
+        /**
+         * 스텁 클라이언트 응답 지연 (외부 서비스 지연 재현용)
+         */
+        private Duration stubLatency = Duration.ZERO;
+
+        /**
+         * OCR 조회는 멱등이므로 기본으로 헤지 요청을 보낸다
+         */
+        private Dependency ocr = new Dependency(8, Duration.ofSeconds(30), true);
+        private Dependency analysis = new Dependency(4, Duration.ofSeconds(60), false);
+    }
+
+    /**
+     * 외부 서비스별 호출 제한 및 보호 설정
+     */
+    @Getter
+    @Setter
+    public static class Dependency {
+
+        /**
+         * 최대 동시 호출 수
+         */
+        private int maxConcurrent;
+
+        /**
+         * 호출 시간 제한 (적응형 시간 제한의 상한)
+         */
+        private Duration timeout;
+
+        /**
+         * 최근 응답 시간으로 시간 제한을 조정할지 여부
+         */
+        private boolean adaptiveTimeout = true;
+
+        /**
+         * 적응형 시간 제한의 하한
+         */
+        private Duration minTimeout = Duration.ofSeconds(1);
+
+        /**
+         * 동시 호출 한도에 걸렸을 때 기다리는 최대 시간
+         */
+        private Duration maxWait = Duration.ofSeconds(5);
+
+        private CircuitBreaker circuitBreaker = new CircuitBreaker();
+        private Hedge hedge = new Hedge();
+
+        public Dependency() {
+        }
+
+        public Dependency(int maxConcurrent, Duration timeout, boolean hedged) {
+            this.maxConcurrent = maxConcurrent;
+            this.timeout = timeout;
+            this.hedge.setEnabled(hedged);
+        }
+    }
+
+    /**
+     * 서킷 브레이커
+     */
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+
+        /**
+         * 실패 비율을 계산하는 최근 호출 수
+         */
+        private int windowSize = 20;
+
+        /**
+         * 실패 비율을 판단하기 위한 최소 호출 수
+         */
+        private int minimumCalls = 10;
+
+        /**
+         * 서킷을 여는 실패 비율 (%)
+         */
+        private int failureRateThreshold = 50;
+
+        /**
+         * 서킷을 열어 두는 시간 (지나면 시험 호출 허용)
+         */
+        private Duration openDuration = Duration.ofSeconds(30);
+
+        /**
+         * 반열림 상태에서 보내는 시험 호출 수
+         */
+        private int halfOpenProbes = 3;
+    }
+
+    /**
+     * 헤지 요청 (멱등 호출 전용)
+     */
+    @Getter
+    @Setter
+    public static class Hedge {
+
+        private boolean enabled;
+
+        /**
+         * 두 번째 요청 전 최소 대기 시간 (실제 대기는 최근 응답 시간으로 계산)
+         */
+        private Duration minDelay = Duration.ofMillis(500);
+    }
+
+    public enum ClientType {
+        STUB
+    }
+}
@@ -0,0 +1,25 @@
+package com.sbpb.ddobak.server.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.sbpb.ddobak.server.common.utils.event.EventBus;
+import com.sbpb.ddobak.server.common.utils.event.InMemoryEventBus;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 이벤트 버스 설정
+ *
+ * 브로커 구현(EventBus 빈)이 등록되지 않으면 프로세스 내 이벤트 버스를 사용한다.
+ */
+@Configuration
+public class EventBusConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(EventBus.class)
+    public EventBus inMemoryEventBus(MeterRegistry meterRegistry) {
+        return new InMemoryEventBus(meterRegistry);
+    }
+}
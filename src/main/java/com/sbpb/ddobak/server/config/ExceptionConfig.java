@@ -0,0 +1,25 @@
+package com.sbpb.ddobak.server.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import com.sbpb.ddobak.server.common.exception.StackTracePolicy;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 예외 처리 설정
+ *
+ * 예외는 생성자에서 정책을 읽으므로 시작 시점에 정적 정책으로 등록한다.
+ */
+@Configuration
+@EnableConfigurationProperties(ExceptionProperties.class)
+@Slf4j
+public class ExceptionConfig {
+
+    public ExceptionConfig(ExceptionProperties properties) {
+        StackTracePolicy.configure(properties.isStacklessClientErrors());
+        log.info("Business exception stack traces for 4xx errors: {}",
+                properties.isStacklessClientErrors() ? "disabled" : "enabled");
+    }
+}
@@ -0,0 +1,20 @@
+package com.sbpb.ddobak.server.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 예외 처리 설정 (ddobak.exception.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ddobak.exception")
+public class ExceptionProperties {
+
+    /**
+     * 4xx 비즈니스 예외의 스택 트레이스 생략 여부
+     */
+    private boolean stacklessClientErrors = true;
+}
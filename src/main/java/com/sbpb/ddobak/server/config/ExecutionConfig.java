@@ -0,0 +1,27 @@
+package com.sbpb.ddobak.server.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.sbpb.ddobak.server.common.utils.concurrent.ThreadMode;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 작업 스레드 설정
+ *
+ * spring.threads.virtual.enabled=true이면 Java 21 이상에서 Spring Boot가 Tomcat 요청 처리/작업 실행기를,
+ * 이 설정이 큐 소비자와 외부 서비스 호출 스레드를 가상 스레드로 바꾼다.
+ */
+@Configuration
+@Slf4j
+public class ExecutionConfig {
+
+    @Bean
+    public ThreadMode threadMode(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ThreadMode threadMode = ThreadMode.resolve(virtualThreads);
+        log.info("Worker thread mode: {} (Java {})", threadMode, Runtime.version().feature());
+        return threadMode;
+    }
+}
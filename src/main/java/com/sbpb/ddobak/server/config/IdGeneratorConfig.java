@@ -0,0 +1,81 @@
+package com.sbpb.ddobak.server.config;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.sbpb.ddobak.server.common.utils.IdGenerator;
+import com.sbpb.ddobak.server.common.utils.id.BlockIdAllocator;
+import com.sbpb.ddobak.server.common.utils.id.EntityIdType;
+import com.sbpb.ddobak.server.common.utils.id.IdBlockSource;
+import com.sbpb.ddobak.server.common.utils.id.IdEngine;
+import com.sbpb.ddobak.server.common.utils.id.IdStrategy;
+import com.sbpb.ddobak.server.common.utils.id.NodeIdLeaseHolder;
+import com.sbpb.ddobak.server.common.utils.id.StripedIdEngine;
+import com.sbpb.ddobak.server.common.utils.id.ThreadLocalIdEngine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ID 생성 엔진 설정
+ *
+ * IdGenerator는 정적 유틸리티이므로 빈 생성 시점에 선택된 엔진을 등록한다.
+ */
+@Configuration
+@EnableConfigurationProperties(IdGeneratorProperties.class)
+@Slf4j
+public class IdGeneratorConfig {
+
+    @Bean
+    public IdEngine idEngine(IdGeneratorProperties properties, IdBlockSource idBlockSource,
+                             NodeIdLeaseHolder nodeIdLeaseHolder, MeterRegistry meterRegistry) {
+        IdEngine engine = switch (properties.getEngine()) {
+            case THREAD_LOCAL -> new ThreadLocalIdEngine();
+            case STRIPED -> properties.getStripes() > 0
+                    ? new StripedIdEngine(properties.getStripes())
+                    : new StripedIdEngine();
+        };
+
+        Map<EntityIdType, IdStrategy> strategies = properties.getStrategies();
+        int nodeId = resolveNodeId(properties, nodeIdLeaseHolder);
+
+        IdGenerator.useEngine(engine);
+        IdGenerator.useBlockAllocators(createBlockAllocators(properties, idBlockSource, meterRegistry));
+        IdGenerator.configureEntityIds(strategies, nodeId);
+        log.info("ID engine initialized: {}, nodeId: {}, strategies: {}",
+                engine.getClass().getSimpleName(), nodeId, strategies);
+
+        return engine;
+    }
+
+    /**
+     * TIME_ORDERED 방식을 쓰는 경우에만 노드 번호가 필요하며, 미지정 시 DB에서 만료 시각이 있는 임대로 받는다
+     *
+     * 임대는 주기적으로 연장되고 종료 시 반납되며, 비정상 종료한 인스턴스의 번호는 만료 후 재사용된다.
+     */
+    private int resolveNodeId(IdGeneratorProperties properties, NodeIdLeaseHolder nodeIdLeaseHolder) {
+        if (properties.getNodeId() >= 0) {
+            return properties.getNodeId();
+        }
+        if (!properties.getStrategies().containsValue(IdStrategy.TIME_ORDERED)) {
+            return 0;
+        }
+        return nodeIdLeaseHolder.acquire(properties.getNodeLeaseTtl(), IdGenerator::useNodeId);
+    }
+
+    private Map<EntityIdType, BlockIdAllocator> createBlockAllocators(IdGeneratorProperties properties,
+                                                                      IdBlockSource idBlockSource,
+                                                                      MeterRegistry meterRegistry) {
+        Map<EntityIdType, BlockIdAllocator> allocators = new EnumMap<>(EntityIdType.class);
+        properties.getStrategies().forEach((type, strategy) -> {
+            if (strategy == IdStrategy.BLOCK) {
+                allocators.put(type, new BlockIdAllocator(type, idBlockSource, properties.getBlockSize(), meterRegistry));
+            }
+        });
+        return allocators;
+    }
+}
@@ -0,0 +1,59 @@
+package com.sbpb.ddobak.server.config;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.sbpb.ddobak.server.common.utils.id.EntityIdType;
+import com.sbpb.ddobak.server.common.utils.id.IdStrategy;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * ID 생성 설정 (ddobak.id.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ddobak.id")
+public class IdGeneratorProperties {
+
+    /**
+     * 랜덤 ID 생성 엔진 종류
+     */
+    private EngineType engine = EngineType.THREAD_LOCAL;
+
+    /**
+     * STRIPED 엔진의 최소 스트라이프 수 (0이면 CPU 코어 수 * 2)
+     */
+    private int stripes = 0;
+
+    /**
+     * TIME_ORDERED ID에 들어갈 노드 번호 (0~1295, 인스턴스마다 달라야 함)
+     * 음수이면 시작 시 DB에서 임대 (살아 있는 인스턴스가 모든 번호를 쓰고 있으면 시작 실패)
+     */
+    private int nodeId = -1;
+
+    /**
+     * 임대한 노드 번호를 연장하지 않으면 만료되기까지의 시간
+     * 연장 주기(ddobak.id.node-lease-heartbeat)는 NodeIdLeaseHolder의 @Scheduled가 직접 읽는다.
+     */
+    private Duration nodeLeaseTtl = Duration.ofMinutes(2);
+
+    /**
+     * BLOCK 방식에서 한 번에 임대하는 ID 개수
+     */
+    private long blockSize = 1_000;
+
+    /**
+     * 엔티티 종류별 ID 생성 방식 (지정하지 않으면 RANDOM)
+     */
+    private Map<EntityIdType, IdStrategy> strategies = new EnumMap<>(EntityIdType.class);
+
+    public enum EngineType {
+        THREAD_LOCAL,
+        STRIPED
+    }
+}
@@ -0,0 +1,19 @@
+package com.sbpb.ddobak.server.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.Module;
+import com.sbpb.ddobak.server.common.response.ResponseJacksonModule;
+
+/**
+ * Jackson 설정
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module responseJacksonModule() {
+        return new ResponseJacksonModule();
+    }
+}
@@ -0,0 +1,27 @@
+package com.sbpb.ddobak.server.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 마지막 로그인 시간 지연 기록 설정 (ddobak.user.last-login.*)
+ *
+ * 반영 주기(ddobak.user.last-login.flush-interval)는 LastLoginWriteBuffer의 @Scheduled가 직접 읽는다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ddobak.user.last-login")
+public class LastLoginProperties {
+
+    /**
+     * 대기 중인 사용자 수가 이 값을 넘으면 주기를 기다리지 않고 반영
+     */
+    private int flushThreshold = 1_000;
+
+    /**
+     * JDBC 배치 크기
+     */
+    private int batchSize = 500;
+}
@@ -1,5 +1,22 @@
 package com.sbpb.ddobak.server.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.sbpb.ddobak.server.common.utils.cache.SharedCache;
+import com.sbpb.ddobak.server.common.utils.redis.RedisSharedCache;
+
+/**
+ * Redis 설정 (ddobak.cache.shared.type=redis 일 때 공유 캐시로 사용)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "ddobak.cache.shared", name = "type", havingValue = "redis")
 public class RedisConfig {
 
+    @Bean
+    public SharedCache redisSharedCache(StringRedisTemplate redisTemplate) {
+        return new RedisSharedCache(redisTemplate);
+    }
 }
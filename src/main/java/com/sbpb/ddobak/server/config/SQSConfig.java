@@ -1,5 +1,25 @@
 package com.sbpb.ddobak.server.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.sbpb.ddobak.server.common.utils.sqs.InMemoryMessageQueue;
+import com.sbpb.ddobak.server.common.utils.sqs.MessageQueue;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 작업 큐 설정
+ *
+ * SQS 구현(MessageQueue 빈)이 등록되지 않으면 프로세스 내 큐를 사용한다.
+ */
+@Configuration
 public class SQSConfig {
 
+    @Bean
+    @ConditionalOnMissingBean(MessageQueue.class)
+    public MessageQueue inMemoryMessageQueue(MeterRegistry meterRegistry) {
+        return new InMemoryMessageQueue(meterRegistry);
+    }
 }
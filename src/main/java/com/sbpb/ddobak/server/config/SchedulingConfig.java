@@ -0,0 +1,14 @@
+package com.sbpb.ddobak.server.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 (@Scheduled 작업)
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties({LastLoginProperties.class, UserArchiveProperties.class})
+public class SchedulingConfig {
+}
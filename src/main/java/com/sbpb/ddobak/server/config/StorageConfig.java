@@ -0,0 +1,25 @@
+package com.sbpb.ddobak.server.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.sbpb.ddobak.server.common.utils.storage.LocalObjectStorage;
+import com.sbpb.ddobak.server.common.utils.storage.ObjectStorage;
+
+/**
+ * 객체 저장소 설정
+ *
+ * S3 구현(ObjectStorage 빈)이 등록되지 않으면 로컬 파일 시스템 저장소를 사용한다.
+ */
+@Configuration
+@EnableConfigurationProperties(StorageProperties.class)
+public class StorageConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(ObjectStorage.class)
+    public ObjectStorage localObjectStorage(StorageProperties properties) {
+        return new LocalObjectStorage(properties.getLocal().getRoot(), (int) properties.getBufferSize().toBytes());
+    }
+}
@@ -0,0 +1,35 @@
+package com.sbpb.ddobak.server.config;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 객체 저장소 설정 (ddobak.storage.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ddobak.storage")
+public class StorageProperties {
+
+    /**
+     * 업로드 복사 버퍼 크기 (업로드 한 건의 메모리 사용량)
+     */
+    private DataSize bufferSize = DataSize.ofKilobytes(64);
+
+    private Local local = new Local();
+
+    /**
+     * 로컬 파일 시스템 저장소
+     */
+    @Getter
+    @Setter
+    public static class Local {
+
+        private Path root = Path.of("storage");
+    }
+}
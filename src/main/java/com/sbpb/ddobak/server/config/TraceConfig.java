@@ -0,0 +1,35 @@
+package com.sbpb.ddobak.server.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.TaskDecorator;
+
+import com.sbpb.ddobak.server.common.utils.trace.MdcTaskDecorator;
+import com.sbpb.ddobak.server.common.utils.trace.TraceIdFilter;
+
+/**
+ * 추적 ID 전파 설정
+ */
+@Configuration
+public class TraceConfig {
+
+    /**
+     * 다른 필터의 로그에도 추적 ID가 남도록 가장 먼저 실행
+     */
+    @Bean
+    public FilterRegistrationBean<TraceIdFilter> traceIdFilter() {
+        FilterRegistrationBean<TraceIdFilter> registration = new FilterRegistrationBean<>(new TraceIdFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * 자동 구성된 TaskExecutor(@Async)에 적용됨
+     */
+    @Bean
+    public TaskDecorator mdcTaskDecorator() {
+        return new MdcTaskDecorator();
+    }
+}
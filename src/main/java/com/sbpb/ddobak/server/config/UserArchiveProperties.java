@@ -0,0 +1,29 @@
+package com.sbpb.ddobak.server.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 삭제된 사용자 보관 설정 (ddobak.user.archive.*)
+ *
+ * 실행 주기(ddobak.user.archive.cron)는 UserArchiveJob의 @Scheduled가 직접 읽는다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ddobak.user.archive")
+public class UserArchiveProperties {
+
+    /**
+     * 삭제 후 users 테이블에 남겨 두는 기간 (지나면 users_archive로 이동)
+     */
+    private Duration retention = Duration.ofDays(90);
+
+    /**
+     * 한 트랜잭션에서 옮기는 사용자 수
+     */
+    private int batchSize = 500;
+}
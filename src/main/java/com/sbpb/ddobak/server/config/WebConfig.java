@@ -0,0 +1,21 @@
+package com.sbpb.ddobak.server.config;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.sbpb.ddobak.server.common.utils.id.EntityIdArgumentResolver;
+
+/**
+ * Spring MVC 설정
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new EntityIdArgumentResolver());
+    }
+}
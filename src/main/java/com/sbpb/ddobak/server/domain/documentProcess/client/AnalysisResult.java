@@ -0,0 +1,39 @@
+package com.sbpb.ddobak.server.domain.documentProcess.client;
+
+import java.util.List;
+
+/**
+ * 계약서 분석 결과
+ *
+ * @param summary 분석 요약
+ * @param clauses 탐지한 독소 조항 (본문 순서)
+ */
+public record AnalysisResult(String summary, List<DetectedClause> clauses) {
+
+    /**
+     * 조항별 탐지 결과로 요약을 만들어 분석 결과 생성
+     */
+    public static AnalysisResult ofClauses(List<DetectedClause> clauses) {
+        return new AnalysisResult(summaryOf(clauses.size()), List.copyOf(clauses));
+    }
+
+    /**
+     * 탐지한 독소 조항 수로 만든 요약
+     */
+    public static String summaryOf(long clauseCount) {
+        return clauseCount == 0
+                ? "No potentially unfair clauses detected"
+                : "Detected " + clauseCount + " potentially unfair clauses";
+    }
+
+    /**
+     * 탐지한 독소 조항
+     *
+     * @param clause            조항 원문
+     * @param reason            독소 조항으로 판단한 이유
+     * @param sourceContractTag 근거 계약서 태그
+     * @param warnLevel         위험도 (1~3)
+     */
+    public record DetectedClause(String clause, String reason, String sourceContractTag, int warnLevel) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.sbpb.ddobak.server.domain.documentProcess.client;
+
+/**
+ * 외부 계약서 분석(독소 조항 탐지) 서비스 클라이언트
+ */
+public interface ContractAnalysisClient {
+
+    /**
+     * 계약서 본문 분석 (블로킹 호출)
+     *
+     * @param content OCR로 추출한 계약서 본문
+     * @throws com.sbpb.ddobak.server.common.exception.ExternalServiceException 서비스 호출 실패
+     */
+    AnalysisResult analyze(String content);
+
+    /**
+     * 분석 모델 버전 (바뀌면 이전 분석 결과를 재사용하지 않음)
+     */
+    String modelVersion();
+}
@@ -0,0 +1,17 @@
+package com.sbpb.ddobak.server.domain.documentProcess.client;
+
+import java.io.InputStream;
+
+/**
+ * 계약서 이미지 원본 읽기 (OCR 결과 재사용을 위한 내용 해시 계산용)
+ */
+public interface ContractImageReader {
+
+    /**
+     * 이미지 원본 스트림 열기 (호출한 쪽에서 닫음)
+     *
+     * @param imgUrl 계약서 이미지 위치
+     * @throws com.sbpb.ddobak.server.common.exception.ExternalServiceException 읽기 실패
+     */
+    InputStream open(String imgUrl);
+}
@@ -0,0 +1,28 @@
+package com.sbpb.ddobak.server.domain.documentProcess.client;
+
+import java.io.InputStream;
+
+import com.sbpb.ddobak.server.common.utils.storage.ObjectStorage;
+
+/**
+ * 객체 저장소 이미지 읽기
+ *
+ * 업로드 API로 저장한 이미지(storage://)는 저장소에서 읽고, 그 밖의 위치는 대체 읽기에 맡긴다.
+ */
+public class ObjectStorageImageReader implements ContractImageReader {
+
+    private final ObjectStorage storage;
+    private final ContractImageReader fallback;
+
+    public ObjectStorageImageReader(ObjectStorage storage, ContractImageReader fallback) {
+        this.storage = storage;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public InputStream open(String imgUrl) {
+        return storage.keyOf(imgUrl)
+            .map(storage::open)
+            .orElseGet(() -> fallback.open(imgUrl));
+    }
+}
@@ -0,0 +1,15 @@
+package com.sbpb.ddobak.server.domain.documentProcess.client;
+
+/**
+ * 외부 OCR 서비스 클라이언트
+ */
+public interface OcrClient {
+
+    /**
+     * 계약서 이미지에서 텍스트 추출 (블로킹 호출)
+     *
+     * @param imgUrl 계약서 이미지 위치
+     * @throws com.sbpb.ddobak.server.common.exception.ExternalServiceException 서비스 호출 실패
+     */
+    String extractText(String imgUrl);
+}
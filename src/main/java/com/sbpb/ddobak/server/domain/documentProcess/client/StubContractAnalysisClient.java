@@ -0,0 +1,51 @@
+package com.sbpb.ddobak.server.domain.documentProcess.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로컬 실행용 분석 클라이언트 (키워드가 포함된 줄을 독소 조항으로 탐지)
+ */
+public class StubContractAnalysisClient implements ContractAnalysisClient {
+
+    private static final String SOURCE_TAG = "stub";
+    private static final String MODEL_VERSION = "stub-1";
+
+    /**
+     * 탐지 규칙 (앞의 규칙 우선)
+     */
+    private static final List<Rule> RULES = List.of(
+            new Rule("위약금", "Penalty may be excessive compared to actual damages", 3),
+            new Rule("일방적", "Allows unilateral termination by one party", 3),
+            new Rule("손해배상", "Imposes unlimited liability regardless of fault", 2),
+            new Rule("자동 갱신", "Renews automatically without explicit consent", 1));
+
+    private final Duration latency;
+
+    public StubContractAnalysisClient(Duration latency) {
+        this.latency = latency;
+    }
+
+    @Override
+    public AnalysisResult analyze(String content) {
+        StubLatency.sleep(latency, "stub-analysis");
+
+        List<AnalysisResult.DetectedClause> clauses = new ArrayList<>();
+        content.lines().map(String::strip).filter(line -> !line.isEmpty()).forEach(line ->
+                RULES.stream()
+                        .filter(rule -> line.contains(rule.keyword()))
+                        .findFirst()
+                        .ifPresent(rule -> clauses.add(new AnalysisResult.DetectedClause(
+                                line, rule.reason(), SOURCE_TAG, rule.warnLevel()))));
+        return AnalysisResult.ofClauses(clauses);
+    }
+
+    @Override
+    public String modelVersion() {
+        return MODEL_VERSION;
+    }
+
+    private record Rule(String keyword, String reason, int warnLevel) {
+    }
+}
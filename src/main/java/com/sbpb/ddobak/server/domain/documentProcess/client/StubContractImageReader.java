@@ -0,0 +1,23 @@
+package com.sbpb.ddobak.server.domain.documentProcess.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import com.sbpb.ddobak.server.common.exception.ExternalServiceException;
+
+/**
+ * 로컬 실행용 이미지 읽기 (이미지 위치 문자열을 원본 내용으로 취급)
+ *
+ * 같은 위치로 다시 올린 계약서는 같은 이미지로 간주된다.
+ */
+public class StubContractImageReader implements ContractImageReader {
+
+    @Override
+    public InputStream open(String imgUrl) {
+        if (imgUrl == null || imgUrl.isBlank()) {
+            throw new ExternalServiceException("stub-image", "Image location is empty");
+        }
+        return new ByteArrayInputStream(imgUrl.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,26 @@
+package com.sbpb.ddobak.server.domain.documentProcess.client;
+
+import java.time.Duration;
+
+import com.sbpb.ddobak.server.common.exception.ExternalServiceException;
+
+/**
+ * 스텁 클라이언트 응답 지연
+ */
+final class StubLatency {
+
+    private StubLatency() {
+    }
+
+    static void sleep(Duration latency, String serviceName) {
+        if (latency.isZero() || latency.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(latency.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExternalServiceException(serviceName, "Interrupted");
+        }
+    }
+}
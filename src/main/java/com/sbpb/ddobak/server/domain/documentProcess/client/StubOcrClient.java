@@ -0,0 +1,37 @@
+package com.sbpb.ddobak.server.domain.documentProcess.client;
+
+import java.time.Duration;
+
+import com.sbpb.ddobak.server.common.exception.ExternalServiceException;
+
+/**
+ * 로컬 실행용 OCR 클라이언트 (고정된 임대차 계약서 본문 반환)
+ */
+public class StubOcrClient implements OcrClient {
+
+    static final String SAMPLE_CONTRACT = """
+            부동산 임대차 계약서
+            제1조 (목적) 임대인은 아래 부동산을 임차인에게 임대한다.
+            제2조 (보증금) 임차인은 계약 시 보증금을 지급한다.
+            제3조 (위약금) 임차인이 계약을 해지하는 경우 보증금 전액을 위약금으로 한다.
+            제4조 (해지) 임대인은 사전 통지 없이 일방적으로 계약을 해지할 수 있다.
+            제5조 (원상복구) 임차인은 계약 종료 시 목적물을 원상복구한다.
+            제6조 (손해배상) 임차인은 사유를 불문하고 모든 손해배상 책임을 진다.
+            제7조 (갱신) 이 계약은 별도 의사표시가 없으면 동일 조건으로 자동 갱신된다.
+            """;
+
+    private final Duration latency;
+
+    public StubOcrClient(Duration latency) {
+        this.latency = latency;
+    }
+
+    @Override
+    public String extractText(String imgUrl) {
+        StubLatency.sleep(latency, "stub-ocr");
+        if (imgUrl == null || imgUrl.isBlank()) {
+            throw new ExternalServiceException("stub-ocr", "Image location is empty");
+        }
+        return SAMPLE_CONTRACT;
+    }
+}
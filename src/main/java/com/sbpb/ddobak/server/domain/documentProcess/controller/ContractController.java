@@ -0,0 +1,175 @@
+package com.sbpb.ddobak.server.domain.documentProcess.controller;
+
+import com.sbpb.ddobak.server.common.response.ApiResponse;
+import com.sbpb.ddobak.server.common.response.CursorPageResponse;
+import com.sbpb.ddobak.server.common.response.PageResponse;
+import com.sbpb.ddobak.server.common.response.SuccessCode;
+import com.sbpb.ddobak.server.common.utils.id.EntityIdPath;
+import com.sbpb.ddobak.server.common.utils.id.EntityIdType;
+import com.sbpb.ddobak.server.domain.documentProcess.dto.ContractResponse;
+import com.sbpb.ddobak.server.domain.documentProcess.dto.ContractStatusResponse;
+import com.sbpb.ddobak.server.domain.documentProcess.dto.CreateContractRequest;
+import com.sbpb.ddobak.server.domain.documentProcess.dto.OcrPageResponse;
+import com.sbpb.ddobak.server.domain.documentProcess.dto.ToxicClauseResponse;
+import com.sbpb.ddobak.server.domain.documentProcess.exception.DocumentProcessSuccessCode;
+import com.sbpb.ddobak.server.domain.documentProcess.service.ContractPipelineService;
+import com.sbpb.ddobak.server.domain.documentProcess.service.ContractProgressService;
+import com.sbpb.ddobak.server.domain.documentProcess.service.ContractService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+/**
+ * 계약서 컨트롤러
+ */
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@Slf4j
+public class ContractController {
+
+    private final ContractService contractService;
+    private final ContractPipelineService contractPipelineService;
+    private final ContractProgressService contractProgressService;
+
+    /**
+     * 계약서 등록 (OCR/분석은 비동기로 진행, 202 응답 후 상태 조회로 확인)
+     */
+    @PostMapping("/users/{userId}/contracts")
+    public ResponseEntity<ApiResponse<ContractStatusResponse>> createContract(
+            @EntityIdPath(EntityIdType.USER) String userId,
+            @Valid @RequestBody CreateContractRequest request) {
+
+        ContractStatusResponse response = contractPipelineService.submit(userId, request);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+            .body(ApiResponse.success(response, DocumentProcessSuccessCode.CONTRACT_ACCEPTED));
+    }
+
+    /**
+     * 계약서 파일 업로드 (요청 본문이 파일 내용, Content-Type은 파일 형식)
+     *
+     * 본문을 메모리에 모으지 않고 저장소로 바로 전달한다. 응답은 등록과 같다 (202).
+     */
+    @PostMapping("/users/{userId}/contracts/upload")
+    public ResponseEntity<ApiResponse<ContractStatusResponse>> uploadContract(
+            @EntityIdPath(EntityIdType.USER) String userId,
+            @RequestParam String title,
+            HttpServletRequest request) throws IOException {
+
+        ContractStatusResponse response = contractPipelineService.upload(userId, title,
+            request.getContentType(), request.getContentLengthLong(), request.getInputStream());
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+            .body(ApiResponse.success(response, DocumentProcessSuccessCode.CONTRACT_ACCEPTED));
+    }
+
+    /**
+     * 계약서 개정 (처리가 끝난 계약서만, 분석은 바뀐 조항만 다시 하며 분석 ID는 유지)
+     */
+    @PutMapping("/contracts/{contractId}")
+    public ResponseEntity<ApiResponse<ContractStatusResponse>> reviseContract(
+            @EntityIdPath(EntityIdType.CONTRACT) String contractId,
+            @Valid @RequestBody CreateContractRequest request) {
+
+        ContractStatusResponse response = contractPipelineService.revise(contractId, request);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+            .body(ApiResponse.success(response, DocumentProcessSuccessCode.CONTRACT_REVISION_ACCEPTED));
+    }
+
+    /**
+     * 계약서 처리 상태 조회
+     */
+    @GetMapping("/contracts/{contractId}/status")
+    public ResponseEntity<ApiResponse<ContractStatusResponse>> getContractStatus(
+            @EntityIdPath(EntityIdType.CONTRACT) String contractId) {
+
+        ContractStatusResponse response = contractPipelineService.getStatus(contractId);
+
+        return ResponseEntity.ok(ApiResponse.success(response, DocumentProcessSuccessCode.CONTRACT_STATUS_RETRIEVED));
+    }
+
+    /**
+     * 계약서 처리 진행 스트림 (SSE, 현재 상태를 먼저 보내고 단계 변경/독소 조항을 발생하는 대로 전송)
+     *
+     * 처리가 끝나면 서버가 연결을 닫는다. 상태 조회를 반복하는 대신 사용한다.
+     */
+    @GetMapping(value = "/contracts/{contractId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamContractProgress(@EntityIdPath(EntityIdType.CONTRACT) String contractId) {
+        return contractProgressService.subscribe(contractId);
+    }
+
+    /**
+     * 계약서 OCR 본문 한 페이지 조회 (1페이지부터)
+     */
+    @GetMapping("/contracts/{contractId}/ocr/pages/{pageNo}")
+    public ResponseEntity<ApiResponse<OcrPageResponse>> getOcrPage(
+            @EntityIdPath(EntityIdType.CONTRACT) String contractId,
+            @PathVariable int pageNo) {
+
+        OcrPageResponse response = contractPipelineService.getOcrPage(contractId, pageNo);
+
+        return ResponseEntity.ok(ApiResponse.success(response, DocumentProcessSuccessCode.OCR_PAGE_RETRIEVED));
+    }
+
+    /**
+     * 사용자 계약서 목록 (커서 페이징)
+     */
+    @GetMapping("/users/{userId}/contracts")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ContractResponse>>> getContracts(
+            @EntityIdPath(EntityIdType.USER) String userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        CursorPageResponse<ContractResponse> response = contractService.getContracts(userId, cursor, size, includeTotal);
+
+        return ResponseEntity.ok(ApiResponse.success(response, SuccessCode.LIST_RETRIEVED));
+    }
+
+    /**
+     * 사용자 계약서 목록 (페이지 번호 방식, 전체 개수는 추정값일 수 있음)
+     */
+    @GetMapping("/users/{userId}/contracts/pages")
+    public ResponseEntity<ApiResponse<PageResponse<ContractResponse>>> getContractPage(
+            @EntityIdPath(EntityIdType.USER) String userId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        PageResponse<ContractResponse> response = contractService.getContractPage(userId, page, size);
+
+        return ResponseEntity.ok(ApiResponse.success(response, SuccessCode.LIST_RETRIEVED));
+    }
+
+    /**
+     * 분석별 독소 조항 목록 (커서 페이징)
+     */
+    @GetMapping("/analyses/{analysisId}/toxic-clauses")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ToxicClauseResponse>>> getToxicClauses(
+            @EntityIdPath(EntityIdType.ANALYSIS) String analysisId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        CursorPageResponse<ToxicClauseResponse> response =
+            contractService.getToxicClauses(analysisId, cursor, size, includeTotal);
+
+        return ResponseEntity.ok(ApiResponse.success(response, SuccessCode.LIST_RETRIEVED));
+    }
+}
@@ -0,0 +1,101 @@
+package com.sbpb.ddobak.server.domain.documentProcess.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sbpb.ddobak.server.domain.documentProcess.client.AnalysisResult;
+import com.sbpb.ddobak.server.domain.documentProcess.entity.ContractStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계약서 처리 진행 이벤트 (SSE 이벤트 이름은 type)
+ *
+ * 분석 중 독소 조항(TOXIC_CLAUSE_DETECTED)은 저장 전 잠정 결과이므로 ID가 없으며,
+ * ANALYZED 이후 분석 ID로 조회한 목록이 최종 결과다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ContractProgressEvent {
+
+    private Type type;
+    private String contractId;
+    private ContractStatus status;
+    private String analysisId;
+    private Integer completedParts;
+    private Integer totalParts;
+    private String clause;
+    private String reason;
+    private String sourceContractTag;
+    private Integer warnLevel;
+    private String failureReason;
+    private LocalDateTime occurredAt;
+
+    public enum Type {
+        UPLOADED,
+        OCR_COMPLETED,
+        ANALYSIS_PROGRESS,
+        TOXIC_CLAUSE_DETECTED,
+        ANALYZED,
+        FAILED;
+
+        /**
+         * 마지막 이벤트 여부 (이후 구독을 끝냄)
+         */
+        public boolean isTerminal() {
+            return this == ANALYZED || this == FAILED;
+        }
+    }
+
+    public static ContractProgressEvent uploaded(String contractId) {
+        return of(Type.UPLOADED, contractId, ContractStatus.UPLOADED).build();
+    }
+
+    public static ContractProgressEvent ocrCompleted(String contractId) {
+        return of(Type.OCR_COMPLETED, contractId, ContractStatus.OCR_COMPLETED).build();
+    }
+
+    /**
+     * 분석 진행률 (여러 페이지이면 페이지, 개정 재분석이면 바뀐 조항 단위)
+     */
+    public static ContractProgressEvent analysisProgress(String contractId, int completedParts, int totalParts) {
+        return of(Type.ANALYSIS_PROGRESS, contractId, ContractStatus.OCR_COMPLETED)
+            .completedParts(completedParts)
+            .totalParts(totalParts)
+            .build();
+    }
+
+    public static ContractProgressEvent toxicClauseDetected(String contractId, AnalysisResult.DetectedClause clause) {
+        return of(Type.TOXIC_CLAUSE_DETECTED, contractId, ContractStatus.OCR_COMPLETED)
+            .clause(clause.clause())
+            .reason(clause.reason())
+            .sourceContractTag(clause.sourceContractTag())
+            .warnLevel(clause.warnLevel())
+            .build();
+    }
+
+    public static ContractProgressEvent analyzed(String contractId, String analysisId) {
+        return of(Type.ANALYZED, contractId, ContractStatus.ANALYZED)
+            .analysisId(analysisId)
+            .build();
+    }
+
+    public static ContractProgressEvent failed(String contractId, String failureReason) {
+        return of(Type.FAILED, contractId, ContractStatus.FAILED)
+            .failureReason(failureReason)
+            .build();
+    }
+
+    private static ContractProgressEventBuilder of(Type type, String contractId, ContractStatus status) {
+        return ContractProgressEvent.builder()
+            .type(type)
+            .contractId(contractId)
+            .status(status)
+            .occurredAt(LocalDateTime.now());
+    }
+}
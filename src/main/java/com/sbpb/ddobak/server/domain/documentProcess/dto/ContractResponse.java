@@ -0,0 +1,41 @@
+package com.sbpb.ddobak.server.domain.documentProcess.dto;
+
+import com.sbpb.ddobak.server.domain.documentProcess.entity.Contract;
+import com.sbpb.ddobak.server.domain.documentProcess.entity.ContractStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계약서 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContractResponse {
+
+    private String id;
+    private String userId;
+    private String title;
+    private String imgUrl;
+    private LocalDateTime createdAt;
+    private ContractStatus status;
+
+    /**
+     * Contract 엔티티를 ContractResponse로 변환
+     */
+    public static ContractResponse from(Contract contract) {
+        return ContractResponse.builder()
+            .id(contract.getId())
+            .userId(contract.getUserId())
+            .title(contract.getTitle())
+            .imgUrl(contract.getImgUrl())
+            .createdAt(contract.getCreatedAt())
+            .status(contract.getStatus())
+            .build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.sbpb.ddobak.server.domain.documentProcess.dto;
+
+import com.sbpb.ddobak.server.domain.documentProcess.entity.Contract;
+import com.sbpb.ddobak.server.domain.documentProcess.entity.ContractStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계약서 처리 상태 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContractStatusResponse {
+
+    private String contractId;
+    private ContractStatus status;
+    private String analysisId;
+    private String failureReason;
+    private LocalDateTime updatedAt;
+
+    /**
+     * Contract 엔티티를 ContractStatusResponse로 변환
+     *
+     * @param analysisId 분석 완료 시 분석 결과 ID (없으면 null)
+     */
+    public static ContractStatusResponse from(Contract contract, String analysisId) {
+        return ContractStatusResponse.builder()
+            .contractId(contract.getId())
+            .status(contract.getStatus())
+            .analysisId(analysisId)
+            .failureReason(contract.getFailureReason())
+            .updatedAt(contract.getStatusUpdatedAt())
+            .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.sbpb.ddobak.server.domain.documentProcess.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계약서 등록 요청 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateContractRequest {
+
+    @NotBlank(message = "Title is required")
+    @Size(max = 100, message = "Title must not exceed 100 characters")
+    private String title;
+
+    @NotBlank(message = "Image URL is required")
+    @Size(max = 255, message = "Image URL must not exceed 255 characters")
+    private String imgUrl;
+
+    /**
+     * 여러 페이지 계약서의 두 번째 페이지부터의 이미지 (순서대로, 없으면 한 페이지)
+     */
+    @Size(max = 99, message = "A contract must not exceed 100 pages")
+    private List<@NotBlank(message = "Page image URL is required")
+                 @Size(max = 255, message = "Image URL must not exceed 255 characters") String> additionalPageUrls;
+
+    /**
+     * 전체 페이지 이미지 (첫 페이지 포함)
+     */
+    public List<String> pageUrls() {
+        if (additionalPageUrls == null || additionalPageUrls.isEmpty()) {
+            return List.of(imgUrl);
+        }
+        List<String> pages = new ArrayList<>(additionalPageUrls.size() + 1);
+        pages.add(imgUrl);
+        pages.addAll(additionalPageUrls);
+        return pages;
+    }
+}
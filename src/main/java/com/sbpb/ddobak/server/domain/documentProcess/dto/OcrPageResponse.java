@@ -0,0 +1,33 @@
+package com.sbpb.ddobak.server.domain.documentProcess.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 계약서 OCR 본문 페이지 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OcrPageResponse {
+
+    private String contractId;
+    private int pageNo;
+    private int pageCount;
+    private String content;
+
+    /**
+     * OCR 페이지 본문으로 OcrPageResponse 생성
+     */
+    public static OcrPageResponse of(String contractId, int pageNo, String content, int pageCount) {
+        return OcrPageResponse.builder()
+            .contractId(contractId)
+            .pageNo(pageNo)
+            .pageCount(pageCount)
+            .content(content)
+            .build();
+    }
+}
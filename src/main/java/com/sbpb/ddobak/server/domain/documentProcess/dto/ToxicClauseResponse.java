@@ -0,0 +1,38 @@
+package com.sbpb.ddobak.server.domain.documentProcess.dto;
+
+import com.sbpb.ddobak.server.domain.documentProcess.entity.ToxicClause;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 독소 조항 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ToxicClauseResponse {
+
+    private String id;
+    private String analysisId;
+    private String clause;
+    private String reason;
+    private String sourceContractTag;
+    private Integer warnLevel;
+
+    /**
+     * ToxicClause 엔티티를 ToxicClauseResponse로 변환
+     */
+    public static ToxicClauseResponse from(ToxicClause toxicClause) {
+        return ToxicClauseResponse.builder()
+            .id(toxicClause.getId())
+            .analysisId(toxicClause.getAnalysisId())
+            .clause(toxicClause.getClause())
+            .reason(toxicClause.getReason())
+            .sourceContractTag(toxicClause.getSourceContractTag())
+            .warnLevel(toxicClause.getWarnLevel())
+            .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.sbpb.ddobak.server.domain.documentProcess.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * 분석한 조항 엔티티 (분석 결과에 반영된 조항 해시, 개정 시 바뀐 조항 판단용)
+ *
+ * 독소 조항이 없는 조항도 기록하며, 독소 조항은 ToxicClause.segmentHash로 조항에 연결된다.
+ */
+@Entity
+@Table(name = "analysis_segments")
+@IdClass(AnalysisSegment.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AnalysisSegment {
+
+    @Id
+    @Column(name = "analysis_id")
+    private String analysisId;
+
+    @Id
+    @Column(name = "segment_hash", length = 64)
+    private String segmentHash;
+
+    @Builder
+    public AnalysisSegment(String analysisId, String segmentHash) {
+        this.analysisId = analysisId;
+        this.segmentHash = segmentHash;
+    }
+
+    /**
+     * 복합 키 (분석 ID, 조항 해시)
+     */
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+
+        private String analysisId;
+        private String segmentHash;
+
+        public Key(String analysisId, String segmentHash) {
+            this.analysisId = analysisId;
+            this.segmentHash = segmentHash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key key)) {
+                return false;
+            }
+            return Objects.equals(analysisId, key.analysisId) && Objects.equals(segmentHash, key.segmentHash);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(analysisId, segmentHash);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.sbpb.ddobak.server.domain.documentProcess.entity;
 
+import com.sbpb.ddobak.server.domain.documentProcess.entity.listener.DocumentCountListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -12,7 +13,11 @@ import java.time.LocalDateTime;
  * 계약서 엔티티
  */
 @Entity
-@Table(name = "contracts")
+@EntityListeners(DocumentCountListener.class)
+@Table(name = "contracts", indexes = {
+    // 사용자별 최신순 커서 페이징 (user_id, created_at desc, id desc)
+    @Index(name = "idx_contracts_user_created", columnList = "user_id, created_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Contract {
@@ -28,17 +33,34 @@ public class Contract {
     private String title;
 
     @Column(name = "img_url", nullable = false)
-    private String imgUrl;
+    private String imgUrl; // 첫 페이지 이미지
+
+    @Column(name = "page_count", nullable = false)
+    private int pageCount; // 2 이상이면 페이지별 이미지는 contract_pages
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash; // 이미지 원본 SHA-256 (OCR 전에 계산)
 
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ContractStatus status;
+
+    @Column(name = "status_updated_at", nullable = false)
+    private LocalDateTime statusUpdatedAt;
+
+    @Column(name = "failure_reason")
+    private String failureReason;
+
     @Builder
-    public Contract(String id, String userId, String title, String imgUrl, LocalDateTime createdAt) {
+    public Contract(String id, String userId, String title, String imgUrl, int pageCount, LocalDateTime createdAt) {
         this.id = id;
         this.userId = userId;
         this.title = title;
         this.imgUrl = imgUrl;
+        this.pageCount = pageCount;
         this.createdAt = createdAt;
     }
 
@@ -47,5 +69,67 @@ public class Contract {
         if (createdAt == null) {
             createdAt = LocalDateTime.now();
         }
+        if (pageCount < 1) {
+            pageCount = 1;
+        }
+        if (status == null) {
+            status = ContractStatus.UPLOADED;
+        }
+        if (statusUpdatedAt == null) {
+            statusUpdatedAt = createdAt;
+        }
+    }
+
+    /**
+     * 여러 페이지 계약서 여부
+     */
+    public boolean isMultiPage() {
+        return pageCount > 1;
+    }
+
+    /**
+     * 개정본으로 교체 (처음부터 다시 처리)
+     */
+    public void revise(String title, String imgUrl, int pageCount) {
+        this.title = title;
+        this.imgUrl = imgUrl;
+        this.pageCount = pageCount;
+        this.contentHash = null;
+        this.failureReason = null;
+        changeStatus(ContractStatus.UPLOADED);
+    }
+
+    /**
+     * 이미지 원본 해시 기록
+     */
+    public void assignContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    /**
+     * OCR 완료 처리
+     */
+    public void markOcrCompleted() {
+        changeStatus(ContractStatus.OCR_COMPLETED);
+    }
+
+    /**
+     * 분석 완료 처리
+     */
+    public void markAnalyzed() {
+        changeStatus(ContractStatus.ANALYZED);
+    }
+
+    /**
+     * 처리 실패 처리
+     */
+    public void markFailed(String reason) {
+        changeStatus(ContractStatus.FAILED);
+        this.failureReason = reason != null && reason.length() > 255 ? reason.substring(0, 255) : reason;
+    }
+
+    private void changeStatus(ContractStatus status) {
+        this.status = status;
+        this.statusUpdatedAt = LocalDateTime.now();
     }
 } 
\ No newline at end of file
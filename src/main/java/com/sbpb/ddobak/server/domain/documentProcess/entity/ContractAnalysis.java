@@ -27,6 +27,9 @@ public class ContractAnalysis {
     @Column(name = "summary", columnDefinition = "TEXT")
     private String summary;
 
+    @Column(name = "model_version", length = 50)
+    private String modelVersion; // 분석 모델 버전 (재분석 필요 여부 판단)
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
@@ -38,11 +41,12 @@ public class ContractAnalysis {
     private Contract contract;
 
     @Builder
-    public ContractAnalysis(String id, String contractId, String summary, 
+    public ContractAnalysis(String id, String contractId, String summary, String modelVersion,
                            LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.contractId = contractId;
         this.summary = summary;
+        this.modelVersion = modelVersion;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
@@ -0,0 +1,77 @@
+package com.sbpb.ddobak.server.domain.documentProcess.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * 계약서 OCR 결과 페이지 엔티티 (본문을 페이지별로 압축 저장)
+ *
+ * OCR 결과를 조회해도 본문은 읽지 않으며, 필요한 페이지만 따로 읽는다.
+ */
+@Entity
+@Table(name = "contract_ocr_pages")
+@IdClass(ContractOcrPage.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ContractOcrPage {
+
+    @Id
+    @Column(name = "ocr_result_id")
+    private String ocrResultId;
+
+    @Id
+    @Column(name = "page_no")
+    private int pageNo; // 1부터 시작
+
+    @Lob
+    @Column(name = "content", nullable = false)
+    private byte[] content; // UTF-8 + Deflate
+
+    @Column(name = "char_count", nullable = false)
+    private int charCount;
+
+    @Builder
+    public ContractOcrPage(String ocrResultId, int pageNo, byte[] content, int charCount) {
+        this.ocrResultId = ocrResultId;
+        this.pageNo = pageNo;
+        this.content = content;
+        this.charCount = charCount;
+    }
+
+    /**
+     * 복합 키 (OCR 결과 ID, 페이지 번호)
+     */
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+
+        private String ocrResultId;
+        private int pageNo;
+
+        public Key(String ocrResultId, int pageNo) {
+            this.ocrResultId = ocrResultId;
+            this.pageNo = pageNo;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key key)) {
+                return false;
+            }
+            return pageNo == key.pageNo && Objects.equals(ocrResultId, key.ocrResultId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(ocrResultId, pageNo);
+        }
+    }
+}
@@ -10,9 +10,15 @@ import java.time.LocalDateTime;
 
 /**
  * 계약서 OCR 결과 엔티티
+ *
+ * 본문은 페이지별로 압축하여 contract_ocr_pages에 저장하며 (OcrContentStore),
+ * 이 엔티티를 조회할 때는 읽지 않는다.
  */
 @Entity
-@Table(name = "contract_ocr_results")
+@Table(name = "contract_ocr_results", indexes = {
+    // 같은 이미지의 기존 OCR 결과 재사용 (OcrResultCache 영구 조회)
+    @Index(name = "idx_ocr_results_content_hash", columnList = "content_hash, created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ContractOcrResult {
@@ -24,8 +30,14 @@ public class ContractOcrResult {
     @Column(name = "contract_id", nullable = false)
     private String contractId;
 
-    @Column(name = "origin_content", columnDefinition = "TEXT")
-    private String originContent; // 저장 형식 확정되고 최종 결정
+    @Column(name = "page_count", nullable = false)
+    private int pageCount; // contract_ocr_pages에 저장한 페이지 수
+
+    @Column(name = "content_length")
+    private Integer contentLength; // 본문 전체 글자 수
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash; // 이미지 원본 SHA-256 (계산하지 못한 경우 null)
 
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
@@ -35,10 +47,13 @@ public class ContractOcrResult {
     private Contract contract;
 
     @Builder
-    public ContractOcrResult(String id, String contractId, String originContent, LocalDateTime createdAt) {
+    public ContractOcrResult(String id, String contractId, int pageCount,
+                             Integer contentLength, String contentHash, LocalDateTime createdAt) {
         this.id = id;
         this.contractId = contractId;
-        this.originContent = originContent;
+        this.pageCount = pageCount;
+        this.contentLength = contentLength;
+        this.contentHash = contentHash;
         this.createdAt = createdAt;
     }
 
@@ -0,0 +1,72 @@
+package com.sbpb.ddobak.server.domain.documentProcess.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * 계약서 페이지 엔티티 (여러 페이지 계약서의 페이지별 이미지)
+ *
+ * 한 페이지 계약서는 페이지 행 없이 Contract.imgUrl만 사용한다.
+ */
+@Entity
+@Table(name = "contract_pages")
+@IdClass(ContractPage.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ContractPage {
+
+    @Id
+    @Column(name = "contract_id")
+    private String contractId;
+
+    @Id
+    @Column(name = "page_no")
+    private int pageNo; // 1부터 시작
+
+    @Column(name = "img_url", nullable = false)
+    private String imgUrl;
+
+    @Builder
+    public ContractPage(String contractId, int pageNo, String imgUrl) {
+        this.contractId = contractId;
+        this.pageNo = pageNo;
+        this.imgUrl = imgUrl;
+    }
+
+    /**
+     * 복합 키 (계약서 ID, 페이지 번호)
+     */
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+
+        private String contractId;
+        private int pageNo;
+
+        public Key(String contractId, int pageNo) {
+            this.contractId = contractId;
+            this.pageNo = pageNo;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key key)) {
+                return false;
+            }
+            return pageNo == key.pageNo && Objects.equals(contractId, key.contractId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(contractId, pageNo);
+        }
+    }
+}
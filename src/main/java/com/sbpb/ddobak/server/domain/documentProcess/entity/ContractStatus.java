@@ -0,0 +1,22 @@
+package com.sbpb.ddobak.server.domain.documentProcess.entity;
+
+/**
+ * 계약서 처리 상태
+ *
+ * UPLOADED → OCR_COMPLETED → ANALYZED 순서로 진행하며, 어느 단계든 재시도를 모두 실패하면 FAILED
+ * 처리가 끝난 계약서를 개정하면 다시 UPLOADED부터 진행한다.
+ */
+public enum ContractStatus {
+
+    UPLOADED,
+    OCR_COMPLETED,
+    ANALYZED,
+    FAILED;
+
+    /**
+     * 처리가 끝난 상태 여부
+     */
+    public boolean isTerminal() {
+        return this == ANALYZED || this == FAILED;
+    }
+}
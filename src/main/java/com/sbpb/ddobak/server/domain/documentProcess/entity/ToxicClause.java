@@ -1,5 +1,6 @@
 package com.sbpb.ddobak.server.domain.documentProcess.entity;
 
+import com.sbpb.ddobak.server.domain.documentProcess.entity.listener.DocumentCountListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -10,7 +11,13 @@ import lombok.NoArgsConstructor;
  * 독소 조항 엔티티
  */
 @Entity
-@Table(name = "toxic_clauses")
+@EntityListeners(DocumentCountListener.class)
+@Table(name = "toxic_clauses", indexes = {
+    // 분석별 id 순 커서 페이징
+    @Index(name = "idx_toxic_clauses_analysis", columnList = "analysis_id, id"),
+    // 개정 시 바뀐 조항의 독소 조항 삭제
+    @Index(name = "idx_toxic_clauses_segment", columnList = "analysis_id, segment_hash")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ToxicClause {
@@ -34,18 +41,22 @@ public class ToxicClause {
     @Column(name = "warn_level", nullable = false)
     private Integer warnLevel; // 일단 저장해 둬야 나중에 유연한 대응 가능할 듯
 
+    @Column(name = "segment_hash", length = 64)
+    private String segmentHash; // 이 조항이 속한 본문 조항 (AnalysisSegment), 개정 시 그대로 유지할지 판단
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "analysis_id", insertable = false, updatable = false)
     private ContractAnalysis contractAnalysis;
 
     @Builder
-    public ToxicClause(String id, String analysisId, String clause, String reason, 
-                      String sourceContractTag, Integer warnLevel) {
+    public ToxicClause(String id, String analysisId, String clause, String reason,
+                      String sourceContractTag, Integer warnLevel, String segmentHash) {
         this.id = id;
         this.analysisId = analysisId;
         this.clause = clause;
         this.reason = reason;
         this.sourceContractTag = sourceContractTag;
         this.warnLevel = warnLevel;
+        this.segmentHash = segmentHash;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.sbpb.ddobak.server.domain.documentProcess.entity.listener;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.sbpb.ddobak.server.common.utils.count.CountCache;
+import com.sbpb.ddobak.server.domain.documentProcess.entity.Contract;
+import com.sbpb.ddobak.server.domain.documentProcess.entity.ToxicClause;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 계약서/독소 조항 추가·삭제 시 목록 개수 캐시 갱신 (JPA 엔티티 리스너)
+ *
+ * 트랜잭션 안에서는 커밋된 뒤에만 반영한다.
+ * JPQL 벌크 삭제처럼 리스너를 거치지 않는 변경은 CountCache의 maxStaleness 이후 바로잡힌다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DocumentCountListener {
+
+    private final CountCache countCache;
+
+    /**
+     * 사용자별 계약서 수 키
+     */
+    public static String contractsOfUser(String userId) {
+        return "contract:user:" + userId;
+    }
+
+    /**
+     * 분석별 독소 조항 수 키
+     */
+    public static String toxicClausesOfAnalysis(String analysisId) {
+        return "toxic_clause:analysis:" + analysisId;
+    }
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        adjustAfterCommit(keyOf(entity), 1);
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        adjustAfterCommit(keyOf(entity), -1);
+    }
+
+    private String keyOf(Object entity) {
+        if (entity instanceof Contract contract) {
+            return contractsOfUser(contract.getUserId());
+        }
+        if (entity instanceof ToxicClause toxicClause) {
+            return toxicClausesOfAnalysis(toxicClause.getAnalysisId());
+        }
+        throw new IllegalArgumentException("Unsupported entity for count cache: " + entity.getClass().getName());
+    }
+
+    private void adjustAfterCommit(String key, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            countCache.adjust(key, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                countCache.adjust(key, delta);
+            }
+        });
+    }
+}
@@ -0,0 +1,85 @@
+package com.sbpb.ddobak.server.domain.documentProcess.exception;
+
+/**
+ * OCR/계약서 분석 예외 (3200-3399)
+ */
+public final class ContractAnalysisExceptions {
+
+    private ContractAnalysisExceptions() {
+    }
+
+    /**
+     * OCR 처리 실패 예외
+     */
+    public static OcrFailedException ocrFailed(String contractId, Throwable cause) {
+        return new OcrFailedException(contractId, cause);
+    }
+
+    /**
+     * OCR 결과 없음 예외
+     */
+    public static OcrResultNotFoundException ocrResultNotFound(String contractId) {
+        return new OcrResultNotFoundException(contractId);
+    }
+
+    /**
+     * OCR 페이지 없음 예외
+     */
+    public static OcrPageNotFoundException ocrPageNotFound(String contractId, int pageNo) {
+        return new OcrPageNotFoundException(contractId, pageNo);
+    }
+
+    /**
+     * 분석 실패 예외
+     */
+    public static AnalysisFailedException analysisFailed(String contractId, Throwable cause) {
+        return new AnalysisFailedException(contractId, cause);
+    }
+
+    /**
+     * OCR 처리에 실패했을 때 발생하는 예외
+     */
+    public static class OcrFailedException extends DocumentProcessBusinessException {
+
+        public OcrFailedException(String contractId, Throwable cause) {
+            super(DocumentProcessErrorCode.OCR_PROCESSING_FAILED,
+                    "OCR processing failed for contract: " + contractId, cause);
+            addProperty("contractId", contractId);
+        }
+    }
+
+    /**
+     * 분석할 OCR 결과가 없을 때 발생하는 예외
+     */
+    public static class OcrResultNotFoundException extends DocumentProcessBusinessException {
+
+        public OcrResultNotFoundException(String contractId) {
+            super(DocumentProcessErrorCode.OCR_RESULT_NOT_FOUND, "OCR result not found for contract: " + contractId);
+            addProperty("contractId", contractId);
+        }
+    }
+
+    /**
+     * 요청한 OCR 페이지가 없을 때 발생하는 예외
+     */
+    public static class OcrPageNotFoundException extends DocumentProcessBusinessException {
+
+        public OcrPageNotFoundException(String contractId, int pageNo) {
+            super(DocumentProcessErrorCode.OCR_PAGE_NOT_FOUND,
+                    "OCR page " + pageNo + " not found for contract: " + contractId);
+            addProperty("contractId", contractId);
+            addProperty("pageNo", pageNo);
+        }
+    }
+
+    /**
+     * 계약서 분석에 실패했을 때 발생하는 예외
+     */
+    public static class AnalysisFailedException extends DocumentProcessBusinessException {
+
+        public AnalysisFailedException(String contractId, Throwable cause) {
+            super(DocumentProcessErrorCode.ANALYSIS_FAILED, "Contract analysis failed for contract: " + contractId, cause);
+            addProperty("contractId", contractId);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.sbpb.ddobak.server.domain.documentProcess.exception;
+
+/**
+ * 계약서 업로드/조회 예외 (3100-3199)
+ */
+public final class ContractExceptions {
+
+    private ContractExceptions() {
+    }
+
+    /**
+     * 계약서 없음 예외
+     */
+    public static ContractNotFoundException notFound(String contractId) {
+        return new ContractNotFoundException(contractId);
+    }
+
+    /**
+     * 처리 중인 계약서 예외
+     */
+    public static ContractProcessingInProgressException processingInProgress(String contractId) {
+        return new ContractProcessingInProgressException(contractId);
+    }
+
+    /**
+     * 지원하지 않는 파일 형식 예외
+     */
+    public static UnsupportedFileTypeException unsupportedFileType(String contentType) {
+        return new UnsupportedFileTypeException(contentType);
+    }
+
+    /**
+     * 파일 크기 초과 예외
+     */
+    public static FileTooLargeException fileTooLarge(long maxBytes) {
+        return new FileTooLargeException(maxBytes);
+    }
+
+    /**
+     * 계약서를 찾을 수 없을 때 발생하는 예외
+     */
+    public static class ContractNotFoundException extends DocumentProcessBusinessException {
+
+        public ContractNotFoundException(String contractId) {
+            super(DocumentProcessErrorCode.CONTRACT_NOT_FOUND, "Contract not found with id: " + contractId);
+            addProperty("contractId", contractId);
+        }
+    }
+
+    /**
+     * 처리가 끝나지 않은 계약서를 개정하려 할 때 발생하는 예외
+     */
+    public static class ContractProcessingInProgressException extends DocumentProcessBusinessException {
+
+        public ContractProcessingInProgressException(String contractId) {
+            super(DocumentProcessErrorCode.CONTRACT_PROCESSING_IN_PROGRESS,
+                    "Contract is still being processed: " + contractId);
+            addProperty("contractId", contractId);
+        }
+    }
+
+    /**
+     * 업로드한 파일 형식을 지원하지 않을 때 발생하는 예외
+     */
+    public static class UnsupportedFileTypeException extends DocumentProcessBusinessException {
+
+        public UnsupportedFileTypeException(String contentType) {
+            super(DocumentProcessErrorCode.UNSUPPORTED_FILE_TYPE, "Unsupported contract file type: " + contentType);
+            addProperty("contentType", contentType);
+        }
+    }
+
+    /**
+     * 업로드한 파일이 허용 크기를 넘을 때 발생하는 예외
+     */
+    public static class FileTooLargeException extends DocumentProcessBusinessException {
+
+        public FileTooLargeException(long maxBytes) {
+            super(DocumentProcessErrorCode.CONTRACT_FILE_TOO_LARGE, "Contract file exceeds " + maxBytes + " bytes");
+            addProperty("maxBytes", maxBytes);
+        }
+    }
+}
@@ -3,7 +3,9 @@ package com.sbpb.ddobak.server.domain.documentProcess.exception;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.sbpb.ddobak.server.common.exception.StackTracePolicy;
 import com.sbpb.ddobak.server.common.utils.IdGenerator;
+import com.sbpb.ddobak.server.common.utils.trace.TraceContext;
 
 /**
  * DocumentProcess 도메인 전용 비즈니스 예외
@@ -11,37 +13,34 @@ import com.sbpb.ddobak.server.common.utils.IdGenerator;
 public abstract class DocumentProcessBusinessException extends RuntimeException {
 
     private final DocumentProcessErrorCode errorCode;
-    private final String traceId;
-    private final Map<String, Object> properties;
+    private String traceId;
+    private Map<String, Object> properties;
 
     /**
      * 기본 생성자 - 에러 코드의 기본 메시지 사용
      */
     protected DocumentProcessBusinessException(DocumentProcessErrorCode errorCode) {
-        super(errorCode.getMessage());
+        super(errorCode.getMessage(), null, true, StackTracePolicy.shouldCapture(errorCode.getHttpStatus()));
         this.errorCode = errorCode;
-        this.traceId = IdGenerator.generateTraceId();
-        this.properties = new HashMap<>();
+        this.traceId = TraceContext.current();
     }
 
     /**
      * 커스텀 메시지를 사용하는 생성자
      */
     protected DocumentProcessBusinessException(DocumentProcessErrorCode errorCode, String message) {
-        super(message);
+        super(message, null, true, StackTracePolicy.shouldCapture(errorCode.getHttpStatus()));
         this.errorCode = errorCode;
-        this.traceId = IdGenerator.generateTraceId();
-        this.properties = new HashMap<>();
+        this.traceId = TraceContext.current();
     }
 
     /**
      * 원인 예외를 포함하는 생성자
      */
     protected DocumentProcessBusinessException(DocumentProcessErrorCode errorCode, String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, true, StackTracePolicy.shouldCapture(errorCode.getHttpStatus()));
         this.errorCode = errorCode;
-        this.traceId = IdGenerator.generateTraceId();
-        this.properties = new HashMap<>();
+        this.traceId = TraceContext.current();
     }
 
     /**
@@ -53,8 +52,12 @@ public abstract class DocumentProcessBusinessException extends RuntimeException
 
     /**
      * 추적 ID 반환
+     * 요청 밖에서 생성된 예외는 처음 조회할 때 새로 발급
      */
     public String getTraceId() {
+        if (traceId == null) {
+            traceId = IdGenerator.generateTraceId();
+        }
         return traceId;
     }
 
@@ -62,14 +65,17 @@ public abstract class DocumentProcessBusinessException extends RuntimeException
      * 추가 속성 맵 반환 (읽기 전용)
      */
     public Map<String, Object> getProperties() {
-        return new HashMap<>(properties);
+        return properties == null ? Map.of() : new HashMap<>(properties);
     }
 
     /**
      * 디버깅용 추가 속성 설정
      */
     public DocumentProcessBusinessException addProperty(String key, Object value) {
-        this.properties.put(key, value);
+        if (properties == null) {
+            properties = new HashMap<>();
+        }
+        properties.put(key, value);
         return this;
     }
 
@@ -77,11 +83,11 @@ public abstract class DocumentProcessBusinessException extends RuntimeException
      * 로깅용 구조화된 메시지 생성
      */
     public String getLoggingMessage() {
-        StringBuilder sb = new StringBuilder();
-        sb.append(String.format("[%d] %s", errorCode.getCode(), getMessage()));
-        sb.append(String.format(" - TraceId: %s", traceId));
+        StringBuilder sb = new StringBuilder(128)
+                .append('[').append(errorCode.getCode()).append("] ").append(getMessage())
+                .append(" - TraceId: ").append(getTraceId());
 
-        if (!properties.isEmpty()) {
+        if (properties != null && !properties.isEmpty()) {
             sb.append(" - Properties: ").append(properties);
         }
 
@@ -92,6 +98,6 @@ public abstract class DocumentProcessBusinessException extends RuntimeException
      * 간단한 정보 반환 (민감하지 않은 정보만)
      */
     public String getSimpleMessage() {
-        return String.format("Error %d: %s", errorCode.getCode(), getMessage());
+        return "Error " + errorCode.getCode() + ": " + getMessage();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.sbpb.ddobak.server.domain.documentProcess.exception;
+
+import org.springframework.http.HttpStatus;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * DocumentProcess 도메인 에러 코드 (3100-3399)
+ *
+ * 세부 분류:
+ * - 3100-3199: 계약서 업로드/조회 에러
+ * - 3200-3299: OCR 처리 에러
+ * - 3300-3399: 계약서 분석 에러
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DocumentProcessErrorCode {
+
+    // ===== 3100-3199: 계약서 업로드/조회 에러 =====
+    INVALID_CONTRACT_FILE(HttpStatus.BAD_REQUEST, 3100, "Invalid contract file"),
+    UNSUPPORTED_FILE_TYPE(HttpStatus.BAD_REQUEST, 3101, "Unsupported file type"),
+    CONTRACT_FILE_TOO_LARGE(HttpStatus.BAD_REQUEST, 3102, "Contract file is too large"),
+    CONTRACT_NOT_FOUND(HttpStatus.NOT_FOUND, 3150, "Contract not found"),
+    CONTRACT_ACCESS_DENIED(HttpStatus.FORBIDDEN, 3160, "Access to contract denied"),
+    CONTRACT_PROCESSING_IN_PROGRESS(HttpStatus.CONFLICT, 3170, "Contract is still being processed"),
+
+    // ===== 3200-3299: OCR 처리 에러 =====
+    OCR_PROCESSING_FAILED(HttpStatus.BAD_GATEWAY, 3200, "OCR processing failed"),
+    OCR_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, 3201, "OCR processing timeout"),
+    OCR_RESULT_NOT_FOUND(HttpStatus.NOT_FOUND, 3250, "OCR result not found"),
+    OCR_PAGE_NOT_FOUND(HttpStatus.NOT_FOUND, 3251, "OCR page not found"),
+
+    // ===== 3300-3399: 계약서 분석 에러 =====
+    ANALYSIS_FAILED(HttpStatus.BAD_GATEWAY, 3300, "Contract analysis failed"),
+    ANALYSIS_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, 3301, "Contract analysis timeout"),
+    ANALYSIS_NOT_FOUND(HttpStatus.NOT_FOUND, 3350, "Contract analysis not found");
+
+    private final HttpStatus httpStatus;
+    private final int code;
+    private final String message;
+
+    /**
+     * HTTP 상태 코드 반환
+     */
+    public int getStatusCode() {
+        return httpStatus.value();
+    }
+}
@@ -0,0 +1,52 @@
+package com.sbpb.ddobak.server.domain.documentProcess.exception;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import com.sbpb.ddobak.server.common.response.ResponseTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DocumentProcess 도메인 예외 처리기
+ *
+ * GlobalExceptionHandler의 Exception 처리보다 먼저 적용되도록 우선순위를 높인다.
+ * 응답 형식은 공통 에러 응답과 같으며 코드만 3xxx를 사용한다.
+ */
+@RestControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class DocumentProcessExceptionHandler {
+
+    private static final Map<DocumentProcessErrorCode, ResponseTemplate> TEMPLATES = createTemplates();
+
+    @ExceptionHandler(DocumentProcessBusinessException.class)
+    public ResponseEntity<byte[]> handleDocumentProcessException(DocumentProcessBusinessException e) {
+        DocumentProcessErrorCode errorCode = e.getErrorCode();
+        if (errorCode.getHttpStatus().is5xxServerError()) {
+            log.error("Document process exception occurred: {}", e.getLoggingMessage(), e);
+        } else if (log.isWarnEnabled()) {
+            log.warn("Document process exception occurred: {}", e.getLoggingMessage());
+        }
+
+        return ResponseEntity
+            .status(errorCode.getHttpStatus())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(TEMPLATES.get(errorCode).render(e.getMessage()));
+    }
+
+    private static Map<DocumentProcessErrorCode, ResponseTemplate> createTemplates() {
+        Map<DocumentProcessErrorCode, ResponseTemplate> templates = new EnumMap<>(DocumentProcessErrorCode.class);
+        for (DocumentProcessErrorCode errorCode : DocumentProcessErrorCode.values()) {
+            templates.put(errorCode, ResponseTemplate.error(errorCode.getCode(), errorCode.getMessage()));
+        }
+        return templates;
+    }
+}
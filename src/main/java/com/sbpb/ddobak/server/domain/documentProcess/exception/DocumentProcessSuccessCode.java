@@ -0,0 +1,30 @@
+package com.sbpb.ddobak.server.domain.documentProcess.exception;
+
+import com.sbpb.ddobak.server.common.response.BaseSuccessCode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * DocumentProcess 도메인 성공 코드 (3000-3099)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DocumentProcessSuccessCode implements BaseSuccessCode {
+
+    CONTRACT_ACCEPTED(3000, "Contract accepted for processing"),
+    CONTRACT_REVISION_ACCEPTED(3001, "Contract revision accepted for processing"),
+    CONTRACT_STATUS_RETRIEVED(3010, "Contract status retrieved successfully"),
+    OCR_PAGE_RETRIEVED(3020, "OCR page retrieved successfully");
+
+    private final int code;
+    private final String message;
+
+    /**
+     * 문자열 형태의 성공 코드 반환
+     */
+    @Override
+    public String getCodeAsString() {
+        return String.valueOf(code);
+    }
+}
@@ -0,0 +1,26 @@
+package com.sbpb.ddobak.server.domain.documentProcess.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.sbpb.ddobak.server.domain.documentProcess.entity.AnalysisSegment;
+
+/**
+ * 분석한 조항 레포지토리
+ */
+@Repository
+public interface AnalysisSegmentRepository extends JpaRepository<AnalysisSegment, AnalysisSegment.Key> {
+
+    /**
+     * 분석 결과에 반영된 전체 조항
+     */
+    List<AnalysisSegment> findByAnalysisId(String analysisId);
+
+    /**
+     * 분석 결과에 반영된 조항 중 지정한 해시
+     */
+    List<AnalysisSegment> findByAnalysisIdAndSegmentHashIn(String analysisId, Collection<String> segmentHashes);
+}
@@ -0,0 +1,20 @@
+package com.sbpb.ddobak.server.domain.documentProcess.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.sbpb.ddobak.server.domain.documentProcess.entity.ContractAnalysis;
+
+/**
+ * 계약서 분석 결과 레포지토리
+ */
+@Repository
+public interface ContractAnalysisRepository extends JpaRepository<ContractAnalysis, String> {
+
+    /**
+     * 계약서의 최신 분석 결과 조회
+     */
+    Optional<ContractAnalysis> findFirstByContractIdOrderByCreatedAtDesc(String contractId);
+}
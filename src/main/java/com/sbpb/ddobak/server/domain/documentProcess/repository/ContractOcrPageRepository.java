@@ -0,0 +1,26 @@
+package com.sbpb.ddobak.server.domain.documentProcess.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.sbpb.ddobak.server.domain.documentProcess.entity.ContractOcrPage;
+
+/**
+ * 계약서 OCR 결과 페이지 레포지토리
+ */
+@Repository
+public interface ContractOcrPageRepository extends JpaRepository<ContractOcrPage, ContractOcrPage.Key> {
+
+    /**
+     * OCR 결과의 전체 페이지 (페이지 순)
+     */
+    List<ContractOcrPage> findByOcrResultIdOrderByPageNoAsc(String ocrResultId);
+
+    /**
+     * OCR 결과의 한 페이지
+     */
+    Optional<ContractOcrPage> findByOcrResultIdAndPageNo(String ocrResultId, int pageNo);
+}
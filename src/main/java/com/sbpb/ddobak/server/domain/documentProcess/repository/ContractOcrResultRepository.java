@@ -0,0 +1,25 @@
+package com.sbpb.ddobak.server.domain.documentProcess.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.sbpb.ddobak.server.domain.documentProcess.entity.ContractOcrResult;
+
+/**
+ * 계약서 OCR 결과 레포지토리
+ */
+@Repository
+public interface ContractOcrResultRepository extends JpaRepository<ContractOcrResult, String> {
+
+    /**
+     * 계약서의 최신 OCR 결과 조회
+     */
+    Optional<ContractOcrResult> findFirstByContractIdOrderByCreatedAtDesc(String contractId);
+
+    /**
+     * 같은 이미지의 최신 OCR 결과 조회
+     */
+    Optional<ContractOcrResult> findFirstByContentHashOrderByCreatedAtDesc(String contentHash);
+}
@@ -0,0 +1,20 @@
+package com.sbpb.ddobak.server.domain.documentProcess.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.sbpb.ddobak.server.domain.documentProcess.entity.ContractPage;
+
+/**
+ * 계약서 페이지 레포지토리
+ */
+@Repository
+public interface ContractPageRepository extends JpaRepository<ContractPage, ContractPage.Key> {
+
+    /**
+     * 계약서의 전체 페이지 (페이지 순)
+     */
+    List<ContractPage> findByContractIdOrderByPageNoAsc(String contractId);
+}
@@ -0,0 +1,48 @@
+package com.sbpb.ddobak.server.domain.documentProcess.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.sbpb.ddobak.server.domain.documentProcess.entity.Contract;
+
+/**
+ * 계약서 레포지토리
+ */
+@Repository
+public interface ContractRepository extends JpaRepository<Contract, String> {
+
+    /**
+     * 사용자 계약서 첫 페이지 (최신순)
+     */
+    @Query("select c from Contract c where c.userId = :userId order by c.createdAt desc, c.id desc")
+    List<Contract> findLatestByUserId(@Param("userId") String userId, Limit limit);
+
+    /**
+     * 사용자 계약서 다음 페이지 (커서 위치 이후, 최신순)
+     */
+    @Query("select c from Contract c where c.userId = :userId "
+            + "and (c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :id)) "
+            + "order by c.createdAt desc, c.id desc")
+    List<Contract> findLatestByUserIdBefore(@Param("userId") String userId,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") String id,
+                                            Limit limit);
+
+    /**
+     * 사용자 계약서 페이지 번호 조회 (COUNT 쿼리 없이 Slice로 조회)
+     */
+    Slice<Contract> findByUserIdOrderByCreatedAtDescIdDesc(String userId, Pageable pageable);
+
+    /**
+     * 사용자 계약서 수
+     */
+    long countByUserId(String userId);
+}
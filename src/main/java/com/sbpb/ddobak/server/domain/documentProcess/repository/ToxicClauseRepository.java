@@ -0,0 +1,37 @@
+package com.sbpb.ddobak.server.domain.documentProcess.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.sbpb.ddobak.server.domain.documentProcess.entity.ToxicClause;
+
+/**
+ * 독소 조항 레포지토리
+ */
+@Repository
+public interface ToxicClauseRepository extends JpaRepository<ToxicClause, String> {
+
+    /**
+     * 분석별 독소 조항 첫 페이지 (id 순)
+     */
+    List<ToxicClause> findByAnalysisIdOrderByIdAsc(String analysisId, Limit limit);
+
+    /**
+     * 분석별 독소 조항 다음 페이지 (커서 id 이후)
+     */
+    List<ToxicClause> findByAnalysisIdAndIdGreaterThanOrderByIdAsc(String analysisId, String id, Limit limit);
+
+    /**
+     * 분석별 독소 조항 중 지정한 본문 조항에 속한 것
+     */
+    List<ToxicClause> findByAnalysisIdAndSegmentHashIn(String analysisId, Collection<String> segmentHashes);
+
+    /**
+     * 분석별 독소 조항 수
+     */
+    long countByAnalysisId(String analysisId);
+}
@@ -0,0 +1,269 @@
+package com.sbpb.ddobak.server.domain.documentProcess.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.sbpb.ddobak.server.config.DocumentProcessProperties;
+import com.sbpb.ddobak.server.domain.documentProcess.client.AnalysisResult;
+import com.sbpb.ddobak.server.domain.documentProcess.client.ContractAnalysisClient;
+import com.sbpb.ddobak.server.domain.documentProcess.service.ContractTextNormalizer.Line;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 계약서 분석 결과 재사용 (정규화한 본문 지문 기준)
+ *
+ * 표준 양식 계약서는 이름, 숫자를 빼면 거의 같으므로 이전 분석 결과를 줄 단위 판정으로 기억해 둔다.
+ * 지문이 같은 결과가 없으면 정규화한 줄을 가장 많이 공유하는 결과를 찾아 다음과 같이 처리한다.
+ * - 모든 줄이 이전 분석에 있던 줄: 분석 서비스를 호출하지 않고 재사용 (reused)
+ * - 알려진 줄 비율이 min-line-overlap 이상: 새로 생긴 줄만 분석하고 나머지는 이전 판정 사용 (patched)
+ * - 그 외: 전체 분석 (miss)
+ *
+ * 재사용한 독소 조항은 이전 계약서가 아니라 이번 계약서의 원문 줄로 다시 만든다.
+ * 다른 사용자의 계약서에서 온 판정일 수 있으므로 줄별로 위험도만 기억하고, 재사용한 조항의 이유는 중립 문구로 채우며
+ * 근거 계약서 태그와 요약은 넘기지 않는다 (요약은 조항 수로 다시 만든다).
+ * 분석 모델 버전이 바뀌면 기억한 결과를 모두 버린다.
+ * 프로세스 메모리에만 유지하므로 재시작하면 비어 있는 상태로 시작한다.
+ *
+ * 기억하는 결과 수는 max-entries로 제한한다 (LRU).
+ *
+ * 메트릭: ddobak.analysis.memo (result=reused|patched|miss), ddobak.analysis.memo.size
+ */
+@Component
+@Slf4j
+public class AnalysisMemo {
+
+    static final String REUSED_REASON = "Matches a clause flagged in a previously analyzed contract";
+
+    private final boolean enabled;
+    private final double minLineOverlap;
+    private final LinkedHashMap<String, Entry> entries;
+    private final Map<String, Set<String>> fingerprintsByLine = new HashMap<>();
+    private String modelVersion;
+
+    private final Counter reused;
+    private final Counter patched;
+    private final Counter missed;
+
+    public AnalysisMemo(DocumentProcessProperties properties, MeterRegistry meterRegistry) {
+        DocumentProcessProperties.AnalysisMemo memo = properties.getAnalysisMemo();
+        this.enabled = memo.isEnabled();
+        this.minLineOverlap = memo.getMinLineOverlap();
+        int maxEntries = memo.getMaxEntries();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > maxEntries) {
+                    unindex(eldest.getKey(), eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        this.reused = outcomeCounter(meterRegistry, "reused");
+        this.patched = outcomeCounter(meterRegistry, "patched");
+        this.missed = outcomeCounter(meterRegistry, "miss");
+        Gauge.builder("ddobak.analysis.memo.size", this, AnalysisMemo::size).register(meterRegistry);
+    }
+
+    /**
+     * 본문 분석 (비슷한 계약서의 이전 결과가 있으면 재사용하거나 바뀐 줄만 분석)
+     *
+     * @throws com.sbpb.ddobak.server.common.exception.ExternalServiceException 분석 서비스 호출 실패
+     */
+    public AnalysisResult analyze(String content, ContractAnalysisClient client) {
+        if (!enabled) {
+            return client.analyze(content);
+        }
+        String version = client.modelVersion();
+        List<Line> lines = ContractTextNormalizer.lines(content);
+        String fingerprint = ContractTextNormalizer.fingerprint(lines);
+        Entry base = findSimilar(version, fingerprint, lines);
+
+        if (base != null) {
+            List<Line> unknown = lines.stream()
+                    .filter(line -> !base.verdicts().containsKey(line.normalized()))
+                    .toList();
+
+            if (unknown.isEmpty()) {
+                reused.increment();
+                log.debug("Reusing analysis of similar contract - exact: {}", base.fingerprint().equals(fingerprint));
+                return merge(lines, base.verdicts(), Map.of());
+            }
+            if (1 - (double) unknown.size() / lines.size() >= minLineOverlap) {
+                AnalysisResult partial = client.analyze(unknown.stream()
+                        .map(Line::original)
+                        .collect(Collectors.joining("\n")));
+                Map<String, AnalysisResult.DetectedClause> fresh = detectedByLine(unknown, partial);
+                if (fresh != null) {
+                    AnalysisResult result = merge(lines, base.verdicts(), fresh);
+                    remember(fingerprint, version, result, lines);
+                    patched.increment();
+                    log.debug("Patched analysis of similar contract - analyzedLines: {}/{}",
+                            unknown.size(), lines.size());
+                    return result;
+                }
+            }
+        }
+
+        AnalysisResult result = client.analyze(content);
+        remember(fingerprint, version, result, lines);
+        missed.increment();
+        return result;
+    }
+
+    /**
+     * 지문이 같은 결과, 없으면 정규화한 줄을 가장 많이 공유하는 결과 조회
+     */
+    private synchronized Entry findSimilar(String version, String fingerprint, List<Line> lines) {
+        invalidateIfModelChanged(version);
+        Entry exact = entries.get(fingerprint);
+        if (exact != null) {
+            return exact;
+        }
+
+        Map<String, Integer> sharedLines = new HashMap<>();
+        for (String line : distinctLines(lines)) {
+            for (String candidate : fingerprintsByLine.getOrDefault(line, Set.of())) {
+                sharedLines.merge(candidate, 1, Integer::sum);
+            }
+        }
+        return sharedLines.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(best -> entries.get(best.getKey()))
+                .orElse(null);
+    }
+
+    private synchronized void remember(String fingerprint, String version, AnalysisResult result, List<Line> lines) {
+        Map<String, AnalysisResult.DetectedClause> detected = detectedByLine(lines, result);
+        if (detected == null || !version.equals(modelVersion)) {
+            return;
+        }
+        Map<String, Verdict> verdicts = new HashMap<>();
+        for (Line line : lines) {
+            AnalysisResult.DetectedClause clause = detected.get(line.normalized());
+            verdicts.put(line.normalized(), clause == null ? Verdict.CLEAN : new Verdict(clause.warnLevel()));
+        }
+        Entry previous = entries.put(fingerprint, new Entry(fingerprint, verdicts));
+        if (previous != null) {
+            unindex(fingerprint, previous);
+        }
+        for (String line : verdicts.keySet()) {
+            fingerprintsByLine.computeIfAbsent(line, key -> new HashSet<>()).add(fingerprint);
+        }
+    }
+
+    private void invalidateIfModelChanged(String version) {
+        if (version.equals(modelVersion)) {
+            return;
+        }
+        if (modelVersion != null) {
+            log.info("Analysis model changed ({} -> {}), discarding {} memoized analyses",
+                    modelVersion, version, entries.size());
+        }
+        entries.clear();
+        fingerprintsByLine.clear();
+        modelVersion = version;
+    }
+
+    private void unindex(String fingerprint, Entry entry) {
+        for (String line : entry.verdicts().keySet()) {
+            Set<String> fingerprints = fingerprintsByLine.get(line);
+            if (fingerprints != null && fingerprints.remove(fingerprint) && fingerprints.isEmpty()) {
+                fingerprintsByLine.remove(line);
+            }
+        }
+    }
+
+    private synchronized int size() {
+        return entries.size();
+    }
+
+    private static Set<String> distinctLines(List<Line> lines) {
+        Set<String> distinct = new LinkedHashSet<>();
+        for (Line line : lines) {
+            distinct.add(line.normalized());
+        }
+        return distinct;
+    }
+
+    /**
+     * 탐지한 조항을 정규화한 줄에 대응 (대응시키지 못하거나 한 줄에 조항이 둘 이상이면 null)
+     */
+    private static Map<String, AnalysisResult.DetectedClause> detectedByLine(List<Line> lines, AnalysisResult result) {
+        Map<String, AnalysisResult.DetectedClause> detected = new HashMap<>();
+        for (AnalysisResult.DetectedClause clause : result.clauses()) {
+            String key = lineKey(lines, ContractTextNormalizer.normalizeLine(clause.clause()));
+            if (key == null || detected.putIfAbsent(key, clause) != null) {
+                return null;
+            }
+        }
+        return detected;
+    }
+
+    private static String lineKey(List<Line> lines, String normalizedClause) {
+        String containing = null;
+        for (Line line : lines) {
+            if (line.normalized().equals(normalizedClause)) {
+                return line.normalized();
+            }
+            if (containing == null && !normalizedClause.isEmpty() && line.normalized().contains(normalizedClause)) {
+                containing = line.normalized();
+            }
+        }
+        return containing;
+    }
+
+    /**
+     * 이번 계약서의 원문 줄에 판정을 적용
+     *
+     * 이번 계약서에서 새로 분석한 줄은 분석 결과를 그대로 쓰고, 이전 판정을 재사용한 줄은 위험도와 중립 문구만 쓴다.
+     */
+    private static AnalysisResult merge(List<Line> lines, Map<String, Verdict> base,
+                                        Map<String, AnalysisResult.DetectedClause> fresh) {
+        List<AnalysisResult.DetectedClause> clauses = new ArrayList<>();
+        for (Line line : lines) {
+            AnalysisResult.DetectedClause analyzed = fresh.get(line.normalized());
+            if (analyzed != null) {
+                clauses.add(new AnalysisResult.DetectedClause(line.original(), analyzed.reason(),
+                        analyzed.sourceContractTag(), analyzed.warnLevel()));
+                continue;
+            }
+            Verdict verdict = base.get(line.normalized());
+            if (verdict != null && verdict.warnLevel() > 0) {
+                clauses.add(new AnalysisResult.DetectedClause(line.original(), REUSED_REASON, null, verdict.warnLevel()));
+            }
+        }
+        return AnalysisResult.ofClauses(clauses);
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ddobak.analysis.memo")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Entry(String fingerprint, Map<String, Verdict> verdicts) {
+    }
+
+    /**
+     * 줄 판정 (위험도만 기억, 0이면 독소 조항 아님)
+     */
+    private record Verdict(int warnLevel) {
+
+        static final Verdict CLEAN = new Verdict(0);
+    }
+}
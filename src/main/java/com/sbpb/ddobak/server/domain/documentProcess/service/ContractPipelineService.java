@@ -0,0 +1,631 @@
+package com.sbpb.ddobak.server.domain.documentProcess.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sbpb.ddobak.server.common.exception.ExternalServiceException;
+import com.sbpb.ddobak.server.common.utils.ContentHash;
+import com.sbpb.ddobak.server.common.utils.IdGenerator;
+import com.sbpb.ddobak.server.common.utils.concurrent.FanOutExecutor;
+import com.sbpb.ddobak.server.common.utils.sqs.MessageQueue;
+import com.sbpb.ddobak.server.common.utils.storage.ObjectSizeLimitExceededException;
+import com.sbpb.ddobak.server.common.utils.storage.ObjectStorage;
+import com.sbpb.ddobak.server.common.utils.storage.StoredObject;
+import com.sbpb.ddobak.server.config.DocumentProcessProperties;
+import com.sbpb.ddobak.server.domain.documentProcess.client.AnalysisResult;
+import com.sbpb.ddobak.server.domain.documentProcess.client.ContractAnalysisClient;
+import com.sbpb.ddobak.server.domain.documentProcess.client.ContractImageReader;
+import com.sbpb.ddobak.server.domain.documentProcess.client.OcrClient;
+import com.sbpb.ddobak.server.domain.documentProcess.dto.ContractProgressEvent;
+import com.sbpb.ddobak.server.domain.documentProcess.dto.ContractStatusResponse;
+import com.sbpb.ddobak.server.domain.documentProcess.dto.CreateContractRequest;
+import com.sbpb.ddobak.server.domain.documentProcess.dto.OcrPageResponse;
+import com.sbpb.ddobak.server.domain.documentProcess.entity.AnalysisSegment;
+import com.sbpb.ddobak.server.domain.documentProcess.entity.Contract;
+import com.sbpb.ddobak.server.domain.documentProcess.entity.ContractAnalysis;
+import com.sbpb.ddobak.server.domain.documentProcess.entity.ContractOcrResult;
+import com.sbpb.ddobak.server.domain.documentProcess.entity.ContractPage;
+import com.sbpb.ddobak.server.domain.documentProcess.entity.ContractStatus;
+import com.sbpb.ddobak.server.domain.documentProcess.entity.ToxicClause;
+import com.sbpb.ddobak.server.domain.documentProcess.exception.ContractAnalysisExceptions;
+import com.sbpb.ddobak.server.domain.documentProcess.exception.ContractExceptions;
+import com.sbpb.ddobak.server.domain.documentProcess.repository.AnalysisSegmentRepository;
+import com.sbpb.ddobak.server.domain.documentProcess.repository.ContractAnalysisRepository;
+import com.sbpb.ddobak.server.domain.documentProcess.repository.ContractOcrResultRepository;
+import com.sbpb.ddobak.server.domain.documentProcess.repository.ContractPageRepository;
+import com.sbpb.ddobak.server.domain.documentProcess.repository.ContractRepository;
+import com.sbpb.ddobak.server.domain.documentProcess.repository.ToxicClauseRepository;
+import com.sbpb.ddobak.server.domain.documentProcess.service.ContractSegmenter.Segment;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 계약서 비동기 처리 서비스 (업로드 → OCR → 분석)
+ *
+ * 업로드는 계약서만 저장하고 바로 반환하며, 각 단계는 큐 작업으로 이어진다.
+ * - 파일 업로드는 요청 본문을 객체 저장소로 바로 전달하고 내용 해시를 함께 기록한다.
+ * - 외부 서비스 호출은 트랜잭션 밖에서 하여 느린 호출 동안 DB 커넥션을 잡지 않는다.
+ * - 다음 단계 작업은 현재 단계가 커밋된 뒤에 전송한다.
+ * - 같은 작업이 다시 전달되어도 계약서 상태를 확인하여 한 번만 반영한다.
+ * - 이미지 내용이 같은 계약서는 OCR을 다시 호출하지 않고 기존 결과를 재사용한다 (OcrResultCache).
+ * - OCR 본문은 페이지별로 압축하여 저장한다 (OcrContentStore).
+ * - 여러 페이지 계약서는 페이지별 OCR/분석을 병렬로 실행하고 페이지 순서대로 합친다 (FanOutExecutor).
+ * - 본문이 거의 같은 계약서는 이전 분석을 재사용하거나 바뀐 줄만 분석한다 (AnalysisMemo).
+ * - 개정된 계약서는 조항 해시를 비교하여 바뀐 조항만 다시 분석한다 (ContractSegmenter).
+ * - 단계가 바뀔 때와 독소 조항을 찾을 때마다 진행 이벤트를 발행한다 (ContractProgressPublisher).
+ */
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+public class ContractPipelineService {
+
+    public static final String OCR_QUEUE = "contract-ocr";
+    public static final String ANALYSIS_QUEUE = "contract-analysis";
+
+    private static final String UPLOAD_KEY_PREFIX = "contracts/";
+
+    private final ContractRepository contractRepository;
+    private final ContractPageRepository pageRepository;
+    private final ContractOcrResultRepository ocrResultRepository;
+    private final ContractAnalysisRepository analysisRepository;
+    private final AnalysisSegmentRepository segmentRepository;
+    private final ToxicClauseRepository toxicClauseRepository;
+    private final OcrClient ocrClient;
+    private final ContractAnalysisClient analysisClient;
+    private final ContractImageReader imageReader;
+    private final OcrResultCache ocrResultCache;
+    private final OcrContentStore ocrContentStore;
+    private final FanOutExecutor pageFanOut;
+    private final AnalysisMemo analysisMemo;
+    private final ObjectStorage objectStorage;
+    private final MessageQueue messageQueue;
+    private final ContractProgressPublisher progressPublisher;
+    private final DocumentProcessProperties properties;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public ContractPipelineService(ContractRepository contractRepository, ContractPageRepository pageRepository,
+                                   ContractOcrResultRepository ocrResultRepository,
+                                   ContractAnalysisRepository analysisRepository,
+                                   AnalysisSegmentRepository segmentRepository,
+                                   ToxicClauseRepository toxicClauseRepository,
+                                   OcrClient ocrClient, ContractAnalysisClient analysisClient,
+                                   ContractImageReader imageReader, OcrResultCache ocrResultCache,
+                                   OcrContentStore ocrContentStore,
+                                   @Qualifier("pageFanOutExecutor") FanOutExecutor pageFanOut,
+                                   AnalysisMemo analysisMemo, ObjectStorage objectStorage,
+                                   MessageQueue messageQueue, ContractProgressPublisher progressPublisher,
+                                   DocumentProcessProperties properties,
+                                   EntityManager entityManager,
+                                   PlatformTransactionManager transactionManager) {
+        this.contractRepository = contractRepository;
+        this.pageRepository = pageRepository;
+        this.ocrResultRepository = ocrResultRepository;
+        this.analysisRepository = analysisRepository;
+        this.segmentRepository = segmentRepository;
+        this.toxicClauseRepository = toxicClauseRepository;
+        this.ocrClient = ocrClient;
+        this.analysisClient = analysisClient;
+        this.imageReader = imageReader;
+        this.ocrResultCache = ocrResultCache;
+        this.ocrContentStore = ocrContentStore;
+        this.pageFanOut = pageFanOut;
+        this.analysisMemo = analysisMemo;
+        this.objectStorage = objectStorage;
+        this.messageQueue = messageQueue;
+        this.progressPublisher = progressPublisher;
+        this.properties = properties;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 계약서 등록 (저장 후 OCR 작업 전송, 처리 결과는 상태 조회로 확인)
+     */
+    @Transactional
+    public ContractStatusResponse submit(String userId, CreateContractRequest request) {
+        Contract contract = accept(IdGenerator.generateContractId(), userId, request.getTitle(), request.pageUrls(), null);
+
+        log.info("Contract accepted - contractId: {}, userId: {}", contract.getId(), userId);
+        return ContractStatusResponse.from(contract, null);
+    }
+
+    /**
+     * 계약서 파일 업로드 (요청 본문을 저장소로 바로 전달한 뒤 계약서 저장, OCR 작업 전송)
+     *
+     * 본문은 메모리에 모으지 않으며, 전송 중 최대 크기를 넘으면 바로 중단한다.
+     * 업로드하며 계산한 내용 해시를 함께 저장하므로 OCR 단계에서 이미지를 다시 읽지 않는다.
+     * 본문을 받는 동안에는 트랜잭션을 열지 않는다.
+     *
+     * @param contentLength 요청에 선언된 본문 크기 (모르면 -1)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ContractStatusResponse upload(String userId, String title, String contentType, long contentLength,
+                                         InputStream body) {
+        if (title == null || title.isBlank()) {
+            throw new IllegalArgumentException("Contract title is required");
+        }
+        DocumentProcessProperties.Upload upload = properties.getUpload();
+        String mediaType = contentType != null ? contentType.split(";", 2)[0].trim().toLowerCase(Locale.ROOT) : "";
+        if (!upload.getAllowedContentTypes().contains(mediaType)) {
+            throw ContractExceptions.unsupportedFileType(contentType);
+        }
+        long maxBytes = upload.getMaxSize().toBytes();
+        if (contentLength > maxBytes) {
+            throw ContractExceptions.fileTooLarge(maxBytes);
+        }
+
+        String contractId = IdGenerator.generateContractId();
+        String key = UPLOAD_KEY_PREFIX + contractId;
+        StoredObject stored;
+        try {
+            stored = objectStorage.put(key, Channels.newChannel(body), maxBytes);
+        } catch (ObjectSizeLimitExceededException e) {
+            throw ContractExceptions.fileTooLarge(maxBytes);
+        }
+
+        Contract contract;
+        try {
+            contract = transactionTemplate.execute(status ->
+                accept(contractId, userId, title, List.of(stored.url()), stored.contentHash()));
+        } catch (RuntimeException e) {
+            objectStorage.delete(key);
+            throw e;
+        }
+
+        log.info("Contract uploaded - contractId: {}, userId: {}, size: {}", contractId, userId, stored.size());
+        return ContractStatusResponse.from(contract, null);
+    }
+
+    /**
+     * 계약서 개정 (처리가 끝난 계약서의 이미지를 바꾸고 처음부터 다시 처리, 분석은 바뀐 조항만 다시 함)
+     */
+    @Transactional
+    public ContractStatusResponse revise(String contractId, CreateContractRequest request) {
+        Contract contract = contractRepository.findById(contractId)
+            .orElseThrow(() -> ContractExceptions.notFound(contractId));
+        if (!contract.getStatus().isTerminal()) {
+            throw ContractExceptions.processingInProgress(contractId);
+        }
+
+        // 같은 키로 다시 저장하므로 이전 페이지 삭제를 먼저 반영
+        pageRepository.findByContractIdOrderByPageNoAsc(contractId).forEach(entityManager::remove);
+        entityManager.flush();
+
+        List<String> pageUrls = request.pageUrls();
+        contract.revise(request.getTitle(), pageUrls.get(0), pageUrls.size());
+        savePages(contract, pageUrls);
+        sendAfterCommit(OCR_QUEUE, contractId);
+        publishAfterCommit(ContractProgressEvent.uploaded(contractId));
+
+        log.info("Contract revision accepted - contractId: {}, pages: {}", contractId, pageUrls.size());
+        return ContractStatusResponse.from(contract, null);
+    }
+
+    /**
+     * 계약서 처리 상태 조회
+     */
+    public ContractStatusResponse getStatus(String contractId) {
+        Contract contract = contractRepository.findById(contractId)
+            .orElseThrow(() -> ContractExceptions.notFound(contractId));
+
+        String analysisId = contract.getStatus() == ContractStatus.ANALYZED
+            ? analysisRepository.findFirstByContractIdOrderByCreatedAtDesc(contractId)
+                .map(ContractAnalysis::getId)
+                .orElse(null)
+            : null;
+        return ContractStatusResponse.from(contract, analysisId);
+    }
+
+    /**
+     * OCR 본문 한 페이지 조회 (요청한 페이지만 읽어 압축 해제)
+     */
+    public OcrPageResponse getOcrPage(String contractId, int pageNo) {
+        ContractOcrResult ocrResult = ocrResultRepository.findFirstByContractIdOrderByCreatedAtDesc(contractId)
+            .orElseThrow(() -> ContractAnalysisExceptions.ocrResultNotFound(contractId));
+
+        return ocrContentStore.readPage(ocrResult, pageNo)
+            .map(page -> OcrPageResponse.of(contractId, page.pageNo(), page.text(),
+                ocrContentStore.pageCount(ocrResult)))
+            .orElseThrow(() -> ContractAnalysisExceptions.ocrPageNotFound(contractId, pageNo));
+    }
+
+    /**
+     * OCR 작업 처리 (OCR 결과 저장 후 분석 작업 전송)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void processOcr(String contractId) {
+        Contract contract = findInStatus(contractId, ContractStatus.UPLOADED);
+        if (contract == null) {
+            return;
+        }
+
+        List<String> pageUrls = pageUrls(contract);
+        String contentHash = contract.getContentHash() != null
+            ? contract.getContentHash()
+            : computeContentHash(contract, pageUrls);
+        ContractOcrResult reusable = ocrResultCache.find(contentHash).orElse(null);
+        String content = null;
+        if (reusable != null) {
+            log.info("Reusing OCR result for identical image - contractId: {}, contentHash: {}", contractId, contentHash);
+        } else {
+            try {
+                content = joinPages(pageFanOut.map(pageUrls, ocrClient::extractText));
+            } catch (ExternalServiceException e) {
+                throw ContractAnalysisExceptions.ocrFailed(contractId, e);
+            }
+        }
+
+        String extracted = content;
+        transactionTemplate.executeWithoutResult(status -> {
+            Contract current = findInStatus(contractId, ContractStatus.UPLOADED);
+            if (current == null) {
+                return;
+            }
+            ContractOcrResult ocrResult = reusable != null
+                ? ocrContentStore.copy(reusable, contractId)
+                : ocrContentStore.save(contractId, contentHash, extracted);
+            if (current.getContentHash() == null) {
+                current.assignContentHash(contentHash);
+            }
+            current.markOcrCompleted();
+            afterCommit(() -> ocrResultCache.put(contentHash, ocrResult.getId()));
+            sendAfterCommit(ANALYSIS_QUEUE, contractId);
+            publishAfterCommit(ContractProgressEvent.ocrCompleted(contractId));
+        });
+        log.info("Contract OCR completed - contractId: {}, pages: {}", contractId, pageUrls.size());
+    }
+
+    /**
+     * 분석 작업 처리 (분석 결과와 독소 조항 저장)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void processAnalysis(String contractId) {
+        if (findInStatus(contractId, ContractStatus.OCR_COMPLETED) == null) {
+            return;
+        }
+        ContractOcrResult ocrResult = ocrResultRepository.findFirstByContractIdOrderByCreatedAtDesc(contractId)
+            .orElseThrow(() -> ContractAnalysisExceptions.ocrResultNotFound(contractId));
+        String content = ocrContentStore.read(ocrResult);
+        List<Segment> segments = ContractSegmenter.segments(content);
+
+        ContractAnalysis previous = analysisRepository.findFirstByContractIdOrderByCreatedAtDesc(contractId)
+            .filter(analysis -> analysisClient.modelVersion().equals(analysis.getModelVersion()))
+            .orElse(null);
+        Set<String> analyzedSegments = previous != null ? analyzedSegments(previous.getId()) : Set.of();
+        if (!analyzedSegments.isEmpty()) {
+            reanalyzeChanged(contractId, previous.getId(), segments, analyzedSegments);
+            return;
+        }
+
+        AnalysisResult result;
+        try {
+            result = analyze(contractId, ocrResult, content);
+        } catch (ExternalServiceException e) {
+            throw ContractAnalysisExceptions.analysisFailed(contractId, e);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Contract current = findInStatus(contractId, ContractStatus.OCR_COMPLETED);
+            if (current == null) {
+                return;
+            }
+            String analysisId = saveAnalysis(contractId, result, segments);
+            current.markAnalyzed();
+            publishAfterCommit(ContractProgressEvent.analyzed(contractId, analysisId));
+        });
+        log.info("Contract analysis completed - contractId: {}, toxicClauses: {}",
+            contractId, result.clauses().size());
+    }
+
+    /**
+     * 개정된 계약서의 바뀐 조항만 분석
+     *
+     * 이전 분석에 있던 조항의 독소 조항은 그대로 두고, 없어진 조항의 독소 조항은 지우며,
+     * 새로 생기거나 바뀐 조항만 분석해 추가한 뒤 조항별 결과로 요약을 다시 계산한다.
+     * 분석 서비스 호출과 DB 변경은 바뀐 조항 수에 비례한다.
+     */
+    private void reanalyzeChanged(String contractId, String analysisId, List<Segment> segments,
+                                  Set<String> analyzedSegments) {
+        Map<String, Segment> changed = new LinkedHashMap<>();
+        Set<String> currentSegments = new HashSet<>();
+        for (Segment segment : segments) {
+            currentSegments.add(segment.hash());
+            if (!analyzedSegments.contains(segment.hash())) {
+                changed.putIfAbsent(segment.hash(), segment);
+            }
+        }
+        Set<String> removed = new HashSet<>(analyzedSegments);
+        removed.removeAll(currentSegments);
+
+        List<Segment> toAnalyze = List.copyOf(changed.values());
+        List<AnalysisResult> results;
+        try {
+            results = pageFanOut.map(toAnalyze, segment -> analysisClient.analyze(segment.text()),
+                progressReporter(contractId, toAnalyze.size()));
+        } catch (ExternalServiceException e) {
+            throw ContractAnalysisExceptions.analysisFailed(contractId, e);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Contract current = findInStatus(contractId, ContractStatus.OCR_COMPLETED);
+            if (current == null) {
+                return;
+            }
+            if (!removed.isEmpty()) {
+                toxicClauseRepository.findByAnalysisIdAndSegmentHashIn(analysisId, removed)
+                    .forEach(entityManager::remove);
+                segmentRepository.findByAnalysisIdAndSegmentHashIn(analysisId, removed)
+                    .forEach(entityManager::remove);
+            }
+            for (int i = 0; i < toAnalyze.size(); i++) {
+                String segmentHash = toAnalyze.get(i).hash();
+                entityManager.persist(AnalysisSegment.builder().analysisId(analysisId).segmentHash(segmentHash).build());
+                for (AnalysisResult.DetectedClause clause : results.get(i).clauses()) {
+                    saveClause(analysisId, clause, segmentHash);
+                }
+            }
+            entityManager.flush();
+
+            ContractAnalysis analysis = entityManager.find(ContractAnalysis.class, analysisId);
+            analysis.updateSummary(AnalysisResult.summaryOf(toxicClauseRepository.countByAnalysisId(analysisId)));
+            current.markAnalyzed();
+            publishAfterCommit(ContractProgressEvent.analyzed(contractId, analysisId));
+        });
+        log.info("Contract re-analyzed incrementally - contractId: {}, analyzedSegments: {}/{}, removedSegments: {}",
+            contractId, toAnalyze.size(), segments.size(), removed.size());
+    }
+
+    /**
+     * 재시도를 모두 실패한 계약서를 FAILED로 표시
+     */
+    @Transactional
+    public void markFailed(String contractId, String reason) {
+        contractRepository.findById(contractId).ifPresent(contract -> {
+            if (!contract.getStatus().isTerminal()) {
+                contract.markFailed(reason);
+                publishAfterCommit(ContractProgressEvent.failed(contractId, reason));
+                log.warn("Contract processing failed - contractId: {}, reason: {}", contractId, reason);
+            }
+        });
+    }
+
+    /**
+     * 계약서 저장 후 커밋되면 OCR 작업 전송 (트랜잭션 안에서 호출)
+     *
+     * @param pageUrls 페이지별 이미지 (순서대로, 두 장 이상이면 contract_pages에 저장)
+     */
+    private Contract accept(String contractId, String userId, String title, List<String> pageUrls,
+                            String contentHash) {
+        Contract contract = Contract.builder()
+            .id(contractId)
+            .userId(userId)
+            .title(title)
+            .imgUrl(pageUrls.get(0))
+            .pageCount(pageUrls.size())
+            .build();
+        if (contentHash != null) {
+            contract.assignContentHash(contentHash);
+        }
+        entityManager.persist(contract);
+        savePages(contract, pageUrls);
+        sendAfterCommit(OCR_QUEUE, contract.getId());
+        publishAfterCommit(ContractProgressEvent.uploaded(contract.getId()));
+        return contract;
+    }
+
+    /**
+     * 여러 페이지 계약서의 페이지별 이미지 저장
+     */
+    private void savePages(Contract contract, List<String> pageUrls) {
+        if (!contract.isMultiPage()) {
+            return;
+        }
+        for (int i = 0; i < pageUrls.size(); i++) {
+            entityManager.persist(ContractPage.builder()
+                .contractId(contract.getId())
+                .pageNo(i + 1)
+                .imgUrl(pageUrls.get(i))
+                .build());
+        }
+    }
+
+    /**
+     * 계약서의 페이지별 이미지 (순서대로)
+     */
+    private List<String> pageUrls(Contract contract) {
+        if (!contract.isMultiPage()) {
+            return List.of(contract.getImgUrl());
+        }
+        return pageRepository.findByContractIdOrderByPageNoAsc(contract.getId()).stream()
+            .map(ContractPage::getImgUrl)
+            .toList();
+    }
+
+    /**
+     * 페이지별 OCR 결과를 페이지 구분 문자로 이어 붙임 (PDF처럼 OCR 결과에 이미 있는 구분 문자는 유지)
+     */
+    private static String joinPages(List<String> pages) {
+        return String.join(String.valueOf(OcrContentStore.PAGE_BREAK), pages);
+    }
+
+    /**
+     * 본문 분석 (여러 페이지이면 페이지별로 나눠 병렬 분석한 뒤 페이지 순서대로 합침)
+     *
+     * 찾은 독소 조항은 저장을 기다리지 않고 페이지 분석이 끝나는 대로 발행한다.
+     */
+    private AnalysisResult analyze(String contractId, ContractOcrResult ocrResult, String content) {
+        if (ocrContentStore.pageCount(ocrResult) <= 1) {
+            AnalysisResult result = analysisMemo.analyze(content, analysisClient);
+            publishDetected(contractId, result);
+            return result;
+        }
+        List<String> pages = new ArrayList<>();
+        ocrContentStore.forEachPage(ocrResult, page -> pages.add(page.text()));
+
+        List<AnalysisResult> results = pageFanOut.map(pages, page -> page.isBlank()
+            ? AnalysisResult.ofClauses(List.of())
+            : analysisMemo.analyze(page, analysisClient), progressReporter(contractId, pages.size()));
+        List<AnalysisResult.DetectedClause> clauses = new ArrayList<>();
+        for (AnalysisResult pageResult : results) {
+            clauses.addAll(pageResult.clauses());
+        }
+        return AnalysisResult.ofClauses(clauses);
+    }
+
+    /**
+     * 분석 결과 저장 (독소 조항을 본문 조항에 연결하고 분석한 조항을 기록)
+     *
+     * 본문 조항에 연결하지 못한 독소 조항이 있으면 조항을 기록하지 않으며, 다음 개정 때는 전체를 다시 분석한다.
+     *
+     * @return 분석 ID
+     */
+    private String saveAnalysis(String contractId, AnalysisResult result, List<Segment> segments) {
+        String analysisId = IdGenerator.generateAnalysisId();
+        entityManager.persist(ContractAnalysis.builder()
+            .id(analysisId)
+            .contractId(contractId)
+            .summary(result.summary())
+            .modelVersion(analysisClient.modelVersion())
+            .build());
+
+        boolean allAssigned = true;
+        for (AnalysisResult.DetectedClause clause : result.clauses()) {
+            Segment segment = ContractSegmenter.find(segments, clause.clause());
+            String segmentHash = segment != null ? segment.hash() : null;
+            allAssigned &= segmentHash != null;
+            saveClause(analysisId, clause, segmentHash);
+        }
+        if (allAssigned) {
+            segments.stream()
+                .map(Segment::hash)
+                .distinct()
+                .forEach(segmentHash -> entityManager.persist(
+                    AnalysisSegment.builder().analysisId(analysisId).segmentHash(segmentHash).build()));
+        }
+        return analysisId;
+    }
+
+    private void saveClause(String analysisId, AnalysisResult.DetectedClause clause, String segmentHash) {
+        entityManager.persist(ToxicClause.builder()
+            .id(IdGenerator.generateToxicClauseId())
+            .analysisId(analysisId)
+            .clause(clause.clause())
+            .reason(clause.reason())
+            .sourceContractTag(clause.sourceContractTag())
+            .warnLevel(clause.warnLevel())
+            .segmentHash(segmentHash)
+            .build());
+    }
+
+    private Set<String> analyzedSegments(String analysisId) {
+        return segmentRepository.findByAnalysisId(analysisId).stream()
+            .map(AnalysisSegment::getSegmentHash)
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * 기대한 상태의 계약서 조회 (없거나 이미 다음 단계로 넘어갔으면 null)
+     */
+    private Contract findInStatus(String contractId, ContractStatus expected) {
+        Contract contract = contractRepository.findById(contractId).orElse(null);
+        if (contract == null) {
+            log.warn("Contract not found for pipeline job - contractId: {}", contractId);
+            return null;
+        }
+        if (contract.getStatus() != expected) {
+            log.debug("Skipping duplicate pipeline job - contractId: {}, status: {}", contractId, contract.getStatus());
+            return null;
+        }
+        return contract;
+    }
+
+    /**
+     * 이미지 원본 해시 계산 (읽지 못하면 null을 반환하고 재사용 없이 OCR 진행)
+     *
+     * 여러 페이지이면 페이지별 해시를 순서대로 이어 다시 해시한다.
+     */
+    private String computeContentHash(Contract contract, List<String> pageUrls) {
+        try {
+            if (pageUrls.size() == 1) {
+                return hashImage(pageUrls.get(0));
+            }
+            MessageDigest digest = ContentHash.newDigest();
+            for (String pageUrl : pageUrls) {
+                digest.update(hashImage(pageUrl).getBytes(StandardCharsets.US_ASCII));
+            }
+            return ContentHash.toHex(digest);
+        } catch (IOException | ExternalServiceException e) {
+            log.debug("Could not hash contract image - contractId: {}, reason: {}", contract.getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private String hashImage(String imgUrl) throws IOException {
+        try (InputStream in = imageReader.open(imgUrl)) {
+            return ContentHash.sha256(in);
+        }
+    }
+
+    /**
+     * 나눠서 분석한 부분(페이지, 조항)이 끝날 때마다 찾은 독소 조항과 진행률 발행
+     *
+     * 여러 작업 스레드에서 호출되므로 진행률이 거꾸로 전달되지 않도록 발행 순서를 맞춘다.
+     */
+    private ObjIntConsumer<AnalysisResult> progressReporter(String contractId, int totalParts) {
+        AtomicInteger completedParts = new AtomicInteger();
+        return (result, index) -> {
+            synchronized (completedParts) {
+                publishDetected(contractId, result);
+                progressPublisher.publish(ContractProgressEvent.analysisProgress(contractId,
+                    completedParts.incrementAndGet(), totalParts));
+            }
+        };
+    }
+
+    private void publishDetected(String contractId, AnalysisResult result) {
+        for (AnalysisResult.DetectedClause clause : result.clauses()) {
+            progressPublisher.publish(ContractProgressEvent.toxicClauseDetected(contractId, clause));
+        }
+    }
+
+    private void publishAfterCommit(ContractProgressEvent event) {
+        afterCommit(() -> progressPublisher.publish(event));
+    }
+
+    private void sendAfterCommit(String queueName, String contractId) {
+        afterCommit(() -> messageQueue.send(queueName, contractId));
+    }
+
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
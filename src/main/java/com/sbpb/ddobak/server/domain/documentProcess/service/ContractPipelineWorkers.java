@@ -0,0 +1,70 @@
+package com.sbpb.ddobak.server.domain.documentProcess.service;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.sbpb.ddobak.server.common.utils.concurrent.ThreadMode;
+import com.sbpb.ddobak.server.common.utils.sqs.MessageHandler;
+import com.sbpb.ddobak.server.common.utils.sqs.MessageQueue;
+import com.sbpb.ddobak.server.common.utils.sqs.QueueWorker;
+import com.sbpb.ddobak.server.config.DocumentProcessProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 계약서 처리 큐 소비자 (OCR, 분석)
+ *
+ * 애플리케이션이 요청을 받을 준비가 된 뒤에 소비를 시작하고, 종료 시 처리 중인 작업을 기다린다.
+ * 가상 스레드 모드에서는 작업자 수를 크게 잡아도 되며, 외부 호출 수는 DependencyExecutor가 제한한다.
+ */
+@Component
+public class ContractPipelineWorkers {
+
+    private final DocumentProcessProperties.Pipeline properties;
+    private final ThreadMode threadMode;
+    private final List<QueueWorker> workers;
+
+    public ContractPipelineWorkers(ContractPipelineService pipelineService, MessageQueue messageQueue,
+                                   DocumentProcessProperties properties, ThreadMode threadMode,
+                                   MeterRegistry meterRegistry) {
+        this.properties = properties.getPipeline();
+        this.threadMode = threadMode;
+        this.workers = List.of(
+            worker(ContractPipelineService.OCR_QUEUE, pipelineService::processOcr, pipelineService,
+                this.properties.getOcrWorkers(), messageQueue, meterRegistry),
+            worker(ContractPipelineService.ANALYSIS_QUEUE, pipelineService::processAnalysis, pipelineService,
+                this.properties.getAnalysisWorkers(), messageQueue, meterRegistry));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        workers.forEach(QueueWorker::start);
+    }
+
+    @PreDestroy
+    public void stop() {
+        workers.forEach(worker -> worker.stop(properties.getShutdownTimeout()));
+    }
+
+    private QueueWorker worker(String queueName, Consumer<String> processor, ContractPipelineService pipelineService,
+                               int concurrency, MessageQueue messageQueue, MeterRegistry meterRegistry) {
+        MessageHandler handler = new MessageHandler() {
+            @Override
+            public void handle(String contractId) {
+                processor.accept(contractId);
+            }
+
+            @Override
+            public void onGiveUp(String contractId, Exception cause) {
+                pipelineService.markFailed(contractId, cause.getMessage());
+            }
+        };
+        return new QueueWorker(queueName, messageQueue, handler, concurrency, properties.getMaxAttempts(),
+            properties.getPollWait(), threadMode.threadFactory(queueName + "-worker-"), meterRegistry);
+    }
+}
@@ -0,0 +1,31 @@
+package com.sbpb.ddobak.server.domain.documentProcess.service;
+
+import org.springframework.stereotype.Component;
+
+import com.sbpb.ddobak.server.common.utils.event.EventBus;
+import com.sbpb.ddobak.server.domain.documentProcess.dto.ContractProgressEvent;
+
+/**
+ * 계약서 처리 진행 이벤트 발행 (계약서별 주제)
+ *
+ * 상태 변경 이벤트는 해당 단계가 커밋된 뒤에 발행하므로 이벤트를 받고 상태를 조회해도 같은 결과를 얻는다.
+ */
+@Component
+public class ContractProgressPublisher {
+
+    private static final String TOPIC_PREFIX = "contract-progress:";
+
+    private final EventBus eventBus;
+
+    public ContractProgressPublisher(EventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
+    public static String topic(String contractId) {
+        return TOPIC_PREFIX + contractId;
+    }
+
+    public void publish(ContractProgressEvent event) {
+        eventBus.publish(topic(event.getContractId()), event);
+    }
+}
@@ -0,0 +1,200 @@
+package com.sbpb.ddobak.server.domain.documentProcess.service;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.sbpb.ddobak.server.common.utils.concurrent.ThreadMode;
+import com.sbpb.ddobak.server.common.utils.event.EventBus;
+import com.sbpb.ddobak.server.config.DocumentProcessProperties;
+import com.sbpb.ddobak.server.domain.documentProcess.dto.ContractProgressEvent;
+import com.sbpb.ddobak.server.domain.documentProcess.dto.ContractStatusResponse;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 계약서 처리 진행 스트림 (SSE)
+ *
+ * 연결하면 현재 상태(status 이벤트)를 먼저 보내고, 이후 진행 이벤트를 발생하는 대로 보낸다.
+ * 처리가 끝나면(ANALYZED, FAILED) 연결을 닫으므로 상태를 반복 조회하지 않아도 된다.
+ * - 상태 조회 전에 구독하여 그 사이 이벤트를 놓치지 않으며, 현재 상태보다 이전 단계의 이벤트는 버린다.
+ * - 이벤트는 연결별 대기열에 넣고 전송 스레드에서 보내므로 느린 연결이 파이프라인 작업을 막지 않는다.
+ * - 대기열이 가득 차면 연결을 닫는다. 클라이언트(EventSource)가 다시 연결하면 현재 상태부터 다시 받는다.
+ */
+@Service
+@Slf4j
+public class ContractProgressService {
+
+    static final String STATUS_EVENT = "status";
+
+    private final EventBus eventBus;
+    private final ContractPipelineService pipelineService;
+    private final DocumentProcessProperties.Progress properties;
+    private final ExecutorService sendExecutor;
+
+    public ContractProgressService(EventBus eventBus, ContractPipelineService pipelineService,
+                                   DocumentProcessProperties properties, ThreadMode threadMode) {
+        this.eventBus = eventBus;
+        this.pipelineService = pipelineService;
+        this.properties = properties.getProgress();
+        this.sendExecutor = threadMode.newTaskExecutor("contract-progress-");
+    }
+
+    /**
+     * 계약서 진행 스트림 연결 (계약서가 없으면 예외)
+     */
+    public SseEmitter subscribe(String contractId) {
+        ProgressStream stream = new ProgressStream(contractId, newEmitter(), properties.getBufferSize());
+        EventBus.Subscription subscription = eventBus.subscribe(ContractProgressPublisher.topic(contractId),
+            ContractProgressEvent.class, stream::offer);
+        stream.onClose(subscription);
+
+        ContractStatusResponse snapshot;
+        try {
+            snapshot = pipelineService.getStatus(contractId);
+        } catch (RuntimeException e) {
+            subscription.close();
+            throw e;
+        }
+        stream.start(snapshot);
+        return stream.emitter;
+    }
+
+    /**
+     * 연결 생성 (연결 유지 시간이 지나면 닫힘)
+     */
+    SseEmitter newEmitter() {
+        return new SseEmitter(properties.getStreamTimeout().toMillis());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdownNow();
+    }
+
+    /**
+     * 연결 하나의 전송 대기열 (한 번에 한 전송 작업만 실행하여 이벤트 순서 유지)
+     */
+    private final class ProgressStream {
+
+        private final String contractId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<ContractProgressEvent> pending;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean started;
+        private volatile EventBus.Subscription subscription;
+
+        private ProgressStream(String contractId, SseEmitter emitter, int bufferSize) {
+            this.contractId = contractId;
+            this.emitter = emitter;
+            this.pending = new ArrayBlockingQueue<>(Math.max(1, bufferSize));
+        }
+
+        void onClose(EventBus.Subscription subscription) {
+            this.subscription = subscription;
+            if (closed.get()) {
+                subscription.close();
+                return;
+            }
+            emitter.onCompletion(this::close);
+            emitter.onTimeout(this::finish);
+            emitter.onError(error -> close());
+        }
+
+        /**
+         * 현재 상태 전송 후 대기 중인 이벤트 전송 시작 (이미 끝난 계약서면 바로 닫음)
+         */
+        void start(ContractStatusResponse snapshot) {
+            if (closed.get()) {
+                // 상태를 조회하는 사이에 대기열이 가득 차 이미 닫힘
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event().name(STATUS_EVENT).data(snapshot));
+            } catch (IOException | IllegalStateException e) {
+                close();
+                return;
+            }
+            if (snapshot.getStatus().isTerminal()) {
+                finish();
+                return;
+            }
+            pending.removeIf(event -> event.getStatus().ordinal() < snapshot.getStatus().ordinal());
+            started = true;
+            schedule();
+        }
+
+        void offer(ContractProgressEvent event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!pending.offer(event)) {
+                log.debug("Progress stream buffer full, closing - contractId: {}", contractId);
+                finish();
+                return;
+            }
+            if (started) {
+                schedule();
+            }
+        }
+
+        private void schedule() {
+            if (closed.get() || !draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sendExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                finish();
+            }
+        }
+
+        private void drain() {
+            try {
+                ContractProgressEvent event;
+                while (!closed.get() && (event = pending.poll()) != null) {
+                    emitter.send(SseEmitter.event().name(event.getType().name()).data(event));
+                    if (event.getType().isTerminal()) {
+                        finish();
+                        return;
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 연결을 끊었거나 이미 닫힌 연결
+                log.debug("Progress stream closed by client - contractId: {}", contractId);
+                close();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // 전송 작업이 끝나는 사이에 들어온 이벤트
+            if (!pending.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void finish() {
+            close();
+            emitter.complete();
+        }
+
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                EventBus.Subscription current = subscription;
+                if (current != null) {
+                    current.close();
+                }
+                pending.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.sbpb.ddobak.server.domain.documentProcess.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import com.sbpb.ddobak.server.common.utils.ContentHash;
+
+/**
+ * 계약서 본문을 조항 단위로 나누고 조항마다 해시 계산 (개정된 계약서의 바뀐 조항만 다시 분석하기 위함)
+ *
+ * - "제N조"로 시작하는 줄부터 다음 "제N조" 앞까지를 한 조항으로 본다 (첫 조항 앞은 머리말 조항).
+ * - 조항 표시가 없는 본문은 내용이 있는 줄 하나를 한 조항으로 본다.
+ * - 해시는 공백만 정리한 원문 기준이므로 금액, 날짜 등이 바뀌면 다른 조항이 된다.
+ */
+public final class ContractSegmenter {
+
+    private static final Pattern ARTICLE_HEADING = Pattern.compile("^제\\s*\\d+\\s*조");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private ContractSegmenter() {
+    }
+
+    /**
+     * 본문을 조항 목록으로 분리 (본문 순서)
+     */
+    public static List<Segment> segments(String content) {
+        List<String> lines = new ArrayList<>();
+        boolean hasArticles = false;
+        for (String raw : content.replace(OcrContentStore.PAGE_BREAK, '\n').lines().toList()) {
+            String line = raw.strip();
+            if (!line.isEmpty()) {
+                lines.add(line);
+                hasArticles |= ARTICLE_HEADING.matcher(line).find();
+            }
+        }
+
+        List<Segment> segments = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String line : lines) {
+            boolean boundary = !hasArticles || ARTICLE_HEADING.matcher(line).find();
+            if (boundary && current.length() > 0) {
+                segments.add(Segment.of(current.toString()));
+                current.setLength(0);
+            }
+            if (current.length() > 0) {
+                current.append('\n');
+            }
+            current.append(line);
+        }
+        if (current.length() > 0) {
+            segments.add(Segment.of(current.toString()));
+        }
+        return segments;
+    }
+
+    /**
+     * 탐지한 조항 원문이 속한 첫 조항 (없으면 null, 조항 원문은 한 번만 정리)
+     */
+    public static Segment find(List<Segment> segments, String clause) {
+        if (clause == null || clause.isBlank()) {
+            return null;
+        }
+        String collapsedClause = collapse(clause);
+        for (Segment segment : segments) {
+            if (segment.collapsed().contains(collapsedClause)) {
+                return segment;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 비교용 정리 (연속 공백을 하나로)
+     */
+    static String collapse(String text) {
+        return WHITESPACE.matcher(text.strip()).replaceAll(" ");
+    }
+
+    /**
+     * 본문의 한 조항
+     *
+     * @param text      조항 원문 (줄바꿈 유지)
+     * @param collapsed 공백을 정리한 원문 (비교용, 분리할 때 한 번만 계산)
+     * @param hash      collapsed의 SHA-256
+     */
+    public record Segment(String text, String collapsed, String hash) {
+
+        static Segment of(String text) {
+            String collapsed = collapse(text);
+            MessageDigest digest = ContentHash.newDigest();
+            digest.update(collapsed.getBytes(StandardCharsets.UTF_8));
+            return new Segment(text, collapsed, ContentHash.toHex(digest));
+        }
+    }
+}
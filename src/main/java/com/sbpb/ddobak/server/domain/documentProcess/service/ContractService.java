@@ -0,0 +1,125 @@
+package com.sbpb.ddobak.server.domain.documentProcess.service;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sbpb.ddobak.server.common.exception.ValidationException;
+import com.sbpb.ddobak.server.common.response.CursorPageResponse;
+import com.sbpb.ddobak.server.common.response.PageCursor;
+import com.sbpb.ddobak.server.common.response.PageResponse;
+import com.sbpb.ddobak.server.common.utils.count.CountCache;
+import com.sbpb.ddobak.server.domain.documentProcess.dto.ContractResponse;
+import com.sbpb.ddobak.server.domain.documentProcess.dto.ToxicClauseResponse;
+import com.sbpb.ddobak.server.domain.documentProcess.entity.Contract;
+import com.sbpb.ddobak.server.domain.documentProcess.entity.ToxicClause;
+import com.sbpb.ddobak.server.domain.documentProcess.entity.listener.DocumentCountListener;
+import com.sbpb.ddobak.server.domain.documentProcess.repository.ContractRepository;
+import com.sbpb.ddobak.server.domain.documentProcess.repository.ToxicClauseRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 계약서 서비스
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class ContractService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ContractRepository contractRepository;
+    private final ToxicClauseRepository toxicClauseRepository;
+    private final CountCache countCache;
+
+    /**
+     * 사용자 계약서 목록 (최신순 커서 페이징)
+     *
+     * @param cursor       이전 응답의 nextCursor (첫 페이지면 null)
+     * @param includeTotal 전체 개수 포함 여부 (캐시가 없을 때만 COUNT 쿼리 실행)
+     */
+    public CursorPageResponse<ContractResponse> getContracts(String userId, String cursor, int size,
+                                                             boolean includeTotal) {
+        validatePageSize(size);
+        PageCursor position = PageCursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
+
+        List<Contract> fetched;
+        if (position == null) {
+            fetched = contractRepository.findLatestByUserId(userId, limit);
+        } else {
+            if (position.createdAt() == null) {
+                throw new ValidationException("cursor", cursor, "Invalid page cursor");
+            }
+            fetched = contractRepository.findLatestByUserIdBefore(userId, position.createdAt(), position.id(), limit);
+        }
+
+        CursorPageResponse<ContractResponse> response = CursorPageResponse.of(fetched, size,
+                contract -> new PageCursor(contract.getCreatedAt(), contract.getId()), ContractResponse::from);
+
+        if (!includeTotal) {
+            return response;
+        }
+        CountCache.Count total = countContracts(userId);
+        return response.withTotalElements(total.value(), total.estimated());
+    }
+
+    /**
+     * 사용자 계약서 목록 (페이지 번호 방식, 전체 개수는 캐시 사용)
+     */
+    public PageResponse<ContractResponse> getContractPage(String userId, int page, int size) {
+        validatePageSize(size);
+        if (page < 0) {
+            throw new ValidationException("page", page, "Page number must not be negative");
+        }
+
+        Slice<ContractResponse> slice = contractRepository
+                .findByUserIdOrderByCreatedAtDescIdDesc(userId, PageRequest.of(page, size))
+                .map(ContractResponse::from);
+        CountCache.Count total = countContracts(userId);
+
+        return PageResponse.from(slice, total.value(), total.estimated());
+    }
+
+    /**
+     * 분석별 독소 조항 목록 (id 순 커서 페이징)
+     */
+    public CursorPageResponse<ToxicClauseResponse> getToxicClauses(String analysisId, String cursor, int size,
+                                                                   boolean includeTotal) {
+        validatePageSize(size);
+        PageCursor position = PageCursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
+
+        List<ToxicClause> fetched = position == null
+                ? toxicClauseRepository.findByAnalysisIdOrderByIdAsc(analysisId, limit)
+                : toxicClauseRepository.findByAnalysisIdAndIdGreaterThanOrderByIdAsc(analysisId, position.id(), limit);
+
+        CursorPageResponse<ToxicClauseResponse> response = CursorPageResponse.of(fetched, size,
+                toxicClause -> PageCursor.ofId(toxicClause.getId()), ToxicClauseResponse::from);
+
+        if (!includeTotal) {
+            return response;
+        }
+        CountCache.Count total = countCache.get(DocumentCountListener.toxicClausesOfAnalysis(analysisId),
+                () -> toxicClauseRepository.countByAnalysisId(analysisId));
+        return response.withTotalElements(total.value(), total.estimated());
+    }
+
+    private CountCache.Count countContracts(String userId) {
+        return countCache.get(DocumentCountListener.contractsOfUser(userId),
+                () -> contractRepository.countByUserId(userId));
+    }
+
+    private void validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ValidationException("size", size, "Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.sbpb.ddobak.server.domain.documentProcess.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import com.sbpb.ddobak.server.common.utils.ContentHash;
+
+/**
+ * 계약서 본문 정규화 (표준 양식 계약서의 근사 중복 비교용)
+ *
+ * 계약마다 달라지는 값을 가려 같은 양식이면 같은 문자열이 되도록 한다.
+ * - 공백: 연속 공백을 하나로, 앞뒤 공백 제거
+ * - 숫자: 연속한 숫자와 구분자(금액, 날짜, 전화번호 등)를 '#'으로
+ * - 이름: "임대인: 홍길동"처럼 당사자 표시 뒤의 이름을 '<name>'으로
+ */
+public final class ContractTextNormalizer {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern NUMBER = Pattern.compile("\\d+(?:[.,:/-]\\d+)*");
+    private static final Pattern PARTY_NAME = Pattern.compile(
+            "(?<![가-힣])(임대인|임차인|매도인|매수인|근로자|사용자|사업주|대표자|대표이사|성명|이름|갑|을)\\s*[:：]\\s*[가-힣A-Za-z]{2,20}");
+
+    private ContractTextNormalizer() {
+    }
+
+    /**
+     * 한 줄 정규화 (내용이 없으면 빈 문자열)
+     */
+    public static String normalizeLine(String line) {
+        String normalized = WHITESPACE.matcher(line.strip()).replaceAll(" ");
+        normalized = PARTY_NAME.matcher(normalized).replaceAll("$1: <name>");
+        normalized = NUMBER.matcher(normalized).replaceAll("#");
+        return normalized.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 본문을 내용이 있는 줄 단위로 분리 (원문, 정규화 결과)
+     */
+    public static List<Line> lines(String content) {
+        List<Line> lines = new ArrayList<>();
+        content.lines().forEach(raw -> {
+            String original = raw.strip();
+            if (!original.isEmpty()) {
+                lines.add(new Line(original, normalizeLine(original)));
+            }
+        });
+        return lines;
+    }
+
+    /**
+     * 정규화한 본문 지문 (SHA-256, 같은 양식에 이름/숫자만 다른 계약서는 같은 값)
+     */
+    public static String fingerprint(List<Line> lines) {
+        MessageDigest digest = ContentHash.newDigest();
+        for (Line line : lines) {
+            digest.update(line.normalized().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+        }
+        return ContentHash.toHex(digest);
+    }
+
+    /**
+     * 본문의 한 줄
+     *
+     * @param original   앞뒤 공백을 제거한 원문
+     * @param normalized 정규화한 내용 (비교 키)
+     */
+    public record Line(String original, String normalized) {
+    }
+}
@@ -0,0 +1,161 @@
+package com.sbpb.ddobak.server.domain.documentProcess.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sbpb.ddobak.server.common.utils.IdGenerator;
+import com.sbpb.ddobak.server.common.utils.TextCompression;
+import com.sbpb.ddobak.server.domain.documentProcess.entity.ContractOcrPage;
+import com.sbpb.ddobak.server.domain.documentProcess.entity.ContractOcrResult;
+import com.sbpb.ddobak.server.domain.documentProcess.repository.ContractOcrPageRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * OCR 본문 저장소 (페이지별 압축 저장, 필요한 페이지만 읽기)
+ *
+ * OCR 본문은 페이지 구분 문자(\f)로 나누어 페이지마다 UTF-8 + Deflate로 압축해 저장한다.
+ * 여러 페이지 계약서도 한 페이지씩 읽을 수 있어 전체 본문을 힙에 올리지 않아도 된다.
+ */
+@Component
+public class OcrContentStore {
+
+    /**
+     * OCR 본문의 페이지 구분 문자 (Form Feed)
+     */
+    public static final char PAGE_BREAK = '\f';
+
+    private final ContractOcrPageRepository pageRepository;
+    private final EntityManager entityManager;
+
+    public OcrContentStore(ContractOcrPageRepository pageRepository, EntityManager entityManager) {
+        this.pageRepository = pageRepository;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * OCR 결과 저장 (호출한 쪽의 트랜잭션 안에서 실행)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public ContractOcrResult save(String contractId, String contentHash, String content) {
+        List<String> pages = splitPages(content);
+        ContractOcrResult result = ContractOcrResult.builder()
+            .id(IdGenerator.generateOcrResultId())
+            .contractId(contractId)
+            .pageCount(pages.size())
+            .contentLength(content.length())
+            .contentHash(contentHash)
+            .build();
+        entityManager.persist(result);
+
+        for (int i = 0; i < pages.size(); i++) {
+            String page = pages.get(i);
+            entityManager.persist(ContractOcrPage.builder()
+                .ocrResultId(result.getId())
+                .pageNo(i + 1)
+                .content(TextCompression.compress(page))
+                .charCount(page.length())
+                .build());
+        }
+        return result;
+    }
+
+    /**
+     * 같은 본문으로 다른 계약서의 OCR 결과 생성 (압축된 페이지를 그대로 복사)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public ContractOcrResult copy(ContractOcrResult source, String contractId) {
+        ContractOcrResult result = ContractOcrResult.builder()
+            .id(IdGenerator.generateOcrResultId())
+            .contractId(contractId)
+            .pageCount(source.getPageCount())
+            .contentLength(source.getContentLength())
+            .contentHash(source.getContentHash())
+            .build();
+        entityManager.persist(result);
+
+        for (ContractOcrPage page : pageRepository.findByOcrResultIdOrderByPageNoAsc(source.getId())) {
+            entityManager.persist(ContractOcrPage.builder()
+                .ocrResultId(result.getId())
+                .pageNo(page.getPageNo())
+                .content(page.getContent())
+                .charCount(page.getCharCount())
+                .build());
+        }
+        return result;
+    }
+
+    /**
+     * 본문 전체 읽기 (페이지 사이에 PAGE_BREAK)
+     */
+    public String read(ContractOcrResult result) {
+        StringBuilder content = new StringBuilder(result.getContentLength() != null ? result.getContentLength() : 0);
+        forEachPage(result, page -> {
+            if (page.pageNo() > 1) {
+                content.append(PAGE_BREAK);
+            }
+            content.append(page.text());
+        });
+        return content.toString();
+    }
+
+    /**
+     * 한 페이지 읽기 (없는 페이지면 빈 값)
+     */
+    public Optional<Page> readPage(ContractOcrResult result, int pageNo) {
+        return pageRepository.findByOcrResultIdAndPageNo(result.getId(), pageNo)
+            .map(page -> {
+                entityManager.detach(page);
+                return new Page(pageNo, TextCompression.decompress(page.getContent()));
+            });
+    }
+
+    /**
+     * 페이지 순서대로 한 페이지씩 읽어 전달 (한 번에 한 페이지만 메모리에 유지)
+     */
+    public void forEachPage(ContractOcrResult result, Consumer<Page> consumer) {
+        int pageCount = pageCount(result);
+        for (int pageNo = 1; pageNo <= pageCount; pageNo++) {
+            readPage(result, pageNo).ifPresent(consumer);
+        }
+    }
+
+    /**
+     * 페이지 수
+     */
+    public int pageCount(ContractOcrResult result) {
+        return result.getPageCount();
+    }
+
+    /**
+     * 본문을 페이지로 분리 (구분 문자가 없으면 한 페이지, 마지막 구분 문자 뒤의 빈 페이지는 제외)
+     */
+    static List<String> splitPages(String content) {
+        List<String> pages = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < content.length(); i++) {
+            if (content.charAt(i) == PAGE_BREAK) {
+                pages.add(content.substring(start, i));
+                start = i + 1;
+            }
+        }
+        if (start < content.length() || pages.isEmpty()) {
+            pages.add(content.substring(start));
+        }
+        return pages;
+    }
+
+    /**
+     * OCR 본문의 한 페이지
+     *
+     * @param pageNo 페이지 번호 (1부터)
+     */
+    public record Page(int pageNo, String text) {
+    }
+}
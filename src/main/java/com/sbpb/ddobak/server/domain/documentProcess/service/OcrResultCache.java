@@ -0,0 +1,109 @@
+package com.sbpb.ddobak.server.domain.documentProcess.service;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.sbpb.ddobak.server.common.utils.cache.NearCache;
+import com.sbpb.ddobak.server.config.DocumentProcessProperties;
+import com.sbpb.ddobak.server.domain.documentProcess.entity.ContractOcrResult;
+import com.sbpb.ddobak.server.domain.documentProcess.repository.ContractOcrResultRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 이미지 내용 해시 → 기존 OCR 결과 캐시
+ *
+ * 같은 이미지(재스캔 없이 다시 올린 파일, 공용 양식 등)는 OCR을 다시 호출하지 않고 이전 결과를 재사용한다.
+ * - 근거리: 해시 → OCR 결과 ID (크기 제한 LRU + TTL)
+ * - 영구(선택): contract_ocr_results.content_hash 인덱스 조회, 재시작/다른 인스턴스의 결과도 재사용
+ *
+ * 메트릭 (태그: cache=ocr-results)
+ * - ddobak.cache.requests (tier=near|db, result=hit|miss)
+ * - ddobak.cache.hit_ratio: 전체 조회 중 OCR을 건너뛴 비율
+ */
+@Component
+public class OcrResultCache {
+
+    private static final String CACHE_NAME = "ocr-results";
+
+    private final NearCache<String, String> nearCache;
+    private final ContractOcrResultRepository ocrResultRepository;
+    private final boolean enabled;
+    private final boolean persistent;
+
+    private final Counter lookups;
+    private final Counter hits;
+    private final Counter dbHits;
+    private final Counter dbMisses;
+
+    public OcrResultCache(DocumentProcessProperties properties, ContractOcrResultRepository ocrResultRepository,
+                          MeterRegistry meterRegistry) {
+        DocumentProcessProperties.OcrCache cache = properties.getOcrCache();
+        this.nearCache = new NearCache<>(CACHE_NAME, cache.getMaxSize(), cache.getTtl(), meterRegistry);
+        this.ocrResultRepository = ocrResultRepository;
+        this.enabled = cache.isEnabled();
+        this.persistent = cache.isPersistent();
+
+        this.lookups = Counter.builder("ddobak.cache.lookups").tag("cache", CACHE_NAME).register(meterRegistry);
+        this.hits = Counter.builder("ddobak.cache.hits").tag("cache", CACHE_NAME).register(meterRegistry);
+        this.dbHits = dbCounter(meterRegistry, "hit");
+        this.dbMisses = dbCounter(meterRegistry, "miss");
+        Gauge.builder("ddobak.cache.hit_ratio", this, OcrResultCache::hitRatio)
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 같은 내용의 기존 OCR 결과 조회
+     */
+    public Optional<ContractOcrResult> find(String contentHash) {
+        if (!enabled || contentHash == null) {
+            return Optional.empty();
+        }
+        lookups.increment();
+
+        String ocrResultId = nearCache.get(contentHash);
+        Optional<ContractOcrResult> found = ocrResultId != null
+                ? ocrResultRepository.findById(ocrResultId)
+                : Optional.empty();
+        if (found.isEmpty() && ocrResultId != null) {
+            nearCache.evict(contentHash);
+        }
+
+        if (found.isEmpty() && persistent) {
+            found = ocrResultRepository.findFirstByContentHashOrderByCreatedAtDesc(contentHash);
+            (found.isPresent() ? dbHits : dbMisses).increment();
+            found.ifPresent(result -> nearCache.put(contentHash, result.getId()));
+        }
+
+        if (found.isPresent()) {
+            hits.increment();
+        }
+        return found;
+    }
+
+    /**
+     * 새 OCR 결과 등록 (커밋 후 호출)
+     */
+    public void put(String contentHash, String ocrResultId) {
+        if (enabled && contentHash != null) {
+            nearCache.put(contentHash, ocrResultId);
+        }
+    }
+
+    private double hitRatio() {
+        double total = lookups.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    private static Counter dbCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ddobak.cache.requests")
+                .tag("cache", CACHE_NAME)
+                .tag("tier", "db")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -1,19 +1,35 @@
 package com.sbpb.ddobak.server.domain.user.controller;
 
 import com.sbpb.ddobak.server.common.response.ApiResponse;
+import com.sbpb.ddobak.server.common.response.ResponseTemplate;
 import com.sbpb.ddobak.server.common.response.SuccessCode;
+import com.sbpb.ddobak.server.common.utils.id.EntityIdPath;
+import com.sbpb.ddobak.server.common.utils.id.EntityIdType;
+import com.sbpb.ddobak.server.domain.user.dto.BulkFormat;
+import com.sbpb.ddobak.server.domain.user.dto.BulkImportResult;
 import com.sbpb.ddobak.server.domain.user.dto.CreateUserRequest;
 import com.sbpb.ddobak.server.domain.user.dto.UserResponse;
+import com.sbpb.ddobak.server.domain.user.service.UserBulkService;
 import com.sbpb.ddobak.server.domain.user.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
 
 /**
  * 사용자 컨트롤러 (테스트용 간단 구현)
@@ -25,6 +41,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserController {
 
     private final UserService userService;
+    private final UserBulkService userBulkService;
 
     /**
      * 사용자 생성 (테스트용)
@@ -40,4 +57,64 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.CREATED)
             .body(ApiResponse.success(response, SuccessCode.CREATED));
     }
-} 
\ No newline at end of file
+
+    /**
+     * 사용자 조회 (ID 형식이 맞지 않으면 조회 없이 400)
+     */
+    @GetMapping("/{userId}")
+    public ResponseEntity<ApiResponse<UserResponse>> getUser(
+            @EntityIdPath(EntityIdType.USER) String userId) {
+
+        UserResponse response = userService.getUser(userId);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 사용자 삭제 (소프트 삭제, 데이터 없는 응답이므로 미리 직렬화한 템플릿 사용)
+     */
+    @DeleteMapping("/{userId}")
+    public ResponseEntity<byte[]> deleteUser(
+            @EntityIdPath(EntityIdType.USER) String userId) {
+
+        userService.deleteUser(userId);
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(ResponseTemplate.success(SuccessCode.DELETED).render());
+    }
+
+    /**
+     * 사용자 대량 가져오기 (NDJSON 또는 CSV, 본문을 스트리밍으로 처리)
+     *
+     * 잘못된 행이 있어도 나머지는 저장하고, 실패 행은 결과의 failures로 알려준다.
+     */
+    @PostMapping(value = "/bulk", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<ApiResponse<BulkImportResult>> importUsers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+
+        BulkImportResult result = userBulkService.importUsers(body, BulkFormat.fromContentType(contentType));
+
+        return ResponseEntity.ok(ApiResponse.success(result, SuccessCode.OPERATION_COMPLETED));
+    }
+
+    /**
+     * 사용자 내보내기 (ndjson | csv)
+     *
+     * 전체를 메모리에 올리지 않도록 ApiResponse로 감싸지 않고 행 단위로 바로 내보낸다.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(defaultValue = "ndjson") String format) {
+
+        BulkFormat bulkFormat = BulkFormat.fromName(format);
+        StreamingResponseBody body = out -> userBulkService.exportUsers(out, bulkFormat);
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(bulkFormat.getMediaType() + ";charset=UTF-8"))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"users." + bulkFormat.name().toLowerCase() + "\"")
+            .body(body);
+    }
+}
@@ -0,0 +1,51 @@
+package com.sbpb.ddobak.server.domain.user.dto;
+
+import java.util.Locale;
+
+import com.sbpb.ddobak.server.common.exception.ValidationException;
+
+/**
+ * 사용자 대량 가져오기/내보내기 형식
+ */
+public enum BulkFormat {
+
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv");
+
+    private final String mediaType;
+
+    BulkFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Content-Type 헤더로 형식 판별 (charset 등 파라미터 무시)
+     */
+    public static BulkFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            String type = contentType.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+            for (BulkFormat format : values()) {
+                if (format.mediaType.equals(type)) {
+                    return format;
+                }
+            }
+        }
+        throw new ValidationException("Content-Type", contentType, "Supported types: application/x-ndjson, text/csv");
+    }
+
+    /**
+     * 이름으로 형식 판별 (ndjson, csv)
+     */
+    public static BulkFormat fromName(String name) {
+        for (BulkFormat format : values()) {
+            if (format.name().equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw new ValidationException("format", name, "Supported formats: ndjson, csv");
+    }
+}
@@ -0,0 +1,50 @@
+package com.sbpb.ddobak.server.domain.user.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * 사용자 대량 가져오기 결과
+ *
+ * 실패 행은 최대 MAX_REPORTED_FAILURES건까지만 상세를 담고 나머지는 개수만 센다.
+ */
+@Getter
+public class BulkImportResult {
+
+    private static final int MAX_REPORTED_FAILURES = 1_000;
+
+    private int totalRows;
+    private int succeeded;
+    private int failed;
+    private boolean failuresTruncated;
+    private final List<RowFailure> failures = new ArrayList<>();
+
+    public void countRow() {
+        totalRows++;
+    }
+
+    public void addSucceeded(int count) {
+        succeeded += count;
+    }
+
+    public void addFailure(int line, String email, String reason) {
+        failed++;
+        if (failures.size() < MAX_REPORTED_FAILURES) {
+            failures.add(new RowFailure(line, email, reason));
+        } else {
+            failuresTruncated = true;
+        }
+    }
+
+    /**
+     * 실패한 행 정보
+     *
+     * @param line   입력 줄 번호 (1부터, CSV 헤더 포함)
+     * @param email  이메일 (파싱 실패 시 null)
+     * @param reason 실패 사유
+     */
+    public record RowFailure(int line, String email, String reason) {
+    }
+}
@@ -1,21 +1,42 @@
 package com.sbpb.ddobak.server.domain.user.entity;
 
+import com.sbpb.ddobak.server.domain.user.entity.listener.UserCacheListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 
 /**
  * 사용자 엔티티
+ * 
+ * ID를 직접 할당하므로 Persistable로 신규 여부를 알려 save() 시 merge용 SELECT 없이 바로 INSERT한다.
+ * 
+ * 삭제된 사용자는 모든 조회(JPQL, 파생 쿼리, findById)에서 자동으로 제외된다. (@SQLRestriction)
+ * 삭제된 사용자의 이메일은 UserArchiveJob이 보관 테이블로 옮기기 전까지 재가입에 사용할 수 없다.
  */
 @Entity
-@Table(name = "users")
+@EntityListeners(UserCacheListener.class)
+@SQLRestriction("is_deleted = false")
+@Table(name = "users", uniqueConstraints = {
+    // 활성 사용자 이메일 조회(email = ? and is_deleted = false)도 이 유니크 인덱스로 처리한다
+    @UniqueConstraint(name = User.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email")
+}, indexes = {
+    // 보관 대상(오래전 삭제된 사용자) 조회
+    @Index(name = "idx_users_deleted_at", columnList = "is_deleted, deleted_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class User {
+public class User implements Persistable<String> {
+
+    /**
+     * 이메일 유니크 제약조건 이름 (중복 가입 판별에 사용)
+     */
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_users_email";
 
     @Id
     @Column(name = "id")
@@ -39,6 +60,13 @@ public class User {
     @Column(name = "is_deleted", nullable = false)
     private Boolean isDeleted;
 
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
     @Builder
     public User(String id, String email, String name, String nickname, 
                 LocalDateTime createdAt, LocalDateTime lastLoginAt, Boolean isDeleted) {
@@ -61,17 +89,30 @@ public class User {
         }
     }
 
+    @PostPersist
+    @PostLoad
+    protected void markNotNew() {
+        this.newEntity = false;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
     /**
      * 마지막 로그인 시간 업데이트
+     * 로그인 처리에서는 LastLoginWriteBuffer.recordLogin()을 사용 (지연 배치 반영)
      */
     public void updateLastLoginAt() {
         this.lastLoginAt = LocalDateTime.now();
     }
 
     /**
-     * 사용자 삭제 처리 (소프트 삭제)
+     * 사용자 삭제 처리 (소프트 삭제, 삭제 시각은 보관 처리 기준)
      */
     public void delete() {
         this.isDeleted = true;
+        this.deletedAt = LocalDateTime.now();
     }
 } 
\ No newline at end of file
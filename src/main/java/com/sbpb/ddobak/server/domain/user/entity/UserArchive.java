@@ -0,0 +1,47 @@
+package com.sbpb.ddobak.server.domain.user.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 사용자 엔티티 (삭제 후 보관 기간이 지난 사용자)
+ * 
+ * UserArchiveJob이 users 테이블에서 옮겨 오며, 애플리케이션에서는 조회만 한다.
+ */
+@Entity
+@Table(name = "users_archive", indexes = {
+    @Index(name = "idx_users_archive_email", columnList = "email")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserArchive {
+
+    @Id
+    @Column(name = "id")
+    private String id;
+
+    @Column(name = "email", nullable = false)
+    private String email;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "nickname")
+    private String nickname;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_login_at")
+    private LocalDateTime lastLoginAt;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
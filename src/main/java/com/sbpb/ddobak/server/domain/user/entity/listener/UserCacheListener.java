@@ -0,0 +1,42 @@
+package com.sbpb.ddobak.server.domain.user.entity.listener;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.sbpb.ddobak.server.domain.user.entity.User;
+import com.sbpb.ddobak.server.domain.user.service.UserCache;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 변경(delete(), updateLastLoginAt() 등) 시 사용자 캐시 무효화 (JPA 엔티티 리스너)
+ *
+ * 커밋 전에 무효화하면 다른 요청이 이전 값을 다시 캐시할 수 있으므로 커밋 후에 무효화한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheListener {
+
+    private final UserCache userCache;
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(User user) {
+        String userId = user.getId();
+        String email = user.getEmail();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            userCache.evict(userId, email);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                userCache.evict(userId, email);
+            }
+        });
+    }
+}
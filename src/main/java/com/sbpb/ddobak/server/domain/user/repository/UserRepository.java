@@ -1,13 +1,20 @@
 package com.sbpb.ddobak.server.domain.user.repository;
 
 import com.sbpb.ddobak.server.domain.user.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * 사용자 레포지토리
+ * 
+ * User의 @SQLRestriction으로 모든 JPQL/파생 쿼리는 삭제되지 않은 사용자만 조회한다.
  */
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
@@ -21,4 +28,16 @@ public interface UserRepository extends JpaRepository<User, String> {
      * 이메일 존재 여부 확인
      */
     boolean existsByEmail(String email);
-} 
\ No newline at end of file
+
+    /**
+     * 주어진 이메일 중 이미 사용 중인 이메일 조회 (대량 가져오기 중복 검사)
+     * 유니크 제약조건과 같은 기준이 되도록 삭제된 사용자도 포함한다. (@SQLRestriction 미적용 SQL)
+     */
+    @Query(value = "select email from users where email in (:emails)", nativeQuery = true)
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * ID 키셋 페이징 조회 (내보내기)
+     */
+    List<User> findByIdGreaterThanOrderByIdAsc(String id, Limit limit);
+}
@@ -0,0 +1,140 @@
+package com.sbpb.ddobak.server.domain.user.service;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.sbpb.ddobak.server.config.LastLoginProperties;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 마지막 로그인 시간 지연 기록 버퍼 (write-behind)
+ *
+ * 로그인마다 users 행을 UPDATE하지 않고 사용자별 최신 시간만 메모리에 모았다가
+ * 주기적으로(또는 대기 건수가 많아지면) JDBC 배치 UPDATE로 반영한다.
+ * 로그인 요청은 DB 쓰기를 기다리지 않는다.
+ *
+ * 비정상 종료 시 마지막 반영 이후의 로그인 시간은 유실될 수 있다. (정상 종료 시에는 반영)
+ */
+@Component
+@Slf4j
+public class LastLoginWriteBuffer {
+
+    private static final String UPDATE_SQL =
+            "update users set last_login_at = ? where id = ? and (last_login_at is null or last_login_at < ?)";
+
+    private final Map<String, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskScheduler taskScheduler;
+    private final UserCache userCache;
+    private final LastLoginProperties properties;
+
+    public LastLoginWriteBuffer(JdbcTemplate jdbcTemplate, TaskScheduler taskScheduler, UserCache userCache,
+                                LastLoginProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.taskScheduler = taskScheduler;
+        this.userCache = userCache;
+        this.properties = properties;
+        Gauge.builder("ddobak.user.last_login.pending", pending, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 지금 로그인한 것으로 기록
+     *
+     * 메모리만 갱신하므로 트랜잭션 밖에서 호출한다. (UserService를 거치면 읽기 전용 트랜잭션이 커넥션을 잡음)
+     */
+    public void recordLogin(String userId) {
+        record(userId, LocalDateTime.now());
+    }
+
+    /**
+     * 로그인 시간 기록 (같은 사용자는 가장 최근 시간만 유지)
+     */
+    public void record(String userId, LocalDateTime loginAt) {
+        pending.merge(userId, loginAt, (previous, current) -> current.isAfter(previous) ? current : previous);
+
+        if (pending.size() >= properties.getFlushThreshold() && flushScheduled.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::flush, Instant.now());
+        }
+    }
+
+    /**
+     * 대기 중인 로그인 시간 반영
+     */
+    @Scheduled(fixedDelayString = "${ddobak.user.last-login.flush-interval:5s}")
+    public synchronized void flush() {
+        flushScheduled.set(false);
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<String, LocalDateTime>> batch = new ArrayList<>(Math.min(pending.size(), properties.getBatchSize()));
+        int flushed = 0;
+        for (Map.Entry<String, LocalDateTime> entry : pending.entrySet()) {
+            // 그 사이 더 최근 로그인이 기록되었으면 제거되지 않고 다음 반영 때 처리
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                batch.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+            if (batch.size() >= properties.getBatchSize()) {
+                flushed += write(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            flushed += write(batch);
+        }
+
+        log.debug("Last login times flushed: {}", flushed);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        if (!pending.isEmpty()) {
+            log.warn("Last login times not flushed on shutdown: {}", pending.size());
+        }
+    }
+
+    /**
+     * 현재 대기 중인 사용자 수
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    private int write(List<Map.Entry<String, LocalDateTime>> batch) {
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch, batch.size(), (ps, entry) -> {
+                Timestamp loginAt = Timestamp.valueOf(entry.getValue());
+                ps.setTimestamp(1, loginAt);
+                ps.setString(2, entry.getKey());
+                ps.setTimestamp(3, loginAt);
+            });
+        } catch (RuntimeException e) {
+            // 다음 반영 때 다시 시도 (더 최근 값이 있으면 그 값 유지)
+            batch.forEach(entry -> pending.merge(entry.getKey(), entry.getValue(),
+                    (current, failed) -> current.isAfter(failed) ? current : failed));
+            log.warn("Failed to flush last login times, will retry - size: {}", batch.size(), e);
+            return 0;
+        }
+
+        batch.forEach(entry -> userCache.evictById(entry.getKey()));
+        return batch.size();
+    }
+}
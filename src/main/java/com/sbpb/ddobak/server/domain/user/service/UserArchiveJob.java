@@ -0,0 +1,90 @@
+package com.sbpb.ddobak.server.domain.user.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sbpb.ddobak.server.config.UserArchiveProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 삭제된 사용자 보관 작업
+ *
+ * 삭제 후 보관 기간이 지난 사용자를 users에서 users_archive로 batchSize씩 옮긴다.
+ * 배치마다 별도 트랜잭션이므로 users 테이블을 오래 잠그지 않고, 중간에 실패해도 이미 옮긴 배치는 유지된다.
+ * 삭제된 행이 users에 쌓이지 않으므로 활성 사용자 조회 인덱스도 커지지 않는다.
+ *
+ * User에 @SQLRestriction이 걸려 있어 삭제된 행을 JPQL로 조회할 수 없으므로 SQL로 직접 처리한다.
+ */
+@Component
+@Slf4j
+public class UserArchiveJob {
+
+    private static final String SELECT_SQL =
+            "select id from users where is_deleted = true and deleted_at < :cutoff order by deleted_at limit :limit";
+    private static final String INSERT_SQL =
+            "insert into users_archive (id, email, name, nickname, created_at, last_login_at, deleted_at, archived_at) "
+            + "select id, email, name, nickname, created_at, last_login_at, deleted_at, :archivedAt "
+            + "from users where id in (:ids) and is_deleted = true";
+    private static final String DELETE_SQL = "delete from users where id in (:ids) and is_deleted = true";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserArchiveProperties properties;
+    private final Counter archivedCounter;
+
+    public UserArchiveJob(NamedParameterJdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                          UserArchiveProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.archivedCounter = Counter.builder("ddobak.user.archived").register(meterRegistry);
+    }
+
+    /**
+     * 보관 기간이 지난 삭제 사용자 이동
+     *
+     * @return 옮긴 사용자 수
+     */
+    @Scheduled(cron = "${ddobak.user.archive.cron:0 30 3 * * *}")
+    public int archive() {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp cutoff = Timestamp.valueOf(now.minus(properties.getRetention()));
+        Timestamp archivedAt = Timestamp.valueOf(now);
+
+        int total = 0;
+        int moved;
+        do {
+            moved = transactionTemplate.execute(status -> archiveBatch(cutoff, archivedAt));
+            total += moved;
+        } while (moved == properties.getBatchSize());
+
+        archivedCounter.increment(total);
+        if (total > 0) {
+            log.info("Archived deleted users: {}", total);
+        }
+        return total;
+    }
+
+    private int archiveBatch(Timestamp cutoff, Timestamp archivedAt) {
+        List<String> ids = jdbcTemplate.queryForList(SELECT_SQL,
+                Map.of("cutoff", cutoff, "limit", properties.getBatchSize()), String.class);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.update(INSERT_SQL, Map.of("ids", ids, "archivedAt", archivedAt));
+        jdbcTemplate.update(DELETE_SQL, Map.of("ids", ids));
+        return ids.size();
+    }
+}
@@ -0,0 +1,281 @@
+package com.sbpb.ddobak.server.domain.user.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sbpb.ddobak.server.common.exception.ValidationException;
+import com.sbpb.ddobak.server.common.utils.CsvUtils;
+import com.sbpb.ddobak.server.common.utils.IdGenerator;
+import com.sbpb.ddobak.server.domain.user.dto.BulkFormat;
+import com.sbpb.ddobak.server.domain.user.dto.BulkImportResult;
+import com.sbpb.ddobak.server.domain.user.dto.CreateUserRequest;
+import com.sbpb.ddobak.server.domain.user.dto.UserResponse;
+import com.sbpb.ddobak.server.domain.user.entity.User;
+import com.sbpb.ddobak.server.domain.user.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 대량 가져오기/내보내기 서비스
+ *
+ * 가져오기는 요청 본문을 한 줄씩 읽어 CHUNK_SIZE 단위로 저장한다.
+ * - 청크마다 트랜잭션 하나, persist 후 flush/clear로 INSERT를 JDBC 배치로 묶음 (hibernate.jdbc.batch_size)
+ * - 입력 내 중복 이메일은 메모리에서, 기존 사용자와의 중복은 청크마다 IN 조회 한 번으로 거름
+ * - 청크 저장이 실패하면(동시 가입 등) 해당 청크만 한 건씩 다시 저장하여 실패 행을 가려냄
+ * 내보내기는 ID 키셋 페이징으로 EXPORT_PAGE_SIZE씩 읽어 바로 출력한다.
+ */
+@Service
+@Slf4j
+public class UserBulkService {
+
+    static final int CHUNK_SIZE = 500; // hibernate.jdbc.batch_size와 맞춤
+    private static final int EXPORT_PAGE_SIZE = 1_000;
+    private static final List<String> CSV_COLUMNS =
+        List.of("id", "email", "name", "nickname", "created_at", "last_login_at");
+
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserBulkService(UserRepository userRepository, EntityManager entityManager, Validator validator,
+                           ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 사용자 대량 가져오기
+     *
+     * 잘못된 행은 건너뛰고 실패 목록에 남긴 채 나머지를 계속 저장한다.
+     * CSV는 첫 줄이 헤더이며 email, name, nickname 열만 사용한다. (순서 무관)
+     */
+    public BulkImportResult importUsers(InputStream body, BulkFormat format) throws IOException {
+        BulkImportResult result = new BulkImportResult();
+        Set<String> seenEmails = new HashSet<>();
+        List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        Map<String, Integer> csvHeader = null;
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == BulkFormat.CSV && csvHeader == null) {
+                csvHeader = parseCsvHeader(line);
+                continue;
+            }
+
+            result.countRow();
+            CreateUserRequest request;
+            try {
+                request = format == BulkFormat.CSV ? parseCsvRow(line, csvHeader) : parseJsonRow(line);
+            } catch (JsonProcessingException | IllegalArgumentException e) {
+                result.addFailure(lineNumber, null, "Malformed row");
+                continue;
+            }
+
+            Set<ConstraintViolation<CreateUserRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                result.addFailure(lineNumber, request.getEmail(), violations.iterator().next().getMessage());
+                continue;
+            }
+            if (!seenEmails.add(request.getEmail())) {
+                result.addFailure(lineNumber, request.getEmail(), "Duplicate email in import");
+                continue;
+            }
+
+            chunk.add(new ImportRow(lineNumber, request));
+            if (chunk.size() == CHUNK_SIZE) {
+                saveChunk(chunk, result);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            saveChunk(chunk, result);
+        }
+
+        log.info("User bulk import finished - rows: {}, succeeded: {}, failed: {}",
+            result.getTotalRows(), result.getSucceeded(), result.getFailed());
+        return result;
+    }
+
+    /**
+     * 사용자 전체 내보내기 (ID 순)
+     *
+     * 페이지마다 짧은 조회 트랜잭션을 쓰므로 내보내는 동안 커넥션을 계속 잡고 있지 않는다.
+     */
+    public void exportUsers(OutputStream out, BulkFormat format) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == BulkFormat.CSV) {
+            writer.write(String.join(",", CSV_COLUMNS));
+            writer.write('\n');
+        }
+
+        StringBuilder csvLine = new StringBuilder();
+        String lastId = "";
+        int exported = 0;
+        List<User> page;
+        do {
+            page = userRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(EXPORT_PAGE_SIZE));
+            for (User user : page) {
+                if (format == BulkFormat.CSV) {
+                    csvLine.setLength(0);
+                    writer.append(toCsvLine(csvLine, user));
+                } else {
+                    writer.write(objectMapper.writeValueAsString(UserResponse.from(user)));
+                }
+                writer.write('\n');
+            }
+            exported += page.size();
+            if (!page.isEmpty()) {
+                lastId = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == EXPORT_PAGE_SIZE);
+
+        writer.flush();
+        log.info("User export finished - format: {}, users: {}", format, exported);
+    }
+
+    /**
+     * 청크 저장 (기존 이메일 제외 후 한 트랜잭션으로 배치 INSERT)
+     */
+    private void saveChunk(List<ImportRow> chunk, BulkImportResult result) {
+        Set<String> existing = new HashSet<>(userRepository.findExistingEmails(
+            chunk.stream().map(row -> row.request().getEmail()).collect(Collectors.toList())));
+
+        List<ImportRow> rows = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            if (existing.contains(row.request().getEmail())) {
+                result.addFailure(row.line(), row.request().getEmail(), "Email already exists");
+            } else {
+                rows.add(row);
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                rows.forEach(row -> entityManager.persist(toUser(row.request())));
+                entityManager.flush();
+                entityManager.clear();
+            });
+            result.addSucceeded(rows.size());
+        } catch (RuntimeException e) {
+            log.warn("User import chunk failed, retrying row by row - rows: {}, reason: {}",
+                rows.size(), e.getMessage());
+            rows.forEach(row -> saveRow(row, result));
+        }
+    }
+
+    /**
+     * 한 건씩 저장 (청크 저장 실패 시 실패 행을 가려내기 위함)
+     */
+    private void saveRow(ImportRow row, BulkImportResult result) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.persist(toUser(row.request()));
+                entityManager.flush();
+            });
+            result.addSucceeded(1);
+        } catch (RuntimeException e) {
+            String reason = userRepository.existsByEmail(row.request().getEmail())
+                ? "Email already exists"
+                : "Insert failed";
+            result.addFailure(row.line(), row.request().getEmail(), reason);
+        }
+    }
+
+    private User toUser(CreateUserRequest request) {
+        return User.builder()
+            .id(IdGenerator.generateUserId())
+            .email(request.getEmail())
+            .name(request.getName())
+            .nickname(request.getNickname())
+            .build();
+    }
+
+    private CreateUserRequest parseJsonRow(String line) throws JsonProcessingException {
+        CreateUserRequest request = objectMapper.readValue(line, CreateUserRequest.class);
+        if (request == null) {
+            throw new IllegalArgumentException("Empty row");
+        }
+        return request;
+    }
+
+    private Map<String, Integer> parseCsvHeader(String line) {
+        List<String> columns = CsvUtils.parseLine(line);
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            header.put(columns.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!header.containsKey("email") || !header.containsKey("name")) {
+            throw new ValidationException("header", line, "CSV header must contain email and name columns");
+        }
+        return header;
+    }
+
+    private CreateUserRequest parseCsvRow(String line, Map<String, Integer> header) {
+        List<String> fields = CsvUtils.parseLine(line);
+        return CreateUserRequest.builder()
+            .email(csvField(fields, header, "email"))
+            .name(csvField(fields, header, "name"))
+            .nickname(csvField(fields, header, "nickname"))
+            .build();
+    }
+
+    private String csvField(List<String> fields, Map<String, Integer> header, String column) {
+        Integer index = header.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private StringBuilder toCsvLine(StringBuilder sb, User user) {
+        CsvUtils.appendField(sb, user.getId()).append(',');
+        CsvUtils.appendField(sb, user.getEmail()).append(',');
+        CsvUtils.appendField(sb, user.getName()).append(',');
+        CsvUtils.appendField(sb, user.getNickname()).append(',');
+        CsvUtils.appendField(sb, user.getCreatedAt() == null ? null : user.getCreatedAt().toString()).append(',');
+        return CsvUtils.appendField(sb, user.getLastLoginAt() == null ? null : user.getLastLoginAt().toString());
+    }
+
+    private record ImportRow(int line, CreateUserRequest request) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.sbpb.ddobak.server.domain.user.service;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sbpb.ddobak.server.common.utils.cache.NearCache;
+import com.sbpb.ddobak.server.common.utils.cache.SharedCache;
+import com.sbpb.ddobak.server.common.utils.cache.TwoTierCache;
+import com.sbpb.ddobak.server.config.CacheProperties;
+import com.sbpb.ddobak.server.domain.user.dto.UserResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 사용자 조회 캐시 (ID, 이메일 기준)
+ *
+ * 엔티티가 아닌 UserResponse 스냅샷을 캐시하며, 사용자 변경 시 UserCacheListener가 무효화한다.
+ */
+@Component
+public class UserCache {
+
+    private static final String CACHE_NAME = "users";
+
+    private final TwoTierCache<UserResponse> cache;
+
+    public UserCache(CacheProperties properties, SharedCache sharedCache, ObjectMapper objectMapper,
+                     MeterRegistry meterRegistry) {
+        NearCache<String, UserResponse> nearCache = new NearCache<>(CACHE_NAME,
+                properties.getNear().getMaxSize(), properties.getNear().getTtl(), meterRegistry);
+        this.cache = new TwoTierCache<>(CACHE_NAME, nearCache, sharedCache, properties.getShared().getTtl(),
+                UserResponse.class, objectMapper, meterRegistry);
+    }
+
+    /**
+     * ID로 조회 (캐시 미스 시 loader 조회 결과를 캐시)
+     */
+    public Optional<UserResponse> findById(String userId, Supplier<Optional<UserResponse>> loader) {
+        return Optional.ofNullable(cache.get(idKey(userId), () -> loader.get().orElse(null)));
+    }
+
+    /**
+     * 이메일로 조회 (캐시 미스 시 loader 조회 결과를 캐시)
+     */
+    public Optional<UserResponse> findByEmail(String email, Supplier<Optional<UserResponse>> loader) {
+        return Optional.ofNullable(cache.get(emailKey(email), () -> loader.get().orElse(null)));
+    }
+
+    /**
+     * 사용자 캐시 무효화 (ID, 이메일 키 모두)
+     */
+    public void evict(String userId, String email) {
+        cache.evict(idKey(userId));
+        cache.evict(emailKey(email));
+    }
+
+    /**
+     * ID 키만 무효화 (이메일 키는 근거리/공유 캐시 TTL 이후 갱신)
+     */
+    public void evictById(String userId) {
+        cache.evict(idKey(userId));
+    }
+
+    private static String idKey(String userId) {
+        return "user:id:" + userId;
+    }
+
+    private static String emailKey(String email) {
+        return "user:email:" + email;
+    }
+}
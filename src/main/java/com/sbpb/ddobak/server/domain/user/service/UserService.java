@@ -1,6 +1,7 @@
 package com.sbpb.ddobak.server.domain.user.service;
 
 import com.sbpb.ddobak.server.common.exception.DuplicateResourceException;
+import com.sbpb.ddobak.server.common.exception.ResourceNotFoundException;
 import com.sbpb.ddobak.server.common.utils.IdGenerator;
 import com.sbpb.ddobak.server.domain.user.dto.CreateUserRequest;
 import com.sbpb.ddobak.server.domain.user.dto.UserResponse;
@@ -8,9 +9,13 @@ import com.sbpb.ddobak.server.domain.user.entity.User;
 import com.sbpb.ddobak.server.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+
 /**
  * 사용자 서비스
  */
@@ -21,19 +26,18 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserCache userCache;
 
     /**
      * 사용자 생성 (테스트용)
+     * 
+     * 중복 검사 조회 없이 바로 INSERT하고, 이메일 유니크 제약조건 위반을 중복 예외로 변환한다.
+     * (동시에 같은 이메일로 가입해도 한 건만 성공)
      */
     @Transactional
     public UserResponse createUser(CreateUserRequest request) {
         log.info("Creating user with email: {}", request.getEmail());
 
-        // 이메일 중복 검사
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw DuplicateResourceException.email(request.getEmail());
-        }
-
         // 사용자 생성
         User user = User.builder()
             .id(IdGenerator.generateUserId())
@@ -42,10 +46,63 @@ public class UserService {
             .nickname(request.getNickname())
             .build();
 
-        User savedUser = userRepository.save(user);
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            if (isEmailConflict(e)) {
+                throw DuplicateResourceException.email(request.getEmail());
+            }
+            throw e;
+        }
 
         log.info("User created successfully with ID: {}", savedUser.getId());
 
         return UserResponse.from(savedUser);
     }
-} 
\ No newline at end of file
+
+    /**
+     * 사용자 조회 (캐시 우선)
+     * 
+     * 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션을 시작하지 않는다. (SUPPORTS)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public UserResponse getUser(String userId) {
+        return userCache.findById(userId, () -> userRepository.findById(userId).map(UserResponse::from))
+            .orElseThrow(() -> ResourceNotFoundException.user(userId));
+    }
+
+    /**
+     * 이메일로 사용자 조회 (캐시 우선)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public UserResponse getUserByEmail(String email) {
+        return userCache.findByEmail(email, () -> userRepository.findByEmail(email).map(UserResponse::from))
+            .orElseThrow(() -> ResourceNotFoundException.userByEmail(email));
+    }
+
+    /**
+     * 사용자 삭제 (소프트 삭제, 보관 기간이 지나면 UserArchiveJob이 보관 테이블로 이동)
+     */
+    @Transactional
+    public void deleteUser(String userId) {
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> ResourceNotFoundException.user(userId));
+
+        user.delete();
+
+        log.info("User deleted: {}", userId);
+    }
+
+    /**
+     * 이메일 유니크 제약조건 위반 여부 (DB마다 제약조건 이름 표기가 달라 포함 여부로 판단)
+     */
+    private boolean isEmailConflict(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase().contains(User.EMAIL_UNIQUE_CONSTRAINT);
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,74 @@
+package com.sbpb.ddobak.server.common.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sbpb.ddobak.server.common.exception.ValidationException;
+
+/**
+ * 커서 페이징 위치 인코딩 테스트
+ */
+class PageCursorTest {
+
+    @Test
+    @DisplayName("인코딩 - created_at(나노초 포함)과 id가 그대로 복원")
+    void encode_RoundTrip() {
+        PageCursor cursor = new PageCursor(LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123_456_789), "C4F7K2QZ");
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+        assertThat(PageCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("인코딩 - id만 있는 커서도 복원")
+    void encode_IdOnly_RoundTrip() {
+        PageCursor cursor = PageCursor.ofId("T14HDWA3Z00A2B");
+
+        PageCursor decoded = PageCursor.decode(cursor.encode());
+
+        assertThat(decoded.createdAt()).isNull();
+        assertThat(decoded.id()).isEqualTo("T14HDWA3Z00A2B");
+    }
+
+    @Test
+    @DisplayName("해석 - null이나 빈 문자열은 첫 페이지(null)")
+    void decode_Empty_FirstPage() {
+        assertThat(PageCursor.decode(null)).isNull();
+        assertThat(PageCursor.decode("")).isNull();
+    }
+
+    @Test
+    @DisplayName("해석 - 변조되거나 형식이 맞지 않는 커서는 ValidationException")
+    void decode_Malformed_Rejected() {
+        String valid = new PageCursor(LocalDateTime.of(2024, 1, 15, 10, 30), "C4F7K2QZ").encode();
+        String[] malformed = {
+            "not base64!",
+            valid.substring(0, valid.length() - 1) + "*",
+            valid + "=",
+            urlBase64("2024-01-15T10:30C4F7K2QZ"),
+            urlBase64("2024-01-15T10:30|"),
+            urlBase64("2024-13-45T10:30|C4F7K2QZ"),
+            urlBase64("yesterday|C4F7K2QZ"),
+            "A".repeat(129)
+        };
+
+        for (String cursor : malformed) {
+            assertThatThrownBy(() -> PageCursor.decode(cursor))
+                .as(cursor)
+                .isInstanceOf(ValidationException.class);
+        }
+    }
+
+    private static String urlBase64(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,137 @@
+package com.sbpb.ddobak.server.common.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sbpb.ddobak.server.common.exception.ErrorCode;
+import com.sbpb.ddobak.server.domain.user.dto.UserResponse;
+
+/**
+ * ApiResponse/PageResponse 전용 직렬화기 테스트
+ *
+ * 같은 값을 어노테이션 기반 기본 직렬화(plain)와 전용 직렬화기(module)로 출력해 문자열이 같은지 비교한다.
+ */
+class ResponseSerializerTest {
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2024, 3, 5, 9, 8, 7, 987_654_321);
+
+    private final ObjectMapper plain = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final ObjectMapper module = new ObjectMapper().registerModule(new JavaTimeModule())
+            .registerModule(new ResponseJacksonModule());
+
+    @Test
+    @DisplayName("ApiResponse - 데이터가 null이면 data 필드 생략")
+    void apiResponse_NullData() throws Exception {
+        assertSame(fixed(ApiResponse.success((Object) null)));
+        assertSame(fixed(ApiResponse.success()));
+        assertSame(fixed(ApiResponse.success(SuccessCode.DELETED)));
+        assertSame(fixed(ApiResponse.error(ErrorCode.INVALID_INPUT)));
+
+        assertThat(module.writeValueAsString(fixed(ApiResponse.success()))).doesNotContain("\"data\"");
+    }
+
+    @Test
+    @DisplayName("ApiResponse - 메시지/추적 ID가 null이면 생략")
+    void apiResponse_NullFields() throws Exception {
+        ApiResponse<String> response = fixed(ApiResponse.success("value"));
+        response.setMessage(null);
+        response.setTraceId(null);
+        response.setTimestamp(null);
+
+        assertSame(response);
+    }
+
+    @Test
+    @DisplayName("ApiResponse - 중첩 DTO, 컬렉션, 맵 데이터")
+    void apiResponse_NestedData() throws Exception {
+        UserResponse user = UserResponse.builder()
+            .id("U4F7K2QZ")
+            .email("user@example.com")
+            .name("사용자 \"따옴표\"")
+            .createdAt(TIMESTAMP)
+            .isDeleted(false)
+            .build();
+
+        assertSame(fixed(ApiResponse.success(user, SuccessCode.DATA_RETRIEVED)));
+        assertSame(fixed(ApiResponse.success(List.of(user, user))));
+        assertSame(fixed(ApiResponse.success(Map.of("user", user, "count", 2))));
+        assertSame(fixed(ApiResponse.success(new Nested("outer", new Nested("inner", null)))));
+    }
+
+    @Test
+    @DisplayName("ApiResponse - timestamp는 초 단위 yyyy-MM-dd'T'HH:mm:ss")
+    void apiResponse_TimestampFormat() throws Exception {
+        String json = module.writeValueAsString(fixed(ApiResponse.success("value")));
+
+        assertThat(json).contains("\"timestamp\":\"2024-03-05T09:08:07\"");
+        assertSame(fixed(ApiResponse.success("value")));
+    }
+
+    @Test
+    @DisplayName("PageResponse - 빈 페이지")
+    void pageResponse_EmptyPage() throws Exception {
+        PageResponse<UserResponse> page = PageResponse.from(new PageImpl<>(List.of(), PageRequest.of(0, 20), 0));
+
+        assertSame(page);
+        assertSame(fixed(ApiResponse.success(page)));
+    }
+
+    @Test
+    @DisplayName("PageResponse - 여러 페이지 중 가운데 페이지")
+    void pageResponse_MultiPage() throws Exception {
+        List<UserResponse> users = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            users.add(UserResponse.builder().id("U000000" + (i % 10)).email(i + "@example.com").build());
+        }
+        PageResponse<UserResponse> page = PageResponse.from(new PageImpl<>(users, PageRequest.of(1, 20), 95));
+
+        assertThat(page.getPageInfo().getTotalPages()).isEqualTo(5);
+        assertSame(page);
+        assertSame(fixed(ApiResponse.success(page)));
+    }
+
+    @Test
+    @DisplayName("PageResponse - 추정 개수는 estimated 필드 포함")
+    void pageResponse_EstimatedCount() throws Exception {
+        PageResponse<String> page = PageResponse.from(
+                new SliceImpl<>(List.of("a", "b"), PageRequest.of(0, 2), true), 10, true);
+
+        assertSame(page);
+        assertThat(module.writeValueAsString(page)).contains("\"estimated\":true");
+    }
+
+    @Test
+    @DisplayName("PageResponse - 서로 다른 타입과 null이 섞인 content, null pageInfo")
+    void pageResponse_MixedContent() throws Exception {
+        List<Object> content = Arrays.asList("text", 1, null, new Nested("n", null), 2L, "more");
+
+        assertSame(new PageResponse<>(content, new PageResponse.PageInfo(0, 6, 6, 1, false, false)));
+        assertSame(new PageResponse<>(null, null));
+    }
+
+    private void assertSame(Object value) throws Exception {
+        assertThat(module.writeValueAsString(value)).isEqualTo(plain.writeValueAsString(value));
+    }
+
+    private static <T> ApiResponse<T> fixed(ApiResponse<T> response) {
+        response.setTimestamp(TIMESTAMP);
+        response.setTraceId("a1b2c3d4e5f6");
+        return response;
+    }
+
+    public record Nested(String name, Nested child) {
+    }
+}
@@ -0,0 +1,105 @@
+package com.sbpb.ddobak.server.common.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sbpb.ddobak.server.common.exception.ErrorCode;
+import com.sbpb.ddobak.server.common.utils.trace.TraceContext;
+
+/**
+ * 미리 직렬화한 응답 템플릿 테스트 (Jackson으로 직렬화한 ApiResponse와 바이트 단위로 비교)
+ */
+class ResponseTemplateTest {
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2024, 3, 5, 9, 8, 7, 123_000_000);
+    private static final String TRACE_ID = "a1b2c3d4e5f6";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("에러 템플릿 - 모든 ErrorCode에 대해 Jackson 출력과 같음")
+    void error_AllCodes_MatchJackson() throws Exception {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            ApiResponse<Void> response = fixed(ApiResponse.error(errorCode));
+
+            byte[] template = ResponseTemplate.error(errorCode).render(null, TIMESTAMP, TRACE_ID);
+
+            assertThat(asText(template)).as(errorCode.name()).isEqualTo(asText(objectMapper.writeValueAsBytes(response)));
+        }
+    }
+
+    @Test
+    @DisplayName("에러 템플릿 - 커스텀 메시지도 Jackson 출력과 같음")
+    void error_CustomMessage_MatchesJackson() throws Exception {
+        String message = "Validation failed for field 'email' with value '\"a\\b\"': 형식 오류";
+        ApiResponse<Void> response = fixed(ApiResponse.error(ErrorCode.INVALID_INPUT, message));
+
+        byte[] template = ResponseTemplate.error(ErrorCode.INVALID_INPUT).render(message, TIMESTAMP, TRACE_ID);
+
+        assertThat(asText(template)).isEqualTo(asText(objectMapper.writeValueAsBytes(response)));
+    }
+
+    @Test
+    @DisplayName("성공 템플릿 - 모든 SuccessCode에 대해 데이터 없는 Jackson 출력과 같음")
+    void success_AllCodes_MatchJackson() throws Exception {
+        for (SuccessCode successCode : SuccessCode.values()) {
+            ApiResponse<Void> response = fixed(ApiResponse.success(successCode));
+
+            byte[] template = ResponseTemplate.success(successCode).render(null, TIMESTAMP, TRACE_ID);
+
+            assertThat(asText(template)).as(successCode.name()).isEqualTo(asText(objectMapper.writeValueAsBytes(response)));
+        }
+        assertThat(ResponseTemplate.success(SuccessCode.DELETED)).isSameAs(ResponseTemplate.success(SuccessCode.DELETED));
+    }
+
+    @Test
+    @DisplayName("문자열 이스케이프 - 제어 문자 전체와 특수 문자가 Jackson과 같음")
+    void quote_MatchesJackson() throws Exception {
+        StringBuilder controls = new StringBuilder();
+        for (char c = 0; c < 0x20; c++) {
+            controls.append(c);
+        }
+        String[] samples = {controls.toString(), "quote \" backslash \\ slash / del \u007F", "한글 😀  "};
+
+        for (String sample : samples) {
+            assertThat(asText(ResponseTemplate.quote(sample))).isEqualTo(asText(objectMapper.writeValueAsBytes(sample)));
+        }
+    }
+
+    @Test
+    @DisplayName("렌더링 - 현재 요청의 추적 ID를 사용")
+    void render_UsesCurrentTraceId() throws Exception {
+        MDC.put(TraceContext.MDC_KEY, TRACE_ID);
+
+        ApiResponse<?> parsed = objectMapper.readValue(ResponseTemplate.success(SuccessCode.DELETED).render(), ApiResponse.class);
+
+        assertThat(parsed.isSuccess()).isTrue();
+        assertThat(parsed.getCode()).isEqualTo(SuccessCode.DELETED.getCode());
+        assertThat(parsed.getTraceId()).isEqualTo(TRACE_ID);
+        assertThat(parsed.getTimestamp()).isNotNull();
+    }
+
+    private static <T> ApiResponse<T> fixed(ApiResponse<T> response) {
+        response.setTimestamp(TIMESTAMP);
+        response.setTraceId(TRACE_ID);
+        return response;
+    }
+
+    private static String asText(byte[] json) {
+        return new String(json, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,136 @@
+package com.sbpb.ddobak.server.common.utils.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 근거리 캐시 테스트 (세그먼트별 LRU + TTL)
+ */
+class NearCacheTest {
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("세그먼트 수 - 세그먼트당 최소 크기를 지키는 2의 거듭제곱, 작은 캐시는 하나")
+    void segmentCount_KeepsMinimumSegmentSize() {
+        assertThat(NearCache.segmentCount(1, 16)).isEqualTo(1);
+        assertThat(NearCache.segmentCount(31, 16)).isEqualTo(1);
+        assertThat(NearCache.segmentCount(32, 16)).isEqualTo(2);
+        assertThat(NearCache.segmentCount(1_000, 16)).isEqualTo(16);
+        assertThat(NearCache.segmentCount(100_000, 16)).isEqualTo(16);
+        assertThat(NearCache.segmentCount(100_000, 1)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("크기 제한 - 가득 차면 가장 오래 사용하지 않은 항목을 제거")
+    void put_Full_EvictsLeastRecentlyUsed() {
+        NearCache<String, String> cache = cache(3, Duration.ofMinutes(1));
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.put("c", "3");
+        cache.get("a");
+
+        cache.put("d", "4");
+
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isEqualTo("1");
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(evictions("size")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료 - TTL이 지난 항목은 miss로 처리하고 제거")
+    void get_Expired_ReturnsNull() throws InterruptedException {
+        NearCache<String, String> cache = cache(10, Duration.ofMillis(50));
+        cache.put("a", "1");
+
+        Thread.sleep(100);
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(evictions("expired")).isEqualTo(1);
+        assertThat(requests("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화 - 있는 항목만 제거 메트릭 증가")
+    void evict_CountsOnlyExistingKeys() {
+        NearCache<String, String> cache = cache(10, Duration.ofMinutes(1));
+        cache.put("a", "1");
+
+        cache.evict("a");
+        cache.evict("missing");
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(evictions("explicit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 접근 - 여러 스레드가 읽고 써도 전체 크기가 maxSize를 넘지 않음")
+    void concurrentAccess_SizeBounded() throws InterruptedException {
+        int maxSize = 1_000;
+        NearCache<Integer, Integer> cache = new NearCache<>("test", maxSize, Duration.ofMinutes(1), meterRegistry, 16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger mismatches = new AtomicInteger();
+
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < 20_000; i++) {
+                    int key = random.nextInt(5_000);
+                    Integer value = cache.get(key);
+                    if (value == null) {
+                        cache.put(key, key);
+                    } else if (!value.equals(key)) {
+                        mismatches.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(mismatches.get()).isZero();
+        assertThat(cache.segmentCount()).isEqualTo(16);
+        assertThat(cache.size()).isLessThanOrEqualTo(maxSize).isGreaterThan(maxSize / 2);
+        assertThat(requests("hit") + requests("miss")).isEqualTo(8 * 20_000);
+    }
+
+    private NearCache<String, String> cache(int maxSize, Duration ttl) {
+        return new NearCache<>("test", maxSize, ttl, meterRegistry);
+    }
+
+    private double evictions(String cause) {
+        return meterRegistry.get("ddobak.cache.evictions").tag("cause", cause).counter().count();
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("ddobak.cache.requests").tag("result", result).counter().count();
+    }
+}
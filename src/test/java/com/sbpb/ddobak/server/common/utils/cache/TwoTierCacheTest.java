@@ -0,0 +1,118 @@
+package com.sbpb.ddobak.server.common.utils.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sbpb.ddobak.server.domain.user.dto.UserResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 2단계 캐시 테스트 (공유 캐시는 InMemorySharedCache 사용)
+ */
+class TwoTierCacheTest {
+
+    private MeterRegistry meterRegistry;
+    private InMemorySharedCache sharedCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sharedCache = new InMemorySharedCache();
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("조회 - 근거리 캐시 적중 시 loader를 호출하지 않음")
+    void get_NearHit_SkipsLoader() {
+        TwoTierCache<UserResponse> cache = cache(10, Duration.ofMinutes(1));
+
+        cache.get("user:id:U1", this::load);
+        UserResponse cached = cache.get("user:id:U1", this::load);
+
+        assertThat(cached.getEmail()).isEqualTo("user@example.com");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(count("near", "hit")).isEqualTo(1);
+        assertThat(count("near", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회 - 근거리 캐시에서 밀려나도 공유 캐시에서 조회")
+    void get_NearEvicted_ReadsShared() {
+        TwoTierCache<UserResponse> cache = cache(1, Duration.ofMinutes(1));
+
+        cache.get("user:id:U1", this::load);
+        cache.get("user:id:U2", this::load);
+        UserResponse fromShared = cache.get("user:id:U1", this::load);
+
+        assertThat(fromShared.getId()).isEqualTo("U1");
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(count("shared", "hit")).isEqualTo(1);
+        assertThat(meterRegistry.get("ddobak.cache.evictions").tag("cause", "size").counter().count())
+            .isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화 - 두 단계 모두 제거되어 다시 조회")
+    void evict_RemovesBothTiers() {
+        TwoTierCache<UserResponse> cache = cache(10, Duration.ofMinutes(1));
+
+        cache.get("user:id:U1", this::load);
+        cache.evict("user:id:U1");
+        cache.get("user:id:U1", this::load);
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(sharedCache.get("user:id:U1")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("조회 - 없는 값은 캐시하지 않음")
+    void get_NullValue_NotCached() {
+        TwoTierCache<UserResponse> cache = cache(10, Duration.ofMinutes(1));
+
+        cache.get("user:id:missing", () -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        cache.get("user:id:missing", () -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private TwoTierCache<UserResponse> cache(int nearMaxSize, Duration nearTtl) {
+        NearCache<String, UserResponse> nearCache = new NearCache<>("users", nearMaxSize, nearTtl, meterRegistry);
+        return new TwoTierCache<>("users", nearCache, sharedCache, Duration.ofMinutes(10),
+            UserResponse.class, new ObjectMapper().registerModule(new JavaTimeModule()), meterRegistry);
+    }
+
+    private UserResponse load() {
+        int n = loads.incrementAndGet();
+        return UserResponse.builder()
+            .id("U" + n)
+            .email("user@example.com")
+            .name("Tester")
+            .isDeleted(false)
+            .build();
+    }
+
+    private double count(String tier, String result) {
+        return meterRegistry.get("ddobak.cache.requests")
+            .tag("tier", tier)
+            .tag("result", result)
+            .counter()
+            .count();
+    }
+}
@@ -0,0 +1,88 @@
+package com.sbpb.ddobak.server.common.utils.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sbpb.ddobak.server.common.exception.ErrorCode;
+import com.sbpb.ddobak.server.common.exception.ExternalServiceException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 외부 서비스 호출 실행기 테스트
+ */
+class DependencyExecutorTest {
+
+    private MeterRegistry meterRegistry;
+    private DependencyExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new DependencyExecutor("test", 2, Duration.ofMillis(100), Duration.ofMillis(300),
+                ThreadMode.resolve(ThreadMode.isVirtualAvailable()), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("호출 - 시간 제한을 넘기면 취소하고 허용량을 반납")
+    void call_Timeout_ReleasesPermit() {
+        assertThatThrownBy(() -> executor.call(() -> {
+            Thread.sleep(5_000);
+            return "late";
+        }))
+                .isInstanceOf(ExternalServiceException.class)
+                .extracting(e -> ((ExternalServiceException) e).getErrorCode())
+                .isEqualTo(ErrorCode.EXTERNAL_SERVICE_TIMEOUT);
+
+        assertThat(executor.call(() -> "ok")).isEqualTo("ok");
+        assertThat(count("timeout")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("호출 - 동시 호출 한도를 넘기면 대기 후 거절")
+    void call_OverLimit_Rejected() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger rejected = new AtomicInteger();
+        ExecutorService callers = Executors.newFixedThreadPool(3);
+
+        for (int i = 0; i < 3; i++) {
+            callers.submit(() -> {
+                try {
+                    executor.call(() -> release.await(1, TimeUnit.SECONDS), Duration.ofSeconds(2));
+                } catch (ExternalServiceException e) {
+                    rejected.incrementAndGet();
+                }
+            });
+        }
+        Thread.sleep(300);
+        release.countDown();
+        callers.shutdown();
+        assertThat(callers.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(rejected.get()).isEqualTo(1);
+        assertThat(count("rejected")).isEqualTo(1);
+        assertThat(count("success")).isEqualTo(2);
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("ddobak.dependency.calls", "dependency", "test", "result", result).count();
+    }
+}
@@ -0,0 +1,155 @@
+package com.sbpb.ddobak.server.common.utils.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 병렬 분배 실행기 테스트
+ */
+class FanOutExecutorTest {
+
+    private FanOutExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new FanOutExecutor("test", 4, ThreadMode.resolve(ThreadMode.isVirtualAvailable()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("병렬 처리 - 처리 시간이 달라도 결과는 입력 순서대로 반환")
+    void map_KeepsInputOrder() {
+        List<Integer> items = IntStream.rangeClosed(1, 10).boxed().toList();
+
+        List<String> results = executor.map(items, item -> {
+            sleep((11 - item) * 5L);
+            return "page-" + item;
+        });
+
+        assertThat(results).containsExactlyElementsOf(items.stream().map(item -> "page-" + item).toList());
+    }
+
+    @Test
+    @DisplayName("병렬 처리 - 항목이 끝나는 대로 결과를 알려 느린 항목을 기다리지 않음")
+    void map_ReportsResultsAsTheyComplete() {
+        List<Integer> items = IntStream.range(0, 8).boxed().toList();
+        List<Integer> reported = new CopyOnWriteArrayList<>();
+
+        List<Integer> results = executor.map(items, item -> {
+            sleep(item == 0 ? 200 : 10);
+            return item * 10;
+        }, (result, index) -> {
+            assertThat(result).isEqualTo(index * 10);
+            reported.add(index);
+        });
+
+        assertThat(results).containsExactly(0, 10, 20, 30, 40, 50, 60, 70);
+        assertThat(reported).containsExactlyInAnyOrderElementsOf(items);
+        assertThat(reported.get(0)).isNotZero();
+        assertThat(reported.get(reported.size() - 1)).isZero();
+    }
+
+    @Test
+    @DisplayName("결과 알림 - 콜백이 실패해도 나머지 항목을 처리하고 결과를 모두 반환")
+    void map_CallbackFailureDoesNotFailFanOut() {
+        List<Integer> items = IntStream.range(0, 8).boxed().toList();
+        List<Integer> reported = new CopyOnWriteArrayList<>();
+        ObjIntConsumer<Integer> onResult = (result, index) -> {
+            reported.add(index);
+            throw new IllegalStateException("listener failed");
+        };
+
+        assertThat(executor.map(items, item -> item * 10, onResult)).containsExactly(0, 10, 20, 30, 40, 50, 60, 70);
+        assertThat(reported).containsExactlyInAnyOrderElementsOf(items);
+        assertThat(executor.map(List.of(1), item -> item * 10, onResult)).containsExactly(10);
+    }
+
+    @Test
+    @DisplayName("병렬 처리 - 동시 실행 수는 parallelism 이하이고 전체 시간은 항목 수 / parallelism에 비례")
+    void map_BoundsParallelism() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Integer> items = IntStream.range(0, 20).boxed().toList();
+
+        long start = System.nanoTime();
+        executor.map(items, item -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(50);
+            running.decrementAndGet();
+            return item;
+        });
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(4);
+        assertThat(elapsedMillis).isLessThan(20 * 50 / 2);
+    }
+
+    @Test
+    @DisplayName("병렬 처리 - 하나가 실패하면 그 예외를 던지고 남은 항목은 시작하지 않음")
+    void map_FailurePropagatesAndStopsRemaining() {
+        AtomicInteger started = new AtomicInteger();
+        List<Integer> items = IntStream.range(0, 100).boxed().toList();
+
+        assertThatThrownBy(() -> executor.map(items, item -> {
+            started.incrementAndGet();
+            if (item == 2) {
+                throw new IllegalStateException("page 2 failed");
+            }
+            sleep(20);
+            return item;
+        })).isInstanceOf(IllegalStateException.class).hasMessage("page 2 failed");
+
+        assertThat(started.get()).isLessThan(items.size());
+    }
+
+    @Test
+    @DisplayName("플랫폼 스레드 - 여러 호출이 겹쳐도 스레드는 maxThreads개까지만 만들고 나머지 항목은 대기")
+    void map_PlatformThreadsBoundedAcrossCalls() throws Exception {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        List<Integer> items = IntStream.range(0, 8).boxed().toList();
+
+        try (FanOutExecutor bounded = new FanOutExecutor("bounded", 4, 3, ThreadMode.PLATFORM)) {
+            CompletableFuture<List<Integer>> first = CompletableFuture.supplyAsync(() -> bounded.map(items, item -> {
+                threads.add(Thread.currentThread().getName());
+                sleep(20);
+                return item;
+            }));
+            List<Integer> second = bounded.map(items, item -> {
+                threads.add(Thread.currentThread().getName());
+                sleep(20);
+                return item;
+            });
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).containsExactlyElementsOf(items);
+            assertThat(second).containsExactlyElementsOf(items);
+        }
+        assertThat(threads).hasSizeLessThanOrEqualTo(3).allMatch(name -> name.startsWith("bounded-fanout-"));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.sbpb.ddobak.server.common.utils.count;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 목록 전체 개수 캐시 테스트 (COUNT 쿼리는 메모리 카운터로 대체)
+ */
+class CountCacheTest {
+
+    private static final String KEY = "contract:user:U4F7K2QZ";
+
+    private AtomicLong rows;
+    private AtomicInteger counts;
+
+    @BeforeEach
+    void setUp() {
+        rows = new AtomicLong(42);
+        counts = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("조회 - 처음에는 세고, 이후에는 캐시된 추정값")
+    void get_CachedAfterFirstCount() {
+        CountCache cache = new CountCache(Duration.ofMinutes(5), 10);
+
+        CountCache.Count first = cache.get(KEY, this::count);
+        CountCache.Count second = cache.get(KEY, this::count);
+
+        assertThat(first).isEqualTo(new CountCache.Count(42, false));
+        assertThat(second).isEqualTo(new CountCache.Count(42, true));
+        assertThat(counts.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("갱신 - 캐시된 키는 추가/삭제를 바로 반영하고 음수로 내려가지 않음")
+    void adjust_CachedKey_AppliesDelta() {
+        CountCache cache = new CountCache(Duration.ofMinutes(5), 10);
+        cache.get(KEY, this::count);
+
+        cache.adjust(KEY, 3);
+        cache.adjust(KEY, -1);
+
+        assertThat(cache.get(KEY, this::count).value()).isEqualTo(44);
+
+        cache.adjust(KEY, -100);
+
+        assertThat(cache.get(KEY, this::count).value()).isZero();
+        assertThat(counts.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("갱신 - 캐시되지 않은 키는 무시하고 다음 조회 때 센다")
+    void adjust_UncachedKey_Ignored() {
+        CountCache cache = new CountCache(Duration.ofMinutes(5), 10);
+
+        cache.adjust(KEY, 5);
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get(KEY, this::count)).isEqualTo(new CountCache.Count(42, false));
+    }
+
+    @Test
+    @DisplayName("만료 - maxStaleness가 지나면 다시 세어 누락된 갱신을 바로잡음")
+    void get_Stale_Recounts() throws InterruptedException {
+        CountCache cache = new CountCache(Duration.ofMillis(200), 10);
+        cache.get(KEY, this::count);
+        rows.set(50); // 리스너를 거치지 않은 변경 (벌크 삭제 등)
+
+        assertThat(cache.get(KEY, this::count)).isEqualTo(new CountCache.Count(42, true));
+
+        Thread.sleep(300);
+
+        assertThat(cache.get(KEY, this::count)).isEqualTo(new CountCache.Count(50, false));
+        assertThat(counts.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("무효화 - 다음 조회 때 다시 셈")
+    void invalidate_RecountsOnNextGet() {
+        CountCache cache = new CountCache(Duration.ofMinutes(5), 10);
+        cache.get(KEY, this::count);
+
+        cache.invalidate(KEY);
+
+        assertThat(cache.get(KEY, this::count).estimated()).isFalse();
+        assertThat(counts.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("용량 - 가득 차면 만료된 항목만 정리하고, 남은 자리가 없으면 캐시하지 않음")
+    void get_Full_EvictsOnlyStaleEntries() throws InterruptedException {
+        CountCache cache = new CountCache(Duration.ofMillis(200), 2);
+        cache.get("a", this::count);
+        cache.get("b", this::count);
+        Thread.sleep(300);
+
+        cache.get("c", this::count);
+
+        assertThat(cache.size()).isEqualTo(1);
+
+        CountCache fresh = new CountCache(Duration.ofMinutes(5), 2);
+        fresh.get("a", this::count);
+        fresh.get("b", this::count);
+        fresh.get("c", this::count);
+
+        assertThat(fresh.size()).isEqualTo(2);
+        assertThat(fresh.get("c", this::count).estimated()).isFalse();
+    }
+
+    private long count() {
+        counts.incrementAndGet();
+        return rows.get();
+    }
+}
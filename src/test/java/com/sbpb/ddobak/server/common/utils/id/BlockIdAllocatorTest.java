@@ -0,0 +1,143 @@
+package com.sbpb.ddobak.server.common.utils.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigInteger;
+import java.util.BitSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 구간 임대 ID 할당기 테스트 (IdBlockSource는 메모리 카운터로 대체)
+ */
+class BlockIdAllocatorTest {
+
+    private MeterRegistry meterRegistry;
+    private AtomicLong counter;
+    private AtomicInteger reservations;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        counter = new AtomicLong();
+        reservations = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("치환 - 36^k 공간에서 모든 값이 서로 다른 값으로 대응 (전단사)")
+    void permute_ReducedDomains_Bijective() {
+        for (int length = 1; length <= 4; length++) {
+            long capacity = Base36.capacity(length);
+            BitSet seen = new BitSet((int) capacity);
+            for (long value = 0; value < capacity; value++) {
+                long permuted = BlockIdAllocator.permute(value, capacity);
+                assertThat(permuted).isBetween(0L, capacity - 1);
+                seen.set((int) permuted);
+            }
+            assertThat(seen.cardinality()).as("36^%d", length).isEqualTo((int) capacity);
+        }
+    }
+
+    @Test
+    @DisplayName("치환 - 곱하는 수가 36^7과 서로소이고 최댓값에서도 long 범위를 넘지 않음")
+    void permute_FullDomain_CoprimeWithoutOverflow() {
+        BigInteger multiplier = BigInteger.valueOf(BlockIdAllocator.MULTIPLIER);
+        BigInteger capacity = BigInteger.valueOf(BlockIdAllocator.CAPACITY);
+
+        assertThat(multiplier.gcd(capacity)).isEqualTo(BigInteger.ONE);
+        assertThat(BlockIdAllocator.permute(BlockIdAllocator.CAPACITY - 1))
+            .isBetween(0L, BlockIdAllocator.CAPACITY - 1);
+    }
+
+    @Test
+    @DisplayName("발급 - 접두사 + 7자리 영숫자, 순번이 그대로 드러나지 않음")
+    void next_FormatMatchesRandomIds() {
+        BlockIdAllocator allocator = allocator(EntityIdType.CONTRACT, 100);
+
+        String first = allocator.next();
+        String second = allocator.next();
+
+        assertThat(first).matches("C[0-9A-Z]{7}");
+        assertThat(second).matches("C[0-9A-Z]{7}");
+        assertThat(first.substring(1)).isNotEqualTo("0000000");
+        assertThat(second.substring(1)).isNotEqualTo("0000001");
+    }
+
+    @Test
+    @DisplayName("발급 - 여러 스레드가 동시에 구간을 소진해도 같은 값을 두 번 주지 않고 구간당 한 번만 임대")
+    void next_ConcurrentRefill_NoDuplicates() throws InterruptedException {
+        BlockIdAllocator allocator = allocator(EntityIdType.ANALYSIS, 10);
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        int threads = 8;
+        int perThread = 10_000;
+        CountDownLatch start = new CountDownLatch(1);
+
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) {
+                    ids.add(allocator.next());
+                }
+            });
+            workers[t].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertThat(ids).hasSize(threads * perThread);
+        assertThat(reservations.get()).isEqualTo(threads * perThread / 10);
+        assertThat(meterRegistry.get("ddobak.id.lease.refills").counter().count()).isEqualTo(threads * perThread / 10);
+    }
+
+    @Test
+    @DisplayName("발급 - 전체 공간을 넘는 구간을 받으면 예외와 소진 메트릭")
+    void next_SpaceExhausted_ThrowsAndCounts() {
+        BlockIdAllocator allocator = new BlockIdAllocator(EntityIdType.OCR_RESULT,
+                (name, size) -> BlockIdAllocator.CAPACITY - 5, 10, meterRegistry);
+
+        assertThatThrownBy(allocator::next)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("exhausted");
+        assertThat(meterRegistry.get("ddobak.id.lease.exhausted").tag("entity", "ocr_result").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("메트릭 - 현재 구간의 남은 개수")
+    void remaining_TracksCurrentBlock() {
+        BlockIdAllocator allocator = allocator(EntityIdType.TOXIC_CLAUSE, 10);
+
+        allocator.next();
+        allocator.next();
+
+        assertThat(allocator.remaining()).isEqualTo(8);
+        assertThat(meterRegistry.get("ddobak.id.lease.remaining").gauge().value()).isEqualTo(8);
+    }
+
+    private BlockIdAllocator allocator(EntityIdType type, long blockSize) {
+        IdBlockSource source = (name, size) -> {
+            reservations.incrementAndGet();
+            return counter.getAndAdd(size);
+        };
+        return new BlockIdAllocator(type, source, blockSize, meterRegistry);
+    }
+}
@@ -0,0 +1,70 @@
+package com.sbpb.ddobak.server.common.utils.id;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.sbpb.ddobak.server.common.exception.ErrorCode;
+import com.sbpb.ddobak.server.common.exception.GlobalExceptionHandler;
+import com.sbpb.ddobak.server.domain.user.controller.UserController;
+import com.sbpb.ddobak.server.domain.user.service.UserBulkService;
+import com.sbpb.ddobak.server.domain.user.service.UserService;
+
+/**
+ * 경로 변수 ID 검증 테스트 (서비스/레포지토리 호출 전에 거절되는지 확인)
+ */
+class EntityIdArgumentResolverTest {
+
+    private UserService userService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        userService = mock(UserService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new UserController(userService, mock(UserBulkService.class)))
+            .setCustomArgumentResolvers(new EntityIdArgumentResolver())
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+    }
+
+    @Test
+    @DisplayName("조회 - 형식이 잘못된 ID는 서비스 호출 없이 400")
+    void getUser_MalformedId_RejectedBeforeService() throws Exception {
+        for (String id : new String[] {"u4f7k2qz", "U4F7K2Q", "C4F7K2QZ", "U4F7K2Q!"}) {
+            mockMvc.perform(get("/api/users/{userId}", id))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.code").value(ErrorCode.INVALID_INPUT.getCode()));
+        }
+
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    @DisplayName("삭제 - 형식이 잘못된 ID는 서비스 호출 없이 400")
+    void deleteUser_MalformedId_RejectedBeforeService() throws Exception {
+        mockMvc.perform(delete("/api/users/{userId}", "not-an-id"))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    @DisplayName("조회 - 올바른 ID는 그대로 서비스에 전달")
+    void getUser_ValidId_PassedThrough() throws Exception {
+        mockMvc.perform(get("/api/users/{userId}", "U4F7K2QZ"))
+            .andExpect(status().isOk());
+
+        verify(userService).getUser("U4F7K2QZ");
+    }
+}
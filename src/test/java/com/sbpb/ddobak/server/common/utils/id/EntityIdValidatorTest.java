@@ -0,0 +1,78 @@
+package com.sbpb.ddobak.server.common.utils.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sbpb.ddobak.server.common.utils.IdGenerator;
+
+/**
+ * 엔티티 ID 형식 검증기 테스트
+ */
+class EntityIdValidatorTest {
+
+    @Test
+    @DisplayName("검증 - 8자리/14자리 대문자+숫자만 통과")
+    void isValid_LengthAndCharacters() {
+        assertThat(EntityIdValidator.ANY.isValid("C4F7K2QZ")).isTrue();
+        assertThat(EntityIdValidator.ANY.isValid("C14HDWA3Z00A2B")).isTrue();
+
+        assertThat(EntityIdValidator.ANY.isValid(null)).isFalse();
+        assertThat(EntityIdValidator.ANY.isValid("")).isFalse();
+        assertThat(EntityIdValidator.ANY.isValid("C4F7K2Q")).isFalse();
+        assertThat(EntityIdValidator.ANY.isValid("C4F7K2QZ1")).isFalse();
+        assertThat(EntityIdValidator.ANY.isValid("C4f7k2qz")).isFalse();
+        assertThat(EntityIdValidator.ANY.isValid("C4F7-2QZ")).isFalse();
+        assertThat(EntityIdValidator.ANY.isValid("C4F7K2Q가")).isFalse();
+        assertThat(EntityIdValidator.ANY.isValid("C4F7K2Qİ")).isFalse();
+    }
+
+    @Test
+    @DisplayName("검증 - 엔티티 종류별 검증기는 접두사까지 확인")
+    void of_ChecksPrefix() {
+        EntityIdValidator users = EntityIdValidator.of(EntityIdType.USER);
+
+        assertThat(users.getType()).isEqualTo(EntityIdType.USER);
+        assertThat(users.isValid("U4F7K2QZ")).isTrue();
+        assertThat(users.isValid("C4F7K2QZ")).isFalse();
+        assertThat(EntityIdValidator.ANY.getType()).isNull();
+    }
+
+    @Test
+    @DisplayName("검증 - 접두사 문자열은 대소문자 무시, ID 자체는 대문자여야 함")
+    void isValid_WithPrefixString() {
+        assertThat(EntityIdValidator.isValid("C4F7K2QZ", "c")).isTrue();
+        assertThat(EntityIdValidator.isValid("C4F7K2QZ", "C4")).isTrue();
+        assertThat(EntityIdValidator.isValid("c4F7K2QZ", "c")).isFalse();
+        assertThat(EntityIdValidator.isValid("U4F7K2QZ", "c")).isFalse();
+        assertThat(EntityIdValidator.isValid(null, "c")).isFalse();
+    }
+
+    @Test
+    @DisplayName("검증 - 기존 정규식 검증과 8자리 ID에 대한 결과가 같음")
+    void isValid_MatchesLegacyRegex() {
+        String[] samples = {"C4F7K2QZ", "c4F7K2QZ", "C4F7K2Q_", "U4F7K2QZ", "12345678", "ABCDEFGH", " 4F7K2QZ"};
+        for (String id : samples) {
+            boolean legacy = id.length() == 8 && id.matches("[A-Z0-9]{8}");
+            boolean legacyWithPrefix = legacy && id.startsWith("C");
+
+            assertThat(EntityIdValidator.ANY.isValid(id)).as(id).isEqualTo(legacy);
+            assertThat(EntityIdValidator.isValid(id, "c")).as(id).isEqualTo(legacyWithPrefix);
+        }
+    }
+
+    @Test
+    @DisplayName("검증 - 생성한 ID는 모든 방식에서 해당 종류의 검증을 통과")
+    void isValid_GeneratedIds() {
+        TimeOrderedIdGenerator timeOrdered = new TimeOrderedIdGenerator('A', 7);
+        for (EntityIdType type : EntityIdType.values()) {
+            String random = IdGenerator.generateEntityId(type.getPrefixString());
+            String ordered = new TimeOrderedIdGenerator(type.getPrefix(), 7).next();
+
+            assertThat(EntityIdValidator.of(type).isValid(random)).as(random).isTrue();
+            assertThat(EntityIdValidator.of(type).isValid(ordered)).as(ordered).isTrue();
+        }
+        assertThat(EntityIdValidator.of(EntityIdType.USER).isValid(timeOrdered.next())).isFalse();
+    }
+}
@@ -0,0 +1,113 @@
+package com.sbpb.ddobak.server.common.utils.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.sbpb.ddobak.server.common.utils.IdGenerator;
+
+/**
+ * ID 문자 집합과 랜덤 ID 엔진 테스트
+ */
+class IdEngineTest {
+
+    static Stream<IdEngine> engines() {
+        return Stream.of(new ThreadLocalIdEngine(), new StripedIdEngine(4));
+    }
+
+    @Test
+    @DisplayName("문자 집합 - 거절 구간(252~255)만 0이고 나머지는 36자에 균등 분배")
+    void alphabet_RejectsOnlyBiasedTail() {
+        for (IdAlphabet alphabet : IdAlphabet.values()) {
+            int[] counts = new int[128];
+            for (int b = 0; b < 256; b++) {
+                byte encoded = alphabet.encode(b);
+                if (b >= 252) {
+                    assertThat(encoded).isZero();
+                } else {
+                    counts[encoded]++;
+                }
+            }
+            for (char c : alphabet.getCharacters().toCharArray()) {
+                assertThat(counts[c]).as("count of %s", c).isEqualTo(7);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("문자 집합 - 음수 바이트도 0~255로 보고 변환")
+    void alphabet_NegativeByte_TreatedAsUnsigned() {
+        assertThat(IdAlphabet.UPPER_ALPHANUMERIC.encode((byte) 0x80)).isEqualTo(IdAlphabet.UPPER_ALPHANUMERIC.encode(0x80));
+        assertThat(IdAlphabet.UPPER_ALPHANUMERIC.encode((byte) 0xFF)).isZero();
+    }
+
+    @ParameterizedTest
+    @MethodSource("engines")
+    @DisplayName("랜덤 문자열 - 요청한 길이만큼 문자 집합 안의 문자로 채움")
+    void randomString_LengthAndAlphabet(IdEngine engine) {
+        for (IdAlphabet alphabet : IdAlphabet.values()) {
+            for (int length : new int[] {1, 8, 12, 16, 600}) {
+                String value = engine.randomString(alphabet, length);
+
+                assertThat(value).hasSize(length);
+                assertThat(value.chars()).allMatch(c -> alphabet.getCharacters().indexOf(c) >= 0);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("engines")
+    @DisplayName("접두사 ID - 접두사는 대문자로 바꾸고 뒤에 랜덤 문자를 붙임")
+    void prefixedString_UppercasesPrefix(IdEngine engine) {
+        String id = engine.prefixedString("c", IdAlphabet.UPPER_ALPHANUMERIC, 7);
+
+        assertThat(id).hasSize(8).startsWith("C").matches("[A-Z0-9]{8}");
+    }
+
+    @ParameterizedTest
+    @MethodSource("engines")
+    @DisplayName("접두사 ID - ASCII가 아닌 접두사도 대문자 변환 후 그대로 붙임")
+    void prefixedString_NonAsciiPrefix(IdEngine engine) {
+        String id = engine.prefixedString("계약", IdAlphabet.UPPER_ALPHANUMERIC, 7);
+
+        assertThat(id).hasSize(9).startsWith("계약");
+        assertThat(id.substring(2)).matches("[A-Z0-9]{7}");
+    }
+
+    @ParameterizedTest
+    @MethodSource("engines")
+    @DisplayName("랜덤 문자열 - 연속 생성 값이 겹치지 않음")
+    void randomString_NoCollisionsInSample(IdEngine engine) {
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            seen.add(engine.randomString(IdAlphabet.UPPER_ALPHANUMERIC, 12));
+        }
+
+        assertThat(seen).hasSize(10_000);
+    }
+
+    @Test
+    @DisplayName("스트라이프 엔진 - 스트라이프 수는 요청 이상의 2의 거듭제곱")
+    void stripedEngine_RoundsUpToPowerOfTwo() {
+        assertThat(new StripedIdEngine(2).getStripeCount()).isEqualTo(2);
+        assertThat(new StripedIdEngine(4).getStripeCount()).isEqualTo(4);
+        assertThat(new StripedIdEngine(5).getStripeCount()).isEqualTo(8);
+        assertThat(new StripedIdEngine(17).getStripeCount()).isEqualTo(32);
+    }
+
+    @Test
+    @DisplayName("IdGenerator - 엔티티 ID 8자리 대문자, Trace ID 12자리 소문자")
+    void idGenerator_Formats() {
+        assertThat(IdGenerator.generateEntityId()).matches("[A-Z0-9]{8}");
+        assertThat(IdGenerator.generateEntityId("u")).matches("U[A-Z0-9]{7}");
+        assertThat(IdGenerator.generateTraceId()).matches("[a-z0-9]{12}");
+        assertThat(IdGenerator.generateTempFileId()).matches("[a-z0-9]{16}");
+    }
+}
@@ -0,0 +1,121 @@
+package com.sbpb.ddobak.server.common.utils.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 노드 번호 임대 테스트 (인스턴스 여러 개를 holder 여러 개로 재현)
+ */
+@SpringBootTest
+class NodeIdLeaseHolderTest {
+
+    private static final Duration TTL = Duration.ofMinutes(2);
+
+    @Autowired
+    private NodeIdLeaseRepository leaseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Integer> changes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        leaseRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        leaseRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("임대 - 살아 있는 인스턴스끼리는 서로 다른 번호")
+    void acquire_LiveInstances_DistinctNodeIds() {
+        int first = holder().acquire(TTL, changes::add);
+        int second = holder().acquire(TTL, changes::add);
+
+        assertThat(first).isEqualTo(0);
+        assertThat(second).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("임대 - 반납한 번호는 다음 인스턴스가 재사용")
+    void acquire_AfterRelease_ReusesNodeId() {
+        NodeIdLeaseHolder stopped = holder();
+        int released = stopped.acquire(TTL, changes::add);
+        stopped.release();
+
+        int reused = holder().acquire(TTL, changes::add);
+
+        assertThat(reused).isEqualTo(released);
+        assertThat(stopped.currentNodeId()).isNull();
+    }
+
+    @Test
+    @DisplayName("임대 - 연장되지 않고 만료된 번호는 다른 인스턴스가 가져감 (재시작을 반복해도 고갈되지 않음)")
+    void acquire_ExpiredLease_Reclaimed() {
+        for (int restart = 0; restart < 3; restart++) {
+            int nodeId = holder().acquire(TTL, changes::add);
+            expire(nodeId);
+
+            assertThat(nodeId).isEqualTo(0);
+        }
+        assertThat(leaseRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("연장 - 만료 시각을 늘리고 번호는 유지")
+    void heartbeat_Owned_ExtendsLease() {
+        NodeIdLeaseHolder holder = holder();
+        int nodeId = holder.acquire(TTL, changes::add);
+        LocalDateTime before = leaseRepository.findById(nodeId).orElseThrow().getExpiresAt();
+
+        holder.heartbeat();
+
+        assertThat(holder.currentNodeId()).isEqualTo(nodeId);
+        assertThat(leaseRepository.findById(nodeId).orElseThrow().getExpiresAt()).isAfterOrEqualTo(before);
+        assertThat(changes).isEmpty();
+    }
+
+    @Test
+    @DisplayName("연장 - 멈춘 사이 다른 인스턴스가 번호를 가져갔으면 새 번호로 교체하고 알림")
+    void heartbeat_LeaseLost_SwitchesNodeId() {
+        NodeIdLeaseHolder paused = holder();
+        int lost = paused.acquire(TTL, changes::add);
+        expire(lost);
+        int taken = holder().acquire(TTL, id -> { });
+
+        paused.heartbeat();
+
+        assertThat(taken).isEqualTo(lost);
+        assertThat(paused.currentNodeId()).isNotEqualTo(lost);
+        assertThat(changes).containsExactly(paused.currentNodeId());
+    }
+
+    private NodeIdLeaseHolder holder() {
+        return new NodeIdLeaseHolder(leaseRepository, transactionManager);
+    }
+
+    private void expire(int nodeId) {
+        jdbcTemplate.update("update node_id_leases set expires_at = ? where node_id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)), nodeId);
+    }
+}
@@ -0,0 +1,135 @@
+package com.sbpb.ddobak.server.common.utils.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 시간 순 ID 생성기 테스트 (시계는 고정값으로 주입)
+ */
+class TimeOrderedIdGeneratorTest {
+
+    private static final long NOW = TimeOrderedIdGenerator.EPOCH_MILLIS + 1_000_000L;
+    private static final int SEQUENCE_CAPACITY = 36 * 36 * 36;
+
+    @Test
+    @DisplayName("형식 - 접두사(1) + 시간(8) + 노드(2) + 시퀀스(3) = 14자리")
+    void next_Format() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator('c', 37, () -> NOW);
+
+        String id = generator.next();
+
+        assertThat(id).hasSize(TimeOrderedIdGenerator.ID_LENGTH).matches("C[0-9A-Z]{13}");
+        assertThat(id.substring(1, 9)).isEqualTo("0000LFLS");
+        assertThat(id.substring(9, 11)).isEqualTo("11");
+        assertThat(id.substring(11)).isEqualTo("000");
+    }
+
+    @Test
+    @DisplayName("생성 - 시계가 진행하면 문자열 순서도 증가")
+    void next_AdvancingClock_Monotonic() {
+        AtomicLong clock = new AtomicLong(NOW);
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator('A', 0, clock::get);
+
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            ids.add(generator.next());
+            if (i % 3 == 0) {
+                clock.addAndGet(7);
+            }
+        }
+
+        assertThat(ids).isSortedAccordingTo(String::compareTo).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("생성 - 같은 밀리초에 시퀀스가 소진되면 다음 밀리초로 넘어가고 시퀀스는 0부터")
+    void next_SequenceExhausted_RollsIntoNextMillisecond() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator('A', 0, () -> NOW);
+
+        String last = null;
+        for (int i = 0; i < SEQUENCE_CAPACITY; i++) {
+            last = generator.next();
+        }
+        String rolled = generator.next();
+
+        assertThat(last.substring(11)).isEqualTo("ZZZ");
+        assertThat(rolled.substring(11)).isEqualTo("000");
+        assertThat(rolled.substring(1, 9)).isGreaterThan(last.substring(1, 9));
+        assertThat(rolled).isGreaterThan(last);
+    }
+
+    @Test
+    @DisplayName("생성 - 시계가 뒤로 가도 직전 시각을 이어 써서 감소하지 않음")
+    void next_ClockMovesBackwards_StaysMonotonic() {
+        AtomicLong clock = new AtomicLong(NOW);
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator('A', 0, clock::get);
+
+        String beforeSkew = generator.next();
+        clock.set(NOW - 5_000);
+        String duringSkew1 = generator.next();
+        String duringSkew2 = generator.next();
+        clock.set(NOW + 1);
+        String recovered = generator.next();
+
+        assertThat(duringSkew1.substring(1, 9)).isEqualTo(beforeSkew.substring(1, 9));
+        assertThat(List.of(beforeSkew, duringSkew1, duringSkew2, recovered))
+            .isSortedAccordingTo(String::compareTo)
+            .doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("생성 - 여러 스레드가 같은 밀리초에 생성해도 중복 없음")
+    void next_Concurrent_NoDuplicates() throws InterruptedException {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator('A', 0, () -> NOW);
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    ids.add(generator.next());
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(ids).hasSize(80_000);
+    }
+
+    @Test
+    @DisplayName("생성 - 노드 번호가 다르면 같은 시각이라도 겹치지 않음")
+    void next_DifferentNodes_NoOverlap() {
+        TimeOrderedIdGenerator node1 = new TimeOrderedIdGenerator('A', 1, () -> NOW);
+        TimeOrderedIdGenerator node2 = new TimeOrderedIdGenerator('A', 2, () -> NOW);
+
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            ids.add(node1.next());
+            ids.add(node2.next());
+        }
+
+        assertThat(ids).hasSize(200);
+    }
+
+    @Test
+    @DisplayName("생성자 - 노드 번호가 0~1295 범위를 벗어나면 예외")
+    void constructor_NodeOutOfRange_Throws() {
+        assertThatThrownBy(() -> new TimeOrderedIdGenerator('A', -1))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TimeOrderedIdGenerator('A', TimeOrderedIdGenerator.MAX_NODE_ID + 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,102 @@
+package com.sbpb.ddobak.server.common.utils.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sbpb.ddobak.server.common.exception.ErrorCode;
+import com.sbpb.ddobak.server.common.exception.ExternalServiceException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 서킷 브레이커 상태 전이 테스트
+ */
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        breaker = new CircuitBreaker("test", 10, 4, 50, Duration.ofSeconds(30), 2,
+                new SimpleMeterRegistry(), now::get);
+    }
+
+    @Test
+    @DisplayName("서킷 - 실패 비율이 기준 이상이면 열리고 호출을 바로 거절")
+    void acquire_FailureRateExceeded_Opens() {
+        breaker.onSuccess(breaker.acquire());
+        breaker.onSuccess(breaker.acquire());
+        breaker.onFailure(breaker.acquire());
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        breaker.onFailure(breaker.acquire());
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(breaker::acquire)
+                .isInstanceOf(ExternalServiceException.class)
+                .extracting(e -> ((ExternalServiceException) e).getErrorCode())
+                .isEqualTo(ErrorCode.CIRCUIT_BREAKER_OPEN);
+    }
+
+    @Test
+    @DisplayName("서킷 - 열린 시간이 지나면 시험 호출만 허용하고 모두 성공하면 닫힘")
+    void acquire_HalfOpenProbesSucceed_Closes() {
+        open();
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        long first = breaker.acquire();
+        long second = breaker.acquire();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThatThrownBy(breaker::acquire).isInstanceOf(ExternalServiceException.class);
+
+        breaker.onSuccess(first);
+        breaker.onSuccess(second);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("서킷 - 시험 호출이 실패하면 다시 열림")
+    void onFailure_HalfOpenProbeFails_Reopens() {
+        open();
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        breaker.onFailure(breaker.acquire());
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(breaker::acquire).isInstanceOf(ExternalServiceException.class);
+    }
+
+    @Test
+    @DisplayName("서킷 - 상태가 바뀌기 전에 시작한 호출의 결과는 무시")
+    void onSuccess_StaleTicket_Ignored() {
+        long stale = breaker.acquire();
+        open();
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        long probe = breaker.acquire();
+
+        breaker.onSuccess(stale);
+        breaker.onSuccess(stale);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        breaker.onIgnored(probe);
+        breaker.onSuccess(breaker.acquire());
+        breaker.onSuccess(breaker.acquire());
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure(breaker.acquire());
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
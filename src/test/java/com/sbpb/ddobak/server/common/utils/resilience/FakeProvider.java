@@ -0,0 +1,70 @@
+package com.sbpb.ddobak.server.common.utils.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sbpb.ddobak.server.common.exception.ExternalServiceException;
+
+/**
+ * 지연과 오류를 주입할 수 있는 로컬 가짜 외부 서비스
+ *
+ * 응답은 예약한 순서대로 쓰이며, 예약이 없으면 기본 지연 후 성공한다.
+ */
+class FakeProvider {
+
+    private record Response(Duration latency, boolean failure) {
+    }
+
+    private final ConcurrentLinkedQueue<Response> scripted = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger calls = new AtomicInteger();
+    private volatile Duration defaultLatency = Duration.ZERO;
+
+    FakeProvider withLatency(Duration latency) {
+        this.defaultLatency = latency;
+        return this;
+    }
+
+    /**
+     * 다음 count번 호출을 지정한 지연 후 성공시킴
+     */
+    FakeProvider thenRespond(int count, Duration latency) {
+        for (int i = 0; i < count; i++) {
+            scripted.add(new Response(latency, false));
+        }
+        return this;
+    }
+
+    /**
+     * 다음 count번 호출을 실패시킴
+     */
+    FakeProvider thenFail(int count) {
+        for (int i = 0; i < count; i++) {
+            scripted.add(new Response(Duration.ZERO, true));
+        }
+        return this;
+    }
+
+    /**
+     * 호출 번호를 돌려주는 작업
+     */
+    Callable<Integer> request() {
+        return () -> {
+            int call = calls.incrementAndGet();
+            Response response = scripted.poll();
+            Duration latency = response != null ? response.latency() : defaultLatency;
+            if (!latency.isZero()) {
+                Thread.sleep(latency.toMillis());
+            }
+            if (response != null && response.failure()) {
+                throw new ExternalServiceException("fake", "Injected failure on call " + call);
+            }
+            return call;
+        };
+    }
+
+    int calls() {
+        return calls.get();
+    }
+}
@@ -0,0 +1,108 @@
+package com.sbpb.ddobak.server.common.utils.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sbpb.ddobak.server.common.exception.ErrorCode;
+import com.sbpb.ddobak.server.common.exception.ExternalServiceException;
+import com.sbpb.ddobak.server.common.utils.concurrent.DependencyExecutor;
+import com.sbpb.ddobak.server.common.utils.concurrent.ThreadMode;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 외부 서비스 호출 보호 계층 테스트 (FakeProvider로 지연/오류 주입)
+ */
+class ResilientCallerTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FakeProvider provider = new FakeProvider();
+    private DependencyExecutor executor;
+    private ResilientCaller caller;
+
+    @AfterEach
+    void tearDown() {
+        caller.close();
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("헤지 - 첫 요청이 느리면 두 번째 요청의 결과를 사용")
+    void callHedged_SlowPrimary_HedgeWins() {
+        caller = caller(Duration.ofMillis(100), Duration.ofSeconds(1), Duration.ofMillis(100));
+        provider.thenRespond(1, Duration.ofSeconds(3));
+
+        long start = System.nanoTime();
+        Integer result = caller.callHedged(provider.request());
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat(result).isEqualTo(2);
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(1));
+        assertThat(hedges("launched")).isEqualTo(1);
+        assertThat(hedges("won")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("헤지 - 첫 요청이 실패하면 기다리지 않고 다시 요청")
+    void callHedged_PrimaryFails_RetriesOnce() {
+        caller = caller(Duration.ofMillis(100), Duration.ofSeconds(1), Duration.ofMillis(500));
+        provider.thenFail(1);
+
+        assertThat(caller.callHedged(provider.request())).isEqualTo(2);
+        assertThat(provider.calls()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("서킷 - 실패가 이어지면 외부 서비스를 호출하지 않고 바로 거절")
+    void call_RepeatedFailures_ShortCircuits() {
+        caller = caller(Duration.ofMillis(100), Duration.ofSeconds(1), null);
+        provider.thenFail(5);
+
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> caller.call(provider.request())).isInstanceOf(ExternalServiceException.class);
+        }
+
+        assertThat(caller.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> caller.call(provider.request()))
+                .extracting(e -> ((ExternalServiceException) e).getErrorCode())
+                .isEqualTo(ErrorCode.CIRCUIT_BREAKER_OPEN);
+        assertThat(provider.calls()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("적응형 시간 제한 - 평소 응답이 빠르면 느려진 호출을 상한보다 일찍 끊음")
+    void call_FastHistory_TimesOutEarly() {
+        caller = caller(Duration.ofMillis(200), Duration.ofSeconds(5), null);
+        provider.withLatency(Duration.ofMillis(10));
+        for (int i = 0; i < LatencyEstimator.WARMUP_SAMPLES; i++) {
+            caller.call(provider.request());
+        }
+        provider.thenRespond(1, Duration.ofSeconds(2));
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> caller.call(provider.request()))
+                .extracting(e -> ((ExternalServiceException) e).getErrorCode())
+                .isEqualTo(ErrorCode.EXTERNAL_SERVICE_TIMEOUT);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+    }
+
+    private ResilientCaller caller(Duration minTimeout, Duration maxTimeout, Duration hedgeMinDelay) {
+        executor = new DependencyExecutor("fake", 4, Duration.ofMillis(100), maxTimeout,
+                ThreadMode.PLATFORM, meterRegistry);
+        CircuitBreaker breaker = new CircuitBreaker("fake", 10, 5, 50, Duration.ofSeconds(30), 1, meterRegistry);
+        LatencyEstimator estimator = new LatencyEstimator(minTimeout, maxTimeout, true);
+        return new ResilientCaller(executor, breaker, estimator, hedgeMinDelay, ThreadMode.PLATFORM, meterRegistry);
+    }
+
+    private double hedges(String result) {
+        return meterRegistry.counter("ddobak.dependency.hedges", "dependency", "fake", "result", result).count();
+    }
+}
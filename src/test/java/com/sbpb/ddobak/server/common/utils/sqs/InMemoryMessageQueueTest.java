@@ -0,0 +1,66 @@
+package com.sbpb.ddobak.server.common.utils.sqs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 프로세스 내 메시지 큐 테스트
+ */
+class InMemoryMessageQueueTest {
+
+    private static final String QUEUE = "test-queue";
+
+    private InMemoryMessageQueue messageQueue;
+
+    @BeforeEach
+    void setUp() {
+        messageQueue = new InMemoryMessageQueue(new SimpleMeterRegistry(), Duration.ofMillis(200), Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("반환 - 재시도 지연이 지나기 전에는 다시 수신되지 않음")
+    void release_DelaysRedelivery() throws Exception {
+        messageQueue.send(QUEUE, "job");
+        QueueMessage first = messageQueue.receive(QUEUE, Duration.ofMillis(100));
+
+        messageQueue.release(first);
+
+        assertThat(messageQueue.receive(QUEUE, Duration.ofMillis(50))).isNull();
+        assertThat(messageQueue.size(QUEUE)).isEqualTo(1);
+        QueueMessage second = messageQueue.receive(QUEUE, Duration.ofSeconds(2));
+        assertThat(second).isNotNull();
+        assertThat(second.id()).isEqualTo(first.id());
+        assertThat(second.receiveCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재시도 지연 - 수신 횟수마다 두 배로 늘고 상한에서 멈춤")
+    void retryDelay_GrowsWithReceiveCount() {
+        assertThat(messageQueue.redeliveryDelayNanos(1)).isEqualTo(Duration.ofMillis(200).toNanos());
+        assertThat(messageQueue.redeliveryDelayNanos(2)).isEqualTo(Duration.ofMillis(400).toNanos());
+        assertThat(messageQueue.redeliveryDelayNanos(3)).isEqualTo(Duration.ofMillis(800).toNanos());
+        assertThat(messageQueue.redeliveryDelayNanos(4)).isEqualTo(Duration.ofSeconds(1).toNanos());
+        assertThat(messageQueue.redeliveryDelayNanos(100)).isEqualTo(Duration.ofSeconds(1).toNanos());
+    }
+
+    @Test
+    @DisplayName("전송 - 메시지마다 고유 ID 부여")
+    void send_AssignsUniqueIds() throws Exception {
+        messageQueue.send(QUEUE, "a");
+        messageQueue.send(QUEUE, "b");
+
+        QueueMessage first = messageQueue.receive(QUEUE, Duration.ofMillis(100));
+        QueueMessage second = messageQueue.receive(QUEUE, Duration.ofMillis(100));
+
+        assertThat(first.body()).isEqualTo("a");
+        assertThat(second.body()).isEqualTo("b");
+        assertThat(first.id()).isNotEqualTo(second.id());
+    }
+}
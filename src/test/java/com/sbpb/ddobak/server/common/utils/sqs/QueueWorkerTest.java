@@ -0,0 +1,161 @@
+package com.sbpb.ddobak.server.common.utils.sqs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 큐 소비자 테스트 (InMemoryMessageQueue 사용)
+ */
+class QueueWorkerTest {
+
+    private static final String QUEUE = "test-queue";
+
+    private MeterRegistry meterRegistry;
+    private InMemoryMessageQueue messageQueue;
+    private QueueWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        messageQueue = new InMemoryMessageQueue(meterRegistry, Duration.ofMillis(20), Duration.ofMillis(100));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (worker != null) {
+            worker.stop(Duration.ofSeconds(1));
+        }
+    }
+
+    @Test
+    @DisplayName("소비 - 실패한 메시지는 재시도 후 성공")
+    void consume_RetriesFailedMessage() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(1);
+        worker = worker(body -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IllegalStateException("temporary failure");
+            }
+            done.countDown();
+        }, null, 3);
+
+        worker.start();
+        messageQueue.send(QUEUE, "job");
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(count("retry")).isEqualTo(2);
+        assertThat(count("success")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("소비 - 최대 수신 횟수를 넘기면 포기 콜백 호출")
+    void consume_GivesUpAfterMaxReceiveCount() throws Exception {
+        CountDownLatch gaveUp = new CountDownLatch(1);
+        worker = worker(body -> {
+            throw new IllegalStateException("permanent failure");
+        }, gaveUp, 2);
+
+        worker.start();
+        messageQueue.send(QUEUE, "job");
+
+        assertThat(gaveUp.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(count("failed")).isEqualTo(1);
+        assertThat(messageQueue.size(QUEUE)).isZero();
+    }
+
+    @Test
+    @DisplayName("수신 실패 - 대기 시간을 두 배씩 늘리고, 수신에 성공하면 처음부터 다시")
+    void consume_ReceiveFailure_BacksOffAndResets() throws Exception {
+        // true: 수신 실패, false: 빈 수신 성공
+        Deque<Boolean> script = new ArrayDeque<>(List.of(true, true, true, true, false, true, false));
+        List<Long> receivedAt = new CopyOnWriteArrayList<>();
+        CountDownLatch scriptDone = new CountDownLatch(1);
+        MessageQueue failingQueue = new MessageQueue() {
+            @Override
+            public void send(String queueName, String body) {
+            }
+
+            @Override
+            public QueueMessage receive(String queueName, Duration waitTime) throws InterruptedException {
+                Boolean fail = script.poll();
+                if (fail == null) {
+                    scriptDone.countDown();
+                    Thread.sleep(waitTime.toMillis());
+                    return null;
+                }
+                receivedAt.add(System.nanoTime());
+                if (fail) {
+                    throw new IllegalStateException("queue unavailable");
+                }
+                return null;
+            }
+
+            @Override
+            public void acknowledge(QueueMessage message) {
+            }
+
+            @Override
+            public void release(QueueMessage message) {
+            }
+        };
+        worker = new QueueWorker(QUEUE, failingQueue, body -> { }, 1, 3, Duration.ofMillis(50),
+                new CustomizableThreadFactory("test-worker-"), Duration.ofMillis(20), Duration.ofSeconds(1),
+                meterRegistry);
+
+        worker.start();
+
+        assertThat(scriptDone.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(receivedAt).hasSize(7);
+        assertThat(gapMillis(receivedAt, 0)).isGreaterThanOrEqualTo(20);
+        assertThat(gapMillis(receivedAt, 1)).isGreaterThanOrEqualTo(40);
+        assertThat(gapMillis(receivedAt, 2)).isGreaterThanOrEqualTo(80);
+        assertThat(gapMillis(receivedAt, 3)).isGreaterThanOrEqualTo(160);
+        // 성공 후 다시 실패하면 320ms가 아니라 20ms부터
+        assertThat(gapMillis(receivedAt, 5)).isBetween(20L, 250L);
+        assertThat(meterRegistry.counter("ddobak.queue.receive.errors", "queue", QUEUE).count()).isEqualTo(5);
+    }
+
+    private static long gapMillis(List<Long> times, int index) {
+        return TimeUnit.NANOSECONDS.toMillis(times.get(index + 1) - times.get(index));
+    }
+
+    private QueueWorker worker(MessageHandler handler, CountDownLatch gaveUp, int maxReceiveCount) {
+        MessageHandler withGiveUp = new MessageHandler() {
+            @Override
+            public void handle(String body) throws Exception {
+                handler.handle(body);
+            }
+
+            @Override
+            public void onGiveUp(String body, Exception cause) {
+                if (gaveUp != null) {
+                    gaveUp.countDown();
+                }
+            }
+        };
+        return new QueueWorker(QUEUE, messageQueue, withGiveUp, 2, maxReceiveCount, Duration.ofMillis(50),
+                new CustomizableThreadFactory("test-worker-"), meterRegistry);
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("ddobak.queue.messages", "queue", QUEUE, "result", result).count();
+    }
+}
@@ -0,0 +1,68 @@
+package com.sbpb.ddobak.server.common.utils.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sbpb.ddobak.server.common.utils.ContentHash;
+
+/**
+ * 로컬 객체 저장소 테스트
+ */
+class LocalObjectStorageTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    @DisplayName("저장 - 버퍼보다 큰 내용을 그대로 저장하고 크기와 해시를 함께 반환")
+    void put_StoresContentWithSizeAndHash() throws Exception {
+        LocalObjectStorage storage = new LocalObjectStorage(root, 1024);
+        byte[] content = new byte[100_000];
+        new Random(1).nextBytes(content);
+
+        StoredObject stored = storage.put("contracts/C0000001", Channels.newChannel(new ByteArrayInputStream(content)),
+            1_000_000);
+
+        assertThat(stored.size()).isEqualTo(content.length);
+        assertThat(stored.contentHash()).isEqualTo(ContentHash.sha256(new ByteArrayInputStream(content)));
+        assertThat(storage.keyOf(stored.url())).contains("contracts/C0000001");
+        try (InputStream in = storage.open("contracts/C0000001")) {
+            assertThat(in.readAllBytes()).isEqualTo(content);
+        }
+    }
+
+    @Test
+    @DisplayName("저장 - 최대 크기를 넘으면 중단하고 쓰던 파일을 남기지 않음")
+    void put_OverLimit_AbortsAndCleansUp() throws Exception {
+        LocalObjectStorage storage = new LocalObjectStorage(root, 1024);
+
+        assertThatThrownBy(() -> storage.put("contracts/C0000002",
+            Channels.newChannel(new ByteArrayInputStream(new byte[10_000])), 5_000))
+            .isInstanceOf(ObjectSizeLimitExceededException.class);
+
+        assertThat(root.resolve("contracts/C0000002")).doesNotExist();
+        try (var temp = Files.list(root.resolve(".tmp"))) {
+            assertThat(temp).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("저장 - 저장소 밖을 가리키는 키는 거부")
+    void put_KeyOutsideRoot_Rejected() {
+        LocalObjectStorage storage = new LocalObjectStorage(root, 1024);
+
+        assertThatThrownBy(() -> storage.put("../escape", Channels.newChannel(new ByteArrayInputStream(new byte[1])), 10))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,124 @@
+package com.sbpb.ddobak.server.common.utils.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.sbpb.ddobak.server.common.utils.sqs.InMemoryMessageQueue;
+import com.sbpb.ddobak.server.common.utils.sqs.QueueWorker;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 추적 ID 전달 테스트 (비동기 작업, 큐 소비자)
+ */
+class TraceContextTest {
+
+    private ThreadPoolTaskExecutor executor;
+    private QueueWorker worker;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+        if (worker != null) {
+            worker.stop(Duration.ofSeconds(1));
+        }
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("비동기 - MdcTaskDecorator가 호출 스레드의 추적 ID를 작업 스레드로 전달하고 작업 후 원복")
+    void mdcTaskDecorator_PropagatesAndRestores() throws Exception {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.initialize();
+
+        String inTask;
+        try (TraceContext.Scope scope = TraceContext.open("req123")) {
+            inTask = executor.submit(TraceContext::current).get(5, TimeUnit.SECONDS);
+        }
+        String afterTask = executor.submit(TraceContext::current).get(5, TimeUnit.SECONDS);
+
+        assertThat(inTask).isEqualTo("req123");
+        assertThat(afterTask).isNull();
+    }
+
+    @Test
+    @DisplayName("비동기 - wrap으로 감싼 작업은 다른 실행기에서도 같은 추적 ID")
+    void wrap_PropagatesToOtherExecutors() throws Exception {
+        AtomicReference<String> seen = new AtomicReference<>();
+        Runnable wrapped;
+        Callable<String> wrappedCall;
+        try (TraceContext.Scope scope = TraceContext.open("req456")) {
+            wrapped = TraceContext.wrap(() -> seen.set(TraceContext.current()));
+            wrappedCall = TraceContext.wrap(TraceContext::current);
+        }
+
+        CompletableFuture.runAsync(wrapped).get(5, TimeUnit.SECONDS);
+
+        assertThat(seen.get()).isEqualTo("req456");
+        assertThat(CompletableFuture.supplyAsync(() -> {
+            try {
+                return wrappedCall.call();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }).get(5, TimeUnit.SECONDS)).isEqualTo("req456");
+        assertThat(TraceContext.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("큐 - 보낸 요청의 추적 ID로 소비자가 처리")
+    void queueConsumer_ContinuesSenderTraceId() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        InMemoryMessageQueue queue = new InMemoryMessageQueue(meterRegistry);
+        AtomicReference<String> consumed = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        worker = new QueueWorker("trace-queue", queue, body -> {
+            consumed.set(TraceContext.current());
+            done.countDown();
+        }, 1, 3, Duration.ofMillis(50), new CustomizableThreadFactory("trace-worker-"), meterRegistry);
+        worker.start();
+
+        try (TraceContext.Scope scope = TraceContext.open("req789")) {
+            queue.send("trace-queue", "job");
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(consumed.get()).isEqualTo("req789");
+    }
+
+    @Test
+    @DisplayName("큐 - 추적 ID 없이 보낸 메시지는 소비 시 새로 생성")
+    void queueConsumer_NoSenderTraceId_Generates() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        InMemoryMessageQueue queue = new InMemoryMessageQueue(meterRegistry);
+        AtomicReference<String> consumed = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        worker = new QueueWorker("trace-queue", queue, body -> {
+            consumed.set(TraceContext.current());
+            done.countDown();
+        }, 1, 3, Duration.ofMillis(50), new CustomizableThreadFactory("trace-worker-"), meterRegistry);
+        worker.start();
+
+        queue.send("trace-queue", "job");
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(consumed.get()).matches("[a-z0-9]{12}");
+    }
+}
@@ -0,0 +1,103 @@
+package com.sbpb.ddobak.server.common.utils.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.sbpb.ddobak.server.common.response.ApiResponse;
+
+import jakarta.servlet.FilterChain;
+
+/**
+ * 요청 단위 추적 ID 필터 테스트
+ */
+class TraceIdFilterTest {
+
+    private final TraceIdFilter filter = new TraceIdFilter();
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("필터 - 헤더가 없으면 12자리 ID를 한 번 생성해 요청 내내 재사용")
+    void doFilter_NoHeader_OneIdPerRequest() throws Exception {
+        List<String> seen = new ArrayList<>();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest(), response, (req, res) -> {
+            seen.add(TraceContext.current());
+            seen.add(TraceContext.currentOrGenerate());
+            seen.add(ApiResponse.success("first").getTraceId());
+            seen.add(ApiResponse.success("second").getTraceId());
+        });
+
+        assertThat(seen.get(0)).matches("[a-z0-9]{12}");
+        assertThat(seen).containsOnly(seen.get(0));
+        assertThat(response.getHeader(TraceContext.HEADER)).isEqualTo(seen.get(0));
+        assertThat(TraceContext.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("필터 - 요청마다 다른 ID")
+    void doFilter_SeparateRequests_DistinctIds() throws Exception {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest(), first, noop());
+        filter.doFilter(new MockHttpServletRequest(), second, noop());
+
+        assertThat(first.getHeader(TraceContext.HEADER)).isNotEqualTo(second.getHeader(TraceContext.HEADER));
+    }
+
+    @Test
+    @DisplayName("필터 - 유효한 X-Trace-Id 헤더는 그대로 사용")
+    void doFilter_ValidHeader_Accepted() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(TraceContext.HEADER, "gw-7f3a_91c2");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        List<String> seen = new ArrayList<>();
+
+        filter.doFilter(request, response, (req, res) -> seen.add(TraceContext.current()));
+
+        assertThat(seen).containsExactly("gw-7f3a_91c2");
+        assertThat(response.getHeader(TraceContext.HEADER)).isEqualTo("gw-7f3a_91c2");
+    }
+
+    @Test
+    @DisplayName("필터 - 허용하지 않는 문자나 너무 긴 헤더는 새 ID로 교체")
+    void doFilter_InvalidHeader_Replaced() throws Exception {
+        for (String header : new String[] {"", "abc def", "a\r\nSet-Cookie:x", "x".repeat(65)}) {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(TraceContext.HEADER, header);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            filter.doFilter(request, response, noop());
+
+            assertThat(response.getHeader(TraceContext.HEADER)).as(header).matches("[a-z0-9]{12}");
+        }
+    }
+
+    @Test
+    @DisplayName("필터 - 요청이 끝나면 이전 MDC 값 복원")
+    void doFilter_RestoresPreviousMdc() throws Exception {
+        MDC.put(TraceContext.MDC_KEY, "outer");
+
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), noop());
+
+        assertThat(TraceContext.current()).isEqualTo("outer");
+    }
+
+    private static FilterChain noop() {
+        return (req, res) -> { };
+    }
+}
@@ -0,0 +1,119 @@
+package com.sbpb.ddobak.server.domain.documentProcess.entity.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sbpb.ddobak.server.common.utils.IdGenerator;
+import com.sbpb.ddobak.server.common.utils.count.CountCache;
+import com.sbpb.ddobak.server.domain.documentProcess.entity.Contract;
+import com.sbpb.ddobak.server.domain.documentProcess.repository.ContractRepository;
+
+/**
+ * 계약서 추가/삭제 시 개수 캐시 갱신 테스트 (커밋된 경우에만 반영되는지 확인)
+ */
+@SpringBootTest
+class DocumentCountListenerTest {
+
+    @Autowired
+    private ContractRepository contractRepository;
+
+    @Autowired
+    private CountCache countCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private String userId;
+    private String key;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        userId = IdGenerator.generateUserId();
+        key = DocumentCountListener.contractsOfUser(userId);
+        assertThat(cachedCount()).isZero();
+    }
+
+    @AfterEach
+    void tearDown() {
+        contractRepository.deleteAll(contractRepository.findLatestByUserId(userId, Limit.unlimited()));
+        countCache.invalidate(key);
+    }
+
+    @Test
+    @DisplayName("추가 - 커밋된 뒤에 +1, 커밋 전에는 그대로")
+    void persist_AfterCommit_Increments() {
+        transactionTemplate.executeWithoutResult(status -> {
+            contractRepository.saveAndFlush(contract());
+
+            assertThat(cachedCount()).isZero();
+        });
+
+        assertThat(cachedCount()).isEqualTo(1);
+        assertThat(contractRepository.countByUserId(userId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("추가 - 롤백되면 반영하지 않음")
+    void persist_Rollback_Unchanged() {
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            contractRepository.saveAndFlush(contract());
+            throw new IllegalStateException("rollback");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cachedCount()).isZero();
+        assertThat(contractRepository.countByUserId(userId)).isZero();
+    }
+
+    @Test
+    @DisplayName("삭제 - 커밋된 뒤에 -1")
+    void remove_AfterCommit_Decrements() {
+        Contract first = contractRepository.save(contract());
+        contractRepository.save(contract());
+        assertThat(cachedCount()).isEqualTo(2);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            contractRepository.delete(contractRepository.findById(first.getId()).orElseThrow());
+            contractRepository.flush();
+
+            assertThat(cachedCount()).isEqualTo(2);
+        });
+
+        assertThat(cachedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("키 - 캐시되지 않은 사용자는 갱신하지 않고 조회 시 센다")
+    void persist_UncachedKey_CountedOnRead() {
+        countCache.invalidate(key);
+
+        contractRepository.save(contract());
+
+        CountCache.Count count = countCache.get(key, () -> contractRepository.countByUserId(userId));
+        assertThat(count).isEqualTo(new CountCache.Count(1, false));
+    }
+
+    private long cachedCount() {
+        return countCache.get(key, () -> contractRepository.countByUserId(userId)).value();
+    }
+
+    private Contract contract() {
+        return Contract.builder()
+            .id(IdGenerator.generateContractId())
+            .userId(userId)
+            .title("계약서")
+            .imgUrl("contracts/test.png")
+            .build();
+    }
+}
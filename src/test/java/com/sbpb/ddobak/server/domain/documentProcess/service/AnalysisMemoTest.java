@@ -0,0 +1,133 @@
+package com.sbpb.ddobak.server.domain.documentProcess.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sbpb.ddobak.server.config.DocumentProcessProperties;
+import com.sbpb.ddobak.server.domain.documentProcess.client.AnalysisResult;
+import com.sbpb.ddobak.server.domain.documentProcess.client.ContractAnalysisClient;
+import com.sbpb.ddobak.server.domain.documentProcess.client.StubContractAnalysisClient;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 분석 결과 재사용 테스트
+ */
+class AnalysisMemoTest {
+
+    private static final String LEASE = """
+            부동산 임대차 계약서
+            임대인: 홍길동 임차인: 김철수
+            제1조 (목적) 임대인은 아래 부동산을 임차인에게 임대한다.
+            제2조 (보증금) 임차인은 계약 시 보증금 50,000,000원을 지급한다.
+            제3조 (위약금) 임차인이 계약을 해지하는 경우 보증금 50,000,000원 전액을 위약금으로 한다.
+            제4조 (해지) 임대인은 사전 통지 없이 일방적으로 계약을 해지할 수 있다.
+            제5조 (원상복구) 임차인은 계약 종료 시 목적물을 원상복구한다.
+            제6조 (손해배상) 임차인은 사유를 불문하고 모든 손해배상 책임을 진다.
+            제7조 (갱신) 이 계약은 별도 의사표시가 없으면 동일 조건으로 자동 갱신된다.
+            """;
+
+    private RecordingClient client;
+    private AnalysisMemo memo;
+
+    @BeforeEach
+    void setUp() {
+        client = new RecordingClient("v1");
+        memo = new AnalysisMemo(new DocumentProcessProperties(), new SimpleMeterRegistry());
+        memo.analyze(LEASE, client);
+        client.requests.clear();
+    }
+
+    @Test
+    @DisplayName("재사용 - 이름과 금액만 다른 계약서는 분석 서비스를 호출하지 않음")
+    void analyze_SameTemplate_ReusesWithoutCall() {
+        String other = LEASE.replace("홍길동", "이영희").replace("김철수", "박민수").replace("50,000,000", "120,000,000");
+
+        AnalysisResult result = memo.analyze(other, client);
+
+        assertThat(client.requests).isEmpty();
+        assertThat(result.clauses()).hasSize(4);
+        // 조항 원문은 이전 계약서가 아니라 이번 계약서의 줄
+        assertThat(result.clauses().get(0).clause()).contains("120,000,000").doesNotContain("50,000,000");
+        // 다른 계약서의 분석 이유와 근거 태그는 넘기지 않고 위험도만 재사용
+        assertThat(result.clauses()).allSatisfy(clause -> {
+            assertThat(clause.reason()).isEqualTo(AnalysisMemo.REUSED_REASON);
+            assertThat(clause.sourceContractTag()).isNull();
+        });
+        assertThat(result.clauses()).extracting(AnalysisResult.DetectedClause::warnLevel).containsExactly(3, 3, 2, 1);
+        assertThat(result.summary()).isEqualTo(AnalysisResult.summaryOf(4));
+    }
+
+    @Test
+    @DisplayName("재사용 - 바뀐 줄만 분석하고 나머지는 이전 판정 사용")
+    void analyze_ChangedLine_AnalyzesOnlyChangedLine() {
+        String revised = LEASE.replace("목적물을 원상복구한다.", "자기 비용으로 모든 시설을 철거하고 손해배상 책임을 진다.");
+
+        AnalysisResult result = memo.analyze(revised, client);
+
+        assertThat(client.requests).hasSize(1);
+        assertThat(client.requests.get(0)).startsWith("제5조").doesNotContain("\n");
+        assertThat(result.clauses()).hasSize(5);
+        assertThat(result.clauses()).extracting(AnalysisResult.DetectedClause::clause)
+                .containsSubsequence(
+                        "제4조 (해지) 임대인은 사전 통지 없이 일방적으로 계약을 해지할 수 있다.",
+                        "제5조 (원상복구) 임차인은 계약 종료 시 자기 비용으로 모든 시설을 철거하고 손해배상 책임을 진다.");
+        // 이번 계약서에서 새로 분석한 줄은 분석 결과의 이유를 그대로 사용
+        assertThat(result.clauses().get(2).reason()).isNotEqualTo(AnalysisMemo.REUSED_REASON);
+        assertThat(result.clauses().get(2).sourceContractTag()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("재사용 - 바뀐 줄이 많으면 전체 분석")
+    void analyze_MostlyDifferent_AnalyzesFully() {
+        String different = """
+                근로계약서
+                제1조 근로시간은 주 40시간으로 한다.
+                제2조 임금은 매월 지급한다.
+                제6조 (손해배상) 임차인은 사유를 불문하고 모든 손해배상 책임을 진다.
+                """;
+
+        memo.analyze(different, client);
+
+        assertThat(client.requests).containsExactly(different);
+    }
+
+    @Test
+    @DisplayName("재사용 - 분석 모델 버전이 바뀌면 이전 결과를 쓰지 않음")
+    void analyze_ModelVersionChanged_AnalyzesAgain() {
+        RecordingClient upgraded = new RecordingClient("v2");
+
+        memo.analyze(LEASE, upgraded);
+
+        assertThat(upgraded.requests).containsExactly(LEASE);
+    }
+
+    private static class RecordingClient implements ContractAnalysisClient {
+
+        private final ContractAnalysisClient delegate = new StubContractAnalysisClient(Duration.ZERO);
+        private final List<String> requests = new ArrayList<>();
+        private final String modelVersion;
+
+        RecordingClient(String modelVersion) {
+            this.modelVersion = modelVersion;
+        }
+
+        @Override
+        public AnalysisResult analyze(String content) {
+            requests.add(content);
+            return delegate.analyze(content);
+        }
+
+        @Override
+        public String modelVersion() {
+            return modelVersion;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.sbpb.ddobak.server.domain.documentProcess.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.sbpb.ddobak.server.common.utils.IdGenerator;
+import com.sbpb.ddobak.server.common.utils.concurrent.ThreadMode;
+import com.sbpb.ddobak.server.domain.documentProcess.dto.ContractStatusResponse;
+import com.sbpb.ddobak.server.domain.documentProcess.dto.CreateContractRequest;
+import com.sbpb.ddobak.server.domain.documentProcess.entity.ContractStatus;
+
+/**
+ * 계약서 처리 부하 테스트 (스텁 OCR/분석 서비스에 5~30초 지연)
+ *
+ * 기본 test 작업에서는 제외되며 ./gradlew loadTest로 실행한다.
+ * - load.latency: 외부 서비스 지연 (기본 5s)
+ * - load.contracts: 등록할 계약서 수 (기본 200)
+ * - load.concurrency: 외부 서비스별 동시 호출 한도 (기본 100)
+ * - load.virtualThreads: 가상 스레드 사용 (Java 21 이상, -PloadJavaVersion=21)
+ *
+ * 두 단계가 같은 지연이므로 기대 소요 시간은 (ceil(contracts / concurrency) + 1) * latency이다.
+ */
+@Tag("load")
+@SpringBootTest
+class ContractPipelineLoadTest {
+
+    private static final Duration LATENCY = DurationStyle.detectAndParse(System.getProperty("load.latency", "5s"));
+    private static final int CONTRACTS = Integer.getInteger("load.contracts", 200);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 100);
+    private static final boolean VIRTUAL_THREADS = Boolean.getBoolean("load.virtualThreads");
+
+    @Autowired
+    private ContractPipelineService pipelineService;
+
+    @Autowired
+    private ThreadMode threadMode;
+
+    @DynamicPropertySource
+    static void loadProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.threads.virtual.enabled", () -> VIRTUAL_THREADS);
+        registry.add("ddobak.document.client.stub-latency", LATENCY::toString);
+        // 큐 소비자는 넉넉히 두고 외부 호출 수는 동시 호출 한도로만 제한
+        registry.add("ddobak.document.pipeline.ocr-workers", () -> CONCURRENCY * 2);
+        registry.add("ddobak.document.pipeline.analysis-workers", () -> CONCURRENCY * 2);
+        registry.add("ddobak.document.pipeline.max-attempts", () -> 1);
+        // 모든 계약서가 같은 본문이므로 분석 재사용을 끄고 외부 호출 지연을 그대로 측정
+        registry.add("ddobak.document.analysis-memo.enabled", () -> false);
+        for (String dependency : List.of("ocr", "analysis")) {
+            String prefix = "ddobak.document.client." + dependency;
+            registry.add(prefix + ".max-concurrent", () -> CONCURRENCY);
+            registry.add(prefix + ".timeout", () -> LATENCY.multipliedBy(2).toString());
+            registry.add(prefix + ".max-wait", () -> "10m");
+            // 고정 지연에서 처리량만 측정 (헤지/적응형 시간 제한은 ResilientCallerTest에서 검증)
+            registry.add(prefix + ".adaptive-timeout", () -> false);
+            registry.add(prefix + ".hedge.enabled", () -> false);
+        }
+    }
+
+    @Test
+    @DisplayName("부하 - 외부 서비스 지연이 길어도 처리량은 동시 호출 한도만큼 유지")
+    void pipeline_ThroughputUnderExternalLatency() throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+
+        long start = System.nanoTime();
+        List<String> contractIds = new ArrayList<>(CONTRACTS);
+        for (int i = 0; i < CONTRACTS; i++) {
+            contractIds.add(pipelineService.submit(IdGenerator.generateUserId(),
+                CreateContractRequest.builder().title("부하 테스트 " + i).imgUrl("local://load/" + i).build())
+                .getContractId());
+        }
+
+        long expectedRounds = (CONTRACTS + CONCURRENCY - 1) / CONCURRENCY + 1;
+        Duration expected = LATENCY.multipliedBy(expectedRounds);
+        int analyzed = awaitAll(contractIds, expected.multipliedBy(3));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        System.out.printf("[load] mode=%s java=%d latency=%s contracts=%d concurrency=%d "
+                + "elapsed=%.1fs expected=%.1fs throughput=%.2f/s peakPlatformThreads=%d%n",
+            threadMode, Runtime.version().feature(), LATENCY, CONTRACTS, CONCURRENCY,
+            elapsed.toMillis() / 1000.0, expected.toMillis() / 1000.0,
+            analyzed * 1000.0 / elapsed.toMillis(), threads.getPeakThreadCount());
+
+        assertThat(analyzed).isEqualTo(CONTRACTS);
+        assertThat(elapsed).isLessThan(expected.multipliedBy(3).dividedBy(2));
+    }
+
+    private int awaitAll(List<String> contractIds, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        int analyzed = 0;
+        for (String contractId : contractIds) {
+            ContractStatusResponse status = pipelineService.getStatus(contractId);
+            while (!status.getStatus().isTerminal() && System.nanoTime() < deadline) {
+                Thread.sleep(100);
+                status = pipelineService.getStatus(contractId);
+            }
+            if (status.getStatus() == ContractStatus.ANALYZED) {
+                analyzed++;
+            }
+        }
+        return analyzed;
+    }
+}
@@ -0,0 +1,379 @@
+package com.sbpb.ddobak.server.domain.documentProcess.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Limit;
+
+import com.sbpb.ddobak.server.common.utils.ContentHash;
+import com.sbpb.ddobak.server.common.utils.IdGenerator;
+import com.sbpb.ddobak.server.common.utils.event.EventBus;
+import com.sbpb.ddobak.server.domain.documentProcess.client.AnalysisResult;
+import com.sbpb.ddobak.server.domain.documentProcess.client.ContractAnalysisClient;
+import com.sbpb.ddobak.server.domain.documentProcess.client.OcrClient;
+import com.sbpb.ddobak.server.domain.documentProcess.dto.ContractProgressEvent;
+import com.sbpb.ddobak.server.domain.documentProcess.dto.ContractStatusResponse;
+import com.sbpb.ddobak.server.domain.documentProcess.dto.CreateContractRequest;
+import com.sbpb.ddobak.server.domain.documentProcess.entity.ContractOcrResult;
+import com.sbpb.ddobak.server.domain.documentProcess.entity.ContractStatus;
+import com.sbpb.ddobak.server.domain.documentProcess.entity.ToxicClause;
+import com.sbpb.ddobak.server.domain.documentProcess.exception.ContractExceptions;
+import com.sbpb.ddobak.server.domain.documentProcess.repository.ContractOcrResultRepository;
+import com.sbpb.ddobak.server.domain.documentProcess.repository.ToxicClauseRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 계약서 비동기 처리 테스트 (내장 큐 + 스텁 OCR/분석 클라이언트)
+ */
+@SpringBootTest(properties = "ddobak.storage.local.root=build/test-storage")
+class ContractPipelineServiceTest {
+
+    private static final String REVISED_ARTICLE_3 = "제3조 (위약금) 임차인이 계약을 해지하는 경우 보증금의 두 배를 위약금으로 한다.";
+
+    /**
+     * 스텁 OCR 본문에서 제3조를 바꾸고 제6조를 뺀 개정본
+     */
+    private static final String REVISED_CONTRACT = """
+            부동산 임대차 계약서
+            제1조 (목적) 임대인은 아래 부동산을 임차인에게 임대한다.
+            제2조 (보증금) 임차인은 계약 시 보증금을 지급한다.
+            %s
+            제4조 (해지) 임대인은 사전 통지 없이 일방적으로 계약을 해지할 수 있다.
+            제5조 (원상복구) 임차인은 계약 종료 시 목적물을 원상복구한다.
+            제7조 (갱신) 이 계약은 별도 의사표시가 없으면 동일 조건으로 자동 갱신된다.
+            """.formatted(REVISED_ARTICLE_3);
+
+    @Autowired
+    private ContractPipelineService pipelineService;
+
+    @Autowired
+    private ToxicClauseRepository toxicClauseRepository;
+
+    @Autowired
+    private ContractOcrResultRepository ocrResultRepository;
+
+    @Autowired
+    private OcrContentStore ocrContentStore;
+
+    @Autowired
+    private EventBus eventBus;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ScriptedOcrClient ocrClient;
+
+    @Autowired
+    private RecordingAnalysisClient analysisClient;
+
+    @Test
+    @DisplayName("계약서 등록 - 바로 반환하고 OCR/분석이 비동기로 완료됨")
+    void submit_ProcessesAsynchronously() throws Exception {
+        ContractStatusResponse accepted = pipelineService.submit(IdGenerator.generateUserId(),
+            CreateContractRequest.builder().title("임대차 계약서").imgUrl("local://contracts/sample.png").build());
+
+        assertThat(accepted.getStatus()).isEqualTo(ContractStatus.UPLOADED);
+
+        ContractStatusResponse completed = awaitTerminal(accepted.getContractId(), Duration.ofSeconds(10));
+
+        assertThat(completed.getStatus()).isEqualTo(ContractStatus.ANALYZED);
+        assertThat(completed.getAnalysisId()).isNotNull();
+        assertThat(toxicClauseRepository.countByAnalysisId(completed.getAnalysisId())).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("계약서 등록 - OCR이 계속 실패하면 FAILED로 표시")
+    void submit_MarksFailedAfterRetries() throws Exception {
+        ContractStatusResponse accepted = pipelineService.submit(IdGenerator.generateUserId(),
+            CreateContractRequest.builder().title("빈 계약서").imgUrl(" ").build());
+
+        ContractStatusResponse completed = awaitTerminal(accepted.getContractId(), Duration.ofSeconds(10));
+
+        assertThat(completed.getStatus()).isEqualTo(ContractStatus.FAILED);
+        assertThat(completed.getFailureReason()).contains(accepted.getContractId());
+    }
+
+    @Test
+    @DisplayName("계약서 등록 - 같은 이미지를 다시 올리면 OCR 결과를 재사용")
+    void submit_SameImage_ReusesOcrResult() throws Exception {
+        String imgUrl = "local://contracts/" + IdGenerator.generateContractId() + ".png";
+        String userId = IdGenerator.generateUserId();
+        double hitsBefore = meterRegistry.counter("ddobak.cache.hits", "cache", "ocr-results").count();
+
+        String firstId = pipelineService.submit(userId,
+            CreateContractRequest.builder().title("원본").imgUrl(imgUrl).build()).getContractId();
+        awaitTerminal(firstId, Duration.ofSeconds(10));
+        String secondId = pipelineService.submit(userId,
+            CreateContractRequest.builder().title("재업로드").imgUrl(imgUrl).build()).getContractId();
+        ContractStatusResponse second = awaitTerminal(secondId, Duration.ofSeconds(10));
+
+        assertThat(second.getStatus()).isEqualTo(ContractStatus.ANALYZED);
+        ContractOcrResult original = ocrResultRepository.findFirstByContractIdOrderByCreatedAtDesc(firstId).orElseThrow();
+        ContractOcrResult reused = ocrResultRepository.findFirstByContractIdOrderByCreatedAtDesc(secondId).orElseThrow();
+        assertThat(reused.getContentHash()).isNotNull().isEqualTo(original.getContentHash());
+        assertThat(ocrContentStore.read(reused)).isNotBlank().isEqualTo(ocrContentStore.read(original));
+        assertThat(meterRegistry.counter("ddobak.cache.hits", "cache", "ocr-results").count()).isEqualTo(hitsBefore + 1);
+    }
+
+    @Test
+    @DisplayName("여러 페이지 계약서 - 페이지별 OCR/분석 결과를 페이지 순서대로 하나로 합침")
+    void submit_MultiPage_MergesPagesInOrder() throws Exception {
+        String prefix = "local://contracts/" + IdGenerator.generateContractId();
+        ContractStatusResponse accepted = pipelineService.submit(IdGenerator.generateUserId(),
+            CreateContractRequest.builder()
+                .title("3쪽 임대차 계약서")
+                .imgUrl(prefix + "-1.png")
+                .additionalPageUrls(List.of(prefix + "-2.png", prefix + "-3.png"))
+                .build());
+
+        ContractStatusResponse completed = awaitTerminal(accepted.getContractId(), Duration.ofSeconds(10));
+
+        assertThat(completed.getStatus()).isEqualTo(ContractStatus.ANALYZED);
+        ContractOcrResult ocrResult = ocrResultRepository
+            .findFirstByContractIdOrderByCreatedAtDesc(accepted.getContractId()).orElseThrow();
+        assertThat(ocrContentStore.pageCount(ocrResult)).isEqualTo(3);
+        assertThat(toxicClauseRepository.countByAnalysisId(completed.getAnalysisId())).isEqualTo(4 * 3);
+    }
+
+    @Test
+    @DisplayName("계약서 개정 - 바뀐 조항이 없으면 분석과 독소 조항을 그대로 유지")
+    void revise_UnchangedArticles_KeepsToxicClauses() throws Exception {
+        String userId = IdGenerator.generateUserId();
+        String contractId = pipelineService.submit(userId, CreateContractRequest.builder()
+            .title("임대차 계약서").imgUrl("local://contracts/" + IdGenerator.generateContractId() + ".png").build())
+            .getContractId();
+        ContractStatusResponse analyzed = awaitTerminal(contractId, Duration.ofSeconds(10));
+        List<String> clauseIds = toxicClauseIds(analyzed.getAnalysisId());
+
+        pipelineService.revise(contractId, CreateContractRequest.builder()
+            .title("임대차 계약서 (수정본)").imgUrl("local://contracts/" + IdGenerator.generateContractId() + ".png").build());
+        ContractStatusResponse revised = awaitTerminal(contractId, Duration.ofSeconds(10));
+
+        assertThat(revised.getStatus()).isEqualTo(ContractStatus.ANALYZED);
+        assertThat(revised.getAnalysisId()).isEqualTo(analyzed.getAnalysisId());
+        assertThat(toxicClauseIds(revised.getAnalysisId())).isNotEmpty().isEqualTo(clauseIds);
+    }
+
+    @Test
+    @DisplayName("계약서 개정 - 바뀐 조항만 다시 분석하고 없어진 조항의 독소 조항은 지우며 나머지는 유지")
+    void revise_ChangedAndRemovedArticles_ReanalyzesOnlyChanged() throws Exception {
+        String contractId = pipelineService.submit(IdGenerator.generateUserId(), CreateContractRequest.builder()
+            .title("임대차 계약서").imgUrl("local://contracts/" + IdGenerator.generateContractId() + ".png").build())
+            .getContractId();
+        ContractStatusResponse analyzed = awaitTerminal(contractId, Duration.ofSeconds(10));
+        List<ToxicClause> before = toxicClauses(analyzed.getAnalysisId());
+        assertThat(before).extracting(clause -> clause.getClause().substring(0, 3))
+            .containsExactlyInAnyOrder("제3조", "제4조", "제6조", "제7조");
+
+        String revisedUrl = "local://contracts/" + IdGenerator.generateContractId() + ".png";
+        ocrClient.texts.put(revisedUrl, REVISED_CONTRACT);
+        analysisClient.requests.clear();
+        pipelineService.revise(contractId, CreateContractRequest.builder()
+            .title("임대차 계약서 (개정)").imgUrl(revisedUrl).build());
+        ContractStatusResponse revised = awaitTerminal(contractId, Duration.ofSeconds(10));
+
+        assertThat(revised.getStatus()).isEqualTo(ContractStatus.ANALYZED);
+        assertThat(revised.getAnalysisId()).isEqualTo(analyzed.getAnalysisId());
+        assertThat(analysisClient.requests).containsExactly(REVISED_ARTICLE_3);
+
+        List<ToxicClause> after = toxicClauses(revised.getAnalysisId());
+        String revisedClauseId = clauseId(after, "제3조");
+        assertThat(revisedClauseId).isNotNull().isNotIn(before.stream().map(ToxicClause::getId).toList());
+        assertThat(after).extracting(ToxicClause::getId).containsExactlyInAnyOrder(
+            clauseId(before, "제4조"), clauseId(before, "제7조"), revisedClauseId);
+    }
+
+    @Test
+    @DisplayName("진행 이벤트 - 단계 변경과 독소 조항을 발생 순서대로 발행하고 분석 완료로 끝남")
+    void progressEvents_PublishedInStageOrderUntilAnalyzed() throws Exception {
+        String contractId = pipelineService.submit(IdGenerator.generateUserId(), CreateContractRequest.builder()
+            .title("임대차 계약서").imgUrl("local://contracts/" + IdGenerator.generateContractId() + ".png").build())
+            .getContractId();
+        awaitTerminal(contractId, Duration.ofSeconds(10));
+
+        // 첫 분석 완료 이벤트가 늦게 도착할 수 있으므로 개정 접수 이벤트부터 기록
+        List<ContractProgressEvent> events = new CopyOnWriteArrayList<>();
+        try (EventBus.Subscription ignored = eventBus.subscribe(ContractProgressPublisher.topic(contractId),
+                ContractProgressEvent.class, event -> {
+                    if (!events.isEmpty() || event.getType() == ContractProgressEvent.Type.UPLOADED) {
+                        events.add(event);
+                    }
+                })) {
+            // 두 번째 페이지 제목이 제7조 뒤에 붙어 바뀐 조항은 제7조 하나
+            pipelineService.revise(contractId, CreateContractRequest.builder()
+                .title("임대차 계약서 (2쪽)")
+                .imgUrl("local://contracts/" + IdGenerator.generateContractId() + "-1.png")
+                .additionalPageUrls(List.of("local://contracts/" + IdGenerator.generateContractId() + "-2.png"))
+                .build());
+            ContractStatusResponse revised = awaitTerminal(contractId, Duration.ofSeconds(10));
+            awaitEvent(events, ContractProgressEvent.Type.ANALYZED, Duration.ofSeconds(5));
+
+            assertThat(events).extracting(ContractProgressEvent::getType).containsExactly(
+                ContractProgressEvent.Type.UPLOADED,
+                ContractProgressEvent.Type.OCR_COMPLETED,
+                ContractProgressEvent.Type.TOXIC_CLAUSE_DETECTED,
+                ContractProgressEvent.Type.ANALYSIS_PROGRESS,
+                ContractProgressEvent.Type.ANALYZED);
+            assertThat(events.get(2).getClause()).contains("자동 갱신");
+            assertThat(events.get(3).getCompletedParts()).isEqualTo(1);
+            assertThat(events.get(3).getTotalParts()).isEqualTo(1);
+            assertThat(events.get(4).getAnalysisId()).isEqualTo(revised.getAnalysisId());
+        }
+    }
+
+    @Test
+    @DisplayName("파일 업로드 - 저장소에 저장하고 업로드 중 계산한 해시로 OCR/분석 완료")
+    void upload_StoresFileAndProcesses() throws Exception {
+        byte[] image = ("PNG " + IdGenerator.generateContractId()).getBytes(StandardCharsets.UTF_8);
+
+        ContractStatusResponse accepted = pipelineService.upload(IdGenerator.generateUserId(), "업로드 계약서",
+            "image/png", image.length, new ByteArrayInputStream(image));
+        ContractStatusResponse completed = awaitTerminal(accepted.getContractId(), Duration.ofSeconds(10));
+
+        assertThat(completed.getStatus()).isEqualTo(ContractStatus.ANALYZED);
+        ContractOcrResult ocrResult = ocrResultRepository
+            .findFirstByContractIdOrderByCreatedAtDesc(accepted.getContractId()).orElseThrow();
+        assertThat(ocrResult.getContentHash()).isEqualTo(ContentHash.sha256(new ByteArrayInputStream(image)));
+    }
+
+    @Test
+    @DisplayName("파일 업로드 - 형식이 다르거나 전송 중 최대 크기를 넘으면 거부")
+    void upload_RejectsInvalidFiles() {
+        String userId = IdGenerator.generateUserId();
+        InputStream endless = new InputStream() {
+            @Override
+            public int read() {
+                return 0;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                return len;
+            }
+        };
+
+        assertThatThrownBy(() -> pipelineService.upload(userId, "계약서", "text/plain", 10,
+            new ByteArrayInputStream(new byte[10])))
+            .isInstanceOf(ContractExceptions.UnsupportedFileTypeException.class);
+        assertThatThrownBy(() -> pipelineService.upload(userId, "계약서", "image/jpeg", -1, endless))
+            .isInstanceOf(ContractExceptions.FileTooLargeException.class);
+    }
+
+    private List<String> toxicClauseIds(String analysisId) {
+        return toxicClauses(analysisId).stream()
+            .map(ToxicClause::getId)
+            .toList();
+    }
+
+    private List<ToxicClause> toxicClauses(String analysisId) {
+        return toxicClauseRepository.findByAnalysisIdOrderByIdAsc(analysisId, Limit.of(100));
+    }
+
+    private static String clauseId(List<ToxicClause> clauses, String article) {
+        return clauses.stream()
+            .filter(clause -> clause.getClause().startsWith(article))
+            .map(ToxicClause::getId)
+            .findFirst()
+            .orElse(null);
+    }
+
+    private void awaitEvent(List<ContractProgressEvent> events, ContractProgressEvent.Type type, Duration timeout)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (events.stream().noneMatch(event -> event.getType() == type) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    private ContractStatusResponse awaitTerminal(String contractId, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        ContractStatusResponse status = pipelineService.getStatus(contractId);
+        while (!status.getStatus().isTerminal() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            status = pipelineService.getStatus(contractId);
+        }
+        return status;
+    }
+
+    /**
+     * 테스트용 클라이언트 (지정하지 않은 이미지와 분석은 원래 클라이언트에 위임)
+     */
+    @TestConfiguration
+    static class ClientConfig {
+
+        @Bean
+        @Primary
+        ScriptedOcrClient scriptedOcrClient(@Qualifier("ocrClient") OcrClient ocrClient) {
+            return new ScriptedOcrClient(ocrClient);
+        }
+
+        @Bean
+        @Primary
+        RecordingAnalysisClient recordingAnalysisClient(
+                @Qualifier("contractAnalysisClient") ContractAnalysisClient analysisClient) {
+            return new RecordingAnalysisClient(analysisClient);
+        }
+    }
+
+    /**
+     * 이미지별로 지정한 본문을 반환하는 OCR 클라이언트
+     */
+    static class ScriptedOcrClient implements OcrClient {
+
+        private final OcrClient delegate;
+        private final Map<String, String> texts = new ConcurrentHashMap<>();
+
+        ScriptedOcrClient(OcrClient delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String extractText(String imgUrl) {
+            String text = imgUrl != null ? texts.get(imgUrl) : null;
+            return text != null ? text : delegate.extractText(imgUrl);
+        }
+    }
+
+    /**
+     * 분석 요청 본문을 기록하는 분석 클라이언트
+     */
+    static class RecordingAnalysisClient implements ContractAnalysisClient {
+
+        private final ContractAnalysisClient delegate;
+        private final List<String> requests = new CopyOnWriteArrayList<>();
+
+        RecordingAnalysisClient(ContractAnalysisClient delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public AnalysisResult analyze(String content) {
+            requests.add(content);
+            return delegate.analyze(content);
+        }
+
+        @Override
+        public String modelVersion() {
+            return delegate.modelVersion();
+        }
+    }
+}
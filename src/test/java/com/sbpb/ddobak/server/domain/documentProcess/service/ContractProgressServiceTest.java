@@ -0,0 +1,210 @@
+package com.sbpb.ddobak.server.domain.documentProcess.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.sbpb.ddobak.server.common.utils.concurrent.ThreadMode;
+import com.sbpb.ddobak.server.common.utils.event.InMemoryEventBus;
+import com.sbpb.ddobak.server.config.DocumentProcessProperties;
+import com.sbpb.ddobak.server.domain.documentProcess.dto.ContractProgressEvent;
+import com.sbpb.ddobak.server.domain.documentProcess.dto.ContractStatusResponse;
+import com.sbpb.ddobak.server.domain.documentProcess.entity.ContractStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 계약서 처리 진행 스트림 테스트 (내장 이벤트 버스 + 전송 내용을 기록하는 SseEmitter)
+ */
+class ContractProgressServiceTest {
+
+    private static final String CONTRACT_ID = "C0000001";
+    private static final int BUFFER_SIZE = 3;
+
+    private InMemoryEventBus eventBus;
+    private ContractPipelineService pipelineService;
+    private RecordingEmitter emitter;
+    private ContractProgressService progressService;
+
+    @BeforeEach
+    void setUp() {
+        eventBus = new InMemoryEventBus(new SimpleMeterRegistry());
+        pipelineService = mock(ContractPipelineService.class);
+        DocumentProcessProperties properties = new DocumentProcessProperties();
+        properties.getProgress().setBufferSize(BUFFER_SIZE);
+        emitter = new RecordingEmitter();
+        progressService = new ContractProgressService(eventBus, pipelineService, properties, ThreadMode.PLATFORM) {
+            @Override
+            SseEmitter newEmitter() {
+                return emitter;
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        progressService.shutdown();
+    }
+
+    @Test
+    @DisplayName("구독 - 상태 조회 전에 구독하여 조회 중 발행된 이벤트를 상태 다음에 전송")
+    void subscribe_DeliversEventsPublishedWhileLoadingSnapshot() throws Exception {
+        snapshotAfterPublishing(ContractStatus.UPLOADED, ContractProgressEvent.ocrCompleted(CONTRACT_ID));
+
+        progressService.subscribe(CONTRACT_ID);
+
+        awaitSent(2);
+        assertThat(emitter.names()).containsExactly(
+            ContractProgressService.STATUS_EVENT, ContractProgressEvent.Type.OCR_COMPLETED.name());
+        assertThat(((ContractStatusResponse) emitter.sent.get(0).data()).getStatus()).isEqualTo(ContractStatus.UPLOADED);
+        assertThat(eventBus.subscriberCount(ContractProgressPublisher.topic(CONTRACT_ID))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("구독 - 현재 상태보다 이전 단계의 이벤트는 버림")
+    void subscribe_DropsEventsOlderThanSnapshot() throws Exception {
+        snapshotAfterPublishing(ContractStatus.OCR_COMPLETED,
+            ContractProgressEvent.uploaded(CONTRACT_ID),
+            ContractProgressEvent.analysisProgress(CONTRACT_ID, 1, 2));
+
+        progressService.subscribe(CONTRACT_ID);
+        eventBus.publish(ContractProgressPublisher.topic(CONTRACT_ID),
+            ContractProgressEvent.analysisProgress(CONTRACT_ID, 2, 2));
+
+        awaitSent(3);
+        assertThat(emitter.names()).containsExactly(
+            ContractProgressService.STATUS_EVENT,
+            ContractProgressEvent.Type.ANALYSIS_PROGRESS.name(),
+            ContractProgressEvent.Type.ANALYSIS_PROGRESS.name());
+        assertThat(emitter.sent.subList(1, 3))
+            .extracting(sent -> ((ContractProgressEvent) sent.data()).getCompletedParts())
+            .containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("전송 - 분석 완료 이벤트를 보내면 연결을 닫고 구독 해제")
+    void drain_ClosesAfterTerminalEvent() throws Exception {
+        snapshotAfterPublishing(ContractStatus.OCR_COMPLETED);
+
+        progressService.subscribe(CONTRACT_ID);
+        String topic = ContractProgressPublisher.topic(CONTRACT_ID);
+        eventBus.publish(topic, ContractProgressEvent.analysisProgress(CONTRACT_ID, 1, 1));
+        eventBus.publish(topic, ContractProgressEvent.analyzed(CONTRACT_ID, "A0000001"));
+        eventBus.publish(topic, ContractProgressEvent.analysisProgress(CONTRACT_ID, 1, 1));
+
+        assertThat(emitter.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(emitter.names()).containsExactly(
+            ContractProgressService.STATUS_EVENT,
+            ContractProgressEvent.Type.ANALYSIS_PROGRESS.name(),
+            ContractProgressEvent.Type.ANALYZED.name());
+        assertThat(eventBus.subscriberCount(topic)).isZero();
+    }
+
+    @Test
+    @DisplayName("구독 - 이미 처리가 끝난 계약서는 상태만 보내고 바로 닫음")
+    void subscribe_TerminalSnapshot_ClosesImmediately() throws Exception {
+        snapshotAfterPublishing(ContractStatus.ANALYZED);
+
+        progressService.subscribe(CONTRACT_ID);
+
+        assertThat(emitter.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(emitter.names()).containsExactly(ContractProgressService.STATUS_EVENT);
+        assertThat(eventBus.subscriberCount(ContractProgressPublisher.topic(CONTRACT_ID))).isZero();
+    }
+
+    @Test
+    @DisplayName("대기열 초과 - 전송하지 못한 이벤트가 대기열을 넘으면 연결을 닫고 구독 해제")
+    void offer_ClosesWhenBufferFull() throws Exception {
+        ContractProgressEvent[] burst = new ContractProgressEvent[BUFFER_SIZE + 1];
+        for (int i = 0; i < burst.length; i++) {
+            burst[i] = ContractProgressEvent.analysisProgress(CONTRACT_ID, i + 1, burst.length);
+        }
+        snapshotAfterPublishing(ContractStatus.OCR_COMPLETED, burst);
+
+        progressService.subscribe(CONTRACT_ID);
+
+        assertThat(emitter.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        // 닫힌 연결에는 상태도 보내지 않음 (클라이언트가 다시 연결하면 현재 상태부터 받음)
+        assertThat(emitter.sent).isEmpty();
+        assertThat(eventBus.subscriberCount(ContractProgressPublisher.topic(CONTRACT_ID))).isZero();
+    }
+
+    /**
+     * 상태 조회 중에 이벤트를 발행한 뒤 지정한 상태 반환 (구독과 상태 조회 사이에 발행된 이벤트 재현)
+     */
+    private void snapshotAfterPublishing(ContractStatus status, ContractProgressEvent... published) {
+        when(pipelineService.getStatus(CONTRACT_ID)).thenAnswer(invocation -> {
+            for (ContractProgressEvent event : published) {
+                eventBus.publish(ContractProgressPublisher.topic(CONTRACT_ID), event);
+            }
+            return ContractStatusResponse.builder().contractId(CONTRACT_ID).status(status).build();
+        });
+    }
+
+    private void awaitSent(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (emitter.sent.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        // 더 보낼 이벤트가 없는지 확인할 수 있도록 전송 작업이 끝날 시간을 줌
+        Thread.sleep(50);
+    }
+
+    /**
+     * 보낸 이벤트를 기록하는 SseEmitter (닫힌 뒤 전송하면 실제 구현처럼 IllegalStateException)
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<Sent> sent = new CopyOnWriteArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        RecordingEmitter() {
+            super(0L);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (completed.getCount() == 0) {
+                throw new IllegalStateException("Emitter already completed");
+            }
+            String name = null;
+            Object data = null;
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof String text) {
+                    if (text.startsWith("event:")) {
+                        name = text.substring("event:".length(), text.indexOf('\n'));
+                    }
+                } else {
+                    data = part.getData();
+                }
+            }
+            sent.add(new Sent(name, data));
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        List<String> names() {
+            return sent.stream().map(Sent::name).toList();
+        }
+    }
+
+    private record Sent(String name, Object data) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.sbpb.ddobak.server.domain.documentProcess.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sbpb.ddobak.server.domain.documentProcess.service.ContractSegmenter.Segment;
+
+/**
+ * 계약서 조항 분리 테스트
+ */
+class ContractSegmenterTest {
+
+    private static final String LEASE = """
+            부동산 임대차 계약서
+            제1조 (목적) 임대인은 아래 부동산을 임차인에게 임대한다.
+            제2조 (보증금) 임차인은 계약 시 보증금 50,000,000원을 지급한다.
+              보증금은 계약 종료 시 반환한다.
+            제3조 (해지) 임대인은 사전 통지 없이 일방적으로 계약을 해지할 수 있다.
+            """;
+
+    @Test
+    @DisplayName("조항 분리 - 조 표시마다 나누고 이어지는 줄은 같은 조항에 포함")
+    void segments_SplitsByArticle() {
+        List<Segment> segments = ContractSegmenter.segments(LEASE);
+
+        assertThat(segments).extracting(Segment::text).containsExactly(
+            "부동산 임대차 계약서",
+            "제1조 (목적) 임대인은 아래 부동산을 임차인에게 임대한다.",
+            "제2조 (보증금) 임차인은 계약 시 보증금 50,000,000원을 지급한다.\n보증금은 계약 종료 시 반환한다.",
+            "제3조 (해지) 임대인은 사전 통지 없이 일방적으로 계약을 해지할 수 있다.");
+        assertThat(ContractSegmenter.find(segments, "임대인은 사전 통지 없이  일방적으로 계약을 해지할 수 있다."))
+            .isSameAs(segments.get(3));
+        assertThat(ContractSegmenter.find(segments, "보증금은 계약 종료 시\n반환한다.")).isSameAs(segments.get(2));
+        assertThat(ContractSegmenter.find(segments, "없는 조항")).isNull();
+        assertThat(ContractSegmenter.find(segments, "  ")).isNull();
+    }
+
+    @Test
+    @DisplayName("조항 해시 - 공백만 다르면 같고 금액이 바뀐 조항만 달라짐")
+    void segments_HashChangesOnlyForEditedArticle() {
+        List<Segment> original = ContractSegmenter.segments(LEASE);
+        List<Segment> reformatted = ContractSegmenter.segments(LEASE.replace("임대인은 아래", "임대인은   아래"));
+        List<Segment> revised = ContractSegmenter.segments(LEASE.replace("50,000,000", "70,000,000"));
+
+        assertThat(reformatted).extracting(Segment::hash).containsExactlyElementsOf(
+            original.stream().map(Segment::hash).toList());
+        assertThat(revised.get(2).hash()).isNotEqualTo(original.get(2).hash());
+        assertThat(List.of(revised.get(0), revised.get(1), revised.get(3))).extracting(Segment::hash)
+            .containsExactly(original.get(0).hash(), original.get(1).hash(), original.get(3).hash());
+    }
+
+    @Test
+    @DisplayName("조항 분리 - 조 표시가 없으면 줄마다 한 조항")
+    void segments_WithoutArticles_SplitsByLine() {
+        assertThat(ContractSegmenter.segments("첫째 줄\n\n둘째 줄\f셋째 줄")).extracting(Segment::text)
+            .containsExactly("첫째 줄", "둘째 줄", "셋째 줄");
+    }
+}
@@ -0,0 +1,186 @@
+package com.sbpb.ddobak.server.domain.documentProcess.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.sbpb.ddobak.server.common.exception.ValidationException;
+import com.sbpb.ddobak.server.common.response.CursorPageResponse;
+import com.sbpb.ddobak.server.common.response.PageCursor;
+import com.sbpb.ddobak.server.common.utils.IdGenerator;
+import com.sbpb.ddobak.server.domain.documentProcess.dto.ContractResponse;
+import com.sbpb.ddobak.server.domain.documentProcess.dto.ToxicClauseResponse;
+import com.sbpb.ddobak.server.domain.documentProcess.entity.Contract;
+import com.sbpb.ddobak.server.domain.documentProcess.entity.ContractAnalysis;
+import com.sbpb.ddobak.server.domain.documentProcess.entity.ToxicClause;
+import com.sbpb.ddobak.server.domain.documentProcess.repository.ContractAnalysisRepository;
+import com.sbpb.ddobak.server.domain.documentProcess.repository.ContractRepository;
+import com.sbpb.ddobak.server.domain.documentProcess.repository.ToxicClauseRepository;
+
+/**
+ * 계약서 목록 커서 페이징 테스트 (페이지를 끝까지 넘겨 빠지거나 겹치는 행이 없는지 확인)
+ */
+@SpringBootTest
+class ContractServiceTest {
+
+    private static final int PAGE_SIZE = 5;
+
+    @Autowired
+    private ContractService contractService;
+
+    @Autowired
+    private ContractRepository contractRepository;
+
+    @Autowired
+    private ContractAnalysisRepository analysisRepository;
+
+    @Autowired
+    private ToxicClauseRepository toxicClauseRepository;
+
+    private final String userId = IdGenerator.generateUserId();
+    private final List<Contract> contracts = new ArrayList<>();
+    private final List<ContractAnalysis> analyses = new ArrayList<>();
+    private final List<ToxicClause> toxicClauses = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        toxicClauseRepository.deleteAll(toxicClauses);
+        analysisRepository.deleteAll(analyses);
+        contractRepository.deleteAll(contracts);
+    }
+
+    @Test
+    @DisplayName("계약서 목록 - 생성 시각이 같은 행이 많아도 (created_at, id) 순서로 빠짐없이 한 번씩")
+    void getContracts_TiedCreatedAt_NoSkipsOrDuplicates() {
+        LocalDateTime base = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        for (int i = 0; i < 23; i++) {
+            saveContract(base.minusSeconds(i / 4));
+        }
+
+        List<String> paged = pageAllContracts(null);
+
+        assertThat(paged).doesNotHaveDuplicates().containsExactlyElementsOf(expectedContractOrder());
+    }
+
+    @Test
+    @DisplayName("계약서 목록 - 넘기는 중에 새 계약서가 추가되어도 이어지는 페이지가 밀리지 않음")
+    void getContracts_InsertDuringPaging_NoShift() {
+        LocalDateTime base = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        for (int i = 0; i < 12; i++) {
+            saveContract(base.minusSeconds(i / 3));
+        }
+        List<String> expected = expectedContractOrder();
+
+        CursorPageResponse<ContractResponse> first = contractService.getContracts(userId, null, PAGE_SIZE, false);
+        saveContract(base.plusSeconds(1));
+        List<String> paged = new ArrayList<>(ids(first));
+        paged.addAll(pageAllContracts(first.getNextCursor()));
+
+        assertThat(paged).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("계약서 목록 - 마지막 페이지는 hasNext=false, nextCursor 없음")
+    void getContracts_LastPage_HasNoCursor() {
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            saveContract(null);
+        }
+
+        CursorPageResponse<ContractResponse> page = contractService.getContracts(userId, null, PAGE_SIZE, false);
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("계약서 목록 - 시각이 없는 커서나 범위를 벗어난 크기는 거부")
+    void getContracts_InvalidRequest_Throws() {
+        String idOnlyCursor = PageCursor.ofId("C0000001").encode();
+
+        assertThatThrownBy(() -> contractService.getContracts(userId, idOnlyCursor, PAGE_SIZE, false))
+            .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> contractService.getContracts(userId, null, 0, false))
+            .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> contractService.getContracts(userId, null, 101, false))
+            .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    @DisplayName("독소 조항 목록 - id 순서로 빠짐없이 한 번씩")
+    void getToxicClauses_AllPages_NoSkipsOrDuplicates() {
+        Contract contract = saveContract(null);
+        ContractAnalysis analysis = analysisRepository.save(ContractAnalysis.builder()
+            .id(IdGenerator.generateAnalysisId())
+            .contractId(contract.getId())
+            .summary("요약")
+            .build());
+        analyses.add(analysis);
+        for (int i = 0; i < 12; i++) {
+            toxicClauses.add(toxicClauseRepository.save(ToxicClause.builder()
+                .id(IdGenerator.generateToxicClauseId())
+                .analysisId(analysis.getId())
+                .clause("조항 " + i)
+                .reason("사유 " + i)
+                .warnLevel(1)
+                .build()));
+        }
+
+        List<String> paged = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageResponse<ToxicClauseResponse> page =
+                contractService.getToxicClauses(analysis.getId(), cursor, PAGE_SIZE, false);
+            page.getContent().forEach(toxicClause -> paged.add(toxicClause.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(paged).doesNotHaveDuplicates()
+            .containsExactlyElementsOf(toxicClauses.stream().map(ToxicClause::getId).sorted().toList());
+    }
+
+    private Contract saveContract(LocalDateTime createdAt) {
+        Contract contract = contractRepository.save(Contract.builder()
+            .id(IdGenerator.generateContractId())
+            .userId(userId)
+            .title("계약서")
+            .imgUrl("contracts/test.png")
+            .createdAt(createdAt)
+            .build());
+        contracts.add(contract);
+        return contract;
+    }
+
+    private List<String> pageAllContracts(String cursor) {
+        List<String> paged = new ArrayList<>();
+        do {
+            CursorPageResponse<ContractResponse> page = contractService.getContracts(userId, cursor, PAGE_SIZE, false);
+            assertThat(page.getContent()).hasSizeLessThanOrEqualTo(PAGE_SIZE);
+            paged.addAll(ids(page));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return paged;
+    }
+
+    private List<String> expectedContractOrder() {
+        return contracts.stream()
+            .sorted(Comparator.comparing(Contract::getCreatedAt).thenComparing(Contract::getId).reversed())
+            .map(Contract::getId)
+            .toList();
+    }
+
+    private static List<String> ids(CursorPageResponse<ContractResponse> page) {
+        return page.getContent().stream().map(ContractResponse::getId).toList();
+    }
+}
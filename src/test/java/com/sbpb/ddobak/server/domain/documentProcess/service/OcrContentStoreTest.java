@@ -0,0 +1,40 @@
+package com.sbpb.ddobak.server.domain.documentProcess.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sbpb.ddobak.server.common.utils.TextCompression;
+
+/**
+ * OCR 본문 페이지 저장 테스트
+ */
+class OcrContentStoreTest {
+
+    private final OcrContentStore store = new OcrContentStore(null, null);
+
+    @Test
+    @DisplayName("페이지 분리 - 구분 문자 기준으로 나누고 마지막 빈 페이지는 제외")
+    void splitPages_FormFeed_SplitsIntoPages() {
+        assertThat(OcrContentStore.splitPages("1쪽\f2쪽\f3쪽\f")).containsExactly("1쪽", "2쪽", "3쪽");
+        assertThat(OcrContentStore.splitPages("한 페이지")).containsExactly("한 페이지");
+        assertThat(OcrContentStore.splitPages("")).containsExactly("");
+    }
+
+    @Test
+    @DisplayName("텍스트 압축 - 압축 해제하면 원문과 같고 잘못된 값은 거부")
+    void compress_RoundTrip_RestoresText() {
+        String page = "제1조 (목적) 임대인은 아래 부동산을 임차인에게 임대한다.\n".repeat(40);
+
+        byte[] compressed = TextCompression.compress(page);
+
+        assertThat(compressed.length).isLessThan(page.getBytes(StandardCharsets.UTF_8).length / 4);
+        assertThat(TextCompression.decompress(compressed)).isEqualTo(page);
+        assertThatThrownBy(() -> TextCompression.decompress(new byte[] {1, 2, 3}))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,184 @@
+package com.sbpb.ddobak.server.domain.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.scheduling.TaskScheduler;
+
+import com.sbpb.ddobak.server.config.LastLoginProperties;
+import com.sbpb.ddobak.server.domain.user.dto.CreateUserRequest;
+import com.sbpb.ddobak.server.domain.user.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 마지막 로그인 시간 지연 기록 테스트
+ */
+@SpringBootTest
+class LastLoginWriteBufferTest {
+
+    private static final LocalDateTime T1 = LocalDateTime.of(2026, 1, 1, 9, 0);
+    private static final LocalDateTime T2 = T1.plusMinutes(1);
+    private static final LocalDateTime T3 = T1.plusMinutes(2);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private CountingJdbcTemplate jdbcTemplate;
+    private TaskScheduler taskScheduler;
+    private LastLoginWriteBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAllInBatch();
+        jdbcTemplate = new CountingJdbcTemplate(dataSource);
+        taskScheduler = mock(TaskScheduler.class);
+        LastLoginProperties properties = new LastLoginProperties();
+        properties.setFlushThreshold(3);
+        buffer = new LastLoginWriteBuffer(jdbcTemplate, taskScheduler, userCache, properties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("기록 병합 - 같은 사용자의 여러 로그인은 최신 시간 하나로 한 번만 UPDATE")
+    void flush_CoalescesRecordsPerUser() {
+        String first = createUser("first@example.com");
+        String second = createUser("second@example.com");
+
+        for (LocalDateTime loginAt : List.of(T1, T3, T2)) {
+            buffer.record(first, loginAt);
+            buffer.record(second, loginAt);
+        }
+        assertThat(buffer.pendingCount()).isEqualTo(2);
+
+        buffer.flush();
+
+        assertThat(jdbcTemplate.rows.get()).isEqualTo(2);
+        assertThat(buffer.pendingCount()).isZero();
+        assertThat(lastLoginAt(first)).isEqualTo(T3);
+        assertThat(lastLoginAt(second)).isEqualTo(T3);
+    }
+
+    @Test
+    @DisplayName("시간 역전 - DB에 더 최근 로그인 시간이 있으면 이전 시간으로 덮어쓰지 않음")
+    void flush_NeverOverwritesNewerTimestamp() {
+        String userId = createUser("newer@example.com");
+        buffer.record(userId, T3);
+        buffer.flush();
+
+        buffer.record(userId, T1);
+        buffer.flush();
+
+        assertThat(jdbcTemplate.rows.get()).isEqualTo(2);
+        assertThat(lastLoginAt(userId)).isEqualTo(T3);
+    }
+
+    @Test
+    @DisplayName("반영 실패 - 대기열에 다시 넣고 다음 반영 때 더 최근 시간으로 재시도")
+    void flush_RetriesFailedBatch() {
+        String userId = createUser("retry@example.com");
+        buffer.record(userId, T1);
+        jdbcTemplate.failures.set(1);
+
+        buffer.flush();
+
+        assertThat(buffer.pendingCount()).isEqualTo(1);
+        assertThat(lastLoginAt(userId)).isNull();
+
+        buffer.record(userId, T2);
+        buffer.flush();
+
+        assertThat(buffer.pendingCount()).isZero();
+        assertThat(lastLoginAt(userId)).isEqualTo(T2);
+    }
+
+    @Test
+    @DisplayName("대기 건수 초과 - 주기를 기다리지 않고 반영을 한 번만 예약")
+    void record_SchedulesFlushOnThreshold() {
+        buffer.record("U0000001", T1);
+        buffer.record("U0000002", T1);
+        verify(taskScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+
+        buffer.record("U0000003", T1);
+        buffer.record("U0000004", T1);
+
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("종료 - 대기 중인 로그인 시간을 반영")
+    void flushOnShutdown_WritesPending() {
+        String userId = createUser("shutdown@example.com");
+        buffer.record(userId, T2);
+
+        buffer.flushOnShutdown();
+
+        assertThat(lastLoginAt(userId)).isEqualTo(T2);
+        assertThat(buffer.pendingCount()).isZero();
+    }
+
+    private String createUser(String email) {
+        return userService.createUser(CreateUserRequest.builder().email(email).name("사용자").build()).getId();
+    }
+
+    private LocalDateTime lastLoginAt(String userId) {
+        return jdbcTemplate.queryForObject("select last_login_at from users where id = ?", LocalDateTime.class, userId);
+    }
+
+    /**
+     * 배치 UPDATE 행 수를 세고 지정한 횟수만큼 실패시키는 JdbcTemplate
+     */
+    private static class CountingJdbcTemplate extends JdbcTemplate {
+
+        private final AtomicInteger rows = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+
+        CountingJdbcTemplate(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize,
+                                       ParameterizedPreparedStatementSetter<T> pss) {
+            if (failures.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+                throw new DataAccessResourceFailureException("Simulated outage");
+            }
+            rows.addAndGet(batchArgs.size());
+            return super.batchUpdate(sql, batchArgs, batchSize, pss);
+        }
+    }
+}
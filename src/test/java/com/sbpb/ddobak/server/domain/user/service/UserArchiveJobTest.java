@@ -0,0 +1,96 @@
+package com.sbpb.ddobak.server.domain.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.sbpb.ddobak.server.common.exception.ResourceNotFoundException;
+import com.sbpb.ddobak.server.domain.user.dto.CreateUserRequest;
+import com.sbpb.ddobak.server.domain.user.repository.UserRepository;
+
+/**
+ * 사용자 소프트 삭제 조회 필터 / 보관 작업 테스트
+ */
+@SpringBootTest(properties = "ddobak.user.archive.batch-size=2")
+class UserArchiveJobTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserArchiveJob userArchiveJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    @DisplayName("사용자 삭제 - 삭제된 사용자는 조회되지 않음")
+    void deleteUser_ExcludedFromQueries() {
+        String userId = createUser("deleted@example.com");
+
+        userService.deleteUser(userId);
+
+        assertThat(userRepository.findByEmail("deleted@example.com")).isEmpty();
+        assertThat(userRepository.existsByEmail("deleted@example.com")).isFalse();
+        assertThat(userRepository.findById(userId)).isEmpty();
+        assertThatThrownBy(() -> userService.getUser(userId)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("보관 작업 - 보관 기간이 지난 삭제 사용자만 배치로 이동")
+    void archive_MovesOnlyExpiredDeletedUsers() {
+        for (int i = 0; i < 5; i++) {
+            userService.deleteUser(createUser("old" + i + "@example.com"));
+        }
+        userService.deleteUser(createUser("recent@example.com"));
+        String activeId = createUser("active@example.com");
+        jdbcTemplate.update("update users set deleted_at = ? where email like 'old%'",
+            Timestamp.valueOf(LocalDateTime.now().minusDays(365)));
+
+        int archived = userArchiveJob.archive();
+
+        assertThat(archived).isEqualTo(5);
+        assertThat(count("select count(*) from users_archive")).isEqualTo(5);
+        assertThat(count("select count(*) from users")).isEqualTo(2);
+        assertThat(userRepository.findById(activeId)).isPresent();
+    }
+
+    private String createUser(String email) {
+        return userService.createUser(CreateUserRequest.builder().email(email).name("사용자").build()).getId();
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    /**
+     * 삭제된 행도 지우기 위해 SQL로 정리 (JPQL 삭제에는 @SQLRestriction이 적용됨)
+     */
+    private void cleanUp() {
+        jdbcTemplate.update("delete from users_archive");
+        jdbcTemplate.update("delete from users");
+    }
+}
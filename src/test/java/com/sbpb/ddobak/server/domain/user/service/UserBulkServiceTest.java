@@ -0,0 +1,101 @@
+package com.sbpb.ddobak.server.domain.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.sbpb.ddobak.server.domain.user.dto.BulkFormat;
+import com.sbpb.ddobak.server.domain.user.dto.BulkImportResult;
+import com.sbpb.ddobak.server.domain.user.dto.CreateUserRequest;
+import com.sbpb.ddobak.server.domain.user.repository.UserRepository;
+
+/**
+ * 사용자 대량 가져오기/내보내기 테스트
+ */
+@SpringBootTest
+class UserBulkServiceTest {
+
+    @Autowired
+    private UserBulkService userBulkService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAllInBatch();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("NDJSON 가져오기 - 잘못된 행은 실패로 남기고 나머지는 저장")
+    void importUsers_Ndjson_ReportsFailedRows() throws Exception {
+        userService.createUser(CreateUserRequest.builder().email("exists@example.com").name("기존").build());
+
+        StringBuilder body = new StringBuilder();
+        int validRows = UserBulkService.CHUNK_SIZE + 10; // 청크 두 개
+        for (int i = 0; i < validRows; i++) {
+            body.append("{\"email\":\"user").append(i).append("@example.com\",\"name\":\"사용자").append(i).append("\"}\n");
+        }
+        body.append("{\"email\":\"user0@example.com\",\"name\":\"중복\"}\n");
+        body.append("{\"email\":\"exists@example.com\",\"name\":\"기존\"}\n");
+        body.append("{\"email\":\"not-an-email\",\"name\":\"형식\"}\n");
+        body.append("{broken\n");
+
+        BulkImportResult result = userBulkService.importUsers(stream(body.toString()), BulkFormat.NDJSON);
+
+        assertThat(result.getTotalRows()).isEqualTo(validRows + 4);
+        assertThat(result.getSucceeded()).isEqualTo(validRows);
+        assertThat(result.getFailed()).isEqualTo(4);
+        assertThat(result.getFailures())
+            .extracting(BulkImportResult.RowFailure::reason)
+            .containsExactlyInAnyOrder("Duplicate email in import", "Email already exists",
+                "Invalid email format", "Malformed row");
+        assertThat(userRepository.count()).isEqualTo(validRows + 1);
+    }
+
+    @Test
+    @DisplayName("CSV 가져오기 후 내보내기 - 헤더 순서와 따옴표 필드 처리")
+    void importAndExport_Csv_RoundTrip() throws Exception {
+        String csv = """
+            name,email,nickname
+            "Kim, Minsu",kim@example.com,
+            Lee,lee@example.com,"the ""L""\"
+            """;
+
+        BulkImportResult result = userBulkService.importUsers(stream(csv), BulkFormat.CSV);
+
+        assertThat(result.getSucceeded()).isEqualTo(2);
+        assertThat(result.getFailed()).isZero();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        userBulkService.exportUsers(out, BulkFormat.CSV);
+        String exported = out.toString(StandardCharsets.UTF_8);
+
+        assertThat(exported).startsWith("id,email,name,nickname,created_at,last_login_at\n");
+        assertThat(exported).contains(",kim@example.com,\"Kim, Minsu\",,");
+        assertThat(exported).contains(",lee@example.com,Lee,\"the \"\"L\"\"\",");
+        assertThat(exported.lines().count()).isEqualTo(3);
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,134 @@
+package com.sbpb.ddobak.server.domain.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.sbpb.ddobak.server.common.exception.DuplicateResourceException;
+import com.sbpb.ddobak.server.domain.user.dto.CreateUserRequest;
+import com.sbpb.ddobak.server.domain.user.repository.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 회원가입 동시성/쿼리 수 테스트
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class UserSignupConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAllInBatch();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("사용자 생성 - INSERT 한 번으로 처리")
+    void createUser_SingleStatement() {
+        userService.createUser(request("single@example.com"));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("사용자 생성 - 같은 이메일 동시 가입 시 한 건만 성공")
+    void createUser_ConcurrentSameEmail_OnlyOneSucceeds() throws Exception {
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger duplicated = new AtomicInteger();
+
+        runConcurrently(index -> {
+            try {
+                userService.createUser(request("race@example.com"));
+                succeeded.incrementAndGet();
+            } catch (DuplicateResourceException e) {
+                duplicated.incrementAndGet();
+            }
+        });
+
+        assertThat(succeeded.get()).isEqualTo(1);
+        assertThat(duplicated.get()).isEqualTo(THREADS - 1);
+        assertThat(userRepository.findByEmail("race@example.com")).isPresent();
+        assertThat(userRepository.count()).isEqualTo(1);
+        // 가입 시도당 INSERT 한 번 (중복 검사 조회 없음)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(THREADS);
+    }
+
+    @Test
+    @DisplayName("사용자 생성 - 서로 다른 이메일 동시 가입 모두 성공")
+    void createUser_ConcurrentDistinctEmails_AllSucceed() throws Exception {
+        runConcurrently(index -> userService.createUser(request("user" + index + "@example.com")));
+
+        assertThat(userRepository.count()).isEqualTo(THREADS);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(THREADS);
+    }
+
+    private void runConcurrently(IndexedTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static CreateUserRequest request(String email) {
+        return CreateUserRequest.builder()
+            .email(email)
+            .name("Tester")
+            .build();
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask {
+        void run(int index);
+    }
+}